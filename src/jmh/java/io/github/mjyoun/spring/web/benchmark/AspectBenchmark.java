@@ -0,0 +1,141 @@
+package io.github.mjyoun.spring.web.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.github.mjyoun.spring.web.annotation.StopWatch;
+import io.github.mjyoun.spring.web.annotation.StopWatchTask;
+import io.github.mjyoun.spring.web.aspect.HttpRequestLogAspect;
+import io.github.mjyoun.spring.web.aspect.StopWatchAspect;
+import io.github.mjyoun.spring.web.config.StopWatchProperties;
+
+/**
+ * {@link HttpRequestLogAspect}, {@link StopWatchAspect} advice 비용 benchmark
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AspectBenchmark {
+
+    private SampleController direct;
+    private SampleController logged;
+    private SampleController stopWatched;
+    private SampleController resourceWatched;
+
+    /**
+     * aspect가 적용된 proxy와 요청 정보 설정
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.direct = new SampleController();
+        this.logged = proxy(new HttpRequestLogAspect());
+        this.stopWatched = proxy(new StopWatchAspect(new StopWatchProperties()));
+
+        StopWatchProperties resources = new StopWatchProperties();
+        resources.setResources(true);
+        this.resourceWatched = proxy(new StopWatchAspect(resources));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/10");
+        request.setQueryString("page=1&size=20");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/users/{id}");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", "10"));
+        request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, "/api/users/10");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public int direct() {
+        return this.direct.get(10);
+    }
+
+    @Benchmark
+    public int httpRequestLogAspect() {
+        return this.logged.get(10);
+    }
+
+    @Benchmark
+    public int stopWatchAspect() {
+        return this.stopWatched.watched(10);
+    }
+
+    @Benchmark
+    public int stopWatchAspectWithResources() {
+        return this.resourceWatched.watched(10);
+    }
+
+    /**
+     * aspect가 적용된 proxy 생성
+     * 
+     * @param aspect
+     *            aspect
+     * @return proxy
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static SampleController proxy(Object aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleController());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    /**
+     * benchmark 대상 controller
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static class SampleController {
+
+        @GetMapping("/api/users/{id}")
+        public int get(int id) {
+            return id * 31;
+        }
+
+        @StopWatch("watched")
+        public int watched(int id) {
+            return this.task(id) + this.task(id + 1);
+        }
+
+        @StopWatchTask("task")
+        public int task(int id) {
+            return id * 31;
+        }
+
+    }
+
+}
@@ -0,0 +1,84 @@
+package io.github.mjyoun.spring.web.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * thread 수 별로 benchmark를 실행하고 결과를 JSON 파일로 저장하는 실행 클래스
+ * <p>
+ * 결과 파일({@code result-t<thread 수>.json})은 JMH 표준 JSON 형식이므로 release 간 비교 도구(jmh.morethan.io 등)에 그대로 사용할 수 있다.
+ * 
+ * <pre>
+ * mvn -P benchmark test-compile exec:exec -Djmh.include=CSVServiceBenchmark -Djmh.threads=1,8
+ * </pre>
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class BenchmarkRunner {
+
+    /**
+     * 외부에서 임의 생성을 막기 위한 private constructor
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * benchmark 실행
+     * 
+     * @param args
+     *            [0] 실행할 benchmark 정규식, [1] ','로 구분된 thread 수 목록, [2] 결과 저장 디렉토리
+     * @throws Exception
+     *             benchmark 실행 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static void main(String[] args) throws Exception {
+        String include = args.length > 0 ? args[0] : ".*";
+        String[] threads = (args.length > 1 ? args[1] : "1").split(",");
+        Path resultDirectory = Path.of(args.length > 2 ? args[2] : "target/jmh");
+
+        Files.createDirectories(resultDirectory);
+
+        for (String thread : threads) {
+            run(include, Integer.parseInt(thread.trim()), resultDirectory);
+        }
+    }
+
+    /**
+     * 지정된 thread 수로 benchmark를 실행하는 함수
+     * 
+     * @param include
+     *            실행할 benchmark 정규식
+     * @param threads
+     *            thread 수
+     * @param resultDirectory
+     *            결과 저장 디렉토리
+     * @throws RunnerException
+     *             benchmark 실행 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static void run(String include, int threads, Path resultDirectory) throws RunnerException {
+        Options options = new OptionsBuilder() //
+                .include(include) //
+                .threads(threads) //
+                .resultFormat(ResultFormatType.JSON) //
+                .result(resultDirectory.resolve("result-t" + threads + ".json").toString()) //
+                .build();
+
+        new Runner(options).run();
+    }
+
+}
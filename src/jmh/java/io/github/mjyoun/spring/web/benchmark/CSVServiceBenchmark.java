@@ -0,0 +1,107 @@
+package io.github.mjyoun.spring.web.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.mjyoun.spring.web.service.CSVService;
+import io.github.mjyoun.spring.web.service.DownloadService;
+
+/**
+ * {@link CSVService#createCSV(String, String[], List, char, char)}, {@link DownloadService#downloadCsv} benchmark
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx8g" })
+@State(Scope.Benchmark)
+public class CSVServiceBenchmark {
+
+    /** 컬럼 이름 */
+    private static final String[] HEADERS = { "id", "name", "email", "created", "description" };
+
+    /** 행 수 */
+    @Param({ "1000", "100000", "1000000", "5000000" })
+    public int rows;
+
+    private CSVService csvService;
+    private DownloadService downloadService;
+    private List<String[]> datas;
+
+    /**
+     * 데이터 생성. 메모리 사용을 줄이기 위해 id 이외의 값은 미리 만든 값을 재사용한다.
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.csvService = new CSVService();
+        this.downloadService = new DownloadService(this.csvService) {
+        };
+
+        String[] names = new String[1000];
+        String[] emails = new String[1000];
+        String[] descriptions = new String[1000];
+
+        for (int i = 0; i < 1000; i++) {
+            names[i] = "사용자 " + i;
+            emails[i] = "user" + i + "@example.com";
+            descriptions[i] = "설명, \"따옴표\"와 구분자를 포함한 " + i + "번째 문장";
+        }
+
+        this.datas = new ArrayList<>(this.rows);
+        for (int i = 0; i < this.rows; i++) {
+            this.datas.add(new String[] { String.valueOf(i), names[i % 1000], emails[i % 1000], "2026-10-19 12:00:00", descriptions[i % 1000] });
+        }
+    }
+
+    /**
+     * response 상태
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @State(Scope.Thread)
+    public static class ResponseState {
+
+        public DiscardingServletResponse response = new DiscardingServletResponse();
+
+    }
+
+    @Benchmark
+    public byte[] createCSV() throws IOException {
+        return this.csvService.createCSV("benchmark", HEADERS, this.datas, ',', '\0');
+    }
+
+    @Benchmark
+    public byte[] createQuotedCSV() throws IOException {
+        return this.csvService.createCSV("benchmark", HEADERS, this.datas, ',', '"');
+    }
+
+    @Benchmark
+    public long downloadCsv(ResponseState state) throws IOException {
+        DiscardingServletResponse response = state.response.clear();
+        this.downloadService.downloadCsv("benchmark", HEADERS, this.datas, ',', '\0', response);
+        return response.getWritten();
+    }
+
+}
@@ -0,0 +1,83 @@
+package io.github.mjyoun.spring.web.benchmark;
+
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+
+/**
+ * 응답 내용을 저장하지 않고 크기만 기록하는 {@link MockHttpServletResponse}
+ * <p>
+ * 수 GB 크기의 다운로드도 heap에 쌓지 않고 측정하기 위해 사용한다.
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class DiscardingServletResponse extends MockHttpServletResponse {
+
+    /** 쓰여진 byte 수 */
+    private long written = 0;
+
+    /** 응답 output stream */
+    private final ServletOutputStream outputStream = new ServletOutputStream() {
+
+        @Override
+        public void write(int b) {
+            written++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            written += len;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+        }
+
+    };
+
+    /**
+     * @see MockHttpServletResponse#getOutputStream()
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public ServletOutputStream getOutputStream() {
+        return this.outputStream;
+    }
+
+    /**
+     * 쓰여진 byte 수를 조회하는 함수
+     * 
+     * @return byte 수
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public long getWritten() {
+        return written;
+    }
+
+    /**
+     * 다음 호출을 위해 상태를 초기화하는 함수
+     * 
+     * @return 초기화된 response
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public DiscardingServletResponse clear() {
+        this.setCommitted(false);
+        this.reset();
+        this.written = 0;
+        return this;
+    }
+
+}
@@ -0,0 +1,149 @@
+package io.github.mjyoun.spring.web.benchmark;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.mjyoun.spring.web.service.CSVService;
+import io.github.mjyoun.spring.web.service.DownloadService;
+
+/**
+ * {@link DownloadService}의 복사 경로 benchmark
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx4g" })
+public class DownloadServiceBenchmark {
+
+    /**
+     * service 상태
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @State(Scope.Benchmark)
+    public static class ServiceState {
+
+        public DownloadService downloadService = new DownloadService(new CSVService()) {
+        };
+
+    }
+
+    /**
+     * byte 배열 다운로드 상태 (1 KB ~ 100 MB)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @State(Scope.Benchmark)
+    public static class BytesState {
+
+        @Param({ "1024", "1048576", "104857600" })
+        public int size;
+
+        public byte[] contents;
+        public List<String> lines;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            this.contents = new byte[this.size];
+            ThreadLocalRandom.current().nextBytes(this.contents);
+
+            // 한 줄에 약 100 byte인 text
+            this.lines = new ArrayList<>(Math.max(1, this.size / 100));
+            for (int i = 0; i < Math.max(1, this.size / 100); i++) {
+                this.lines.add(i + " - Lorem ipsum dolor sit amet, consectetur adipiscing elit, 한글 문장도 포함된 다운로드 라인입니다.");
+            }
+        }
+
+    }
+
+    /**
+     * 파일 다운로드 상태 (1 KB ~ 4 GB). 큰 파일은 sparse file로 생성한다.
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @State(Scope.Benchmark)
+    public static class FileState {
+
+        @Param({ "1024", "1048576", "104857600", "4294967296" })
+        public long size;
+
+        public Path file;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            this.file = Files.createTempFile("download-benchmark", ".bin");
+
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(this.file.toFile(), "rw")) {
+                randomAccessFile.setLength(this.size);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(this.file);
+        }
+
+    }
+
+    /**
+     * response 상태
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @State(Scope.Thread)
+    public static class ResponseState {
+
+        public DiscardingServletResponse response = new DiscardingServletResponse();
+
+    }
+
+    @Benchmark
+    public long downloadBytes(ServiceState service, BytesState bytes, ResponseState state) throws IOException {
+        DiscardingServletResponse response = state.response.clear();
+        service.downloadService.downloadBytes("benchmark.bin", bytes.contents, response);
+        return response.getWritten();
+    }
+
+    @Benchmark
+    public long downloadPlainTextFile(ServiceState service, BytesState bytes, ResponseState state) throws IOException {
+        DiscardingServletResponse response = state.response.clear();
+        service.downloadService.downloadPlainTextFile("benchmark.txt", bytes.lines, response);
+        return response.getWritten();
+    }
+
+    @Benchmark
+    public long downloadFile(ServiceState service, FileState file, ResponseState state) throws IOException {
+        DiscardingServletResponse response = state.response.clear();
+        service.downloadService.downloadFile("benchmark.bin", file.file, response);
+        return response.getWritten();
+    }
+
+}
@@ -0,0 +1,185 @@
+package io.github.mjyoun.spring.web.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.aop.config.AopConfigUtils;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.github.mjyoun.spring.web.aspect.HttpRequestLogAspect;
+import io.github.mjyoun.spring.web.interceptor.HttpRequestLogInterceptor;
+
+/**
+ * {@link HttpRequestLogAspect}와 {@link HttpRequestLogInterceptor}의 요청 당 비용, context 시작 비용 benchmark
+ * <p>
+ * 요청 당 비용은 log를 출력하지 않는 상태(WARN level)에서 controller 호출까지의 비용을 비교한다. 시작 비용은 controller bean {@code controllers}개를 등록한
+ * context의 refresh 시간이며, aspect 방식은 auto proxy creator가 모든 bean의 method를 pointcut과 비교하고 proxy를 만드는 비용이 포함된다.
+ * 
+ * <pre>
+ * mvn -P benchmark test-compile exec:exec -Djmh.include=RequestLogBenchmark -Djmh.threads=1
+ * </pre>
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RequestLogBenchmark {
+
+    @Param({ "200" })
+    public int controllers;
+
+    private SampleController logged;
+    private SampleController direct;
+    private HttpRequestLogInterceptor interceptor;
+    private HandlerMethod handlerMethod;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    /**
+     * aspect가 적용된 proxy, interceptor와 요청 정보 설정
+     * 
+     * @throws NoSuchMethodException
+     *             controller method 조회 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleController());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new HttpRequestLogAspect());
+
+        this.logged = factory.getProxy();
+        this.direct = new SampleController();
+        this.interceptor = new HttpRequestLogInterceptor();
+
+        Method method = SampleController.class.getMethod("get", int.class);
+        this.handlerMethod = new HandlerMethod(this.direct, method);
+
+        this.request = new MockHttpServletRequest("GET", "/api/users/10");
+        this.request.setQueryString("page=1&size=20");
+        this.request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/users/{id}");
+        this.request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", "10"));
+        this.request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, "/api/users/10");
+        this.response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(this.request));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public int aspectRequest() {
+        return this.logged.get(10);
+    }
+
+    @Benchmark
+    public int interceptorRequest() throws Exception {
+        this.interceptor.preHandle(this.request, this.response, this.handlerMethod);
+        return this.direct.get(10);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 20)
+    public int aspectStartup() {
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            AopConfigUtils.registerAspectJAnnotationAutoProxyCreatorIfNecessary(context);
+            context.registerBean(HttpRequestLogAspect.class);
+            this.registerControllers(context);
+            context.refresh();
+
+            return context.getBeanDefinitionCount();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 20)
+    public int interceptorStartup() {
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.registerBean(HttpRequestLogInterceptor.class);
+            this.registerControllers(context);
+            context.refresh();
+
+            return context.getBeanDefinitionCount();
+        }
+    }
+
+    /**
+     * controller bean을 등록하는 함수
+     * 
+     * @param context
+     *            {@link GenericApplicationContext}
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void registerControllers(GenericApplicationContext context) {
+        for (int i = 0; i < this.controllers; i++) {
+            context.registerBean("sampleController" + i, SampleController.class);
+        }
+    }
+
+    /**
+     * benchmark 대상 controller
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @RequestMapping("/api/users")
+    public static class SampleController {
+
+        @GetMapping("/{id}")
+        public int get(int id) {
+            return id * 31;
+        }
+
+        @PostMapping
+        public int create(int id) {
+            return id * 17;
+        }
+
+        public int helper(int id) {
+            return id;
+        }
+
+    }
+
+}
@@ -0,0 +1,79 @@
+package io.github.mjyoun.spring.web.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.mjyoun.spring.web.security.AbstractGrade;
+import io.github.mjyoun.spring.web.security.AbstractGrantedAuthority;
+
+/**
+ * {@link AbstractGrantedAuthority#getAuthority()} benchmark
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SecurityBenchmark {
+
+    /** 권한 개수 */
+    @Param({ "1", "5", "50" })
+    public int grades;
+
+    private AbstractGrantedAuthority<String, Grade> authority;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Grade> list = new ArrayList<>();
+        for (int i = 0; i < this.grades; i++) {
+            list.add(new Grade("ROLE_" + i));
+        }
+
+        this.authority = new AbstractGrantedAuthority<>("user", list);
+    }
+
+    @Benchmark
+    public String getAuthority() {
+        return this.authority.getAuthority();
+    }
+
+    /**
+     * benchmark용 권한
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static class Grade extends AbstractGrade {
+
+        private final String id;
+
+        public Grade(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getId() {
+            return this.id;
+        }
+
+    }
+
+}
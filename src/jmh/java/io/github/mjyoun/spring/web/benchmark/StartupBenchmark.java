@@ -0,0 +1,94 @@
+package io.github.mjyoun.spring.web.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.mjyoun.spring.web.config.MJSpringWebAutoConfiguration;
+import io.github.mjyoun.spring.web.service.DownloadService;
+
+/**
+ * {@link MJSpringWebAutoConfiguration}을 포함한 application context 시작 시간 benchmark
+ * <p>
+ * 새 JVM에서 처음 시작하는 시간을 측정하기 위해 fork 마다 한 번만 실행한다. {@code all}은 기존처럼 모든 컴포넌트(aspect, filter, error controller)를 등록하고
+ * 파일 관련 서비스도 바로 생성하며, {@code default}는 기본 설정, {@code minimal}은 모든 컴포넌트를 끈 상태이다. 변경 전 commit에서 같은 benchmark를 실행하여
+ * 비교한다.
+ * 
+ * <pre>
+ * mvn -P benchmark test-compile exec:exec -Djmh.include=StartupBenchmark -Djmh.threads=1
+ * </pre>
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    @Param({ "all", "default", "minimal" })
+    public String scenario;
+
+    @Benchmark
+    public int start() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(StartupApplication.class) //
+                .web(WebApplicationType.NONE) //
+                .logStartupInfo(false) //
+                .properties(this.properties()) //
+                .run()) {
+            if (this.scenario.equals("all")) {
+                // 기존처럼 시작할 때 파일 관련 서비스까지 생성
+                context.getBean(DownloadService.class);
+            }
+
+            return context.getBeanDefinitionCount();
+        }
+    }
+
+    /**
+     * scenario 별 설정
+     * 
+     * @return 설정 목록
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private String[] properties() {
+        return switch (this.scenario) {
+            case "all" -> new String[] { "mj.spring.web.request-log.engine=aspect" };
+            case "minimal" -> new String[] { "mj.spring.web.request-log.engine=none", "mj.spring.web.stop-watch.enabled=false",
+                    "mj.spring.web.error.enabled=false", "mj.spring.web.rest-request-filter.enabled=false" };
+            default -> new String[0];
+        };
+    }
+
+    /**
+     * benchmark용 application
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({ AopAutoConfiguration.class, MJSpringWebAutoConfiguration.class })
+    public static class StartupApplication {
+    }
+
+}
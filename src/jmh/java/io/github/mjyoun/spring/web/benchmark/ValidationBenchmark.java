@@ -0,0 +1,153 @@
+package io.github.mjyoun.spring.web.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.SimpleErrors;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import io.github.mjyoun.spring.web.validation.annotation.AtLeastOneField;
+import io.github.mjyoun.spring.web.validation.fastpath.FastPathValidator;
+import io.github.mjyoun.spring.web.validation.validator.AtLeastOneFieldValidator;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * {@link AtLeastOneFieldValidator}, {@link FastPathValidator}와 표준 provider 비교 benchmark
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private AtLeastOneFieldValidator atLeastOneFieldValidator;
+    private SpringValidatorAdapter standardValidator;
+    private FastPathValidator fastPathValidator;
+
+    private SearchDto valid;
+    private SearchDto invalid;
+
+    /**
+     * validator 생성
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.atLeastOneFieldValidator = new AtLeastOneFieldValidator();
+        this.atLeastOneFieldValidator.initialize(SearchDto.class.getAnnotation(AtLeastOneField.class));
+
+        Validator validator = Validation.byDefaultProvider() //
+                .configure() //
+                .messageInterpolator(new ParameterMessageInterpolator()) //
+                .buildValidatorFactory() //
+                .getValidator();
+        this.standardValidator = new SpringValidatorAdapter(validator);
+        this.fastPathValidator = new FastPathValidator(this.standardValidator);
+        this.fastPathValidator.precompile(List.of(SearchDto.class));
+
+        this.valid = new SearchDto(1, null, null, "mj@example.com", List.of("ADMIN"));
+        this.invalid = new SearchDto(1, null, null, null, null);
+    }
+
+    @Benchmark
+    public boolean atLeastOneField() {
+        return this.atLeastOneFieldValidator.isValid(this.valid, null);
+    }
+
+    @Benchmark
+    public boolean standardValid() {
+        SimpleErrors errors = new SimpleErrors(this.valid);
+        this.standardValidator.validate(this.valid, errors);
+        return errors.hasErrors();
+    }
+
+    @Benchmark
+    public boolean fastPathValid() {
+        SimpleErrors errors = new SimpleErrors(this.valid);
+        this.fastPathValidator.validate(this.valid, errors);
+        return errors.hasErrors();
+    }
+
+    @Benchmark
+    public boolean standardInvalid() {
+        SimpleErrors errors = new SimpleErrors(this.invalid);
+        this.standardValidator.validate(this.invalid, errors);
+        return errors.hasErrors();
+    }
+
+    @Benchmark
+    public boolean fastPathInvalid() {
+        SimpleErrors errors = new SimpleErrors(this.invalid);
+        this.fastPathValidator.validate(this.invalid, errors);
+        return errors.hasErrors();
+    }
+
+    /**
+     * 페이지 정보를 포함한 상위 DTO
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static class PageDto {
+
+        @NotNull
+        private Integer page;
+
+        public PageDto(Integer page) {
+            this.page = page;
+        }
+
+    }
+
+    /**
+     * 검색 조건 DTO
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @AtLeastOneField(fields = { "name", "nickname", "email", "roles" }, emptyAsAbsent = true)
+    public static class SearchDto extends PageDto {
+
+        @Size(max = 50)
+        private String name;
+        @Size(max = 50)
+        private String nickname;
+        @Pattern(regexp = "^[\\w.+-]+@[\\w-]+\\.[\\w.]+$")
+        private String email;
+        @Size(max = 10)
+        private List<String> roles;
+
+        public SearchDto(Integer page, String name, String nickname, String email, List<String> roles) {
+            super(page);
+            this.name = name;
+            this.nickname = nickname;
+            this.email = email;
+            this.roles = roles;
+        }
+
+    }
+
+}
@@ -0,0 +1,208 @@
+package io.github.mjyoun.spring.web.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.ThreadMXBean;
+
+/**
+ * open model(고정 도착률) 방식의 부하 생성기
+ * <p>
+ * 요청은 이전 요청의 완료 여부와 관계 없이 정해진 시각에 보내며, latency는 실제 전송 시각이 아닌 예정 시각부터 측정하여 coordinated omission을 보정한다. allocation rate와
+ * GC pause는 같은 JVM에서 동작하는 server와 부하 생성기를 모두 포함한다.
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class LoadGenerator {
+
+    private final HttpClient client;
+    private final int maxInFlight;
+
+    /**
+     * (non-javadoc)
+     * 
+     * @param maxInFlight
+     *            동시 요청 최대 수. 초과하는 요청은 dropped로 집계
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public LoadGenerator(int maxInFlight) {
+        this.client = HttpClient.newBuilder() //
+                .version(HttpClient.Version.HTTP_1_1) //
+                .connectTimeout(Duration.ofSeconds(5)) //
+                .executor(Executors.newVirtualThreadPerTaskExecutor()) //
+                .build();
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * 시나리오 실행
+     * 
+     * @param scenario
+     *            시나리오 이름
+     * @param uri
+     *            요청 URI
+     * @param expectedStatus
+     *            기대하는 응답 코드
+     * @param rate
+     *            초당 요청 수
+     * @param duration
+     *            실행 시간
+     * @return {@link ScenarioReport}
+     * @throws InterruptedException
+     *             대기 중 interrupt
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public ScenarioReport run(String scenario, URI uri, int expectedStatus, int rate, Duration duration) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+        int total = (int) Math.max(1, rate * duration.toSeconds());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+
+        long[] latencies = new long[total];
+        AtomicInteger recorded = new AtomicInteger();
+        AtomicLong failed = new AtomicLong();
+        long dropped = 0;
+        Semaphore inFlight = new Semaphore(this.maxInFlight);
+
+        GcListener gcListener = new GcListener();
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threadMXBean.getTotalThreadAllocatedBytes();
+
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < total; i++) {
+                long intended = start + i * intervalNanos;
+                long wait = intended - System.nanoTime();
+
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                if (!inFlight.tryAcquire()) {
+                    dropped++;
+                    continue;
+                }
+
+                executor.execute(() -> {
+                    try {
+                        HttpResponse<Void> response = this.client.send(request, HttpResponse.BodyHandlers.discarding());
+
+                        if (response.statusCode() != expectedStatus) {
+                            failed.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                    } finally {
+                        latencies[recorded.getAndIncrement()] = System.nanoTime() - intended;
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadMXBean.getTotalThreadAllocatedBytes() - allocatedBefore;
+        gcListener.close();
+
+        int count = recorded.get();
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        double seconds = elapsed / 1_000_000_000.0;
+
+        return new ScenarioReport(scenario, rate, count, failed.get(), dropped, count / seconds, //
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                count == 0 ? 0 : sorted[count - 1] / 1_000_000.0, //
+                allocated / 1024.0 / 1024.0 / seconds, //
+                gcListener.count.get(), gcListener.total.get(), gcListener.max.get());
+    }
+
+    /**
+     * percentile 계산
+     * 
+     * @param sorted
+     *            정렬된 latency 목록 (nano seconds)
+     * @param percentile
+     *            percentile (0 ~ 1)
+     * @return latency (ms)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    /**
+     * GC 알림으로 pause 시간을 집계하는 listener
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static class GcListener implements NotificationListener, AutoCloseable {
+
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong max = new AtomicLong();
+
+        GcListener() {
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                ((NotificationEmitter) gc).addNotificationListener(this, null, null);
+            }
+        }
+
+        @Override
+        public void handleNotification(Notification notification, Object handback) {
+            if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                long duration = info.getGcInfo().getDuration();
+
+                this.count.incrementAndGet();
+                this.total.addAndGet(duration);
+                this.max.accumulateAndGet(duration, Math::max);
+            }
+        }
+
+        @Override
+        public void close() {
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                try {
+                    ((NotificationEmitter) gc).removeNotificationListener(this);
+                } catch (ListenerNotFoundException e) {
+                    // 등록되지 않은 경우 무시
+                }
+            }
+        }
+
+    }
+
+}
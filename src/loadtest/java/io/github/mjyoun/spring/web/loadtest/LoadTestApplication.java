@@ -0,0 +1,14 @@
+package io.github.mjyoun.spring.web.loadtest;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * load test용 application. {@code MJSpringWebAutoConfiguration}은 auto configuration으로 등록된다.
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@SpringBootApplication
+public class LoadTestApplication {
+
+}
@@ -0,0 +1,132 @@
+package io.github.mjyoun.spring.web.loadtest;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.mjyoun.spring.web.service.DownloadService;
+import io.github.mjyoun.spring.web.validation.annotation.AtLeastOneField;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * load test 시나리오용 controller
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@RestController
+@RequestMapping("/load")
+public class LoadTestController {
+
+    private final DownloadService downloadService;
+    private final Path file;
+
+    /**
+     * (non-javadoc)
+     * 
+     * @param downloadService
+     *            {@link DownloadService}
+     * @param fileSize
+     *            다운로드 시나리오에 사용할 파일 크기
+     * @throws IOException
+     *             파일 생성 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public LoadTestController(@Qualifier(DownloadService.QUALIFIER_NAME) DownloadService downloadService,
+            @Value("${loadtest.file-size:104857600}") long fileSize) throws IOException {
+        this.downloadService = downloadService;
+        this.file = Files.createTempFile("loadtest", ".bin");
+
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(this.file.toFile(), "rw")) {
+            randomAccessFile.setLength(fileSize);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() throws IOException {
+        Files.deleteIfExists(this.file);
+    }
+
+    /**
+     * 작은 JSON 응답
+     */
+    @GetMapping("/json")
+    public Map<String, Object> json(@RequestParam(defaultValue = "1") long id) {
+        return Map.of("id", id, "name", "user-" + id, "roles", List.of("USER", "ADMIN"));
+    }
+
+    /**
+     * 유효성 검사 실패 (파라미터가 없을 경우 {@link AtLeastOneField} 오류)
+     */
+    @GetMapping("/search")
+    public Map<String, Object> search(@Validated SearchParam param) {
+        return Map.of("name", String.valueOf(param.getName()), "email", String.valueOf(param.getEmail()));
+    }
+
+    /**
+     * CSV 다운로드
+     */
+    @GetMapping("/csv")
+    public void csv(@RequestParam(defaultValue = "10000") int rows, HttpServletResponse response) throws IOException {
+        List<String[]> datas = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            datas.add(new String[] { String.valueOf(i), "user-" + i, "user" + i + "@example.com", "2026-10-19" });
+        }
+
+        this.downloadService.downloadCSV("loadtest", new String[] { "id", "name", "email", "created" }, datas, response);
+    }
+
+    /**
+     * 큰 파일 다운로드
+     */
+    @GetMapping("/file")
+    public void file(HttpServletResponse response) throws IOException {
+        this.downloadService.downloadFile("loadtest.bin", this.file, response);
+    }
+
+    /**
+     * 검색 파라미터
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @AtLeastOneField(fields = { "name", "email" }, emptyAsAbsent = true)
+    public static class SearchParam {
+
+        private String name;
+        private String email;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+    }
+
+}
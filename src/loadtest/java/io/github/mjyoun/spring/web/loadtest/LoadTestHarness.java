@@ -0,0 +1,115 @@
+package io.github.mjyoun.spring.web.loadtest;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * embedded container로 {@link LoadTestApplication}을 실행하고 시나리오 별 부하를 생성하는 실행 클래스
+ * <p>
+ * 설정은 system property로 지정한다.
+ * <ul>
+ * <li>{@code loadtest.scenarios}: 실행할 시나리오 목록 (json, validation, csv, file). 기본값 전체</li>
+ * <li>{@code loadtest.rate}: 초당 요청 수. 기본값 200 (csv, file 시나리오는 {@code loadtest.bulk-rate}, 기본값 10)</li>
+ * <li>{@code loadtest.duration}: 측정 시간(초). 기본값 30</li>
+ * <li>{@code loadtest.warmup}: warmup 시간(초). 기본값 10</li>
+ * <li>{@code loadtest.max-in-flight}: 동시 요청 최대 수. 기본값 1000</li>
+ * <li>{@code loadtest.file-size}: file 시나리오의 파일 크기. 기본값 100 MB</li>
+ * <li>{@code loadtest.csv-rows}: csv 시나리오의 행 수. 기본값 10000</li>
+ * </ul>
+ * 결과는 표 형태로 출력하고 {@code target/loadtest/report.json}에 저장한다.
+ * 
+ * <pre>
+ * mvn -P loadtest test-compile exec:exec -Dloadtest.scenarios=json,validation -Dloadtest.rate=1000
+ * </pre>
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class LoadTestHarness {
+
+    /**
+     * 외부에서 임의 생성을 막기 위한 private constructor
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private LoadTestHarness() {
+    }
+
+    /**
+     * load test 실행
+     * 
+     * @param args
+     *            [0] 결과 저장 디렉토리
+     * @throws Exception
+     *             실행 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static void main(String[] args) throws Exception {
+        Path resultDirectory = Path.of(args.length > 0 ? args[0] : "target/loadtest");
+        int rate = Integer.getInteger("loadtest.rate", 200);
+        int bulkRate = Integer.getInteger("loadtest.bulk-rate", 10);
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration", 30));
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup", 10));
+        int csvRows = Integer.getInteger("loadtest.csv-rows", 10000);
+        List<String> selected = List.of(System.getProperty("loadtest.scenarios", "json,validation,csv,file").split(","));
+
+        SpringApplication application = new SpringApplication(LoadTestApplication.class);
+        application.setDefaultProperties(Map.of("server.port", "0"));
+
+        try (ConfigurableApplicationContext context = application.run(args)) {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            String base = "http://localhost:" + port + "/load";
+
+            Map<String, Scenario> scenarios = new LinkedHashMap<>();
+            scenarios.put("json", new Scenario(URI.create(base + "/json?id=10"), 200, rate));
+            scenarios.put("validation", new Scenario(URI.create(base + "/search"), 400, rate));
+            scenarios.put("csv", new Scenario(URI.create(base + "/csv?rows=" + csvRows), 200, bulkRate));
+            scenarios.put("file", new Scenario(URI.create(base + "/file"), 200, bulkRate));
+
+            LoadGenerator generator = new LoadGenerator(Integer.getInteger("loadtest.max-in-flight", 1000));
+            List<ScenarioReport> reports = new ArrayList<>();
+
+            for (String name : selected) {
+                Scenario scenario = scenarios.get(name.trim());
+
+                if (scenario == null) {
+                    throw new IllegalArgumentException("존재하지 않는 시나리오입니다. [scenario: " + name + "]");
+                }
+
+                generator.run(name.trim(), scenario.uri(), scenario.expectedStatus(), scenario.rate(), warmup);
+                System.gc();
+                reports.add(generator.run(name.trim(), scenario.uri(), scenario.expectedStatus(), scenario.rate(), duration));
+            }
+
+            System.out.println(ScenarioReport.header());
+            reports.forEach(report -> System.out.println(report.toRow()));
+
+            Files.createDirectories(resultDirectory);
+            Files.writeString(resultDirectory.resolve("report.json"),
+                    reports.stream().map(ScenarioReport::toJson).collect(Collectors.joining(",\n  ", "[\n  ", "\n]\n")));
+        }
+    }
+
+    /**
+     * 시나리오 정보
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private record Scenario(URI uri, int expectedStatus, int rate) {
+    }
+
+}
@@ -0,0 +1,93 @@
+package io.github.mjyoun.spring.web.loadtest;
+
+import java.util.Locale;
+
+/**
+ * 시나리오 하나의 측정 결과
+ * 
+ * @param scenario
+ *            시나리오 이름
+ * @param targetRate
+ *            목표 요청 수 (req/s)
+ * @param completed
+ *            완료된 요청 수
+ * @param failed
+ *            실패한 요청 수 (연결 오류 및 기대하지 않은 응답 코드)
+ * @param dropped
+ *            동시 요청 한도를 넘어 보내지 못한 요청 수
+ * @param throughput
+ *            처리량 (req/s)
+ * @param p50Millis
+ *            latency 50 percentile (ms)
+ * @param p90Millis
+ *            latency 90 percentile (ms)
+ * @param p99Millis
+ *            latency 99 percentile (ms)
+ * @param p999Millis
+ *            latency 99.9 percentile (ms)
+ * @param maxMillis
+ *            최대 latency (ms)
+ * @param allocationRateMb
+ *            JVM 전체 allocation rate (MB/s)
+ * @param gcCount
+ *            GC 횟수
+ * @param gcPauseTotalMillis
+ *            GC pause 합계 (ms)
+ * @param gcPauseMaxMillis
+ *            최대 GC pause (ms)
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public record ScenarioReport(String scenario, int targetRate, long completed, long failed, long dropped, double throughput, double p50Millis,
+        double p90Millis, double p99Millis, double p999Millis, double maxMillis, double allocationRateMb, long gcCount, long gcPauseTotalMillis,
+        long gcPauseMaxMillis) {
+
+    /**
+     * 표 형태로 출력하기 위한 header
+     * 
+     * @return header 문자열
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static String header() {
+        return String.format(Locale.ROOT, "%-12s %8s %10s %8s %8s %10s %9s %9s %9s %9s %9s %10s %6s %9s %9s", //
+                "scenario", "rate", "completed", "failed", "dropped", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p999(ms)", "max(ms)",
+                "alloc MB/s", "gc", "gc total", "gc max");
+    }
+
+    /**
+     * 표 형태의 한 줄로 변환하는 함수
+     * 
+     * @return 결과 문자열
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public String toRow() {
+        return String.format(Locale.ROOT, "%-12s %8d %10d %8d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %10.1f %6d %9d %9d", //
+                this.scenario, this.targetRate, this.completed, this.failed, this.dropped, this.throughput, this.p50Millis, this.p90Millis,
+                this.p99Millis, this.p999Millis, this.maxMillis, this.allocationRateMb, this.gcCount, this.gcPauseTotalMillis,
+                this.gcPauseMaxMillis);
+    }
+
+    /**
+     * JSON 형태로 변환하는 함수
+     * 
+     * @return JSON 문자열
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public String toJson() {
+        return String.format(Locale.ROOT,
+                "{\"scenario\":\"%s\",\"targetRate\":%d,\"completed\":%d,\"failed\":%d,\"dropped\":%d,\"throughput\":%.3f,"
+                        + "\"p50Millis\":%.3f,\"p90Millis\":%.3f,\"p99Millis\":%.3f,\"p999Millis\":%.3f,\"maxMillis\":%.3f,"
+                        + "\"allocationRateMb\":%.3f,\"gcCount\":%d,\"gcPauseTotalMillis\":%d,\"gcPauseMaxMillis\":%d}",
+                this.scenario, this.targetRate, this.completed, this.failed, this.dropped, this.throughput, this.p50Millis, this.p90Millis,
+                this.p99Millis, this.p999Millis, this.maxMillis, this.allocationRateMb, this.gcCount, this.gcPauseTotalMillis,
+                this.gcPauseMaxMillis);
+    }
+
+}
@@ -0,0 +1,59 @@
+package io.github.mjyoun.spring.web.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 같은 요청이 동시에 호출될 때 한 번만 실행하고 결과를 함께 사용하기 위한 정보
+ * <p>
+ * method, 인자, URI template 변수, 로그인한 사용자가 같은 호출은 먼저 시작된 실행의 결과(또는 예외)를 함께 받는다. 결과 객체는 여러 요청이 함께 사용하므로 변경하면 안 되며,
+ * 조회 등 여러 번 호출해도 결과가 같은 method에만 사용한다. {@code HttpServletRequest}, {@code HttpSession} 등 요청 별 객체 인자는 key에서 제외한다.
+ * <p>
+ * 결과를 반환 값으로 전달하므로 반환 값이 없는({@code void}) method나 {@code HttpServletResponse}, {@code OutputStream}, {@code Writer} 인자로 응답에 직접 쓰는
+ * method에는 사용할 수 없다. {@link io.github.mjyoun.spring.web.response.StreamingResult}, {@link java.util.stream.Stream}, {@link java.util.Iterator},
+ * {@code StreamingResponseBody}처럼 한 번만 읽을 수 있는 결과를 반환하는 method(generic 인자로 감싼 경우 포함)에도 사용할 수 없다. 이 경우 처음 호출할 때
+ * {@link IllegalStateException}이 발생한다.
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@Documented
+@Target({ ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesce {
+
+    /**
+     * method 인자를 key에 포함할지 여부
+     */
+    boolean includeArgs() default true;
+
+    /**
+     * URI template 변수를 key에 포함할지 여부
+     */
+    boolean includePathVariables() default true;
+
+    /**
+     * 로그인한 사용자를 key에 포함할지 여부. 사용자 별로 결과가 다른 경우 true
+     */
+    boolean perPrincipal() default true;
+
+    /**
+     * 실행이 끝난 후 결과를 재사용하는 시간 (milliseconds). 0일 경우 재사용하지 않음
+     */
+    long cacheMillis() default 0;
+
+    /**
+     * 먼저 시작된 실행을 기다리는 최대 시간 (milliseconds). 0일 경우 끝날 때까지 기다림
+     */
+    long timeoutMillis() default 0;
+
+    /**
+     * 기다리는 시간을 초과했을 때 직접 실행할지 여부. false일 경우
+     * {@link io.github.mjyoun.spring.web.aspect.coalesce.CoalesceTimeoutException} 발생
+     */
+    boolean executeOnTimeout() default true;
+
+}
@@ -0,0 +1,29 @@
+package io.github.mjyoun.spring.web.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import io.github.mjyoun.spring.web.filter.etag.EtagVersionProvider;
+
+/**
+ * GET handler의 응답 version을 조회하여 ETag로 사용하기 위한 정보
+ * <p>
+ * {@code mj.spring.web.etag.enabled=true}일 때 적용되며, 응답 내용의 hash 대신 version으로 비교하므로 변경되지 않은 경우 controller를 호출하지 않는다.
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@Documented
+@Target({ ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EtagVersion {
+
+    /**
+     * version을 조회할 bean 타입
+     */
+    Class<? extends EtagVersionProvider> value();
+
+}
@@ -31,4 +31,9 @@ public @interface StopWatch {
     @AliasFor("value")
     String name() default "";
 
+    /**
+     * task 별 thread CPU 사용 시간, heap 할당 크기 측정 여부. {@code mj.spring.web.stop-watch.resources=true}일 경우 모든 stop watch에서 측정
+     */
+    boolean resources() default false;
+
 }
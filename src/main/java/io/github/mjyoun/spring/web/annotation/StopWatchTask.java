@@ -31,4 +31,9 @@ public @interface StopWatchTask {
     @AliasFor("value")
     String taskName() default "";
 
+    /**
+     * thread CPU 사용 시간, heap 할당 크기 측정 여부. {@link StopWatch#resources()}가 설정된 경우 항상 측정
+     */
+    boolean resources() default false;
+
 }
@@ -0,0 +1,113 @@
+package io.github.mjyoun.spring.web.aot;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import io.github.mjyoun.spring.web.annotation.Coalesce;
+import io.github.mjyoun.spring.web.annotation.EtagVersion;
+import io.github.mjyoun.spring.web.annotation.StopWatch;
+import io.github.mjyoun.spring.web.annotation.StopWatchTask;
+import io.github.mjyoun.spring.web.aspect.CoalesceAspect;
+import io.github.mjyoun.spring.web.aspect.HttpRequestLogAspect;
+import io.github.mjyoun.spring.web.aspect.StopWatchAspect;
+import io.github.mjyoun.spring.web.export.CsvBackend;
+import io.github.mjyoun.spring.web.export.ExcelBackend;
+import io.github.mjyoun.spring.web.export.opencsv.OpenCsvBackend;
+import io.github.mjyoun.spring.web.export.poi.PoiExcelBackend;
+import io.github.mjyoun.spring.web.validation.annotation.AtLeastOneField;
+import io.github.mjyoun.spring.web.validation.validator.AtLeastOneFieldValidator;
+
+/**
+ * Spring AOT, native image에서 reflection으로 사용하는 class를 등록하기 위한 registrar
+ * <p>
+ * 모듈 내부 class는 자동으로 등록된다. 검사 대상 class({@link AtLeastOneField}, fast path 검사)와 객체 목록으로 생성하는 엑셀 파일의 class는 application의
+ * class이므로, application의 {@link RuntimeHintsRegistrar}에서 {@link #registerValidatedTypes(RuntimeHints, Class...)},
+ * {@link #registerExportTypes(RuntimeHints, Class...)}로 등록해야 한다.
+ * 
+ * <pre>
+ * public class MyRuntimeHints implements RuntimeHintsRegistrar {
+ *     public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+ *         MJSpringWebRuntimeHints.registerValidatedTypes(hints, UserSearchRequest.class);
+ *         MJSpringWebRuntimeHints.registerExportTypes(hints, UserExcelRow.class);
+ *     }
+ * }
+ * </pre>
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class MJSpringWebRuntimeHints implements RuntimeHintsRegistrar {
+
+    /**
+     * @see RuntimeHintsRegistrar#registerHints(RuntimeHints, ClassLoader)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Bean Validation provider가 reflection으로 생성
+        hints.reflection().registerType(AtLeastOneFieldValidator.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        // annotation 속성 조회
+        hints.reflection().registerType(AtLeastOneField.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(StopWatch.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(StopWatchTask.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(Coalesce.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(EtagVersion.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        // advice method 호출
+        hints.reflection().registerType(HttpRequestLogAspect.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(StopWatchAspect.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(CoalesceAspect.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        // export backend 조회 (ServiceLoader)
+        hints.resources().registerPattern("META-INF/services/" + CsvBackend.class.getName());
+        hints.resources().registerPattern("META-INF/services/" + ExcelBackend.class.getName());
+        hints.reflection().registerType(OpenCsvBackend.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(PoiExcelBackend.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    }
+
+    /**
+     * {@link AtLeastOneField}, fast path 검사 대상 class를 등록하는 함수. 필드, getter와 record accessor를 reflection으로 조회한다.
+     * 
+     * @param hints
+     *            {@link RuntimeHints}
+     * @param types
+     *            검사 대상 class 목록
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static void registerValidatedTypes(RuntimeHints hints, Class<?>... types) {
+        for (Class<?> type : types) {
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                hints.reflection().registerType(current, MemberCategory.ACCESS_DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+        }
+    }
+
+    /**
+     * 객체 목록으로 엑셀 파일을 생성할 class를 등록하는 함수. 필드와 getter를 reflection으로 조회한다.
+     * 
+     * @see io.github.mjyoun.spring.web.service.DownloadService#downloadExcel(String, java.util.List, Class,
+     *      jakarta.servlet.http.HttpServletResponse)
+     * 
+     * @param hints
+     *            {@link RuntimeHints}
+     * @param types
+     *            엑셀 데이터 class 목록
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static void registerExportTypes(RuntimeHints hints, Class<?>... types) {
+        for (Class<?> type : types) {
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                hints.reflection().registerType(current, MemberCategory.ACCESS_DECLARED_FIELDS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+        }
+    }
+
+}
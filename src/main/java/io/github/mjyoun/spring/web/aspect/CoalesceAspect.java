@@ -0,0 +1,280 @@
+package io.github.mjyoun.spring.web.aspect;
+
+import java.io.OutputStream;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.BaseStream;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import io.github.mjyoun.spring.web.annotation.Coalesce;
+import io.github.mjyoun.spring.web.aspect.coalesce.SingleFlight;
+import io.github.mjyoun.spring.web.config.CoalesceProperties;
+import io.github.mjyoun.spring.web.response.StreamingResult;
+import io.github.mjyoun.spring.web.security.SecurityUtils;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * {@link Coalesce}가 설정된 method의 동시 호출을 한 번만 실행하기 위한 Aspect 설정
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@Aspect
+@Component
+@ConditionalOnClass(name = "org.aspectj.lang.annotation.Aspect")
+@ConditionalOnProperty(prefix = CoalesceProperties.PREFIX, name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CoalesceAspect {
+
+    /** 한 번만 읽을 수 있어 여러 요청이 함께 사용할 수 없는 반환 타입 */
+    private static final List<Class<?>> SINGLE_USE_TYPES = List.of(StreamingResult.class, BaseStream.class, Iterator.class,
+            StreamingResponseBody.class);
+
+    private final Logger logger = LoggerFactory.getLogger(CoalesceAspect.class);
+
+    private final SingleFlight singleFlight;
+    /** 사용 가능한지 확인한 method 목록 */
+    private final Set<Method> verifiedMethods = ConcurrentHashMap.newKeySet();
+
+    /**
+     * (non-javadoc)
+     * 
+     * @param properties
+     *            {@link CoalesceProperties}
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CoalesceAspect(CoalesceProperties properties) {
+        this.singleFlight = new SingleFlight(properties.getMaxCachedResults());
+    }
+
+    /**
+     * 같은 key의 실행이 있으면 그 결과를 기다리고, 없으면 실행
+     * 
+     * @param joinPoint
+     *            {@link ProceedingJoinPoint}
+     * @param coalesce
+     *            {@link Coalesce}
+     * @return 실행 결과
+     * @throws Throwable
+     *             실행 중 발생한 예외
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Around("@annotation(coalesce)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, Coalesce coalesce) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+
+        if (!this.verifiedMethods.contains(method)) {
+            verify(method);
+            this.verifiedMethods.add(method);
+        }
+
+        Key key = this.createKey(method, joinPoint.getArgs(), coalesce);
+
+        logger.trace("[CoalesceAspect#coalesce] 호출 [key: {}]", key);
+
+        return this.singleFlight.execute(key, joinPoint::proceed, //
+                TimeUnit.MILLISECONDS.toNanos(coalesce.cacheMillis()), //
+                TimeUnit.MILLISECONDS.toNanos(coalesce.timeoutMillis()), //
+                coalesce.executeOnTimeout());
+    }
+
+    public SingleFlight getSingleFlight() {
+        return singleFlight;
+    }
+
+    /**
+     * 결과를 함께 사용할 수 있는 method인지 확인하는 함수. 반환 값 없이 응답에 직접 쓰는 method는 먼저 실행한 요청만 응답을 받고 나머지 요청은 빈 응답을 받으므로 사용할 수
+     * 없다. 한 번만 읽을 수 있는 결과를 반환하는 method도 두 번째 요청부터 빈 응답이나 오류가 발생하므로 사용할 수 없다.
+     * 
+     * @param method
+     *            호출한 method
+     * @throws IllegalStateException
+     *             반환 값이 없거나 한 번만 읽을 수 있는 결과를 반환하는 경우, {@link ServletResponse}, {@link OutputStream}, {@link Writer} 인자가 있는 경우
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static void verify(Method method) {
+        String reason = null;
+        Class<?> singleUseType = null;
+
+        if (method.getReturnType() == void.class || method.getReturnType() == Void.class) {
+            reason = "반환 값이 없는 method";
+        } else if ((singleUseType = findSingleUseType(method.getGenericReturnType())) != null) {
+            reason = "한 번만 읽을 수 있는 결과를 반환하는 method (" + singleUseType.getSimpleName() + " 반환)";
+        } else {
+            for (Class<?> type : method.getParameterTypes()) {
+                if (ServletResponse.class.isAssignableFrom(type) || OutputStream.class.isAssignableFrom(type) || Writer.class.isAssignableFrom(type)) {
+                    reason = "응답에 직접 쓰는 method (" + type.getSimpleName() + " 인자)";
+                    break;
+                }
+            }
+        }
+
+        if (reason != null) {
+            throw new IllegalStateException(new StringBuffer("@Coalesce는 ") //
+                    .append(reason) //
+                    .append("에 사용할 수 없습니다. [method: ") //
+                    .append(method.getDeclaringClass().getSimpleName()) //
+                    .append("#") //
+                    .append(method.getName()) //
+                    .append("]") //
+                    .toString());
+        }
+    }
+
+    /**
+     * 반환 타입에서 한 번만 읽을 수 있는 타입을 찾는 함수. {@code ResponseEntity<StreamingResponseBody>}처럼 generic 인자로 감싼 경우도 확인한다.
+     * 
+     * @param type
+     *            반환 타입
+     * @return {@link StreamingResult}, {@link BaseStream}, {@link Iterator}, {@link StreamingResponseBody} 중 해당하는 타입. 없을 경우 null
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static Class<?> findSingleUseType(Type type) {
+        if (type instanceof Class<?> clazz) {
+            for (Class<?> singleUse : SINGLE_USE_TYPES) {
+                if (singleUse.isAssignableFrom(clazz)) {
+                    return singleUse;
+                }
+            }
+        } else if (type instanceof ParameterizedType parameterized) {
+            Class<?> found = findSingleUseType(parameterized.getRawType());
+
+            for (int i = 0; found == null && i < parameterized.getActualTypeArguments().length; i++) {
+                found = findSingleUseType(parameterized.getActualTypeArguments()[i]);
+            }
+
+            return found;
+        } else if (type instanceof WildcardType wildcard && wildcard.getUpperBounds().length > 0) {
+            return findSingleUseType(wildcard.getUpperBounds()[0]);
+        }
+
+        return null;
+    }
+
+    /**
+     * 호출 key를 생성하는 함수
+     * 
+     * @param method
+     *            호출한 method
+     * @param args
+     *            method 인자
+     * @param coalesce
+     *            {@link Coalesce}
+     * @return {@link Key}
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private Key createKey(Method method, Object[] args, Coalesce coalesce) {
+        Object[] keyArgs = null;
+        Object pathVariables = null;
+        String principal = null;
+
+        if (coalesce.includeArgs()) {
+            List<Object> values = new ArrayList<>(args.length);
+
+            for (Object arg : args) {
+                // 요청 별 객체는 같은 요청이어도 다르므로 제외
+                if (!(arg instanceof ServletRequest || arg instanceof ServletResponse || arg instanceof HttpSession || arg instanceof Principal)) {
+                    values.add(arg);
+                }
+            }
+
+            keyArgs = values.toArray();
+        }
+
+        if (coalesce.includePathVariables()) {
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+            if (attributes != null) {
+                pathVariables = attributes.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            }
+        }
+
+        if (coalesce.perPrincipal()) {
+            principal = SecurityUtils.getCurrentUserId();
+        }
+
+        return new Key(method, keyArgs, pathVariables instanceof Map<?, ?> map ? map : null, principal);
+    }
+
+    /**
+     * 호출 key
+     * 
+     * @param method
+     *            호출한 method
+     * @param args
+     *            key에 포함하는 인자 목록
+     * @param pathVariables
+     *            URI template 변수
+     * @param principal
+     *            로그인한 사용자 아이디
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private record Key(Method method, Object[] args, Map<?, ?> pathVariables, String principal) {
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key other //
+                    && this.method.equals(other.method) //
+                    && Arrays.deepEquals(this.args, other.args) //
+                    && Objects.equals(this.pathVariables, other.pathVariables) //
+                    && Objects.equals(this.principal, other.principal);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.method, Arrays.deepHashCode(this.args), this.pathVariables, this.principal);
+        }
+
+        @Override
+        public String toString() {
+            return new StringBuffer(this.method.getDeclaringClass().getSimpleName()) //
+                    .append("#") //
+                    .append(this.method.getName()) //
+                    .append(Arrays.deepToString(this.args)) //
+                    .append(this.pathVariables == null ? "" : this.pathVariables) //
+                    .append(this.principal == null ? "" : "@" + this.principal) //
+                    .toString();
+        }
+
+    }
+
+}
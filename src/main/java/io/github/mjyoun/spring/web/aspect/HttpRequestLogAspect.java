@@ -8,14 +8,22 @@ import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.servlet.HandlerMapping;
 
+import io.github.mjyoun.spring.web.config.RequestLogProperties;
+
 /**
  * HTTP호출에 따른 로그를 출력하기 위한 LogAspect 설정
+ * <p>
+ * {@code mj.spring.web.request-log.engine}이 설정되지 않았거나 {@code aspect}일 경우에만 등록된다.
+ * 
+ * @see io.github.mjyoun.spring.web.interceptor.HttpRequestLogInterceptor
  * 
  * @author MJ Youn
  * @since 2022. 01. 04.
@@ -23,6 +31,8 @@ import org.springframework.web.servlet.HandlerMapping;
 @Order(value = 100)
 @Aspect
 @Component
+@ConditionalOnClass(name = "org.aspectj.lang.annotation.Aspect")
+@ConditionalOnProperty(prefix = RequestLogProperties.PREFIX, name = "engine", havingValue = "aspect", matchIfMissing = true)
 public class HttpRequestLogAspect {
 
     private static final Logger logger = LoggerFactory.getLogger(HttpRequestLogAspect.class);
@@ -1,8 +1,8 @@
 package io.github.mjyoun.spring.web.aspect;
 
 import java.lang.reflect.Method;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
 import org.aspectj.lang.JoinPoint;
@@ -13,25 +13,61 @@ import org.aspectj.lang.annotation.Pointcut;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import io.github.mjyoun.spring.utils.CustomStopWatch;
 import io.github.mjyoun.spring.web.annotation.StopWatch;
 import io.github.mjyoun.spring.web.annotation.StopWatchTask;
+import io.github.mjyoun.spring.web.aspect.stopwatch.StopWatchStatistics;
+import io.github.mjyoun.spring.web.aspect.stopwatch.ThreadResources;
+import io.github.mjyoun.spring.web.config.StopWatchProperties;
+import io.github.mjyoun.spring.web.jfr.StopWatchEvent;
+import io.github.mjyoun.spring.web.jfr.StopWatchTaskEvent;
 
 /**
  * Stopwatch 표시를 위한 Aspect 설정
+ * <p>
+ * JFR recording 중에는 {@link StopWatch}, {@link StopWatchTask} 구간을 {@link StopWatchEvent}, {@link StopWatchTaskEvent}로 기록한다. 설정한 경우 task 별
+ * thread CPU 사용 시간과 heap 할당 크기를 측정하여 stopwatch 출력에 함께 표시하고, task 별 실행 정보를 {@link StopWatchStatistics}에 누적한다. stopwatch는
+ * thread 별로 관리하며, 실행 중에 다른 {@link StopWatch} method를 호출하면 그 method가 끝난 후 이전 stopwatch로 돌아간다.
  * 
  * @author MJ Youn
  * @since 2024. 05. 09.
  */
 @Aspect
 @Component
+@ConditionalOnClass(name = "org.aspectj.lang.annotation.Aspect")
+@ConditionalOnProperty(prefix = StopWatchProperties.PREFIX, name = "enabled", havingValue = "true", matchIfMissing = true)
 public class StopWatchAspect {
 
     private final Logger logger = LoggerFactory.getLogger(StopWatchAspect.class);
 
-    private final Map<String, CustomStopWatch> stopWatchMap = new HashMap<>();
+    /** thread에서 실행 중인 stopwatch */
+    private final ThreadLocal<Session> sessions = new ThreadLocal<>();
+    /** 모든 stopwatch에서 사용량 측정 여부 */
+    private final boolean resources;
+    /** task 별 누적 정보. 집계하지 않을 경우 null */
+    private final StopWatchStatistics statistics;
+
+    /**
+     * (non-javadoc)
+     * 
+     * @param properties
+     *            {@link StopWatchProperties}
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public StopWatchAspect(StopWatchProperties properties) {
+        this.resources = properties.isResources();
+        this.statistics = properties.isStatistics() ? new StopWatchStatistics() : null;
+
+        if (this.resources && !ThreadResources.isCpuTimeSupported() && !ThreadResources.isAllocationSupported()) {
+            logger.warn("[StopWatchAspect] thread CPU 사용 시간, heap 할당 크기를 측정할 수 없는 JVM입니다. 실행 시간만 기록합니다.");
+        }
+    }
 
     /**
      * StopWatch Annotation을 pointcut으로 등록
@@ -68,16 +104,13 @@ public class StopWatchAspect {
         StopWatchTask annotation = method.getAnnotation(StopWatchTask.class);
 
         if (annotation != null) {
-            String threadName = Thread.currentThread().getName();
-            CustomStopWatch stopWatch = this.stopWatchMap.get(threadName);
+            Session session = this.sessions.get();
 
-            if (stopWatch != null) {
-                if (stopWatch.isRunning()) {
-                    stopWatch.stop();
-                }
+            if (session != null) {
+                session.stopTask();
 
                 String name = StringUtils.isBlank(annotation.taskName()) ? annotation.value() : annotation.taskName();
-                stopWatch.start(name);
+                session.startTask(name, annotation.resources());
             }
         }
     }
@@ -99,13 +132,10 @@ public class StopWatchAspect {
         StopWatchTask annotation = method.getAnnotation(StopWatchTask.class);
 
         if (annotation != null) {
-            String threadName = Thread.currentThread().getName();
-            CustomStopWatch stopWatch = this.stopWatchMap.get(threadName);
+            Session session = this.sessions.get();
 
-            if (stopWatch != null) {
-                if (stopWatch.isRunning()) {
-                    stopWatch.stop();
-                }
+            if (session != null) {
+                session.stopTask();
             }
         }
     }
@@ -130,8 +160,8 @@ public class StopWatchAspect {
             String name = StringUtils.isBlank(annotation.name()) ? annotation.value() : annotation.name();
             CustomStopWatch stopWatch = new CustomStopWatch(name, "hh:MM:ss.SSS uuuu");
 
-            String threadName = Thread.currentThread().getName();
-            this.stopWatchMap.put(threadName, stopWatch);
+            boolean resources = this.resources || annotation.resources();
+            this.sessions.set(new Session(this.sessions.get(), name, stopWatch, resources, this.statistics));
         }
     }
 
@@ -152,16 +182,203 @@ public class StopWatchAspect {
         StopWatch annotation = method.getAnnotation(StopWatch.class);
 
         if (annotation != null) {
-            String threadName = Thread.currentThread().getName();
-            CustomStopWatch stopWatch = this.stopWatchMap.get(threadName);
+            Session session = this.sessions.get();
+
+            if (session != null) {
+                session.finish();
 
-            if (stopWatch != null) {
-                if (stopWatch.isRunning()) {
-                    stopWatch.stop();
+                if (session.parent == null) {
+                    this.sessions.remove();
+                } else {
+                    this.sessions.set(session.parent);
                 }
 
-                logger.trace(stopWatch.prettyPrint());
+                if (logger.isTraceEnabled()) {
+                    logger.trace(session.prettyPrint());
+                }
             }
         }
     }
+
+    public StopWatchStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * thread에서 실행 중인 stopwatch와 JFR event
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static class Session {
+
+        /** 이 stopwatch를 시작하기 전에 실행 중이던 stopwatch. 없을 경우 null */
+        private final Session parent;
+        private final String name;
+        private final CustomStopWatch stopWatch;
+        /** 모든 task에서 사용량 측정 여부 */
+        private final boolean resources;
+        private final StopWatchStatistics statistics;
+        private final StopWatchEvent event = new StopWatchEvent();
+        /** 사용량을 측정한 task 목록 */
+        private final List<TaskRecord> records = new ArrayList<>();
+        private final long startNanos;
+        private final long startCpuTime;
+        private final long startAllocatedBytes;
+
+        /** 실행 중인 task 이름. 없을 경우 null */
+        private String task;
+        private boolean taskResources;
+        private long taskStartNanos;
+        private long taskStartCpuTime;
+        private long taskStartAllocatedBytes;
+        /** 실행 중인 task event. 없을 경우 null */
+        private StopWatchTaskEvent taskEvent;
+        private int taskCount;
+
+        private long elapsedNanos;
+        private long cpuTime = -1;
+        private long allocatedBytes = -1;
+
+        Session(Session parent, String name, CustomStopWatch stopWatch, boolean resources, StopWatchStatistics statistics) {
+            this.parent = parent;
+            this.name = name;
+            this.stopWatch = stopWatch;
+            this.resources = resources;
+            this.statistics = statistics;
+            this.startCpuTime = resources ? ThreadResources.cpuTime() : -1;
+            this.startAllocatedBytes = resources ? ThreadResources.allocatedBytes() : -1;
+            this.startNanos = System.nanoTime();
+            this.event.begin();
+        }
+
+        void startTask(String task, boolean resources) {
+            this.stopWatch.start(task);
+            this.taskCount++;
+
+            this.taskEvent = new StopWatchTaskEvent();
+            this.taskEvent.task = task;
+            this.taskEvent.begin();
+
+            this.task = task;
+            this.taskResources = this.resources || resources;
+            this.taskStartCpuTime = this.taskResources ? ThreadResources.cpuTime() : -1;
+            this.taskStartAllocatedBytes = this.taskResources ? ThreadResources.allocatedBytes() : -1;
+            this.taskStartNanos = System.nanoTime();
+        }
+
+        void stopTask() {
+            if (this.task != null) {
+                long elapsedNanos = System.nanoTime() - this.taskStartNanos;
+                long cpuTime = this.taskResources ? ThreadResources.delta(this.taskStartCpuTime, ThreadResources.cpuTime()) : -1;
+                long allocatedBytes = this.taskResources ? ThreadResources.delta(this.taskStartAllocatedBytes, ThreadResources.allocatedBytes()) : -1;
+
+                if (this.taskResources) {
+                    this.records.add(new TaskRecord(this.task, elapsedNanos, cpuTime, allocatedBytes));
+                }
+
+                if (this.statistics != null) {
+                    this.statistics.record(this.name, this.task, elapsedNanos, cpuTime, allocatedBytes);
+                }
+
+                this.task = null;
+            }
+
+            if (this.stopWatch.isRunning()) {
+                this.stopWatch.stop();
+            }
+
+            if (this.taskEvent != null) {
+                this.taskEvent.end();
+
+                if (this.taskEvent.shouldCommit()) {
+                    this.taskEvent.stopWatch = this.name;
+                    this.taskEvent.commit();
+                }
+
+                this.taskEvent = null;
+            }
+        }
+
+        void finish() {
+            this.stopTask();
+            this.elapsedNanos = System.nanoTime() - this.startNanos;
+
+            if (this.resources) {
+                this.cpuTime = ThreadResources.delta(this.startCpuTime, ThreadResources.cpuTime());
+                this.allocatedBytes = ThreadResources.delta(this.startAllocatedBytes, ThreadResources.allocatedBytes());
+            }
+
+            this.event.end();
+
+            if (this.event.shouldCommit()) {
+                this.event.name = this.name;
+                this.event.taskCount = this.taskCount;
+                this.event.commit();
+            }
+        }
+
+        /**
+         * stopwatch 출력에 사용량을 측정한 task의 실행 시간, CPU 사용 시간, 할당 크기를 덧붙이는 함수
+         * 
+         * @return 출력 문자열
+         * 
+         * @author MJ Youn
+         * @since 2026. 10. 19.
+         */
+        String prettyPrint() {
+            String prettyPrint = this.stopWatch.prettyPrint();
+
+            if (this.records.isEmpty() && !this.resources) {
+                return prettyPrint;
+            }
+
+            StringBuffer sb = new StringBuffer(prettyPrint);
+
+            if (!prettyPrint.endsWith("\n")) {
+                sb.append("\n");
+            }
+
+            sb.append("---------------------------------------------------------\n") //
+                    .append("ms            cpu ms        allocated bytes   Task name\n") //
+                    .append("---------------------------------------------------------\n");
+
+            for (TaskRecord record : this.records) {
+                appendRow(sb, record.elapsedNanos, record.cpuTime, record.allocatedBytes, record.task);
+            }
+
+            if (this.resources) {
+                sb.append("---------------------------------------------------------\n");
+                appendRow(sb, this.elapsedNanos, this.cpuTime, this.allocatedBytes, "(total)");
+            }
+
+            return sb.toString();
+        }
+
+        private static void appendRow(StringBuffer sb, long elapsedNanos, long cpuTime, long allocatedBytes, String task) {
+            sb.append(String.format("%-14.3f%-14s%-18s%s%n", elapsedNanos / 1e6, //
+                    cpuTime < 0 ? "-" : String.format("%.3f", cpuTime / 1e6), //
+                    allocatedBytes < 0 ? "-" : String.format("%,d", allocatedBytes), //
+                    task));
+        }
+
+    }
+
+    /**
+     * 사용량을 측정한 task 실행 정보
+     * 
+     * @param task
+     *            task 이름
+     * @param elapsedNanos
+     *            실행 시간 (nanoseconds)
+     * @param cpuTime
+     *            CPU 사용 시간 (nanoseconds). 측정할 수 없었을 경우 -1
+     * @param allocatedBytes
+     *            heap 할당 크기 (byte). 측정할 수 없었을 경우 -1
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private record TaskRecord(String task, long elapsedNanos, long cpuTime, long allocatedBytes) {}
+
 }
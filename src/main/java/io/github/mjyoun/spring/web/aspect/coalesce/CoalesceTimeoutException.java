@@ -0,0 +1,26 @@
+package io.github.mjyoun.spring.web.aspect.coalesce;
+
+/**
+ * 먼저 시작된 실행을 기다리는 시간을 초과했을 때 발생하는 예외
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class CoalesceTimeoutException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * (non-javadoc)
+     *
+     * @param message
+     *            오류 메시지
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CoalesceTimeoutException(String message) {
+        super(message);
+    }
+
+}
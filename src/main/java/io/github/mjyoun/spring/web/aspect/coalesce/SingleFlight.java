@@ -0,0 +1,229 @@
+package io.github.mjyoun.spring.web.aspect.coalesce;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * key가 같은 동시 호출을 한 번만 실행하기 위한 클래스
+ * <p>
+ * 처음 호출한 thread가 실행하고, 실행 중에 같은 key로 호출한 thread는 그 결과(또는 예외)를 기다린다. 설정한 경우 성공한 결과를 짧은 시간 동안 저장하여 실행이 끝난 직후의
+ * 호출도 다시 실행하지 않는다. 저장하는 결과 수는 최대 개수로 제한되며, 공간이 없으면 저장하지 않는다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class SingleFlight {
+
+    /** 실행 중인 호출 목록 */
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+    /** 저장된 결과 목록 */
+    private final ConcurrentHashMap<Object, Cached> results = new ConcurrentHashMap<>();
+    /** 저장할 최대 결과 수 */
+    private final int maxCachedResults;
+
+    /** 직접 실행한 호출 수 */
+    private final LongAdder executed = new LongAdder();
+    /** 다른 호출의 결과를 받은 호출 수 */
+    private final LongAdder coalesced = new LongAdder();
+    /** 저장된 결과를 받은 호출 수 */
+    private final LongAdder cached = new LongAdder();
+    /** 기다리는 시간을 초과한 호출 수 */
+    private final LongAdder timeouts = new LongAdder();
+
+    /**
+     * (non-javadoc)
+     *
+     * @param maxCachedResults
+     *            저장할 최대 결과 수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public SingleFlight(int maxCachedResults) {
+        this.maxCachedResults = Math.max(0, maxCachedResults);
+    }
+
+    /**
+     * 같은 key의 실행이 있으면 그 결과를 기다리고, 없으면 직접 실행하는 함수
+     *
+     * @param key
+     *            호출 key. equals, hashCode가 구현되어 있어야 함
+     * @param invocation
+     *            실행할 내용
+     * @param cacheNanos
+     *            결과를 재사용하는 시간 (nanoseconds). 0일 경우 재사용하지 않음
+     * @param timeoutNanos
+     *            다른 실행을 기다리는 최대 시간 (nanoseconds). 0일 경우 끝날 때까지 기다림
+     * @param executeOnTimeout
+     *            기다리는 시간을 초과했을 때 직접 실행할지 여부
+     * @return 실행 결과
+     * @throws CoalesceTimeoutException
+     *             기다리는 시간을 초과했고 직접 실행하지 않는 경우
+     * @throws Throwable
+     *             실행 중 발생한 예외
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public Object execute(Object key, Invocation invocation, long cacheNanos, long timeoutNanos, boolean executeOnTimeout) throws Throwable {
+        if (cacheNanos > 0) {
+            Cached result = this.results.get(key);
+
+            if (result != null) {
+                if (result.expiresAt() - System.nanoTime() > 0) {
+                    this.cached.increment();
+                    return result.value();
+                }
+
+                this.results.remove(key, result);
+            }
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> running = this.flights.putIfAbsent(key, flight);
+
+        if (running == null) {
+            this.executed.increment();
+
+            try {
+                Object value = invocation.proceed();
+
+                if (cacheNanos > 0) {
+                    // 실행 목록에서 삭제하기 전에 저장하여 그 사이에 호출되어도 다시 실행하지 않음
+                    this.store(key, value, cacheNanos);
+                }
+
+                flight.complete(value);
+                return value;
+            } catch (Throwable e) {
+                flight.completeExceptionally(e);
+                throw e;
+            } finally {
+                this.flights.remove(key, flight);
+            }
+        }
+
+        this.coalesced.increment();
+
+        try {
+            return timeoutNanos > 0 ? running.get(timeoutNanos, TimeUnit.NANOSECONDS) : running.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            this.timeouts.increment();
+
+            if (executeOnTimeout) {
+                return invocation.proceed();
+            }
+
+            throw new CoalesceTimeoutException(new StringBuffer("먼저 시작된 실행을 기다리는 시간을 초과하였습니다. [timeout: ") //
+                    .append(TimeUnit.NANOSECONDS.toMillis(timeoutNanos)) //
+                    .append("ms]") //
+                    .toString());
+        }
+    }
+
+    /**
+     * 결과를 저장하는 함수. 공간이 없으면 만료된 결과를 정리하고, 그래도 없으면 저장하지 않는다.
+     *
+     * @param key
+     *            호출 key
+     * @param value
+     *            실행 결과
+     * @param cacheNanos
+     *            결과를 재사용하는 시간 (nanoseconds)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void store(Object key, Object value, long cacheNanos) {
+        long now = System.nanoTime();
+
+        if (this.results.size() >= this.maxCachedResults) {
+            this.results.values().removeIf(result -> result.expiresAt() - now <= 0);
+
+            if (this.results.size() >= this.maxCachedResults) {
+                return;
+            }
+        }
+
+        this.results.put(key, new Cached(value, now + cacheNanos));
+    }
+
+    /**
+     * 현재 상태를 조회하는 함수
+     *
+     * @return {@link Stats}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public Stats stats() {
+        return new Stats(this.executed.sum(), this.coalesced.sum(), this.cached.sum(), this.timeouts.sum(), this.flights.size(),
+                this.results.size());
+    }
+
+    /**
+     * 실행할 내용
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @FunctionalInterface
+    public interface Invocation {
+
+        /**
+         * 실행하는 함수
+         *
+         * @return 실행 결과
+         * @throws Throwable
+         *             실행 중 발생한 예외
+         *
+         * @author MJ Youn
+         * @since 2026. 10. 19.
+         */
+        Object proceed() throws Throwable;
+
+    }
+
+    /**
+     * 누적 상태 정보
+     *
+     * @param executed
+     *            직접 실행한 호출 수
+     * @param coalesced
+     *            다른 호출의 결과를 받은 호출 수
+     * @param cached
+     *            저장된 결과를 받은 호출 수
+     * @param timeouts
+     *            기다리는 시간을 초과한 호출 수
+     * @param inFlight
+     *            실행 중인 key 수
+     * @param cachedResults
+     *            저장된 결과 수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public record Stats(long executed, long coalesced, long cached, long timeouts, int inFlight, int cachedResults) {
+    }
+
+    /**
+     * 저장된 결과
+     *
+     * @param value
+     *            실행 결과
+     * @param expiresAt
+     *            만료 시각 ({@link System#nanoTime()} 기준)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private record Cached(Object value, long expiresAt) {
+    }
+
+}
@@ -0,0 +1,276 @@
+package io.github.mjyoun.spring.web.aspect.stopwatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * stopwatch task 별 실행 시간, CPU 사용 시간, heap 할당 크기를 누적하는 클래스
+ * <p>
+ * task는 stopwatch 이름과 task 이름으로 구분한다. 둘 다 annotation에 지정된 이름이므로 개수가 제한된다. CPU 사용 시간과 할당 크기는 측정한 실행만 따로 세어 평균을
+ * 구할 수 있도록 한다. 처음 기록되는 task가 있을 때마다 등록된 listener에 {@link Task}를 전달한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class StopWatchStatistics {
+
+    private static final Logger logger = LoggerFactory.getLogger(StopWatchStatistics.class);
+
+    /** task 별 누적 정보 */
+    private final ConcurrentHashMap<Task, Counters> counters = new ConcurrentHashMap<>();
+    /** task 추가 listener 목록 */
+    private final List<Consumer<Task>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * task 실행 정보를 반영하는 함수
+     *
+     * @param stopWatch
+     *            stopwatch 이름
+     * @param task
+     *            task 이름
+     * @param elapsedNanos
+     *            실행 시간 (nanoseconds)
+     * @param cpuNanos
+     *            CPU 사용 시간 (nanoseconds). 측정하지 않았을 경우 -1
+     * @param allocatedBytes
+     *            heap 할당 크기 (byte). 측정하지 않았을 경우 -1
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void record(String stopWatch, String task, long elapsedNanos, long cpuNanos, long allocatedBytes) {
+        Task key = new Task(stopWatch, task);
+        Counters counter = this.counters.get(key);
+
+        if (counter == null) {
+            Counters created = new Counters();
+            counter = this.counters.putIfAbsent(key, created);
+
+            if (counter == null) {
+                counter = created;
+                this.notifyAdded(key);
+            }
+        }
+
+        counter.count.increment();
+        counter.elapsedNanos.add(elapsedNanos);
+        counter.maxElapsedNanos.accumulate(elapsedNanos);
+
+        if (cpuNanos >= 0) {
+            counter.cpuCount.increment();
+            counter.cpuNanos.add(cpuNanos);
+        }
+
+        if (allocatedBytes >= 0) {
+            counter.allocationCount.increment();
+            counter.allocatedBytes.add(allocatedBytes);
+            counter.maxAllocatedBytes.accumulate(allocatedBytes);
+        }
+    }
+
+    /**
+     * task가 처음 기록될 때 listener에 전달하는 함수
+     *
+     * @param task
+     *            {@link Task}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void notifyAdded(Task task) {
+        for (Consumer<Task> listener : this.listeners) {
+            try {
+                listener.accept(task);
+            } catch (RuntimeException e) {
+                // listener 오류로 method 실행이 실패하지 않도록 함
+                logger.warn("[StopWatchStatistics#notifyAdded] listener 처리 실패 [msg: {}]", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * task가 처음 기록될 때마다 호출될 listener를 등록하는 함수
+     *
+     * @param listener
+     *            task listener. method 실행 thread에서 호출되므로 오래 걸리는 작업을 하면 안 됨
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void addListener(Consumer<Task> listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * 등록된 listener를 제거하는 함수
+     *
+     * @param listener
+     *            task listener
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void removeListener(Consumer<Task> listener) {
+        this.listeners.remove(listener);
+    }
+
+    /**
+     * 기록된 task 목록을 조회하는 함수
+     *
+     * @return {@link Task} 목록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public List<Task> getTasks() {
+        return new ArrayList<>(this.counters.keySet());
+    }
+
+    /**
+     * task의 누적 정보를 조회하는 함수
+     *
+     * @param task
+     *            {@link Task}
+     * @return {@link Stats}. 기록되지 않은 task일 경우 모두 0
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public Stats stats(Task task) {
+        Counters counter = this.counters.get(task);
+
+        if (counter == null) {
+            return new Stats(task, 0, 0, 0, 0, 0, 0, 0, 0);
+        }
+
+        return new Stats(task, counter.count.sum(), counter.elapsedNanos.sum(), counter.maxElapsedNanos.get(), counter.cpuCount.sum(),
+                counter.cpuNanos.sum(), counter.allocationCount.sum(), counter.allocatedBytes.sum(), counter.maxAllocatedBytes.get());
+    }
+
+    /**
+     * 전체 task의 누적 정보를 조회하는 함수
+     *
+     * @return {@link Stats} 목록. 할당 크기 합계가 큰 순서
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public List<Stats> stats() {
+        List<Stats> stats = new ArrayList<>();
+
+        for (Task task : this.counters.keySet()) {
+            stats.add(this.stats(task));
+        }
+
+        stats.sort((a, b) -> Long.compare(b.allocatedBytes(), a.allocatedBytes()));
+
+        return stats;
+    }
+
+    /**
+     * task 구분
+     *
+     * @param stopWatch
+     *            stopwatch 이름
+     * @param task
+     *            task 이름
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public record Task(String stopWatch, String task) {}
+
+    /**
+     * task 별 누적 정보
+     *
+     * @param task
+     *            {@link Task}
+     * @param count
+     *            실행 수
+     * @param elapsedNanos
+     *            실행 시간 합계 (nanoseconds)
+     * @param maxElapsedNanos
+     *            최대 실행 시간 (nanoseconds)
+     * @param cpuCount
+     *            CPU 사용 시간을 측정한 실행 수
+     * @param cpuNanos
+     *            CPU 사용 시간 합계 (nanoseconds)
+     * @param allocationCount
+     *            할당 크기를 측정한 실행 수
+     * @param allocatedBytes
+     *            heap 할당 크기 합계 (byte)
+     * @param maxAllocatedBytes
+     *            최대 heap 할당 크기 (byte)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public record Stats(Task task, long count, long elapsedNanos, long maxElapsedNanos, long cpuCount, long cpuNanos, long allocationCount,
+            long allocatedBytes, long maxAllocatedBytes) {
+
+        /**
+         * 평균 실행 시간을 조회하는 함수
+         *
+         * @return 평균 실행 시간 (nanoseconds). 실행이 없으면 0
+         *
+         * @author MJ Youn
+         * @since 2026. 10. 19.
+         */
+        public double averageElapsedNanos() {
+            return this.count == 0 ? 0 : (double) this.elapsedNanos / this.count;
+        }
+
+        /**
+         * 평균 CPU 사용 시간을 조회하는 함수
+         *
+         * @return 평균 CPU 사용 시간 (nanoseconds). 측정한 실행이 없으면 0
+         *
+         * @author MJ Youn
+         * @since 2026. 10. 19.
+         */
+        public double averageCpuNanos() {
+            return this.cpuCount == 0 ? 0 : (double) this.cpuNanos / this.cpuCount;
+        }
+
+        /**
+         * 평균 heap 할당 크기를 조회하는 함수
+         *
+         * @return 평균 할당 크기 (byte). 측정한 실행이 없으면 0
+         *
+         * @author MJ Youn
+         * @since 2026. 10. 19.
+         */
+        public double averageAllocatedBytes() {
+            return this.allocationCount == 0 ? 0 : (double) this.allocatedBytes / this.allocationCount;
+        }
+
+    }
+
+    /**
+     * task 별 누적 값
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static class Counters {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder elapsedNanos = new LongAdder();
+        private final LongAccumulator maxElapsedNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder cpuCount = new LongAdder();
+        private final LongAdder cpuNanos = new LongAdder();
+        private final LongAdder allocationCount = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+        private final LongAccumulator maxAllocatedBytes = new LongAccumulator(Math::max, 0);
+
+    }
+
+}
@@ -0,0 +1,124 @@
+package io.github.mjyoun.spring.web.aspect.stopwatch;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 현재 thread의 CPU 사용 시간과 heap 할당 크기를 조회하는 클래스
+ * <p>
+ * {@code com.sun.management.ThreadMXBean}을 사용하며, JVM이 지원하지 않거나 측정이 꺼져 있으면 -1을 반환한다. virtual thread는 CPU 사용 시간을 측정할 수 없어
+ * -1을 반환한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public final class ThreadResources {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThreadResources.class);
+
+    /** 할당 크기 조회가 가능할 경우 {@code com.sun.management.ThreadMXBean}, 아닐 경우 null */
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN;
+    /** CPU 사용 시간 조회가 가능할 경우 {@link ThreadMXBean}, 아닐 경우 null */
+    private static final ThreadMXBean CPU_TIME_BEAN;
+
+    static {
+        ThreadMXBean cpuTimeBean = null;
+        com.sun.management.ThreadMXBean allocationBean = null;
+
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+            if (bean.isCurrentThreadCpuTimeSupported()) {
+                if (!bean.isThreadCpuTimeEnabled()) {
+                    bean.setThreadCpuTimeEnabled(true);
+                }
+
+                cpuTimeBean = bean;
+            }
+
+            if (bean instanceof com.sun.management.ThreadMXBean sunBean && sunBean.isThreadAllocatedMemorySupported()) {
+                if (!sunBean.isThreadAllocatedMemoryEnabled()) {
+                    sunBean.setThreadAllocatedMemoryEnabled(true);
+                }
+
+                allocationBean = sunBean;
+            }
+        } catch (LinkageError | RuntimeException e) {
+            // jdk.management module이 없거나 SecurityManager 등으로 설정을 바꿀 수 없는 경우
+            logger.warn("[ThreadResources] thread 사용량 측정을 사용할 수 없습니다. [msg: {}]", e.getMessage());
+        }
+
+        CPU_TIME_BEAN = cpuTimeBean;
+        ALLOCATION_BEAN = allocationBean;
+    }
+
+    private ThreadResources() {}
+
+    /**
+     * CPU 사용 시간 측정 가능 여부
+     *
+     * @return 측정 가능 여부
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static boolean isCpuTimeSupported() {
+        return CPU_TIME_BEAN != null;
+    }
+
+    /**
+     * heap 할당 크기 측정 가능 여부
+     *
+     * @return 측정 가능 여부
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static boolean isAllocationSupported() {
+        return ALLOCATION_BEAN != null;
+    }
+
+    /**
+     * 현재 thread의 CPU 사용 시간을 조회하는 함수
+     *
+     * @return CPU 사용 시간 (nanoseconds). 측정할 수 없을 경우 -1
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static long cpuTime() {
+        return CPU_TIME_BEAN == null ? -1 : CPU_TIME_BEAN.getCurrentThreadCpuTime();
+    }
+
+    /**
+     * 현재 thread가 지금까지 할당한 heap 크기를 조회하는 함수
+     *
+     * @return 할당 크기 (byte). 측정할 수 없을 경우 -1
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static long allocatedBytes() {
+        return ALLOCATION_BEAN == null ? -1 : ALLOCATION_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * 두 측정 값의 차이를 구하는 함수
+     *
+     * @param start
+     *            시작 시 측정 값
+     * @param end
+     *            종료 시 측정 값
+     * @return 차이. 둘 중 하나라도 측정할 수 없었을 경우 -1
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static long delta(long start, long end) {
+        return start < 0 || end < 0 ? -1 : Math.max(0, end - start);
+    }
+
+}
@@ -0,0 +1,39 @@
+package io.github.mjyoun.spring.web.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.mjyoun.spring.web.service.bandwidth.BandwidthManager;
+
+/**
+ * {@link BandwidthManager}를 등록하기 위한 configuration
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(BandwidthProperties.class)
+@ConditionalOnProperty(prefix = BandwidthProperties.PREFIX, name = "enabled", havingValue = "true")
+public class BandwidthConfiguration {
+
+    /**
+     * {@link BandwidthManager} 생성
+     * 
+     * @param properties
+     *            {@link BandwidthProperties}
+     * @return {@link BandwidthManager}
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Bean
+    public BandwidthManager bandwidthManager(BandwidthProperties properties) {
+        return new BandwidthManager(properties.getMaxRate().toBytes(), //
+                properties.getMaxRatePerTransfer() == null ? 0 : properties.getMaxRatePerTransfer().toBytes(), //
+                properties.getBurst().toBytes(), //
+                (int) properties.getChunkSize().toBytes());
+    }
+
+}
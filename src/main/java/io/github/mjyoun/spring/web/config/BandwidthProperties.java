@@ -0,0 +1,74 @@
+package io.github.mjyoun.spring.web.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * {@link io.github.mjyoun.spring.web.service.bandwidth.BandwidthManager} 설정. 속도는 초당 크기로 설정한다.
+ * 
+ * <pre>
+ * mj.spring.web.download.bandwidth.enabled=true
+ * mj.spring.web.download.bandwidth.max-rate=50MB
+ * mj.spring.web.download.bandwidth.max-rate-per-transfer=10MB
+ * </pre>
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = BandwidthProperties.PREFIX)
+public class BandwidthProperties {
+
+    public static final String PREFIX = "mj.spring.web.download.bandwidth";
+
+    /** 사용 여부 */
+    private boolean enabled = false;
+    /** 전체 다운로드의 최대 전송 속도 (초당) */
+    private DataSize maxRate = DataSize.ofMegabytes(100);
+    /** 다운로드 하나의 최대 전송 속도 (초당). 없을 경우 제한하지 않음 */
+    private DataSize maxRatePerTransfer;
+    /** 기다리지 않고 한 번에 보낼 수 있는 크기 */
+    private DataSize burst = DataSize.ofMegabytes(1);
+    /** 속도를 조절하는 단위 크기 */
+    private DataSize chunkSize = DataSize.ofKilobytes(64);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public DataSize getMaxRate() {
+        return maxRate;
+    }
+
+    public void setMaxRate(DataSize maxRate) {
+        this.maxRate = maxRate;
+    }
+
+    public DataSize getMaxRatePerTransfer() {
+        return maxRatePerTransfer;
+    }
+
+    public void setMaxRatePerTransfer(DataSize maxRatePerTransfer) {
+        this.maxRatePerTransfer = maxRatePerTransfer;
+    }
+
+    public DataSize getBurst() {
+        return burst;
+    }
+
+    public void setBurst(DataSize burst) {
+        this.burst = burst;
+    }
+
+    public DataSize getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(DataSize chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+}
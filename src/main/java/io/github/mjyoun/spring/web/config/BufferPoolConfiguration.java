@@ -0,0 +1,47 @@
+package io.github.mjyoun.spring.web.config;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.mjyoun.spring.web.service.buffer.BufferPool;
+
+/**
+ * {@link BufferPool}을 등록하기 위한 configuration
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(BufferPoolProperties.class)
+@ConditionalOnProperty(prefix = BufferPoolProperties.PREFIX, name = "enabled", havingValue = "true")
+public class BufferPoolConfiguration {
+
+    /**
+     * {@link BufferPool} 생성
+     * 
+     * @param properties
+     *            {@link BufferPoolProperties}
+     * @return {@link BufferPool}
+     * @throws IOException
+     *             임시 파일 디렉토리 생성 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Bean
+    public BufferPool bufferPool(BufferPoolProperties properties) throws IOException {
+        Path directory = properties.getSpillDirectory() != null ? properties.getSpillDirectory()
+                : Path.of(System.getProperty("java.io.tmpdir"), "mj-buffer-spill");
+
+        return new BufferPool((int) properties.getBufferSize().toBytes(), //
+                properties.getMaxBuffers(), //
+                properties.getSpillThreshold().toBytes(), //
+                directory);
+    }
+
+}
@@ -0,0 +1,77 @@
+package io.github.mjyoun.spring.web.config;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * {@link io.github.mjyoun.spring.web.service.buffer.BufferPool} 설정
+ * 
+ * <pre>
+ * mj.spring.web.buffer-pool.enabled=true
+ * mj.spring.web.buffer-pool.buffer-size=64KB
+ * mj.spring.web.buffer-pool.max-buffers=256
+ * mj.spring.web.buffer-pool.spill-threshold=8MB
+ * </pre>
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = BufferPoolProperties.PREFIX)
+public class BufferPoolProperties {
+
+    public static final String PREFIX = "mj.spring.web.buffer-pool";
+
+    /** 사용 여부 */
+    private boolean enabled = false;
+    /** direct buffer 하나의 크기 */
+    private DataSize bufferSize = DataSize.ofKilobytes(64);
+    /** 생성할 최대 direct buffer 수 */
+    private int maxBuffers = 256;
+    /** 생성한 내용을 memory-mapped 임시 파일로 옮기는 크기 */
+    private DataSize spillThreshold = DataSize.ofMegabytes(8);
+    /** 임시 파일 디렉토리. 없을 경우 임시 디렉토리 아래 'mj-buffer-spill' */
+    private Path spillDirectory;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public DataSize getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(DataSize bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getMaxBuffers() {
+        return maxBuffers;
+    }
+
+    public void setMaxBuffers(int maxBuffers) {
+        this.maxBuffers = maxBuffers;
+    }
+
+    public DataSize getSpillThreshold() {
+        return spillThreshold;
+    }
+
+    public void setSpillThreshold(DataSize spillThreshold) {
+        this.spillThreshold = spillThreshold;
+    }
+
+    public Path getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    public void setSpillDirectory(Path spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+
+}
@@ -0,0 +1,42 @@
+package io.github.mjyoun.spring.web.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@link io.github.mjyoun.spring.web.aspect.CoalesceAspect} 설정
+ * 
+ * <pre>
+ * mj.spring.web.coalesce.enabled=true
+ * mj.spring.web.coalesce.max-cached-results=1000
+ * </pre>
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = CoalesceProperties.PREFIX)
+public class CoalesceProperties {
+
+    public static final String PREFIX = "mj.spring.web.coalesce";
+
+    /** 사용 여부 */
+    private boolean enabled = true;
+    /** 재사용하기 위해 저장할 최대 결과 수 */
+    private int maxCachedResults = 1000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxCachedResults() {
+        return maxCachedResults;
+    }
+
+    public void setMaxCachedResults(int maxCachedResults) {
+        this.maxCachedResults = maxCachedResults;
+    }
+
+}
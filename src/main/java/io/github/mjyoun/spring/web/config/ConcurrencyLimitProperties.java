@@ -0,0 +1,193 @@
+package io.github.mjyoun.spring.web.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@link io.github.mjyoun.spring.web.filter.ConcurrencyLimitFilter} 설정
+ * 
+ * <pre>
+ * mj.spring.web.concurrency-limit.enabled=true
+ * mj.spring.web.concurrency-limit.algorithm=gradient
+ * mj.spring.web.concurrency-limit.buckets[0].name=download
+ * mj.spring.web.concurrency-limit.buckets[0].patterns=/api/export/**,/api/files/**
+ * mj.spring.web.concurrency-limit.buckets[0].max-limit=8
+ * </pre>
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = ConcurrencyLimitProperties.PREFIX)
+public class ConcurrencyLimitProperties {
+
+    public static final String PREFIX = "mj.spring.web.concurrency-limit";
+
+    /**
+     * 한도 조정 알고리즘
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public enum Algorithm {
+        /** {@link io.github.mjyoun.spring.web.filter.limit.AimdLimit} */
+        AIMD,
+        /** {@link io.github.mjyoun.spring.web.filter.limit.GradientLimit} */
+        GRADIENT
+    }
+
+    /** 사용 여부 */
+    private boolean enabled = false;
+    /** 한도 조정 알고리즘 */
+    private Algorithm algorithm = Algorithm.AIMD;
+    /** 초기 한도 */
+    private int initialLimit = 20;
+    /** 최소 한도 */
+    private int minLimit = 1;
+    /** 최대 한도 */
+    private int maxLimit = 200;
+    /** AIMD 알고리즘에서 한도를 줄이는 기준 처리 시간 */
+    private Duration latencyThreshold = Duration.ofSeconds(1);
+    /** AIMD 알고리즘의 감소 비율 */
+    private double backoffRatio = 0.9;
+    /** 거절 시 응답하는 Retry-After 시간 */
+    private Duration retryAfter = Duration.ofSeconds(1);
+    /** bucket에 해당하지 않는 요청도 기본 bucket으로 제한할지 여부 */
+    private boolean limitUnmatched = true;
+    /** 별도의 한도를 적용할 bucket 목록. 먼저 선언된 bucket부터 확인 */
+    private List<Bucket> buckets = new ArrayList<>();
+
+    /**
+     * 별도의 한도를 적용할 URL pattern 묶음
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static class Bucket {
+
+        /** bucket 이름 */
+        private String name;
+        /** URL pattern 목록 (context path 제외) */
+        private List<String> patterns = new ArrayList<>();
+        /** 초기 한도. 없을 경우 전체 설정 사용 */
+        private Integer initialLimit;
+        /** 최대 한도. 없을 경우 전체 설정 사용 */
+        private Integer maxLimit;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<String> getPatterns() {
+            return patterns;
+        }
+
+        public void setPatterns(List<String> patterns) {
+            this.patterns = patterns;
+        }
+
+        public Integer getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(Integer initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public Integer getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(Integer maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(Algorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public Duration getLatencyThreshold() {
+        return latencyThreshold;
+    }
+
+    public void setLatencyThreshold(Duration latencyThreshold) {
+        this.latencyThreshold = latencyThreshold;
+    }
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    public void setBackoffRatio(double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
+    public boolean isLimitUnmatched() {
+        return limitUnmatched;
+    }
+
+    public void setLimitUnmatched(boolean limitUnmatched) {
+        this.limitUnmatched = limitUnmatched;
+    }
+
+    public List<Bucket> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(List<Bucket> buckets) {
+        this.buckets = buckets;
+    }
+
+}
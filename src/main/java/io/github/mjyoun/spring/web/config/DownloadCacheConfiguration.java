@@ -0,0 +1,49 @@
+package io.github.mjyoun.spring.web.config;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.mjyoun.spring.web.service.cache.DownloadCache;
+
+/**
+ * {@link DownloadCache}를 등록하기 위한 configuration
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(DownloadCacheProperties.class)
+@ConditionalOnProperty(prefix = DownloadCacheProperties.PREFIX, name = "enabled", havingValue = "true")
+public class DownloadCacheConfiguration {
+
+    /**
+     * {@link DownloadCache} 생성
+     * 
+     * @param properties
+     *            {@link DownloadCacheProperties}
+     * @return {@link DownloadCache}
+     * @throws IOException
+     *             저장 디렉토리 생성 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Bean
+    public DownloadCache downloadCache(DownloadCacheProperties properties) throws IOException {
+        Path directory = properties.getDiskDirectory() != null ? properties.getDiskDirectory()
+                : Path.of(System.getProperty("java.io.tmpdir"), "mj-download-cache");
+
+        return new DownloadCache(properties.getTtl(), //
+                properties.getHeapMaxSize().toBytes(), //
+                properties.getHeapEntryMaxSize().toBytes(), //
+                directory, //
+                properties.getDiskMaxSize().toBytes(), //
+                properties.getDeleteGracePeriod());
+    }
+
+}
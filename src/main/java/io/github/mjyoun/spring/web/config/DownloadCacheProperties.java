@@ -0,0 +1,98 @@
+package io.github.mjyoun.spring.web.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * {@link io.github.mjyoun.spring.web.service.cache.DownloadCache} 설정
+ * 
+ * <pre>
+ * mj.spring.web.download.cache.enabled=true
+ * mj.spring.web.download.cache.ttl=10m
+ * mj.spring.web.download.cache.heap-max-size=64MB
+ * mj.spring.web.download.cache.disk-directory=/var/cache/app/download
+ * </pre>
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = DownloadCacheProperties.PREFIX)
+public class DownloadCacheProperties {
+
+    public static final String PREFIX = "mj.spring.web.download.cache";
+
+    /** 사용 여부 */
+    private boolean enabled = false;
+    /** 저장 시간 */
+    private Duration ttl = Duration.ofMinutes(10);
+    /** heap에 저장할 최대 크기 합계 */
+    private DataSize heapMaxSize = DataSize.ofMegabytes(64);
+    /** heap에 저장할 파일 하나의 최대 크기. 초과하면 disk에 저장 */
+    private DataSize heapEntryMaxSize = DataSize.ofMegabytes(1);
+    /** disk 저장 디렉토리. 없을 경우 임시 디렉토리 아래 'mj-download-cache' */
+    private Path diskDirectory;
+    /** disk에 저장할 최대 크기 합계 */
+    private DataSize diskMaxSize = DataSize.ofGigabytes(1);
+    /** disk에서 제거된 파일을 실제로 삭제하기까지의 유예 시간. 만료된 파일 정리 주기로도 사용 */
+    private Duration deleteGracePeriod = Duration.ofMinutes(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public DataSize getHeapMaxSize() {
+        return heapMaxSize;
+    }
+
+    public void setHeapMaxSize(DataSize heapMaxSize) {
+        this.heapMaxSize = heapMaxSize;
+    }
+
+    public DataSize getHeapEntryMaxSize() {
+        return heapEntryMaxSize;
+    }
+
+    public void setHeapEntryMaxSize(DataSize heapEntryMaxSize) {
+        this.heapEntryMaxSize = heapEntryMaxSize;
+    }
+
+    public Path getDiskDirectory() {
+        return diskDirectory;
+    }
+
+    public void setDiskDirectory(Path diskDirectory) {
+        this.diskDirectory = diskDirectory;
+    }
+
+    public DataSize getDiskMaxSize() {
+        return diskMaxSize;
+    }
+
+    public void setDiskMaxSize(DataSize diskMaxSize) {
+        this.diskMaxSize = diskMaxSize;
+    }
+
+    public Duration getDeleteGracePeriod() {
+        return deleteGracePeriod;
+    }
+
+    public void setDeleteGracePeriod(Duration deleteGracePeriod) {
+        this.deleteGracePeriod = deleteGracePeriod;
+    }
+
+}
@@ -0,0 +1,36 @@
+package io.github.mjyoun.spring.web.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.mjyoun.spring.web.service.telemetry.DownloadTelemetry;
+
+/**
+ * {@link DownloadTelemetry}를 등록하기 위한 configuration
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(DownloadTelemetryProperties.class)
+@ConditionalOnProperty(prefix = DownloadTelemetryProperties.PREFIX, name = "enabled", havingValue = "true")
+public class DownloadTelemetryConfiguration {
+
+    /**
+     * {@link DownloadTelemetry} 생성
+     * 
+     * @param properties
+     *            {@link DownloadTelemetryProperties}
+     * @return {@link DownloadTelemetry}
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Bean
+    public DownloadTelemetry downloadTelemetry(DownloadTelemetryProperties properties) {
+        return new DownloadTelemetry(properties.isLogEvents());
+    }
+
+}
@@ -0,0 +1,42 @@
+package io.github.mjyoun.spring.web.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@link io.github.mjyoun.spring.web.service.telemetry.DownloadTelemetry} 설정
+ * 
+ * <pre>
+ * mj.spring.web.download.telemetry.enabled=true
+ * mj.spring.web.download.telemetry.log-events=true
+ * </pre>
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = DownloadTelemetryProperties.PREFIX)
+public class DownloadTelemetryProperties {
+
+    public static final String PREFIX = "mj.spring.web.download.telemetry";
+
+    /** 사용 여부 */
+    private boolean enabled = false;
+    /** 다운로드마다 'io.github.mjyoun.spring.web.download' logger에 event log를 출력할지 여부 */
+    private boolean logEvents = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isLogEvents() {
+        return logEvents;
+    }
+
+    public void setLogEvents(boolean logEvents) {
+        this.logEvents = logEvents;
+    }
+
+}
@@ -0,0 +1,113 @@
+package io.github.mjyoun.spring.web.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@link io.github.mjyoun.spring.web.error.CustomErrorController} 설정
+ * 
+ * <pre>
+ * mj.spring.web.error.mode=lightweight
+ * mj.spring.web.error.aggregation-interval=10s
+ * mj.spring.web.error.response-format=problem-detail
+ * </pre>
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = ErrorHandlingProperties.PREFIX)
+public class ErrorHandlingProperties {
+
+    public static final String PREFIX = "mj.spring.web.error";
+
+    /**
+     * 오류 처리 방식
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public enum Mode {
+        /** 모든 오류를 ERROR level로 stack trace와 함께 출력 (기존 방식) */
+        FULL,
+        /** client 오류(4xx)는 stack trace 없이 WARN level로 출력하고, 같은 오류는 주기마다 모아서 출력. 서버 오류(5xx)는 기존과 동일 */
+        LIGHTWEIGHT
+    }
+
+    /**
+     * 오류 응답 형태
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public enum ResponseFormat {
+        /** {@link io.github.mjyoun.core.data.Result} 형태로 message converter를 통해 출력 (기존 방식) */
+        RESULT,
+        /** {@link io.github.mjyoun.core.data.Result} 형태로, 미리 직렬화한 byte를 response에 바로 출력 */
+        RESULT_DIRECT,
+        /** RFC 7807 ({@code application/problem+json}) 형태로 response에 바로 출력 */
+        PROBLEM_DETAIL
+    }
+
+    /** {@link io.github.mjyoun.spring.web.error.CustomErrorController} 등록 여부 */
+    private boolean enabled = true;
+    /** 오류 처리 방식 */
+    private Mode mode = Mode.FULL;
+    /** LIGHTWEIGHT 방식에서 같은 오류를 모아서 출력하는 주기 */
+    private Duration aggregationInterval = Duration.ofSeconds(10);
+    /** LIGHTWEIGHT 방식에서 따로 집계할 최대 (예외 타입, route) 개수. 초과할 경우 하나로 합쳐서 집계 */
+    private int maxAggregationKeys = 1000;
+    /** 오류 응답 형태 */
+    private ResponseFormat responseFormat = ResponseFormat.RESULT;
+    /** 직렬화 결과를 cache 할 최대 메시지 개수. 고정된 메시지(template에 값이 없는 유효성 검사 메시지, {@code respond(status, message, true)})만 cache 함 */
+    private int maxCachedPayloads = 256;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public Duration getAggregationInterval() {
+        return aggregationInterval;
+    }
+
+    public void setAggregationInterval(Duration aggregationInterval) {
+        this.aggregationInterval = aggregationInterval;
+    }
+
+    public int getMaxAggregationKeys() {
+        return maxAggregationKeys;
+    }
+
+    public void setMaxAggregationKeys(int maxAggregationKeys) {
+        this.maxAggregationKeys = maxAggregationKeys;
+    }
+
+    public ResponseFormat getResponseFormat() {
+        return responseFormat;
+    }
+
+    public void setResponseFormat(ResponseFormat responseFormat) {
+        this.responseFormat = responseFormat;
+    }
+
+    public int getMaxCachedPayloads() {
+        return maxCachedPayloads;
+    }
+
+    public void setMaxCachedPayloads(int maxCachedPayloads) {
+        this.maxCachedPayloads = maxCachedPayloads;
+    }
+
+}
@@ -0,0 +1,47 @@
+package io.github.mjyoun.spring.web.config;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.github.mjyoun.spring.web.interceptor.EtagVersionInterceptor;
+
+/**
+ * {@link io.github.mjyoun.spring.web.annotation.EtagVersion}을 처리하는 {@link EtagVersionInterceptor}를 등록하기 위한 configuration
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = EtagProperties.PREFIX, name = "enabled", havingValue = "true")
+public class EtagConfiguration implements WebMvcConfigurer {
+
+    private final BeanFactory beanFactory;
+
+    /**
+     * (non-javadoc)
+     * 
+     * @param beanFactory
+     *            {@link BeanFactory}
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public EtagConfiguration(BeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    /**
+     * @see WebMvcConfigurer#addInterceptors(InterceptorRegistry)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new EtagVersionInterceptor(this.beanFactory));
+    }
+
+}
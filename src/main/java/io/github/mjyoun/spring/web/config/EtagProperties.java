@@ -0,0 +1,66 @@
+package io.github.mjyoun.spring.web.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@link io.github.mjyoun.spring.web.filter.EtagFilter} 설정
+ * 
+ * <pre>
+ * mj.spring.web.etag.enabled=true
+ * mj.spring.web.etag.patterns=/api/**
+ * mj.spring.web.etag.max-buffer-size=262144
+ * </pre>
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = EtagProperties.PREFIX)
+public class EtagProperties {
+
+    public static final String PREFIX = "mj.spring.web.etag";
+
+    /** 사용 여부 */
+    private boolean enabled = false;
+    /** ETag를 생성할 URL pattern 목록 (context path 제외). 없을 경우 전체 */
+    private List<String> patterns = new ArrayList<>();
+    /** hash를 계산하기 위해 보관할 최대 응답 크기. 초과하면 ETag 없이 전송 */
+    private int maxBufferSize = 256 * 1024;
+    /** weak ETag(W/"...") 사용 여부 */
+    private boolean weak = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getPatterns() {
+        return patterns;
+    }
+
+    public void setPatterns(List<String> patterns) {
+        this.patterns = patterns;
+    }
+
+    public int getMaxBufferSize() {
+        return maxBufferSize;
+    }
+
+    public void setMaxBufferSize(int maxBufferSize) {
+        this.maxBufferSize = maxBufferSize;
+    }
+
+    public boolean isWeak() {
+        return weak;
+    }
+
+    public void setWeak(boolean weak) {
+        this.weak = weak;
+    }
+
+}
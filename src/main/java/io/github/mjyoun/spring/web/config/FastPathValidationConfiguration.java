@@ -0,0 +1,69 @@
+package io.github.mjyoun.spring.web.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.github.mjyoun.spring.web.validation.fastpath.FastPathValidator;
+import jakarta.validation.Validation;
+
+/**
+ * Spring MVC의 validator를 {@link FastPathValidator}로 설정하기 위한 configuration
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(FastPathValidationProperties.class)
+@ConditionalOnProperty(prefix = FastPathValidationProperties.PREFIX, name = "enabled", havingValue = "true")
+public class FastPathValidationConfiguration implements WebMvcConfigurer {
+
+    private final ObjectProvider<jakarta.validation.Validator> validatorProvider;
+    private final FastPathValidationProperties properties;
+
+    /** 생성된 validator */
+    private FastPathValidator validator;
+
+    /**
+     * (non-javadoc)
+     * 
+     * @param validatorProvider
+     *            표준 provider
+     * @param properties
+     *            {@link FastPathValidationProperties}
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public FastPathValidationConfiguration(ObjectProvider<jakarta.validation.Validator> validatorProvider,
+            FastPathValidationProperties properties) {
+        this.validatorProvider = validatorProvider;
+        this.properties = properties;
+    }
+
+    /**
+     * @see WebMvcConfigurer#getValidator()
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public synchronized Validator getValidator() {
+        if (this.validator == null) {
+            jakarta.validation.Validator standard = this.validatorProvider
+                    .getIfAvailable(() -> Validation.buildDefaultValidatorFactory().getValidator());
+            SmartValidator delegate = standard instanceof SmartValidator smartValidator ? smartValidator : new SpringValidatorAdapter(standard);
+
+            this.validator = new FastPathValidator(delegate);
+            this.validator.precompile(this.properties.getClasses());
+        }
+
+        return this.validator;
+    }
+
+}
@@ -0,0 +1,45 @@
+package io.github.mjyoun.spring.web.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * fast path validator 설정
+ * 
+ * <pre>
+ * mj.spring.web.validation.fast-path.enabled=true
+ * mj.spring.web.validation.fast-path.classes=com.example.SearchDto,com.example.PageDto
+ * </pre>
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = FastPathValidationProperties.PREFIX)
+public class FastPathValidationProperties {
+
+    public static final String PREFIX = "mj.spring.web.validation.fast-path";
+
+    /** 사용 여부 */
+    private boolean enabled = false;
+    /** 시작 시 검사 계획을 미리 생성할 class 목록. 목록에 없는 class는 첫 검사 시 생성 */
+    private List<Class<?>> classes = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<Class<?>> getClasses() {
+        return classes;
+    }
+
+    public void setClasses(List<Class<?>> classes) {
+        this.classes = classes;
+    }
+
+}
@@ -1,29 +1,58 @@
 package io.github.mjyoun.spring.web.config;
 
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
+import io.github.mjyoun.spring.web.aot.MJSpringWebRuntimeHints;
+import io.github.mjyoun.spring.web.aspect.CoalesceAspect;
 import io.github.mjyoun.spring.web.aspect.HttpRequestLogAspect;
 import io.github.mjyoun.spring.web.aspect.StopWatchAspect;
 import io.github.mjyoun.spring.web.error.CustomErrorController;
+import io.github.mjyoun.spring.web.filter.ConcurrencyLimitFilter;
+import io.github.mjyoun.spring.web.filter.EtagFilter;
+import io.github.mjyoun.spring.web.filter.RateLimitFilter;
 import io.github.mjyoun.spring.web.filter.RestRequestFilter;
 import io.github.mjyoun.spring.web.service.CSVService;
 import io.github.mjyoun.spring.web.service.DownloadService;
+import io.github.mjyoun.spring.web.service.UploadService;
 
 /**
  * Spring Web 모듈의 컴포넌트들을 등록하기 위한 Auto Configuration 클래스. 기존 MJComponentScanMarker 방식을 대체합니다.
+ * <p>
+ * 각 컴포넌트는 설정({@code mj.spring.web.*.enabled} 등)과 필요한 library(AspectJ)가 있을 때만 등록되며, 파일 관련 서비스는 처음 사용할 때 생성됩니다.
+ * CSV, 엑셀 파일 생성 library(opencsv, POI)는 {@link io.github.mjyoun.spring.web.export.ExportBackends}를 통해 처음 파일을 생성할 때 읽습니다.
  * 
  * @author MJ Youn
  * @since 2026. 04. 29.
  */
 @AutoConfiguration
+@ImportRuntimeHints(MJSpringWebRuntimeHints.class)
+@EnableConfigurationProperties({ ErrorHandlingProperties.class, ConcurrencyLimitProperties.class, UploadProperties.class,
+        RequestLogProperties.class, StopWatchProperties.class, RestRequestFilterProperties.class, RateLimitProperties.class,
+        CoalesceProperties.class, EtagProperties.class })
 @Import({ //
         CustomErrorController.class, //
         HttpRequestLogAspect.class, //
         RestRequestFilter.class, //
+        RateLimitFilter.class, //
+        ConcurrencyLimitFilter.class, //
+        EtagFilter.class, //
         StopWatchAspect.class, //
+        CoalesceAspect.class, //
         DownloadService.class, //
-        CSVService.class //
+        CSVService.class, //
+        UploadService.class, //
+        FastPathValidationConfiguration.class, //
+        DownloadCacheConfiguration.class, //
+        BufferPoolConfiguration.class, //
+        DownloadTelemetryConfiguration.class, //
+        BandwidthConfiguration.class, //
+        MetricsConfiguration.class, //
+        RequestLogInterceptorConfiguration.class, //
+        EtagConfiguration.class, //
+        StreamingResultConfiguration.class //
 })
 public class MJSpringWebAutoConfiguration {
 
@@ -0,0 +1,63 @@
+package io.github.mjyoun.spring.web.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.mjyoun.spring.web.aspect.CoalesceAspect;
+import io.github.mjyoun.spring.web.aspect.StopWatchAspect;
+import io.github.mjyoun.spring.web.filter.RateLimitFilter;
+import io.github.mjyoun.spring.web.metrics.MJSpringWebMeterBinder;
+import io.github.mjyoun.spring.web.service.bandwidth.BandwidthManager;
+import io.github.mjyoun.spring.web.service.buffer.BufferPool;
+import io.github.mjyoun.spring.web.service.cache.DownloadCache;
+import io.github.mjyoun.spring.web.service.telemetry.DownloadTelemetry;
+
+/**
+ * Micrometer가 classpath에 있을 경우 {@link MJSpringWebMeterBinder}를 등록하기 위한 configuration
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+public class MetricsConfiguration {
+
+    /**
+     * {@link MJSpringWebMeterBinder} 생성
+     *
+     * @param downloadTelemetryProvider
+     *            {@link DownloadTelemetry}
+     * @param bufferPoolProvider
+     *            {@link BufferPool}
+     * @param downloadCacheProvider
+     *            {@link DownloadCache}
+     * @param rateLimitFilterProvider
+     *            {@link RateLimitFilter}
+     * @param coalesceAspectProvider
+     *            {@link CoalesceAspect}
+     * @param bandwidthManagerProvider
+     *            {@link BandwidthManager}
+     * @param stopWatchAspectProvider
+     *            {@link StopWatchAspect}
+     * @return {@link MJSpringWebMeterBinder}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Bean
+    public MJSpringWebMeterBinder mjSpringWebMeterBinder(ObjectProvider<DownloadTelemetry> downloadTelemetryProvider,
+            ObjectProvider<BufferPool> bufferPoolProvider, ObjectProvider<DownloadCache> downloadCacheProvider,
+            ObjectProvider<RateLimitFilter> rateLimitFilterProvider, ObjectProvider<CoalesceAspect> coalesceAspectProvider,
+            ObjectProvider<BandwidthManager> bandwidthManagerProvider, ObjectProvider<StopWatchAspect> stopWatchAspectProvider) {
+        CoalesceAspect coalesceAspect = coalesceAspectProvider.getIfAvailable();
+        StopWatchAspect stopWatchAspect = stopWatchAspectProvider.getIfAvailable();
+
+        return new MJSpringWebMeterBinder(downloadTelemetryProvider.getIfAvailable(), bufferPoolProvider.getIfAvailable(),
+                downloadCacheProvider.getIfAvailable(), rateLimitFilterProvider.getIfAvailable(),
+                coalesceAspect == null ? null : coalesceAspect.getSingleFlight(), bandwidthManagerProvider.getIfAvailable(),
+                stopWatchAspect == null ? null : stopWatchAspect.getStatistics());
+    }
+
+}
@@ -0,0 +1,165 @@
+package io.github.mjyoun.spring.web.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@link io.github.mjyoun.spring.web.filter.RateLimitFilter} 설정
+ * 
+ * <pre>
+ * mj.spring.web.rate-limit.enabled=true
+ * mj.spring.web.rate-limit.routes[0].name=export
+ * mj.spring.web.rate-limit.routes[0].patterns=/api/export/**
+ * mj.spring.web.rate-limit.routes[0].limit.capacity=10
+ * mj.spring.web.rate-limit.routes[0].limit.period=1m
+ * mj.spring.web.rate-limit.routes[0].anonymous.capacity=2
+ * mj.spring.web.rate-limit.routes[0].grades.[ADMIN].capacity=100
+ * </pre>
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = RateLimitProperties.PREFIX)
+public class RateLimitProperties {
+
+    public static final String PREFIX = "mj.spring.web.rate-limit";
+
+    /** 사용 여부 */
+    private boolean enabled = false;
+    /** route 별로 저장할 최대 요청자 수 */
+    private int maxKeys = 10_000;
+    /** 한동안 요청이 없는 요청자 정보를 정리하는 주기 */
+    private Duration sweepInterval = Duration.ofMinutes(1);
+    /** 한도를 적용할 route 목록. 먼저 선언된 route부터 확인 */
+    private List<Route> routes = new ArrayList<>();
+
+    /**
+     * 한도를 적용할 URL pattern 묶음
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static class Route {
+
+        /** route 이름 */
+        private String name;
+        /** URL pattern 목록 (context path 제외) */
+        private List<String> patterns = new ArrayList<>();
+        /** 기본 한도 */
+        private Limit limit = new Limit();
+        /** 로그인하지 않은 요청의 한도. 없을 경우 기본 한도 사용 */
+        private Limit anonymous;
+        /** 권한(AbstractGrade#getId) 별 한도. 권한이 여러 개인 경우 가장 많이 허용하는 한도 사용 */
+        private Map<String, Limit> grades = new LinkedHashMap<>();
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<String> getPatterns() {
+            return patterns;
+        }
+
+        public void setPatterns(List<String> patterns) {
+            this.patterns = patterns;
+        }
+
+        public Limit getLimit() {
+            return limit;
+        }
+
+        public void setLimit(Limit limit) {
+            this.limit = limit;
+        }
+
+        public Limit getAnonymous() {
+            return anonymous;
+        }
+
+        public void setAnonymous(Limit anonymous) {
+            this.anonymous = anonymous;
+        }
+
+        public Map<String, Limit> getGrades() {
+            return grades;
+        }
+
+        public void setGrades(Map<String, Limit> grades) {
+            this.grades = grades;
+        }
+
+    }
+
+    /**
+     * 기간 당 허용 요청 수
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static class Limit {
+
+        /** 기간 당 허용 요청 수 (한 번에 허용하는 최대 요청 수) */
+        private long capacity = 60;
+        /** 기간 */
+        private Duration period = Duration.ofMinutes(1);
+
+        public long getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(long capacity) {
+            this.capacity = capacity;
+        }
+
+        public Duration getPeriod() {
+            return period;
+        }
+
+        public void setPeriod(Duration period) {
+            this.period = period;
+        }
+
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxKeys() {
+        return maxKeys;
+    }
+
+    public void setMaxKeys(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    public Duration getSweepInterval() {
+        return sweepInterval;
+    }
+
+    public void setSweepInterval(Duration sweepInterval) {
+        this.sweepInterval = sweepInterval;
+    }
+
+    public List<Route> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(List<Route> routes) {
+        this.routes = routes;
+    }
+
+}
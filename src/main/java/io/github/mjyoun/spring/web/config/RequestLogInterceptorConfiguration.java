@@ -0,0 +1,31 @@
+package io.github.mjyoun.spring.web.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.github.mjyoun.spring.web.interceptor.HttpRequestLogInterceptor;
+
+/**
+ * 요청 log를 {@link HttpRequestLogInterceptor}로 출력하도록 등록하기 위한 configuration
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = RequestLogProperties.PREFIX, name = "engine", havingValue = "interceptor")
+public class RequestLogInterceptorConfiguration implements WebMvcConfigurer {
+
+    /**
+     * @see WebMvcConfigurer#addInterceptors(InterceptorRegistry)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HttpRequestLogInterceptor());
+    }
+
+}
@@ -0,0 +1,46 @@
+package io.github.mjyoun.spring.web.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * HTTP 요청 log 설정
+ * 
+ * <pre>
+ * mj.spring.web.request-log.engine=interceptor
+ * </pre>
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = RequestLogProperties.PREFIX)
+public class RequestLogProperties {
+
+    public static final String PREFIX = "mj.spring.web.request-log";
+
+    /**
+     * 요청 log 출력 방식
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public enum Engine {
+        /** mapping annotation이 있는 method마다 AOP proxy로 출력 ({@link io.github.mjyoun.spring.web.aspect.HttpRequestLogAspect}, 기존 방식) */
+        ASPECT,
+        /** proxy 없이 {@link org.springframework.web.servlet.HandlerInterceptor}로 출력 ({@link io.github.mjyoun.spring.web.interceptor.HttpRequestLogInterceptor}) */
+        INTERCEPTOR,
+        /** 출력하지 않음 */
+        NONE
+    }
+
+    /** 요청 log 출력 방식 */
+    private Engine engine = Engine.ASPECT;
+
+    public Engine getEngine() {
+        return engine;
+    }
+
+    public void setEngine(Engine engine) {
+        this.engine = engine;
+    }
+
+}
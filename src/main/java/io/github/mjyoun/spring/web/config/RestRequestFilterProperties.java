@@ -0,0 +1,31 @@
+package io.github.mjyoun.spring.web.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@link io.github.mjyoun.spring.web.filter.RestRequestFilter} 설정
+ * 
+ * <pre>
+ * mj.spring.web.rest-request-filter.enabled=false
+ * </pre>
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = RestRequestFilterProperties.PREFIX)
+public class RestRequestFilterProperties {
+
+    public static final String PREFIX = "mj.spring.web.rest-request-filter";
+
+    /** 사용 여부 */
+    private boolean enabled = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+}
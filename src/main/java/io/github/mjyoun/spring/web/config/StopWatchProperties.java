@@ -0,0 +1,53 @@
+package io.github.mjyoun.spring.web.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@link io.github.mjyoun.spring.web.aspect.StopWatchAspect} 설정
+ * 
+ * <pre>
+ * mj.spring.web.stop-watch.enabled=false
+ * mj.spring.web.stop-watch.resources=true
+ * mj.spring.web.stop-watch.statistics=true
+ * </pre>
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = StopWatchProperties.PREFIX)
+public class StopWatchProperties {
+
+    public static final String PREFIX = "mj.spring.web.stop-watch";
+
+    /** 사용 여부 */
+    private boolean enabled = true;
+    /** 모든 stop watch에서 task 별 thread CPU 사용 시간, heap 할당 크기 측정 여부 */
+    private boolean resources = false;
+    /** task 별 누적 정보 집계 여부 */
+    private boolean statistics = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isResources() {
+        return resources;
+    }
+
+    public void setResources(boolean resources) {
+        this.resources = resources;
+    }
+
+    public boolean isStatistics() {
+        return statistics;
+    }
+
+    public void setStatistics(boolean statistics) {
+        this.statistics = statistics;
+    }
+
+}
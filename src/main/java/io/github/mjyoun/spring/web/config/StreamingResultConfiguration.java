@@ -0,0 +1,57 @@
+package io.github.mjyoun.spring.web.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.github.mjyoun.spring.web.response.StreamingResultHttpMessageConverter;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * {@link io.github.mjyoun.spring.web.response.StreamingResult}를 쓰는 {@link StreamingResultHttpMessageConverter}를 등록하기 위한 configuration
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(StreamingResultProperties.class)
+@ConditionalOnProperty(prefix = StreamingResultProperties.PREFIX, name = "enabled", havingValue = "true", matchIfMissing = true)
+public class StreamingResultConfiguration implements WebMvcConfigurer {
+
+    private final StreamingResultProperties properties;
+    private final ObjectProvider<ObjectMapper> objectMapperProvider;
+
+    /**
+     * (non-javadoc)
+     * 
+     * @param properties
+     *            {@link StreamingResultProperties}
+     * @param objectMapperProvider
+     *            요소 직렬화에 사용할 {@link ObjectMapper}
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public StreamingResultConfiguration(StreamingResultProperties properties, ObjectProvider<ObjectMapper> objectMapperProvider) {
+        this.properties = properties;
+        this.objectMapperProvider = objectMapperProvider;
+    }
+
+    /**
+     * @see WebMvcConfigurer#configureMessageConverters(HttpMessageConverters.ServerBuilder)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        ObjectMapper objectMapper = this.objectMapperProvider.getIfAvailable(() -> JsonMapper.builder().build());
+
+        builder.addCustomConverter(new StreamingResultHttpMessageConverter(objectMapper, this.properties.getFlushInterval()));
+    }
+
+}
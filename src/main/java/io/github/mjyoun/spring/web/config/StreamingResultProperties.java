@@ -0,0 +1,42 @@
+package io.github.mjyoun.spring.web.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@link io.github.mjyoun.spring.web.response.StreamingResult} 응답 설정
+ * 
+ * <pre>
+ * mj.spring.web.streaming-result.enabled=true
+ * mj.spring.web.streaming-result.flush-interval=100
+ * </pre>
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = StreamingResultProperties.PREFIX)
+public class StreamingResultProperties {
+
+    public static final String PREFIX = "mj.spring.web.streaming-result";
+
+    /** 사용 여부 */
+    private boolean enabled = true;
+    /** flush 할 요소 개수 간격. 0일 경우 buffer가 가득 찼을 때만 전송 */
+    private int flushInterval = 100;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(int flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+}
@@ -0,0 +1,78 @@
+package io.github.mjyoun.spring.web.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * {@link io.github.mjyoun.spring.web.service.UploadService} 설정
+ * 
+ * <pre>
+ * mj.spring.web.upload.enabled=true
+ * mj.spring.web.upload.directory=/data/upload
+ * mj.spring.web.upload.max-chunk-size=64MB
+ * mj.spring.web.upload.expiry=24h
+ * </pre>
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = UploadProperties.PREFIX)
+public class UploadProperties {
+
+    public static final String PREFIX = "mj.spring.web.upload";
+
+    /** 사용 여부 */
+    private boolean enabled = false;
+    /** 올리는 중인 파일을 저장할 디렉토리. 없을 경우 임시 디렉토리 아래 'mj-upload' */
+    private Path directory;
+    /** 허용하는 최대 chunk 크기 */
+    private DataSize maxChunkSize = DataSize.ofMegabytes(64);
+    /** 마지막 chunk를 받은 후 완료되지 않은 upload를 삭제하기까지의 시간 */
+    private Duration expiry = Duration.ofHours(24);
+    /** chunk를 받을 때마다 disk에 반영(fsync)할지 여부 */
+    private boolean fsync = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(Path directory) {
+        this.directory = directory;
+    }
+
+    public DataSize getMaxChunkSize() {
+        return maxChunkSize;
+    }
+
+    public void setMaxChunkSize(DataSize maxChunkSize) {
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    public Duration getExpiry() {
+        return expiry;
+    }
+
+    public void setExpiry(Duration expiry) {
+        this.expiry = expiry;
+    }
+
+    public boolean isFsync() {
+        return fsync;
+    }
+
+    public void setFsync(boolean fsync) {
+        this.fsync = fsync;
+    }
+
+}
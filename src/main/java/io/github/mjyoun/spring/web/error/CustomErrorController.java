@@ -1,20 +1,36 @@
 package io.github.mjyoun.spring.web.error;
 
+import java.io.IOException;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.ObjectError;
+import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
 
 import io.github.mjyoun.core.data.Result;
+import io.github.mjyoun.spring.web.config.ErrorHandlingProperties;
+import io.github.mjyoun.spring.web.service.upload.UploadException;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
 
 /**
  * 에러 핸들 controller
@@ -23,12 +39,54 @@ import jakarta.validation.ConstraintViolationException;
  * @since 2022. 01. 04.
  */
 @RestControllerAdvice
-public class CustomErrorController {
+@ConditionalOnProperty(prefix = ErrorHandlingProperties.PREFIX, name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CustomErrorController implements DisposableBean {
 
     protected static final Logger logger = LoggerFactory.getLogger(CustomErrorController.class);
 
+    /** 반복되는 client 오류 로그 제한. null일 경우 기존 방식(FULL)으로 출력 */
+    private final ErrorLogLimiter errorLogLimiter;
+    /** 오류 응답을 response에 바로 쓰기 위한 writer. null일 경우 message converter로 출력 */
+    private final ErrorPayloadWriter errorPayloadWriter;
+    /** 오류 응답 형태 */
+    private final ErrorHandlingProperties.ResponseFormat responseFormat;
+
+    /**
+     * 기존 방식(FULL)으로 오류를 출력하는 controller 생성
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    protected CustomErrorController() {
+        this.errorLogLimiter = null;
+        this.errorPayloadWriter = null;
+        this.responseFormat = ErrorHandlingProperties.ResponseFormat.RESULT;
+    }
+
+    /**
+     * (non-javadoc)
+     * 
+     * @param properties
+     *            {@link ErrorHandlingProperties}
+     * @param objectMapperProvider
+     *            {@link Result} 직렬화에 사용할 {@link ObjectMapper}
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Autowired
+    public CustomErrorController(ErrorHandlingProperties properties, ObjectProvider<ObjectMapper> objectMapperProvider) {
+        this.errorLogLimiter = properties.getMode() == ErrorHandlingProperties.Mode.LIGHTWEIGHT //
+                ? new ErrorLogLimiter(logger, properties.getAggregationInterval(), properties.getMaxAggregationKeys()) //
+                : null;
+        this.responseFormat = properties.getResponseFormat();
+        this.errorPayloadWriter = this.responseFormat == ErrorHandlingProperties.ResponseFormat.RESULT ? null //
+                : new ErrorPayloadWriter(objectMapperProvider.getIfAvailable(() -> JsonMapper.builder().build()),
+                        properties.getMaxCachedPayloads());
+    }
+
     /**
-     * validate 오류시 동작하는 화면
+     * validate 오류시 동작하는 화면. 모든 메시지가 값을 포함하지 않는 고정 메시지인 경우 응답을 cache 한다.
      * 
      * @param e
      *            exception 정보
@@ -39,32 +97,81 @@ public class CustomErrorController {
      */
     @ExceptionHandler({ BindException.class, ConstraintViolationException.class })
     public ResponseEntity<Result<String>> argumentCheck(Exception e) {
-        Result<String> result = null;
+        String message = null;
+        boolean fixedMessage = false;
 
         if (e instanceof BindException) {
             BindingResult bindingResult = ((BindException) e).getBindingResult();
-            String[] violateMsgs = !bindingResult.hasErrors() ? new String[0] //
+            message = !bindingResult.hasErrors() ? "" //
                     : bindingResult.getAllErrors() //
                             .stream() //
                             .map(ObjectError::getDefaultMessage) //
-                            .toArray(String[]::new);
-
-            result = Result.error(String.join(",", violateMsgs));
+                            .collect(Collectors.joining(","));
+            fixedMessage = bindingResult.getAllErrors() //
+                    .stream() //
+                    .allMatch(error -> error.isWrapperFor(ConstraintViolation.class) && isFixedMessage(error.unwrap(ConstraintViolation.class)));
         } else if (e instanceof ConstraintViolationException) {
             Set<ConstraintViolation<?>> constraintViolations = ((ConstraintViolationException) e).getConstraintViolations();
 
-            String[] violateMsgs = constraintViolations //
+            message = constraintViolations //
                     .stream() //
                     .map(ConstraintViolation::getMessage) //
-                    .toArray(String[]::new);
-
-            result = Result.error(String.join(",", violateMsgs));
+                    .collect(Collectors.joining(","));
+            fixedMessage = constraintViolations //
+                    .stream() //
+                    .allMatch(CustomErrorController::isFixedMessage);
         } else {
             throw new RuntimeException("존재하지 않는 오류입니다.");
         }
 
-        logger.error("[CustomErrorController] 유효성 검사 오류 [msg: {}]", result.getMessage(), e);
-        return new ResponseEntity<Result<String>>(result, HttpStatus.BAD_REQUEST);
+        if (this.errorLogLimiter == null) {
+            logger.error("[CustomErrorController] 유효성 검사 오류 [msg: {}]", message, e);
+        } else {
+            // client 오류는 stack trace 없이 출력하며, 반복되는 오류는 모아서 출력
+            this.errorLogLimiter.record(e.getClass(), this.getRoute(), message);
+        }
+
+        return this.respond(HttpStatus.BAD_REQUEST, message, fixedMessage);
+    }
+
+    /**
+     * 유효성 검사 메시지가 요청과 관계 없이 고정된 메시지인지 확인하는 함수. 메시지 template에 {@code {...}} 또는 {@code ${...}}가 없으면 message
+     * interpolation으로 값이 바뀌지 않으므로 고정된 메시지로 본다.
+     * 
+     * @param violation
+     *            {@link ConstraintViolation}
+     * @return 고정된 메시지 여부
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static boolean isFixedMessage(ConstraintViolation<?> violation) {
+        String template = violation.getMessageTemplate();
+
+        return template != null && template.indexOf('{') < 0;
+    }
+
+    /**
+     * 나누어 올리기 요청 오류시 동작하는 함수. 예외에 설정된 상태(400, 404, 409)로 응답한다.
+     * 
+     * @param e
+     *            exception 정보
+     * @return {@link ResponseEntity}
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @ExceptionHandler({ UploadException.class })
+    public ResponseEntity<Result<String>> uploadError(UploadException e) {
+        String message = e.getReason();
+
+        if (this.errorLogLimiter == null) {
+            logger.warn("[CustomErrorController] upload 요청 오류 [status: {}, msg: {}]", e.getStatusCode().value(), message);
+        } else {
+            this.errorLogLimiter.record(e.getClass(), this.getRoute(), message);
+        }
+
+        return this.respond(HttpStatus.valueOf(e.getStatusCode().value()), message);
     }
 
     /**
@@ -79,10 +186,106 @@ public class CustomErrorController {
      */
     @ExceptionHandler({ Exception.class })
     public ResponseEntity<Result<String>> error(Exception e) {
-        Result<String> result = Result.error(e.getMessage());
+        String message = e.getMessage();
+
+        if (this.errorLogLimiter != null && e instanceof ErrorResponse errorResponse && errorResponse.getStatusCode().is4xxClientError()) {
+            // 잘못된 요청으로 발생한 오류(예: 지원하지 않는 method)는 stack trace 없이 출력
+            this.errorLogLimiter.record(e.getClass(), this.getRoute(), message);
+        } else {
+            logger.error("[CustomErrorController] 서버 오류 [msg: {}]", message, e);
+        }
+
+        return this.respond(HttpStatus.INTERNAL_SERVER_ERROR, message);
+    }
+
+    /**
+     * 오류 응답을 생성하는 함수. exception 메시지 등 요청마다 다를 수 있는 메시지는 cache 하지 않는다.
+     * 
+     * @see CustomErrorController#respond(HttpStatus, String, boolean)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    protected ResponseEntity<Result<String>> respond(HttpStatus status, String message) {
+        return this.respond(status, message, false);
+    }
+
+    /**
+     * 오류 응답을 생성하는 함수. 응답을 response에 바로 쓰도록 설정된 경우 응답을 쓰고 null을 반환한다. (null을 반환하면 Spring MVC는 응답을 처리된 것으로 본다.)
+     * 
+     * @param status
+     *            응답 상태
+     * @param message
+     *            오류 메시지
+     * @param fixedMessage
+     *            요청과 관계 없이 고정된 메시지인지 여부. true일 경우 완성된 응답을 cache 하여 재사용
+     * @return {@link ResponseEntity}. 응답을 바로 쓴 경우 null
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    protected ResponseEntity<Result<String>> respond(HttpStatus status, String message, boolean fixedMessage) {
+        HttpServletResponse response = this.errorPayloadWriter == null ? null : this.getResponse();
+
+        if (response != null && !response.isCommitted()) {
+            try {
+                if (this.responseFormat == ErrorHandlingProperties.ResponseFormat.PROBLEM_DETAIL) {
+                    this.errorPayloadWriter.writeProblemDetail(response, status, message, fixedMessage);
+                } else {
+                    this.errorPayloadWriter.writeResult(response, status, message, fixedMessage);
+                }
+
+                return null;
+            } catch (IOException ioe) {
+                logger.warn("[CustomErrorController] 오류 응답 쓰기 실패 [msg: {}]", ioe.getMessage());
+                return null;
+            }
+        }
+
+        return new ResponseEntity<Result<String>>(Result.error(message), status);
+    }
+
+    /**
+     * @see DisposableBean#destroy()
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void destroy() {
+        if (this.errorLogLimiter != null) {
+            this.errorLogLimiter.close();
+        }
+    }
+
+    /**
+     * 현재 요청의 response를 조회하는 함수
+     * 
+     * @return {@link HttpServletResponse}. 조회할 수 없을 경우 null
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private HttpServletResponse getResponse() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+        return attributes instanceof ServletRequestAttributes servletRequestAttributes ? servletRequestAttributes.getResponse() : null;
+    }
+
+    /**
+     * 현재 요청의 route(URL pattern)를 조회하는 함수
+     * 
+     * @return route. 조회할 수 없을 경우 "-"
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    protected String getRoute() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Object pattern = attributes == null ? null
+                : attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
 
-        logger.error("[CustomErrorController] 서버 오류 [msg: {}]", result.getMessage(), e);
-        return new ResponseEntity<>(result, HttpStatus.INTERNAL_SERVER_ERROR);
+        return pattern == null ? "-" : pattern.toString();
     }
 
 }
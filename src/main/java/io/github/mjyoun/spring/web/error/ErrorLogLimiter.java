@@ -0,0 +1,151 @@
+package io.github.mjyoun.spring.web.error;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+
+/**
+ * 같은 오류가 반복될 경우 로그 출력을 제한하고, 주기마다 발생 횟수를 모아서 출력하기 위한 클래스
+ * <p>
+ * (예외 타입, route) 별로 주기 안에서 처음 발생한 오류만 바로 출력하고, 이후 발생한 오류는 횟수만 집계하여 주기가 끝날 때 한 번에 출력한다. 로그에는 stack trace를 포함하지 않는다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class ErrorLogLimiter implements AutoCloseable {
+
+    /** 집계 key 개수를 초과했을 때 사용하는 route */
+    private static final String OVERFLOW_ROUTE = "*";
+
+    private final Logger logger;
+    private final int maxKeys;
+
+    /** (예외 타입, route) 별 집계 정보 */
+    private final ConcurrentMap<Key, Counter> counters = new ConcurrentHashMap<>();
+    /** 집계 정보 출력 scheduler */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * (non-javadoc)
+     *
+     * @param logger
+     *            로그를 출력할 logger
+     * @param interval
+     *            집계 정보 출력 주기
+     * @param maxKeys
+     *            따로 집계할 최대 key 개수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public ErrorLogLimiter(Logger logger, Duration interval, int maxKeys) {
+        this.logger = logger;
+        this.maxKeys = maxKeys;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("error-log-limiter").daemon().factory());
+
+        long millis = Math.max(1L, interval.toMillis());
+        this.scheduler.scheduleAtFixedRate(this::flush, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 오류를 기록하는 함수. 주기 안에서 처음 발생한 오류일 경우 바로 로그를 출력한다.
+     *
+     * @param exceptionType
+     *            예외 타입
+     * @param route
+     *            요청 route (URL pattern)
+     * @param message
+     *            오류 메시지
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void record(Class<?> exceptionType, String route, String message) {
+        Key key = new Key(exceptionType.getName(), route);
+        Counter counter = this.counters.get(key);
+
+        if (counter == null) {
+            if (this.counters.size() >= this.maxKeys) {
+                key = new Key(exceptionType.getName(), OVERFLOW_ROUTE);
+            }
+
+            counter = this.counters.computeIfAbsent(key, k -> new Counter());
+        }
+
+        if (counter.logged.compareAndSet(false, true)) {
+            this.logger.warn("[CustomErrorController] client 오류 [type: {}, route: {}, msg: {}]", key.exceptionType, key.route, message);
+        } else {
+            counter.suppressed.increment();
+        }
+    }
+
+    /**
+     * 주기 동안 출력하지 않은 오류의 발생 횟수를 출력하고 집계 정보를 초기화하는 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    void flush() {
+        for (Map.Entry<Key, Counter> entry : this.counters.entrySet()) {
+            Key key = entry.getKey();
+            long suppressed = entry.getValue().suppressed.sumThenReset();
+
+            if (suppressed > 0) {
+                this.logger.warn("[CustomErrorController] 반복된 client 오류 [type: {}, route: {}, count: {}]", key.exceptionType, key.route,
+                        suppressed);
+            } else {
+                // 주기 동안 반복되지 않은 오류는 제거하여 map이 커지지 않도록 함
+                this.counters.remove(key, entry.getValue());
+            }
+
+            entry.getValue().logged.set(false);
+        }
+    }
+
+    /**
+     * 남은 집계 정보를 출력하고 scheduler를 종료
+     *
+     * @see AutoCloseable#close()
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void close() {
+        this.scheduler.shutdownNow();
+        this.flush();
+    }
+
+    /**
+     * 집계 key
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private record Key(String exceptionType, String route) {
+    }
+
+    /**
+     * 집계 정보
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static class Counter {
+
+        /** 주기 안에서 로그를 출력했는지 여부 */
+        private final AtomicBoolean logged = new AtomicBoolean(false);
+        /** 출력하지 않은 발생 횟수 */
+        private final LongAdder suppressed = new LongAdder();
+
+    }
+
+}
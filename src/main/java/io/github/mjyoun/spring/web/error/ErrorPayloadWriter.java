@@ -0,0 +1,299 @@
+package io.github.mjyoun.spring.web.error;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import io.github.mjyoun.core.data.Result;
+import jakarta.servlet.http.HttpServletResponse;
+import tools.jackson.core.io.JsonStringEncoder;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * 오류 응답을 message converter를 거치지 않고 response에 바로 쓰기 위한 클래스
+ * <p>
+ * {@link Result} 형태는 시작 시 한 번 직렬화한 결과를 메시지 앞/뒤 byte로 나누어 두고, 메시지만 escape 하여 사이에 쓴다. 호출하는 쪽에서 고정된 메시지로 표시한
+ * 경우(와 메시지가 없는 경우)에만 완성된 byte를 cache 하여 그대로 쓴다. exception 메시지 등 요청 값이 포함될 수 있는 메시지는 cache 하지 않는다. RFC 7807
+ * ({@code application/problem+json}) 형태도 같은 방식으로 쓴다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class ErrorPayloadWriter {
+
+    /** 메시지 위치를 찾기 위한 값 */
+    private static final String PLACEHOLDER = "__MJ_ERROR_MESSAGE_PLACEHOLDER__";
+
+    /** problem detail content type */
+    private static final String PROBLEM_JSON = MediaType.APPLICATION_PROBLEM_JSON_VALUE;
+    /** result content type */
+    private static final String RESULT_JSON = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8";
+
+    private final ObjectMapper objectMapper;
+    private final int maxCachedMessages;
+
+    /** {@link Result} 직렬화 결과 중 메시지 앞 부분. null일 경우 매번 직렬화 */
+    private final byte[] resultPrefix;
+    /** {@link Result} 직렬화 결과 중 메시지 뒷 부분 */
+    private final byte[] resultSuffix;
+
+    /** 완성된 응답 cache */
+    private final Map<String, byte[]> cache = new ConcurrentHashMap<>();
+
+    /**
+     * (non-javadoc)
+     *
+     * @param objectMapper
+     *            {@link Result} 직렬화에 사용할 {@link ObjectMapper}
+     * @param maxCachedMessages
+     *            cache 할 최대 메시지 개수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public ErrorPayloadWriter(ObjectMapper objectMapper, int maxCachedMessages) {
+        this.objectMapper = objectMapper;
+        this.maxCachedMessages = maxCachedMessages;
+
+        byte[] template = objectMapper.writeValueAsBytes(Result.error(PLACEHOLDER));
+        byte[] placeholder = PLACEHOLDER.getBytes(StandardCharsets.UTF_8);
+        int index = indexOf(template, placeholder, 0);
+
+        // 메시지가 한 번만 직렬화되는 경우에만 template 사용
+        if (index >= 0 && indexOf(template, placeholder, index + 1) < 0) {
+            this.resultPrefix = Arrays.copyOfRange(template, 0, index);
+            this.resultSuffix = Arrays.copyOfRange(template, index + placeholder.length, template.length);
+        } else {
+            this.resultPrefix = null;
+            this.resultSuffix = null;
+        }
+    }
+
+    /**
+     * {@link Result} 형태의 오류 응답을 cache 하지 않고 쓰는 함수
+     *
+     * @see ErrorPayloadWriter#writeResult(HttpServletResponse, HttpStatus, String, boolean)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void writeResult(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        this.writeResult(response, status, message, false);
+    }
+
+    /**
+     * {@link Result} 형태의 오류 응답을 쓰는 함수
+     *
+     * @param response
+     *            {@link HttpServletResponse}
+     * @param status
+     *            응답 상태
+     * @param message
+     *            오류 메시지
+     * @param cacheable
+     *            요청과 관계 없이 고정된 메시지인지 여부. true일 경우에만 완성된 응답을 cache 함
+     * @throws IOException
+     *             응답 쓰기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void writeResult(HttpServletResponse response, HttpStatus status, String message, boolean cacheable) throws IOException {
+        cacheable = cacheable || message == null;
+        String key = message == null ? "N" : "R" + message;
+        byte[] payload = cacheable ? this.cache.get(key) : null;
+
+        if (payload != null) {
+            write(response, status, RESULT_JSON, payload);
+        } else if (message == null || this.resultPrefix == null) {
+            payload = this.objectMapper.writeValueAsBytes(Result.error(message));
+
+            if (cacheable) {
+                this.cache(key, payload);
+            }
+
+            write(response, status, RESULT_JSON, payload);
+        } else {
+            byte[] escaped = JsonStringEncoder.getInstance().quoteAsUTF8(message);
+
+            if (cacheable && this.cache.size() < this.maxCachedMessages) {
+                payload = concat(this.resultPrefix, escaped, this.resultSuffix);
+                this.cache(key, payload);
+                write(response, status, RESULT_JSON, payload);
+            } else {
+                // cache 하지 않는 경우 byte 배열을 합치지 않고 그대로 씀
+                write(response, status, RESULT_JSON, this.resultPrefix, escaped, this.resultSuffix);
+            }
+        }
+    }
+
+    /**
+     * RFC 7807 형태의 오류 응답을 cache 하지 않고 쓰는 함수
+     *
+     * @see ErrorPayloadWriter#writeProblemDetail(HttpServletResponse, HttpStatus, String, boolean)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void writeProblemDetail(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        this.writeProblemDetail(response, status, message, false);
+    }
+
+    /**
+     * RFC 7807 형태의 오류 응답을 쓰는 함수
+     *
+     * @param response
+     *            {@link HttpServletResponse}
+     * @param status
+     *            응답 상태
+     * @param message
+     *            오류 메시지 (detail)
+     * @param cacheable
+     *            요청과 관계 없이 고정된 메시지인지 여부. true일 경우에만 완성된 응답을 cache 함
+     * @throws IOException
+     *             응답 쓰기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void writeProblemDetail(HttpServletResponse response, HttpStatus status, String message, boolean cacheable) throws IOException {
+        cacheable = cacheable || message == null;
+        String key = "P" + status.value() + ":" + message;
+        byte[] payload = cacheable ? this.cache.get(key) : null;
+
+        if (payload == null) {
+            StringBuilder sb = new StringBuilder(128);
+            sb.append("{\"type\":\"about:blank\",\"title\":\"");
+            JsonStringEncoder.getInstance().quoteAsString(status.getReasonPhrase(), sb);
+            sb.append("\",\"status\":").append(status.value());
+
+            if (message != null) {
+                sb.append(",\"detail\":\"");
+                JsonStringEncoder.getInstance().quoteAsString(message, sb);
+                sb.append('"');
+            }
+
+            sb.append('}');
+
+            payload = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+            if (cacheable) {
+                this.cache(key, payload);
+            }
+        }
+
+        write(response, status, PROBLEM_JSON, payload);
+    }
+
+    /**
+     * 완성된 응답을 cache 하는 함수. 최대 개수를 넘을 경우 cache 하지 않는다.
+     *
+     * @param key
+     *            cache key
+     * @param payload
+     *            응답 byte
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void cache(String key, byte[] payload) {
+        if (this.cache.size() < this.maxCachedMessages) {
+            this.cache.putIfAbsent(key, payload);
+        }
+    }
+
+    /**
+     * 응답을 쓰는 함수
+     *
+     * @param response
+     *            {@link HttpServletResponse}
+     * @param status
+     *            응답 상태
+     * @param contentType
+     *            content type
+     * @param parts
+     *            응답 byte 목록
+     * @throws IOException
+     *             응답 쓰기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static void write(HttpServletResponse response, HttpStatus status, String contentType, byte[]... parts) throws IOException {
+        int length = 0;
+        for (byte[] part : parts) {
+            length += part.length;
+        }
+
+        response.setStatus(status.value());
+        response.setContentType(contentType);
+        response.setContentLength(length);
+
+        OutputStream outputStream = response.getOutputStream();
+        for (byte[] part : parts) {
+            outputStream.write(part);
+        }
+        outputStream.flush();
+    }
+
+    /**
+     * byte 배열을 이어 붙이는 함수
+     *
+     * @param parts
+     *            byte 배열 목록
+     * @return 이어 붙인 byte 배열
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static byte[] concat(byte[]... parts) {
+        int length = 0;
+        for (byte[] part : parts) {
+            length += part.length;
+        }
+
+        byte[] result = new byte[length];
+        int offset = 0;
+        for (byte[] part : parts) {
+            System.arraycopy(part, 0, result, offset, part.length);
+            offset += part.length;
+        }
+
+        return result;
+    }
+
+    /**
+     * byte 배열에서 특정 byte 배열의 위치를 찾는 함수
+     *
+     * @param source
+     *            대상 byte 배열
+     * @param target
+     *            찾을 byte 배열
+     * @param from
+     *            시작 위치
+     * @return 위치. 없을 경우 -1
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static int indexOf(byte[] source, byte[] target, int from) {
+        outer: for (int i = from; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+
+            return i;
+        }
+
+        return -1;
+    }
+
+}
@@ -0,0 +1,31 @@
+package io.github.mjyoun.spring.web.export;
+
+import java.io.Writer;
+
+/**
+ * CSV 파일 생성 backend
+ * <p>
+ * {@code META-INF/services/io.github.mjyoun.spring.web.export.CsvBackend}에 구현 class를 등록한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public interface CsvBackend extends ExportBackend {
+
+    /**
+     * writer에 row를 쓰는 {@link CsvRowWriter}를 생성하는 함수
+     *
+     * @param writer
+     *            CSV 내용을 쓸 writer
+     * @param separator
+     *            구분자. '\0'일 경우 ','
+     * @param quote
+     *            따옴표. '\0'일 경우 '"'
+     * @return {@link CsvRowWriter}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    CsvRowWriter open(Writer writer, char separator, char quote);
+
+}
@@ -0,0 +1,41 @@
+package io.github.mjyoun.spring.web.export;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * CSV row를 한 줄씩 쓰기 위한 writer
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public interface CsvRowWriter extends Flushable, Closeable {
+
+    /**
+     * row를 쓰는 함수
+     *
+     * @param row
+     *            column 값 목록
+     * @param applyQuotes
+     *            모든 값을 따옴표로 묶을지 여부. false일 경우 필요한 값만 묶음
+     * @throws IOException
+     *             쓰기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    void writeRow(String[] row, boolean applyQuotes) throws IOException;
+
+    /**
+     * 남은 내용을 writer에 쓰는 함수. 이전 쓰기에서 발생한 오류도 이 때 확인한다.
+     *
+     * @see Flushable#flush()
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    void flush() throws IOException;
+
+}
@@ -0,0 +1,45 @@
+package io.github.mjyoun.spring.web.export;
+
+import java.util.List;
+
+/**
+ * 엑셀 파일 생성 backend
+ * <p>
+ * {@code META-INF/services/io.github.mjyoun.spring.web.export.ExcelBackend}에 구현 class를 등록한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public interface ExcelBackend extends ExportBackend {
+
+    /**
+     * 헤더와 데이터 배열로 엑셀 문서를 생성하는 함수
+     *
+     * @param headers
+     *            헤더 정보
+     * @param datas
+     *            데이터 정보
+     * @return {@link ExcelDocument}. 사용 후 닫아야 함
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    ExcelDocument create(String[] headers, Object[][] datas);
+
+    /**
+     * 객체 목록으로 엑셀 문서를 생성하는 함수
+     *
+     * @param <T>
+     *            데이터 타입
+     * @param contents
+     *            데이터 목록
+     * @param type
+     *            데이터 class
+     * @return {@link ExcelDocument}. 사용 후 닫아야 함
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    <T> ExcelDocument create(List<T> contents, Class<T> type);
+
+}
@@ -0,0 +1,28 @@
+package io.github.mjyoun.spring.web.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 생성된 엑셀 문서. 닫을 때 생성 중 사용한 임시 파일을 삭제한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public interface ExcelDocument extends Closeable {
+
+    /**
+     * 문서를 output stream에 쓰는 함수. output stream은 닫지 않는다.
+     *
+     * @param outputStream
+     *            output stream
+     * @throws IOException
+     *             쓰기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    void write(OutputStream outputStream) throws IOException;
+
+}
@@ -0,0 +1,35 @@
+package io.github.mjyoun.spring.web.export;
+
+/**
+ * 파일 생성 backend의 공통 interface
+ * <p>
+ * backend는 {@link java.util.ServiceLoader}로 처음 사용할 때 조회하며, 사용할 수 있는 backend 중 {@link #getOrder()}가 가장 작은 것을 사용한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public interface ExportBackend {
+
+    /**
+     * backend를 사용할 수 있는지 확인하는 함수. 필요한 library가 classpath에 없으면 false를 반환해야 한다.
+     *
+     * @return 사용 가능 여부
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    boolean isAvailable();
+
+    /**
+     * 우선 순위를 조회하는 함수. 모듈에 포함된 backend는 {@link Integer#MAX_VALUE}를 사용하므로 application의 backend가 먼저 선택된다.
+     *
+     * @return 우선 순위. 작을수록 먼저 선택
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    default int getOrder() {
+        return 0;
+    }
+
+}
@@ -0,0 +1,26 @@
+package io.github.mjyoun.spring.web.export;
+
+/**
+ * 사용할 수 있는 파일 생성 backend가 없을 때 발생하는 예외
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class ExportBackendNotFoundException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * (non-javadoc)
+     *
+     * @param message
+     *            오류 메시지
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public ExportBackendNotFoundException(String message) {
+        super(message);
+    }
+
+}
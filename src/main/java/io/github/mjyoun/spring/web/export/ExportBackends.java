@@ -0,0 +1,147 @@
+package io.github.mjyoun.spring.web.export;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 파일 생성 backend를 조회하기 위한 유틸리티
+ * <p>
+ * backend는 처음 사용할 때 {@link ServiceLoader}로 한 번만 조회하므로, 파일을 생성하지 않는 application은 opencsv, POI class를 읽지 않는다. 사용할 수 있는
+ * backend가 없으면 필요한 의존성을 안내하는 {@link ExportBackendNotFoundException}이 발생한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class ExportBackends {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportBackends.class);
+
+    private static volatile CsvBackend csvBackend;
+    private static volatile ExcelBackend excelBackend;
+
+    /**
+     * 외부에서 임의 생성을 막기 위한 private constructor
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private ExportBackends() {
+    }
+
+    /**
+     * CSV backend를 조회하는 함수
+     *
+     * @return {@link CsvBackend}
+     * @throws ExportBackendNotFoundException
+     *             사용할 수 있는 backend가 없을 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static CsvBackend csv() {
+        CsvBackend backend = csvBackend;
+
+        if (backend == null) {
+            synchronized (ExportBackends.class) {
+                if (csvBackend == null) {
+                    csvBackend = load(CsvBackend.class, "CSV", "com.opencsv:opencsv");
+                }
+
+                backend = csvBackend;
+            }
+        }
+
+        return backend;
+    }
+
+    /**
+     * 엑셀 backend를 조회하는 함수
+     *
+     * @return {@link ExcelBackend}
+     * @throws ExportBackendNotFoundException
+     *             사용할 수 있는 backend가 없을 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static ExcelBackend excel() {
+        ExcelBackend backend = excelBackend;
+
+        if (backend == null) {
+            synchronized (ExportBackends.class) {
+                if (excelBackend == null) {
+                    excelBackend = load(ExcelBackend.class, "Excel", "org.apache.poi:poi-ooxml");
+                }
+
+                backend = excelBackend;
+            }
+        }
+
+        return backend;
+    }
+
+    /**
+     * 사용할 수 있는 backend 중 우선 순위가 가장 높은 것을 조회하는 함수
+     *
+     * @param <T>
+     *            backend 타입
+     * @param type
+     *            backend interface
+     * @param name
+     *            오류 메시지에 사용할 파일 형식 이름
+     * @param dependency
+     *            기본 backend에 필요한 의존성
+     * @return backend
+     * @throws ExportBackendNotFoundException
+     *             사용할 수 있는 backend가 없을 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static <T extends ExportBackend> T load(Class<T> type, String name, String dependency) {
+        final String methodName = "ExportBackends#load";
+
+        Iterator<T> iterator = ServiceLoader.load(type, ClassUtils.getDefaultClassLoader()).iterator();
+        T selected = null;
+
+        while (true) {
+            T candidate;
+
+            try {
+                if (!iterator.hasNext()) {
+                    break;
+                }
+
+                candidate = iterator.next();
+            } catch (ServiceConfigurationError | LinkageError e) {
+                // 등록은 되어 있지만 의존성이 없어 생성할 수 없는 backend
+                logger.debug("[{}] backend 생성 실패 [type: {}, msg: {}]", methodName, type.getSimpleName(), e.getMessage());
+                continue;
+            }
+
+            if (candidate.isAvailable() && (selected == null || candidate.getOrder() < selected.getOrder())) {
+                selected = candidate;
+            }
+        }
+
+        if (selected == null) {
+            throw new ExportBackendNotFoundException(new StringBuffer(name) //
+                    .append(" 파일을 생성할 backend가 없습니다. '") //
+                    .append(dependency) //
+                    .append("' 의존성을 추가하거나, ") //
+                    .append(type.getName()) //
+                    .append(" 구현 class를 META-INF/services에 등록하세요.") //
+                    .toString());
+        }
+
+        logger.debug("[{}] backend 선택 [type: {}, backend: {}]", methodName, type.getSimpleName(), selected.getClass().getName());
+
+        return selected;
+    }
+
+}
@@ -0,0 +1,98 @@
+package io.github.mjyoun.spring.web.export.opencsv;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.springframework.util.ClassUtils;
+
+import com.opencsv.CSVWriter;
+
+import io.github.mjyoun.spring.web.export.CsvBackend;
+import io.github.mjyoun.spring.web.export.CsvRowWriter;
+
+/**
+ * opencsv를 사용하는 {@link CsvBackend}
+ * <p>
+ * opencsv class는 {@link #open(Writer, char, char)}를 호출할 때 처음 읽는다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class OpenCsvBackend implements CsvBackend {
+
+    private static final String CSV_WRITER_CLASS = "com.opencsv.CSVWriter";
+
+    /**
+     * @see CsvBackend#isAvailable()
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public boolean isAvailable() {
+        return ClassUtils.isPresent(CSV_WRITER_CLASS, OpenCsvBackend.class.getClassLoader());
+    }
+
+    /**
+     * @see CsvBackend#getOrder()
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public int getOrder() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * @see CsvBackend#open(Writer, char, char)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public CsvRowWriter open(Writer writer, char separator, char quote) {
+        return new OpenCsvRowWriter(writer, separator, quote);
+    }
+
+    /**
+     * {@link CSVWriter}로 쓰는 {@link CsvRowWriter}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static class OpenCsvRowWriter implements CsvRowWriter {
+
+        private final CSVWriter csvWriter;
+
+        OpenCsvRowWriter(Writer writer, char separator, char quote) {
+            this.csvWriter = new CSVWriter(writer, //
+                    separator == '\0' ? CSVWriter.DEFAULT_SEPARATOR : separator, // 구분자
+                    quote == '\0' ? CSVWriter.DEFAULT_QUOTE_CHARACTER : quote, // quote
+                    CSVWriter.DEFAULT_ESCAPE_CHARACTER, // 예외 처리 문자
+                    CSVWriter.DEFAULT_LINE_END // 라인 끝 문자
+            );
+        }
+
+        @Override
+        public void writeRow(String[] row, boolean applyQuotes) {
+            this.csvWriter.writeNext(row, applyQuotes);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            this.csvWriter.flush();
+
+            if (this.csvWriter.checkError()) {
+                throw new IOException("CSV 파일 쓰기에 실패하였습니다.");
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.csvWriter.close();
+        }
+
+    }
+
+}
@@ -0,0 +1,104 @@
+package io.github.mjyoun.spring.web.export.poi;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.util.ClassUtils;
+
+import io.github.mjyoun.core.utils.excel.ExcelUtils;
+import io.github.mjyoun.spring.web.export.ExcelBackend;
+import io.github.mjyoun.spring.web.export.ExcelDocument;
+
+/**
+ * POI({@link ExcelUtils})를 사용하는 {@link ExcelBackend}
+ * <p>
+ * POI class는 문서를 처음 생성할 때 읽는다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class PoiExcelBackend implements ExcelBackend {
+
+    private static final String WORKBOOK_CLASS = "org.apache.poi.xssf.streaming.SXSSFWorkbook";
+    private static final String EXCEL_UTILS_CLASS = "io.github.mjyoun.core.utils.excel.ExcelUtils";
+
+    /**
+     * @see ExcelBackend#isAvailable()
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public boolean isAvailable() {
+        ClassLoader classLoader = PoiExcelBackend.class.getClassLoader();
+
+        return ClassUtils.isPresent(WORKBOOK_CLASS, classLoader) && ClassUtils.isPresent(EXCEL_UTILS_CLASS, classLoader);
+    }
+
+    /**
+     * @see ExcelBackend#getOrder()
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public int getOrder() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * @see ExcelBackend#create(String[], Object[][])
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public ExcelDocument create(String[] headers, Object[][] datas) {
+        return new PoiExcelDocument(ExcelUtils.create(headers, datas));
+    }
+
+    /**
+     * @see ExcelBackend#create(List, Class)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public <T> ExcelDocument create(List<T> contents, Class<T> type) {
+        return new PoiExcelDocument(ExcelUtils.create(contents, type));
+    }
+
+    /**
+     * {@link SXSSFWorkbook} 문서
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static class PoiExcelDocument implements ExcelDocument {
+
+        private final SXSSFWorkbook workbook;
+
+        PoiExcelDocument(SXSSFWorkbook workbook) {
+            this.workbook = workbook;
+        }
+
+        @Override
+        public void write(OutputStream outputStream) throws IOException {
+            this.workbook.write(outputStream);
+        }
+
+        @Override
+        public void close() throws IOException {
+            // close()는 임시 파일을 삭제하지 않으므로 먼저 dispose() 호출
+            try {
+                this.workbook.dispose();
+            } finally {
+                this.workbook.close();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,257 @@
+package io.github.mjyoun.spring.web.filter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import io.github.mjyoun.spring.web.config.ConcurrencyLimitProperties;
+import io.github.mjyoun.spring.web.filter.limit.AimdLimit;
+import io.github.mjyoun.spring.web.filter.limit.ConcurrencyLimiter;
+import io.github.mjyoun.spring.web.filter.limit.GradientLimit;
+import io.github.mjyoun.spring.web.filter.limit.LimitAlgorithm;
+
+/**
+ * URL pattern 별로 동시 처리 요청 수를 제한하는 filter
+ * <p>
+ * 한도는 측정된 처리 시간을 기준으로 자동 조정되며(AIMD, gradient), 한도를 초과한 요청은 controller를 호출하지 않고 바로 {@code 503 Service Unavailable}과
+ * {@code Retry-After}로 응답한다. thread 이름을 변경하는 {@link RestRequestFilter}, 요청 수를 제한하는 {@link RateLimitFilter} 다음에 실행된다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@Order(2)
+@Component
+@ConditionalOnProperty(prefix = ConcurrencyLimitProperties.PREFIX, name = "enabled", havingValue = "true")
+public class ConcurrencyLimitFilter implements Filter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    /** bucket에 해당하지 않는 요청에 사용하는 limiter 이름 */
+    public static final String DEFAULT_BUCKET = "default";
+
+    /** URL pattern 별 limiter 목록 */
+    private final List<Route> routes = new ArrayList<>();
+    /** bucket에 해당하지 않는 요청에 사용하는 limiter. null일 경우 제한하지 않음 */
+    private final ConcurrencyLimiter defaultLimiter;
+    /** Retry-After 헤더 값 (seconds) */
+    private final String retryAfter;
+
+    /**
+     * (non-javadoc)
+     *
+     * @param properties
+     *            {@link ConcurrencyLimitProperties}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties) {
+        for (ConcurrencyLimitProperties.Bucket bucket : properties.getBuckets()) {
+            ConcurrencyLimiter limiter = new ConcurrencyLimiter(bucket.getName(), //
+                    createAlgorithm(properties), //
+                    bucket.getInitialLimit() == null ? properties.getInitialLimit() : bucket.getInitialLimit(), //
+                    properties.getMinLimit(), //
+                    bucket.getMaxLimit() == null ? properties.getMaxLimit() : bucket.getMaxLimit());
+
+            for (String pattern : bucket.getPatterns()) {
+                this.routes.add(new Route(PathPatternParser.defaultInstance.parse(pattern), limiter));
+            }
+        }
+
+        this.defaultLimiter = !properties.isLimitUnmatched() ? null
+                : new ConcurrencyLimiter(DEFAULT_BUCKET, createAlgorithm(properties), properties.getInitialLimit(), properties.getMinLimit(),
+                        properties.getMaxLimit());
+        this.retryAfter = String.valueOf(Math.max(1L, properties.getRetryAfter().toSeconds()));
+    }
+
+    /**
+     * @see Filter#doFilter(ServletRequest, ServletResponse, FilterChain)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        ConcurrencyLimiter limiter = this.resolve(httpRequest);
+
+        if (limiter == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        ConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+
+        if (permit == null) {
+            logger.debug("[ConcurrencyLimitFilter] 동시 처리 한도 초과 [bucket: {}, url: {}]", limiter.getName(), httpRequest.getRequestURI());
+
+            httpResponse.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            httpResponse.setHeader(HttpHeaders.RETRY_AFTER, this.retryAfter);
+            return;
+        }
+
+        Completion completion = new Completion(limiter, permit, httpResponse);
+        boolean failed = true;
+
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!failed && httpRequest.isAsyncStarted()) {
+                // 비동기 요청은 처리가 끝났을 때 반영
+                httpRequest.getAsyncContext().addListener(completion);
+            } else {
+                completion.complete(failed);
+            }
+        }
+    }
+
+    /**
+     * 현재 limiter 상태 목록을 조회하는 함수
+     *
+     * @return bucket 이름을 key로 하는 limiter 상태 목록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public Map<String, ConcurrencyLimiter.Snapshot> getLimits() {
+        Map<String, ConcurrencyLimiter.Snapshot> limits = new LinkedHashMap<>();
+
+        for (Route route : this.routes) {
+            limits.putIfAbsent(route.limiter().getName(), route.limiter().snapshot());
+        }
+
+        if (this.defaultLimiter != null) {
+            limits.put(DEFAULT_BUCKET, this.defaultLimiter.snapshot());
+        }
+
+        return limits;
+    }
+
+    /**
+     * 요청에 해당하는 limiter를 조회하는 함수
+     *
+     * @param request
+     *            {@link HttpServletRequest}
+     * @return limiter. 제한하지 않을 경우 null
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private ConcurrencyLimiter resolve(HttpServletRequest request) {
+        if (!this.routes.isEmpty()) {
+            String uri = request.getRequestURI();
+            String contextPath = request.getContextPath();
+            PathContainer path = PathContainer.parsePath(contextPath.isEmpty() ? uri : uri.substring(contextPath.length()));
+
+            for (Route route : this.routes) {
+                if (route.pattern().matches(path)) {
+                    return route.limiter();
+                }
+            }
+        }
+
+        return this.defaultLimiter;
+    }
+
+    /**
+     * 설정에 맞는 한도 조정 알고리즘을 생성하는 함수
+     *
+     * @param properties
+     *            {@link ConcurrencyLimitProperties}
+     * @return {@link LimitAlgorithm}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static LimitAlgorithm createAlgorithm(ConcurrencyLimitProperties properties) {
+        return switch (properties.getAlgorithm()) {
+            case GRADIENT -> new GradientLimit();
+            case AIMD -> new AimdLimit(TimeUnit.NANOSECONDS.convert(properties.getLatencyThreshold()), properties.getBackoffRatio());
+        };
+    }
+
+    /**
+     * URL pattern과 limiter 정보
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private record Route(PathPattern pattern, ConcurrencyLimiter limiter) {
+    }
+
+    /**
+     * 요청이 끝났을 때 limiter에 한 번만 반영하기 위한 listener
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static class Completion implements AsyncListener {
+
+        private final ConcurrencyLimiter limiter;
+        private final ConcurrencyLimiter.Permit permit;
+        private final HttpServletResponse response;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        Completion(ConcurrencyLimiter limiter, ConcurrencyLimiter.Permit permit, HttpServletResponse response) {
+            this.limiter = limiter;
+            this.permit = permit;
+            this.response = response;
+        }
+
+        void complete(boolean failed) {
+            if (this.released.compareAndSet(false, true)) {
+                this.limiter.release(this.permit, failed || this.response.getStatus() >= 500);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            this.complete(false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            this.complete(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            this.complete(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 재시작된 경우에도 같은 permit을 유지
+            event.getAsyncContext().addListener(this);
+        }
+
+    }
+
+}
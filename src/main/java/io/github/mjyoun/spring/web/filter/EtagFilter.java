@@ -0,0 +1,175 @@
+package io.github.mjyoun.spring.web.filter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import io.github.mjyoun.spring.web.config.EtagProperties;
+import io.github.mjyoun.spring.web.filter.etag.HashingResponseWrapper;
+
+/**
+ * GET 응답에 내용 기반 ETag를 설정하고, 변경되지 않은 경우 {@code 304 Not Modified}로 응답하는 filter
+ * <p>
+ * {@link org.springframework.web.filter.ShallowEtagHeaderFilter}와 달리 응답 내용을 쓰는 동안 hash(XXH64)를 계산하며, 최대 크기를 초과한 응답은 보관하지 않고
+ * ETag 없이 바로 전송한다. handler가 {@link io.github.mjyoun.spring.web.annotation.EtagVersion}으로 ETag를 설정한 경우 hash를 계산하지 않는다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@Order(3)
+@Component
+@ConditionalOnProperty(prefix = EtagProperties.PREFIX, name = "enabled", havingValue = "true")
+public class EtagFilter implements Filter {
+
+    /** ETag를 생성할 URL pattern 목록. 없을 경우 전체 */
+    private final List<PathPattern> patterns = new ArrayList<>();
+    private final int maxBufferSize;
+    private final boolean weak;
+
+    /**
+     * (non-javadoc)
+     *
+     * @param properties
+     *            {@link EtagProperties}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public EtagFilter(EtagProperties properties) {
+        for (String pattern : properties.getPatterns()) {
+            this.patterns.add(PathPatternParser.defaultInstance.parse(pattern));
+        }
+
+        this.maxBufferSize = Math.max(0, properties.getMaxBufferSize());
+        this.weak = properties.isWeak();
+    }
+
+    /**
+     * @see Filter#doFilter(ServletRequest, ServletResponse, FilterChain)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        if (!this.isEligible(httpRequest)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        HashingResponseWrapper wrapper = new HashingResponseWrapper(httpResponse, this.maxBufferSize);
+        chain.doFilter(request, wrapper);
+
+        if (httpRequest.isAsyncStarted()) {
+            // 비동기 응답은 ETag 없이 전송. 다른 thread가 이미 쓰고 있을 수 있으나 wrapper가 보관한 내용을 먼저 보내도록 lock으로 순서를 맞춤
+            wrapper.passthrough();
+            return;
+        }
+
+        if (wrapper.hasBufferedContent() && this.isCacheable(httpResponse)) {
+            String etag = this.createEtag(wrapper.getHash());
+            httpResponse.setHeader(HttpHeaders.ETAG, etag);
+
+            if (new ServletWebRequest(httpRequest, httpResponse).checkNotModified(etag)) {
+                // 304 응답, 보관한 내용은 보내지 않음
+                return;
+            }
+        }
+
+        wrapper.writeTo(httpResponse);
+    }
+
+    /**
+     * ETag를 생성할 요청인지 확인하는 함수
+     *
+     * @param request
+     *            {@link HttpServletRequest}
+     * @return GET, HEAD 요청이고 URL pattern에 해당하는 경우 true
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private boolean isEligible(HttpServletRequest request) {
+        String method = request.getMethod();
+
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return false;
+        }
+
+        if (this.patterns.isEmpty()) {
+            return true;
+        }
+
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        PathContainer path = PathContainer.parsePath(contextPath.isEmpty() ? uri : uri.substring(contextPath.length()));
+
+        for (PathPattern pattern : this.patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 응답에 ETag를 설정할 수 있는지 확인하는 함수
+     *
+     * @param response
+     *            {@link HttpServletResponse}
+     * @return 200 응답이고 ETag, {@code Cache-Control: no-store}가 없는 경우 true
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private boolean isCacheable(HttpServletResponse response) {
+        if (response.getStatus() != HttpStatus.OK.value() || response.containsHeader(HttpHeaders.ETAG)) {
+            return false;
+        }
+
+        String cacheControl = response.getHeader(HttpHeaders.CACHE_CONTROL);
+
+        return cacheControl == null || !cacheControl.contains("no-store");
+    }
+
+    /**
+     * hash로 ETag를 생성하는 함수
+     *
+     * @param hash
+     *            응답 내용의 hash
+     * @return ETag
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private String createEtag(long hash) {
+        return new StringBuffer(this.weak ? "W/\"" : "\"") //
+                .append(Long.toHexString(hash)) //
+                .append("\"") //
+                .toString();
+    }
+
+}
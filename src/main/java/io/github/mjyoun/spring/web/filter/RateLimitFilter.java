@@ -0,0 +1,340 @@
+package io.github.mjyoun.spring.web.filter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import io.github.mjyoun.spring.web.config.RateLimitProperties;
+import io.github.mjyoun.spring.web.filter.rate.RateLimit;
+import io.github.mjyoun.spring.web.filter.rate.RateLimitPolicy;
+import io.github.mjyoun.spring.web.filter.rate.RateLimiter;
+import io.github.mjyoun.spring.web.security.SecurityUtils;
+
+/**
+ * 요청자 별로 URL pattern 마다 기간 당 요청 수를 제한하는 filter
+ * <p>
+ * 로그인한 요청은 {@link SecurityUtils#getCurrentUserId()}, 로그인하지 않은 요청은 remote address를 key로 {@link RateLimiter}의 token bucket을 사용하며,
+ * 한도는 권한({@link io.github.mjyoun.spring.web.security.AbstractGrade}) 별로 설정할 수 있다. 한도를 초과한 요청은 controller를 호출하지 않고 바로
+ * {@code 429 Too Many Requests}와 {@code Retry-After}로 응답한다. Spring Security filter 다음, {@link ConcurrencyLimitFilter} 이전에 실행된다.
+ * <p>
+ * 설정은 {@link #reload()}로 실행 중에 다시 읽을 수 있으며, 이름이 같은 route는 요청자 별 상태를 유지한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@Order(1)
+@Component
+@ConditionalOnProperty(prefix = RateLimitProperties.PREFIX, name = "enabled", havingValue = "true")
+public class RateLimitFilter implements Filter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final Environment environment;
+    /** URL pattern 별 limiter 목록 */
+    private volatile List<Route> routes = Collections.emptyList();
+    /** 이름 별 limiter 목록 */
+    private volatile Map<String, RateLimiter> limiters = Collections.emptyMap();
+    /** 거절 event listener 목록 */
+    private final List<Consumer<Rejection>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * (non-javadoc)
+     *
+     * @param properties
+     *            {@link RateLimitProperties}
+     * @param environment
+     *            {@link #reload()}에서 설정을 다시 읽을 {@link Environment}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public RateLimitFilter(RateLimitProperties properties, Environment environment) {
+        this.environment = environment;
+        this.reload(properties);
+    }
+
+    /**
+     * @see Filter#doFilter(ServletRequest, ServletResponse, FilterChain)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        RateLimiter limiter = this.resolve(httpRequest);
+
+        if (limiter == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitPolicy policy = limiter.getPolicy();
+        String userId = SecurityUtils.getCurrentUserId();
+        boolean anonymous = userId == null;
+        String key;
+        RateLimit limit;
+
+        if (anonymous) {
+            key = "ip:" + httpRequest.getRemoteAddr();
+            limit = policy.forAnonymous();
+        } else {
+            key = "user:" + userId;
+            limit = policy.hasGradeLimits() ? policy.forGrades(SecurityUtils.getCurrentGradeIds()) : policy.defaultLimit();
+        }
+
+        long wait = limiter.tryAcquire(key, limit);
+
+        if (wait > 0) {
+            long retryAfter = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1));
+            logger.debug("[RateLimitFilter] 요청 한도 초과 [route: {}, key: {}, url: {}, retry after: {}s]", limiter.getName(), key,
+                    httpRequest.getRequestURI(), retryAfter);
+
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            httpResponse.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+
+            this.notify(new Rejection(limiter.getName(), anonymous, wait));
+            return;
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * {@link Environment}에서 설정을 다시 읽어 적용하는 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void reload() {
+        RateLimitProperties properties = Binder.get(this.environment) //
+                .bind(RateLimitProperties.PREFIX, RateLimitProperties.class) //
+                .orElseGet(RateLimitProperties::new);
+
+        this.reload(properties);
+    }
+
+    /**
+     * 설정을 적용하는 함수. 이름이 같은 route의 요청자 별 상태는 유지되며, 설정에서 제외된 route는 삭제된다.
+     *
+     * @param properties
+     *            {@link RateLimitProperties}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public synchronized void reload(RateLimitProperties properties) {
+        Map<String, RateLimiter> previous = this.limiters;
+        Map<String, RateLimiter> limiters = new LinkedHashMap<>();
+        List<Route> routes = new ArrayList<>();
+
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            RateLimitPolicy policy = createPolicy(route);
+            RateLimiter limiter = previous.get(route.getName());
+
+            if (limiter == null) {
+                limiter = new RateLimiter(route.getName(), policy, properties.getMaxKeys(), properties.getSweepInterval());
+            } else {
+                limiter.update(policy, properties.getMaxKeys(), properties.getSweepInterval());
+            }
+
+            limiters.put(route.getName(), limiter);
+
+            for (String pattern : route.getPatterns()) {
+                routes.add(new Route(PathPatternParser.defaultInstance.parse(pattern), limiter));
+            }
+        }
+
+        this.limiters = Collections.unmodifiableMap(limiters);
+        this.routes = List.copyOf(routes);
+
+        logger.info("[RateLimitFilter#reload] 요청 한도 설정 적용 [routes: {}]", limiters.keySet());
+    }
+
+    /**
+     * 요청이 거절될 때마다 호출될 listener를 등록하는 함수
+     *
+     * @param listener
+     *            event listener. 요청 thread에서 호출되므로 오래 걸리는 작업을 하면 안 됨
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void addRejectionListener(Consumer<Rejection> listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * 현재 limiter 상태 목록을 조회하는 함수
+     *
+     * @return route 이름을 key로 하는 limiter 상태 목록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public Map<String, RateLimiter.Stats> getStats() {
+        Map<String, RateLimiter.Stats> stats = new LinkedHashMap<>();
+
+        for (RateLimiter limiter : this.limiters.values()) {
+            stats.put(limiter.getName(), limiter.stats());
+        }
+
+        return stats;
+    }
+
+    /**
+     * 전체 route에 저장된 요청자 수를 조회하는 함수
+     *
+     * @return 요청자 수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public long getTrackedKeys() {
+        long keys = 0;
+
+        for (RateLimiter limiter : this.limiters.values()) {
+            keys += limiter.stats().keys();
+        }
+
+        return keys;
+    }
+
+    /**
+     * 요청에 해당하는 limiter를 조회하는 함수
+     *
+     * @param request
+     *            {@link HttpServletRequest}
+     * @return limiter. 제한하지 않을 경우 null
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private RateLimiter resolve(HttpServletRequest request) {
+        List<Route> routes = this.routes;
+
+        if (routes.isEmpty()) {
+            return null;
+        }
+
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        PathContainer path = PathContainer.parsePath(contextPath.isEmpty() ? uri : uri.substring(contextPath.length()));
+
+        for (Route route : routes) {
+            if (route.pattern().matches(path)) {
+                return route.limiter();
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 거절 event를 listener에 전달하는 함수
+     *
+     * @param rejection
+     *            {@link Rejection}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void notify(Rejection rejection) {
+        for (Consumer<Rejection> listener : this.listeners) {
+            try {
+                listener.accept(rejection);
+            } catch (RuntimeException e) {
+                logger.warn("[RateLimitFilter#notify] listener 처리 실패 [msg: {}]", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * route 설정으로 {@link RateLimitPolicy}를 생성하는 함수
+     *
+     * @param route
+     *            route 설정
+     * @return {@link RateLimitPolicy}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static RateLimitPolicy createPolicy(RateLimitProperties.Route route) {
+        Map<String, RateLimit> gradeLimits = new LinkedHashMap<>();
+
+        for (Map.Entry<String, RateLimitProperties.Limit> entry : route.getGrades().entrySet()) {
+            gradeLimits.put(entry.getKey(), createLimit(entry.getValue()));
+        }
+
+        return new RateLimitPolicy(createLimit(route.getLimit()), route.getAnonymous() == null ? null : createLimit(route.getAnonymous()),
+                gradeLimits);
+    }
+
+    /**
+     * 한도 설정으로 {@link RateLimit}을 생성하는 함수
+     *
+     * @param limit
+     *            한도 설정
+     * @return {@link RateLimit}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static RateLimit createLimit(RateLimitProperties.Limit limit) {
+        return RateLimit.of(limit.getCapacity(), limit.getPeriod());
+    }
+
+    /**
+     * URL pattern과 limiter 정보
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private record Route(PathPattern pattern, RateLimiter limiter) {
+    }
+
+    /**
+     * 거절된 요청 정보
+     *
+     * @param route
+     *            route 이름
+     * @param anonymous
+     *            로그인하지 않은 요청인지 여부
+     * @param retryAfterNanos
+     *            다시 요청할 수 있을 때까지 남은 시간 (nanoseconds)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public record Rejection(String route, boolean anonymous, long retryAfterNanos) {
+    }
+
+}
@@ -7,18 +7,30 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.github.mjyoun.spring.web.config.RestRequestFilterProperties;
+import io.github.mjyoun.spring.web.jfr.HttpRequestEvent;
 
 /**
  * log에 찍히는 http thread name을 변경해주기 위한 filter security보다 filter 순위를 먼저 두어서 실행해야한다.
+ * <p>
+ * JFR recording 중에는 요청 처리 전체 시간을 {@link HttpRequestEvent}로 기록한다.
  * 
  * @author MJ Youn
  * @since 2022. 01. 04.
  */
 @Order(0)
 @Component
+@ConditionalOnProperty(prefix = RestRequestFilterProperties.PREFIX, name = "enabled", havingValue = "true", matchIfMissing = true)
 public class RestRequestFilter implements Filter {
 
     /**
@@ -31,7 +43,46 @@ public class RestRequestFilter implements Filter {
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
         // HTTP 호출 Thread의 이름을 변경. HTTP-XX
         Thread.currentThread().setName(String.format("HTTP-%02d", Thread.currentThread().getId()));
-        chain.doFilter(request, response);
+
+        HttpRequestEvent event = new HttpRequestEvent();
+        event.begin();
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            event.end();
+
+            if (event.shouldCommit()) {
+                commit(event, (HttpServletRequest) request, (HttpServletResponse) response);
+            }
+        }
+    }
+
+    /**
+     * 요청 정보를 채워 JFR event를 기록하는 함수
+     * 
+     * @param event
+     *            {@link HttpRequestEvent}
+     * @param request
+     *            {@link HttpServletRequest}
+     * @param response
+     *            {@link HttpServletResponse}
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static void commit(HttpRequestEvent event, HttpServletRequest request, HttpServletResponse response) {
+        event.method = request.getMethod();
+        event.uri = request.getRequestURI();
+        event.pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        event.status = response.getStatus();
+        event.remoteAddress = request.getRemoteAddr();
+
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod) {
+            event.handler = ClassUtils.getUserClass(handlerMethod.getBeanType()).getSimpleName() + "#" + handlerMethod.getMethod().getName();
+        }
+
+        event.commit();
     }
 
 }
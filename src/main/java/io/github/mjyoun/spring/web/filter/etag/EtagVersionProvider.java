@@ -0,0 +1,29 @@
+package io.github.mjyoun.spring.web.filter.etag;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * controller를 호출하기 전에 응답의 version을 조회하기 위한 interface
+ * <p>
+ * {@link io.github.mjyoun.spring.web.annotation.EtagVersion}으로 handler에 지정하며, bean으로 등록되어 있어야 한다. 조회한 version은 weak ETag로 사용되고,
+ * 요청의 {@code If-None-Match}와 같으면 controller를 호출하지 않고 {@code 304 Not Modified}로 응답한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@FunctionalInterface
+public interface EtagVersionProvider {
+
+    /**
+     * 응답의 version을 조회하는 함수. 응답 내용이 바뀔 때마다 달라져야 하며, 요청마다 호출되므로 빠르게 조회할 수 있어야 한다.
+     *
+     * @param request
+     *            {@link HttpServletRequest}
+     * @return version. null일 경우 ETag를 사용하지 않음
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    String getVersion(HttpServletRequest request);
+
+}
@@ -0,0 +1,433 @@
+package io.github.mjyoun.spring.web.filter.etag;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+import org.springframework.http.HttpHeaders;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * 응답 내용을 쓰는 동안 hash를 계산하는 response wrapper
+ * <p>
+ * 최대 크기까지는 내용을 보관하면서 {@link XxHash64}로 hash를 계산하고, 크기를 초과하거나 handler가 ETag를 직접 설정한 경우 보관한 내용을 보내고 이후 내용은 바로
+ * 전달한다. 보관한 내용은 {@link #writeTo(HttpServletResponse)}로 보낸다.
+ * <p>
+ * 비동기 요청은 filter가 {@link #passthrough()}를 호출하는 동안 다른 thread에서 내용을 쓸 수 있으므로 보관한 내용과 상태는 이 객체의 lock으로 보호한다. writer를 flush
+ * 하면 다시 이 객체의 lock을 얻으므로 writer는 lock 밖에서 flush 한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class HashingResponseWrapper extends HttpServletResponseWrapper {
+
+    private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+
+    private final int maxBufferSize;
+    private final XxHash64 hash = new XxHash64();
+
+    /** 보관한 내용 */
+    private byte[] buffer;
+    private int count;
+    /** 보관하지 않고 바로 전달하는지 여부 */
+    private volatile boolean passthrough;
+    /** 첫 쓰기 여부 */
+    private boolean written;
+    /** 설정된 content length. 없을 경우 -1 */
+    private long contentLength = -1;
+
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    /**
+     * (non-javadoc)
+     *
+     * @param response
+     *            {@link HttpServletResponse}
+     * @param maxBufferSize
+     *            hash를 계산하기 위해 보관할 최대 크기
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public HashingResponseWrapper(HttpServletResponse response, int maxBufferSize) {
+        super(response);
+        this.maxBufferSize = maxBufferSize;
+    }
+
+    /**
+     * @see HttpServletResponseWrapper#getOutputStream()
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (this.writer != null) {
+            throw new IllegalStateException("getWriter()가 이미 호출되었습니다.");
+        }
+
+        if (this.outputStream == null) {
+            this.outputStream = new HashingOutputStream();
+        }
+
+        return this.outputStream;
+    }
+
+    /**
+     * @see HttpServletResponseWrapper#getWriter()
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (this.writer == null) {
+            if (this.outputStream != null) {
+                throw new IllegalStateException("getOutputStream()이 이미 호출되었습니다.");
+            }
+
+            this.outputStream = new HashingOutputStream();
+            this.writer = new PrintWriter(new OutputStreamWriter(this.outputStream, this.getCharacterEncoding()));
+        }
+
+        return this.writer;
+    }
+
+    /**
+     * @see HttpServletResponseWrapper#setContentLength(int)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void setContentLength(int len) {
+        this.setContentLengthLong(len);
+    }
+
+    /**
+     * @see HttpServletResponseWrapper#setContentLengthLong(long)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public synchronized void setContentLengthLong(long len) {
+        if (this.passthrough) {
+            super.setContentLengthLong(len);
+        } else {
+            // 304로 응답할 수 있으므로 보낼 때 설정
+            this.contentLength = len;
+        }
+    }
+
+    /**
+     * @see HttpServletResponseWrapper#flushBuffer()
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void flushBuffer() throws IOException {
+        if (this.writer != null) {
+            this.writer.flush();
+        }
+
+        synchronized (this) {
+            if (this.passthrough) {
+                super.flushBuffer();
+            }
+        }
+    }
+
+    /**
+     * @see HttpServletResponseWrapper#sendError(int, String)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        this.discard();
+        super.sendError(sc, msg);
+    }
+
+    /**
+     * @see HttpServletResponseWrapper#sendError(int)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void sendError(int sc) throws IOException {
+        this.discard();
+        super.sendError(sc);
+    }
+
+    /**
+     * @see HttpServletResponseWrapper#sendRedirect(String)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        this.discard();
+        super.sendRedirect(location);
+    }
+
+    /**
+     * @see HttpServletResponseWrapper#reset()
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public synchronized void reset() {
+        super.reset();
+        this.resetBuffer();
+        this.contentLength = -1;
+    }
+
+    /**
+     * @see HttpServletResponseWrapper#resetBuffer()
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public synchronized void resetBuffer() {
+        if (this.passthrough) {
+            super.resetBuffer();
+        } else {
+            this.count = 0;
+            this.written = false;
+            this.hash.reset();
+        }
+    }
+
+    /**
+     * 보관한 내용이 있는지 확인하는 함수. 바로 전달하고 있는 경우 false
+     *
+     * @return 보관한 내용이 있으면 true
+     * @throws IOException
+     *             writer 내용 쓰기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public boolean hasBufferedContent() throws IOException {
+        if (this.writer != null) {
+            this.writer.flush();
+        }
+
+        synchronized (this) {
+            return !this.passthrough && this.count > 0;
+        }
+    }
+
+    /**
+     * 보관한 내용의 hash를 조회하는 함수
+     *
+     * @return XXH64 hash
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public synchronized long getHash() {
+        return this.hash.digest();
+    }
+
+    /**
+     * 보관한 내용을 보내고, 이후 내용은 바로 전달하도록 변경하는 함수
+     *
+     * @throws IOException
+     *             쓰기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void passthrough() throws IOException {
+        if (this.writer != null) {
+            this.writer.flush();
+        }
+
+        this.startPassthrough();
+    }
+
+    /**
+     * 보관한 내용을 보내고, 이후 내용은 바로 전달하도록 변경하는 함수. writer를 flush 하는 중에도 호출되므로 writer는 flush 하지 않는다.
+     *
+     * @throws IOException
+     *             쓰기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private synchronized void startPassthrough() throws IOException {
+        if (!this.passthrough) {
+            this.passthrough = true;
+            this.writeTo((HttpServletResponse) this.getResponse());
+        }
+    }
+
+    /**
+     * 보관한 내용을 응답에 쓰는 함수
+     *
+     * @param response
+     *            원래 응답
+     * @throws IOException
+     *             쓰기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public synchronized void writeTo(HttpServletResponse response) throws IOException {
+        if (this.contentLength >= 0) {
+            response.setContentLengthLong(this.contentLength);
+        } else if (!response.isCommitted() && this.count > 0 && !this.passthrough) {
+            response.setContentLength(this.count);
+        }
+
+        if (this.count > 0) {
+            response.getOutputStream().write(this.buffer, 0, this.count);
+        }
+
+        this.buffer = null;
+        this.count = 0;
+        this.contentLength = -1;
+    }
+
+    /**
+     * 보관한 내용을 버리고 바로 전달하도록 변경하는 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private synchronized void discard() {
+        this.passthrough = true;
+        this.buffer = null;
+        this.count = 0;
+    }
+
+    /**
+     * 내용을 보관하거나 전달하는 함수
+     *
+     * @param b
+     *            내용
+     * @param off
+     *            시작 위치
+     * @param len
+     *            길이
+     * @throws IOException
+     *             쓰기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private synchronized void write(byte[] b, int off, int len) throws IOException {
+        if (!this.written) {
+            this.written = true;
+
+            // handler가 ETag를 직접 설정한 경우 (version 기반) hash를 계산하지 않음
+            if (this.containsHeader(HttpHeaders.ETAG)) {
+                this.startPassthrough();
+            }
+        }
+
+        if (!this.passthrough && this.count + len > this.maxBufferSize) {
+            this.startPassthrough();
+        }
+
+        if (this.passthrough) {
+            this.getResponse().getOutputStream().write(b, off, len);
+            return;
+        }
+
+        if (this.buffer == null) {
+            this.buffer = new byte[Math.min(this.maxBufferSize, Math.max(INITIAL_BUFFER_SIZE, len))];
+        } else if (this.count + len > this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, Math.min(this.maxBufferSize, Math.max(this.buffer.length * 2, this.count + len)));
+        }
+
+        System.arraycopy(b, off, this.buffer, this.count, len);
+        this.count += len;
+        this.hash.update(b, off, len);
+    }
+
+    /**
+     * 바로 전달하고 있을 경우 원래 응답의 output stream을 flush 하는 함수
+     *
+     * @throws IOException
+     *             flush 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private synchronized void flushOutput() throws IOException {
+        if (this.passthrough) {
+            this.getResponse().getOutputStream().flush();
+        }
+    }
+
+    /**
+     * {@link HashingResponseWrapper}에 쓰는 output stream
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private class HashingOutputStream extends ServletOutputStream {
+
+        private final byte[] single = new byte[1];
+
+        @Override
+        public void write(int b) throws IOException {
+            this.single[0] = (byte) b;
+            HashingResponseWrapper.this.write(this.single, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            HashingResponseWrapper.this.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            HashingResponseWrapper.this.flushOutput();
+        }
+
+        @Override
+        public boolean isReady() {
+            if (HashingResponseWrapper.this.passthrough) {
+                try {
+                    return HashingResponseWrapper.this.getResponse().getOutputStream().isReady();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * 비동기 쓰기는 내용을 보관할 수 없으므로, 보관한 내용을 먼저 보내고 이후 내용은 원래 응답에 바로 쓰도록 변경한 후 listener를 등록한다. 이 경우 ETag는 설정하지 않는다.
+         */
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            try {
+                HashingResponseWrapper.this.startPassthrough();
+                HashingResponseWrapper.this.getResponse().getOutputStream().setWriteListener(writeListener);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,215 @@
+package io.github.mjyoun.spring.web.filter.etag;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * 나누어 입력할 수 있는 XXH64 hash
+ * <p>
+ * 암호용이 아닌 빠른 64bit hash로, 입력을 32byte 단위로 처리하며 남은 32byte 미만만 내부에 보관한다. 하나의 thread에서 사용한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class XxHash64 {
+
+    private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME64_3 = 0x165667B19E3779F9L;
+    private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final long seed;
+    private long v1;
+    private long v2;
+    private long v3;
+    private long v4;
+    /** 입력한 전체 byte 수 */
+    private long total;
+    /** 처리하지 않은 입력 */
+    private final byte[] pending = new byte[32];
+    private int pendingSize;
+
+    /**
+     * (non-javadoc)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public XxHash64() {
+        this(0);
+    }
+
+    /**
+     * (non-javadoc)
+     *
+     * @param seed
+     *            seed
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public XxHash64(long seed) {
+        this.seed = seed;
+        this.reset();
+    }
+
+    /**
+     * 입력을 초기화하는 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void reset() {
+        this.v1 = this.seed + PRIME64_1 + PRIME64_2;
+        this.v2 = this.seed + PRIME64_2;
+        this.v3 = this.seed;
+        this.v4 = this.seed - PRIME64_1;
+        this.total = 0;
+        this.pendingSize = 0;
+    }
+
+    /**
+     * 1byte를 입력하는 함수
+     *
+     * @param b
+     *            입력 (하위 8bit 사용)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void update(int b) {
+        this.pending[this.pendingSize++] = (byte) b;
+        this.total++;
+
+        if (this.pendingSize == 32) {
+            this.stripe(this.pending, 0);
+            this.pendingSize = 0;
+        }
+    }
+
+    /**
+     * byte 배열을 입력하는 함수
+     *
+     * @param b
+     *            입력
+     * @param off
+     *            시작 위치
+     * @param len
+     *            길이
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void update(byte[] b, int off, int len) {
+        this.total += len;
+        int end = off + len;
+
+        if (this.pendingSize > 0) {
+            int fill = Math.min(32 - this.pendingSize, len);
+            System.arraycopy(b, off, this.pending, this.pendingSize, fill);
+            this.pendingSize += fill;
+            off += fill;
+
+            if (this.pendingSize < 32) {
+                return;
+            }
+
+            this.stripe(this.pending, 0);
+            this.pendingSize = 0;
+        }
+
+        for (; off + 32 <= end; off += 32) {
+            this.stripe(b, off);
+        }
+
+        if (off < end) {
+            System.arraycopy(b, off, this.pending, 0, end - off);
+            this.pendingSize = end - off;
+        }
+    }
+
+    /**
+     * 지금까지 입력한 내용의 hash를 조회하는 함수. 입력 상태는 변경되지 않는다.
+     *
+     * @return hash
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public long digest() {
+        long h;
+
+        if (this.total >= 32) {
+            h = Long.rotateLeft(this.v1, 1) + Long.rotateLeft(this.v2, 7) + Long.rotateLeft(this.v3, 12) + Long.rotateLeft(this.v4, 18);
+            h = mergeRound(h, this.v1);
+            h = mergeRound(h, this.v2);
+            h = mergeRound(h, this.v3);
+            h = mergeRound(h, this.v4);
+        } else {
+            h = this.seed + PRIME64_5;
+        }
+
+        h += this.total;
+
+        int off = 0;
+
+        for (; off + 8 <= this.pendingSize; off += 8) {
+            h ^= round(0, (long) LONG_LE.get(this.pending, off));
+            h = Long.rotateLeft(h, 27) * PRIME64_1 + PRIME64_4;
+        }
+
+        if (off + 4 <= this.pendingSize) {
+            h ^= (Integer.toUnsignedLong((int) INT_LE.get(this.pending, off))) * PRIME64_1;
+            h = Long.rotateLeft(h, 23) * PRIME64_2 + PRIME64_3;
+            off += 4;
+        }
+
+        for (; off < this.pendingSize; off++) {
+            h ^= (this.pending[off] & 0xFFL) * PRIME64_5;
+            h = Long.rotateLeft(h, 11) * PRIME64_1;
+        }
+
+        h ^= h >>> 33;
+        h *= PRIME64_2;
+        h ^= h >>> 29;
+        h *= PRIME64_3;
+        h ^= h >>> 32;
+
+        return h;
+    }
+
+    /**
+     * 32byte를 처리하는 함수
+     *
+     * @param b
+     *            입력
+     * @param off
+     *            시작 위치
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void stripe(byte[] b, int off) {
+        this.v1 = round(this.v1, (long) LONG_LE.get(b, off));
+        this.v2 = round(this.v2, (long) LONG_LE.get(b, off + 8));
+        this.v3 = round(this.v3, (long) LONG_LE.get(b, off + 16));
+        this.v4 = round(this.v4, (long) LONG_LE.get(b, off + 24));
+    }
+
+    private static long round(long acc, long input) {
+        acc += input * PRIME64_2;
+        acc = Long.rotateLeft(acc, 31);
+        return acc * PRIME64_1;
+    }
+
+    private static long mergeRound(long acc, long value) {
+        acc ^= round(0, value);
+        return acc * PRIME64_1 + PRIME64_4;
+    }
+
+}
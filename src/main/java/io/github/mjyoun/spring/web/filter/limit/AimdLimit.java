@@ -0,0 +1,51 @@
+package io.github.mjyoun.spring.web.filter.limit;
+
+/**
+ * AIMD(Additive Increase, Multiplicative Decrease) 방식의 한도 조정
+ * <p>
+ * 요청이 기준 시간 안에 성공하고 한도의 절반 이상을 사용 중이면 한도를 1 증가시키고, 실패하거나 기준 시간을 넘기면 한도에 감소 비율을 곱한다.
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class AimdLimit implements LimitAlgorithm {
+
+    /** 기준 처리 시간 (nano seconds) */
+    private final long latencyThresholdNanos;
+    /** 감소 비율 */
+    private final double backoffRatio;
+
+    /**
+     * (non-javadoc)
+     * 
+     * @param latencyThresholdNanos
+     *            기준 처리 시간 (nano seconds)
+     * @param backoffRatio
+     *            감소 비율 (0 ~ 1)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public AimdLimit(long latencyThresholdNanos, double backoffRatio) {
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+    }
+
+    /**
+     * @see LimitAlgorithm#update(double, long, int, boolean)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public double update(double limit, long rttNanos, int inFlight, boolean dropped) {
+        if (dropped || rttNanos > this.latencyThresholdNanos) {
+            return limit * this.backoffRatio;
+        } else if (inFlight * 2 >= limit) {
+            return limit + 1;
+        } else {
+            return limit;
+        }
+    }
+
+}
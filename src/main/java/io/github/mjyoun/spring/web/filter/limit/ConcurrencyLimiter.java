@@ -0,0 +1,148 @@
+package io.github.mjyoun.spring.web.filter.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시 처리 요청 수를 제한하는 limiter
+ * <p>
+ * 요청 허용 여부는 lock 없이 판단하며, 한도는 요청이 끝날 때마다 {@link LimitAlgorithm}으로 조정된다. 한도 조정은 동시에 끝난 요청이 서로의 결과를 덮어쓰지
+ * 않도록 순서대로 반영한다.
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class ConcurrencyLimiter {
+
+    private final String name;
+    private final LimitAlgorithm algorithm;
+    private final int minLimit;
+    private final int maxLimit;
+
+    /** 현재 한도 */
+    private volatile double limit;
+    /** 처리 중인 요청 수 */
+    private final AtomicInteger inFlight = new AtomicInteger();
+    /** 거절된 요청 수 */
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * (non-javadoc)
+     * 
+     * @param name
+     *            limiter 이름
+     * @param algorithm
+     *            한도 조정 알고리즘
+     * @param initialLimit
+     *            초기 한도
+     * @param minLimit
+     *            최소 한도
+     * @param maxLimit
+     *            최대 한도
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public ConcurrencyLimiter(String name, LimitAlgorithm algorithm, int initialLimit, int minLimit, int maxLimit) {
+        this.name = name;
+        this.algorithm = algorithm;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.clamp(initialLimit, this.minLimit, this.maxLimit);
+    }
+
+    /**
+     * 요청 처리를 시작하는 함수
+     * 
+     * @return 허용된 경우 요청이 끝날 때 호출할 {@link Permit}, 한도를 초과한 경우 null
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public Permit tryAcquire() {
+        while (true) {
+            int current = this.inFlight.get();
+
+            if (current >= (int) this.limit) {
+                this.rejected.increment();
+                return null;
+            }
+
+            if (this.inFlight.compareAndSet(current, current + 1)) {
+                return new Permit(current + 1, System.nanoTime());
+            }
+        }
+    }
+
+    /**
+     * 요청 처리 결과를 반영하는 함수
+     * 
+     * @param permit
+     *            {@link #tryAcquire()}로 받은 permit
+     * @param dropped
+     *            요청이 실패했는지 여부
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void release(Permit permit, boolean dropped) {
+        this.inFlight.decrementAndGet();
+
+        long rtt = System.nanoTime() - permit.startNanos();
+
+        // 이전 값으로 계산한 증가가 감소를 덮어쓰지 않도록 읽기와 쓰기를 함께 처리
+        synchronized (this) {
+            double updated = this.algorithm.update(this.limit, rtt, permit.inFlight(), dropped);
+            this.limit = Math.clamp(updated, this.minLimit, this.maxLimit);
+        }
+    }
+
+    /**
+     * 현재 상태를 조회하는 함수
+     * 
+     * @return {@link Snapshot}
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(this.name, (int) this.limit, this.inFlight.get(), this.rejected.sum());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 처리 허용 정보
+     * 
+     * @param inFlight
+     *            허용 시점의 처리 중인 요청 수
+     * @param startNanos
+     *            허용 시각
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public record Permit(int inFlight, long startNanos) {
+    }
+
+    /**
+     * limiter 상태 정보
+     * 
+     * @param name
+     *            limiter 이름
+     * @param limit
+     *            현재 한도
+     * @param inFlight
+     *            처리 중인 요청 수
+     * @param rejected
+     *            누적 거절 요청 수
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public record Snapshot(String name, int limit, int inFlight, long rejected) {
+    }
+
+}
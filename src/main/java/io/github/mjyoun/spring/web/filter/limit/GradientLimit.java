@@ -0,0 +1,54 @@
+package io.github.mjyoun.spring.web.filter.limit;
+
+/**
+ * 응답 시간의 변화율(gradient)을 기준으로 한 한도 조정
+ * <p>
+ * 장기 평균 처리 시간과 최근 처리 시간의 비율로 한도를 줄이거나 늘린다. 최근 처리 시간이 장기 평균보다 길어지면 downstream이 느려지는 것으로 보고 한도를 줄이며, 비슷하면
+ * queue 여유분({@code sqrt(limit)})만큼 한도를 늘린다.
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class GradientLimit implements LimitAlgorithm {
+
+    /** 장기 평균 처리 시간 반영 비율 */
+    private static final double LONG_RTT_WEIGHT = 1.0 / 600;
+    /** 한도 변경 반영 비율 */
+    private static final double SMOOTHING = 0.2;
+
+    /** 장기 평균 처리 시간 (nano seconds) */
+    private double longRtt = -1;
+
+    /**
+     * @see LimitAlgorithm#update(double, long, int, boolean)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public synchronized double update(double limit, long rttNanos, int inFlight, boolean dropped) {
+        double shortRtt = Math.max(1, rttNanos);
+
+        if (this.longRtt < 0) {
+            this.longRtt = shortRtt;
+        } else {
+            this.longRtt = this.longRtt * (1 - LONG_RTT_WEIGHT) + shortRtt * LONG_RTT_WEIGHT;
+        }
+
+        // 장기 평균이 크게 높아진 경우 빠르게 회복할 수 있도록 감소시킴
+        if (this.longRtt / shortRtt > 2) {
+            this.longRtt *= 0.95;
+        }
+
+        // 사용량이 한도의 절반도 되지 않으면 한도를 늘릴 근거가 없음
+        if (!dropped && inFlight * 2 < limit) {
+            return limit;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, this.longRtt / shortRtt));
+        double newLimit = dropped ? limit * 0.5 : limit * gradient + Math.sqrt(limit);
+
+        return limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+    }
+
+}
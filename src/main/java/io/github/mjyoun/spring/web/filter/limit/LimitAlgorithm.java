@@ -0,0 +1,29 @@
+package io.github.mjyoun.spring.web.filter.limit;
+
+/**
+ * 측정된 응답 시간을 기준으로 동시 처리 한도를 조정하는 알고리즘
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public interface LimitAlgorithm {
+
+    /**
+     * 요청 처리 결과를 반영하여 새로운 한도를 계산하는 함수
+     * 
+     * @param limit
+     *            현재 한도
+     * @param rttNanos
+     *            요청 처리 시간 (nano seconds)
+     * @param inFlight
+     *            요청 시작 시점의 처리 중인 요청 수
+     * @param dropped
+     *            요청이 실패(5xx, 예외)했는지 여부
+     * @return 새로운 한도 (최소/최대 한도 적용 전)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    double update(double limit, long rttNanos, int inFlight, boolean dropped);
+
+}
@@ -0,0 +1,63 @@
+package io.github.mjyoun.spring.web.filter.rate;
+
+import java.time.Duration;
+
+/**
+ * token bucket의 한도
+ * <p>
+ * 최대 {@code capacity}개의 요청을 한 번에 허용하고, {@code intervalNanos}마다 token을 하나씩 채운다.
+ * 
+ * @param capacity
+ *            bucket 크기 (한 번에 허용하는 최대 요청 수)
+ * @param intervalNanos
+ *            token 하나를 채우는 시간 (nanoseconds)
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public record RateLimit(long capacity, long intervalNanos) {
+
+    /**
+     * 기간 당 요청 수로 한도를 생성하는 함수
+     * 
+     * @param capacity
+     *            기간 당 허용하는 요청 수. 1보다 작으면 1
+     * @param period
+     *            bucket이 모두 채워지는 기간
+     * @return {@link RateLimit}
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static RateLimit of(long capacity, Duration period) {
+        long size = Math.max(1, capacity);
+        return new RateLimit(size, Math.max(1, period.toNanos() / size));
+    }
+
+    /**
+     * 비어 있는 bucket이 모두 채워지는 시간을 조회하는 함수
+     * 
+     * @return nanoseconds
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public long burstNanos() {
+        return this.capacity * this.intervalNanos;
+    }
+
+    /**
+     * 다른 한도보다 더 많은 요청을 허용하는지 확인하는 함수
+     * 
+     * @param other
+     *            비교할 한도
+     * @return 채우는 속도가 빠르거나, 같으면 bucket이 더 큰 경우 true
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public boolean isMoreGenerousThan(RateLimit other) {
+        return this.intervalNanos < other.intervalNanos || (this.intervalNanos == other.intervalNanos && this.capacity > other.capacity);
+    }
+
+}
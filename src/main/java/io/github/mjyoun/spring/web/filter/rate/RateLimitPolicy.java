@@ -0,0 +1,86 @@
+package io.github.mjyoun.spring.web.filter.rate;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 요청자에 따라 적용할 한도 정보
+ * 
+ * @param defaultLimit
+ *            기본 한도
+ * @param anonymousLimit
+ *            로그인하지 않은 요청의 한도. null일 경우 기본 한도 사용
+ * @param gradeLimits
+ *            권한({@link io.github.mjyoun.spring.web.security.AbstractGrade#getId()}) 별 한도
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public record RateLimitPolicy(RateLimit defaultLimit, RateLimit anonymousLimit, Map<String, RateLimit> gradeLimits) {
+
+    /**
+     * (non-javadoc)
+     * 
+     * @param defaultLimit
+     *            기본 한도
+     * @param anonymousLimit
+     *            로그인하지 않은 요청의 한도. null일 경우 기본 한도 사용
+     * @param gradeLimits
+     *            권한 별 한도
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public RateLimitPolicy {
+        gradeLimits = gradeLimits == null ? Map.of() : Map.copyOf(gradeLimits);
+    }
+
+    /**
+     * 로그인하지 않은 요청의 한도를 조회하는 함수
+     * 
+     * @return {@link RateLimit}
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public RateLimit forAnonymous() {
+        return this.anonymousLimit == null ? this.defaultLimit : this.anonymousLimit;
+    }
+
+    /**
+     * 로그인한 요청의 한도를 조회하는 함수. 권한이 여러 개인 경우 가장 많은 요청을 허용하는 한도를 사용한다.
+     * 
+     * @param grades
+     *            권한 식별자 목록
+     * @return {@link RateLimit}. 해당하는 권한이 없으면 기본 한도
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public RateLimit forGrades(Collection<String> grades) {
+        RateLimit selected = null;
+
+        for (String grade : grades) {
+            RateLimit limit = this.gradeLimits.get(grade);
+
+            if (limit != null && (selected == null || limit.isMoreGenerousThan(selected))) {
+                selected = limit;
+            }
+        }
+
+        return selected == null ? this.defaultLimit : selected;
+    }
+
+    /**
+     * 권한 별 한도가 있는지 확인하는 함수
+     * 
+     * @return 있을 경우 true
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public boolean hasGradeLimits() {
+        return !this.gradeLimits.isEmpty();
+    }
+
+}
@@ -0,0 +1,200 @@
+package io.github.mjyoun.spring.web.filter.rate;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청자(key) 별 {@link TokenBucket}으로 요청 수를 제한하는 limiter
+ * <p>
+ * bucket은 key 별로 처음 요청할 때 생성하고, 가득 찬(한동안 요청이 없는) bucket은 정리 주기마다 삭제한다. 가득 찬 bucket은 새 bucket과 같으므로 삭제해도 한도가 달라지지
+ * 않는다. 저장된 key가 최대 개수에 도달하면 먼저 정리하고, 그래도 공간이 없으면 새로운 key는 하나의 공용 bucket을 함께 사용하므로 메모리 사용량이 제한된다.
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class RateLimiter {
+
+    /** key가 가득 찼을 때 정리하는 최소 간격 */
+    private static final long MIN_SWEEP_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final String name;
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    /** 저장할 key가 없을 때 함께 사용하는 bucket */
+    private final TokenBucket overflowBucket = new TokenBucket(System.nanoTime());
+    /** 마지막으로 정리한 시각 */
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+
+    private volatile RateLimitPolicy policy;
+    private volatile int maxKeys;
+    private volatile long sweepIntervalNanos;
+
+    /** 허용된 요청 수 */
+    private final LongAdder allowed = new LongAdder();
+    /** 거절된 요청 수 */
+    private final LongAdder rejected = new LongAdder();
+    /** 공용 bucket을 사용한 요청 수 */
+    private final LongAdder overflowed = new LongAdder();
+
+    /**
+     * (non-javadoc)
+     * 
+     * @param name
+     *            limiter 이름
+     * @param policy
+     *            {@link RateLimitPolicy}
+     * @param maxKeys
+     *            저장할 최대 key 수
+     * @param sweepInterval
+     *            가득 찬 bucket을 정리하는 주기
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public RateLimiter(String name, RateLimitPolicy policy, int maxKeys, Duration sweepInterval) {
+        this.name = name;
+        this.update(policy, maxKeys, sweepInterval);
+    }
+
+    /**
+     * 한도를 변경하는 함수. 저장된 bucket의 상태는 유지된다.
+     * 
+     * @param policy
+     *            {@link RateLimitPolicy}
+     * @param maxKeys
+     *            저장할 최대 key 수
+     * @param sweepInterval
+     *            가득 찬 bucket을 정리하는 주기
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void update(RateLimitPolicy policy, int maxKeys, Duration sweepInterval) {
+        this.policy = policy;
+        this.maxKeys = Math.max(1, maxKeys);
+        this.sweepIntervalNanos = Math.max(MIN_SWEEP_INTERVAL_NANOS, sweepInterval.toNanos());
+    }
+
+    /**
+     * 요청을 허용할지 판단하는 함수
+     * 
+     * @param key
+     *            요청자 key
+     * @param limit
+     *            적용할 한도 ({@link #getPolicy()}에서 조회)
+     * @return 허용된 경우 0, 거절된 경우 다시 요청할 수 있을 때까지 남은 시간 (nanoseconds)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public long tryAcquire(String key, RateLimit limit) {
+        long now = System.nanoTime();
+
+        if (now - this.lastSweep.get() >= this.sweepIntervalNanos) {
+            this.sweep(now);
+        }
+
+        TokenBucket bucket = this.buckets.get(key);
+
+        if (bucket == null) {
+            bucket = this.register(key, now);
+        }
+
+        long wait = bucket.tryAcquire(limit, now);
+
+        if (wait == 0) {
+            this.allowed.increment();
+        } else {
+            this.rejected.increment();
+        }
+
+        return wait;
+    }
+
+    /**
+     * 새로운 key의 bucket을 생성하는 함수
+     * 
+     * @param key
+     *            요청자 key
+     * @param now
+     *            현재 시각
+     * @return {@link TokenBucket}. 저장할 공간이 없으면 공용 bucket
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private TokenBucket register(String key, long now) {
+        if (this.buckets.size() >= this.maxKeys) {
+            if (now - this.lastSweep.get() >= MIN_SWEEP_INTERVAL_NANOS) {
+                this.sweep(now);
+            }
+
+            if (this.buckets.size() >= this.maxKeys) {
+                this.overflowed.increment();
+                return this.overflowBucket;
+            }
+        }
+
+        return this.buckets.computeIfAbsent(key, k -> new TokenBucket(now));
+    }
+
+    /**
+     * 가득 찬 bucket을 삭제하는 함수. 동시에 호출된 경우 한 thread만 정리한다.
+     * 
+     * @param now
+     *            현재 시각
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void sweep(long now) {
+        long last = this.lastSweep.get();
+
+        if (this.lastSweep.compareAndSet(last, now)) {
+            // 삭제와 동시에 사용된 token은 반영되지 않을 수 있으나, 최대 정리 중에 사용한 수만큼만 더 허용됨
+            this.buckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+    }
+
+    /**
+     * 현재 상태를 조회하는 함수
+     * 
+     * @return {@link Stats}
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public Stats stats() {
+        return new Stats(this.name, this.buckets.size(), this.allowed.sum(), this.rejected.sum(), this.overflowed.sum());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public RateLimitPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * limiter 상태 정보
+     * 
+     * @param name
+     *            limiter 이름
+     * @param keys
+     *            저장된 key 수
+     * @param allowed
+     *            누적 허용 요청 수
+     * @param rejected
+     *            누적 거절 요청 수
+     * @param overflowed
+     *            공용 bucket을 사용한 요청 수
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public record Stats(String name, int keys, long allowed, long rejected, long overflowed) {
+    }
+
+}
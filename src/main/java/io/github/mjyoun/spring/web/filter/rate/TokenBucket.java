@@ -0,0 +1,76 @@
+package io.github.mjyoun.spring.web.filter.rate;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * lock 없이 사용할 수 있는 token bucket
+ * <p>
+ * 남은 token 수 대신 bucket이 모두 채워지는 시각 하나만 저장하고(GCRA), 요청마다 그 시각을 {@link RateLimit#intervalNanos()}만큼 늦춘다. 상태가 {@code long} 하나이므로
+ * CAS 한 번으로 갱신하며, 한도는 요청 시점에 전달받기 때문에 한도가 바뀌어도 bucket을 다시 만들지 않는다.
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class TokenBucket {
+
+    /** bucket이 모두 채워지는 시각 ({@link System#nanoTime()} 기준) */
+    private final AtomicLong fullAt;
+
+    /**
+     * (non-javadoc)
+     * 
+     * @param now
+     *            현재 시각 ({@link System#nanoTime()}). 가득 찬 상태로 생성
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public TokenBucket(long now) {
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * token을 하나 사용하는 함수
+     * 
+     * @param limit
+     *            적용할 한도
+     * @param now
+     *            현재 시각 ({@link System#nanoTime()})
+     * @return 허용된 경우 0, 거절된 경우 token이 채워질 때까지 남은 시간 (nanoseconds)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public long tryAcquire(RateLimit limit, long now) {
+        long burst = limit.burstNanos();
+
+        while (true) {
+            long current = this.fullAt.get();
+            long next = (current - now > 0 ? current : now) + limit.intervalNanos();
+            long wait = next - now - burst;
+
+            if (wait > 0) {
+                return wait;
+            }
+
+            if (this.fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * bucket이 가득 찼는지 확인하는 함수. 가득 찬 bucket은 새로 생성한 bucket과 같으므로 삭제해도 된다.
+     * 
+     * @param now
+     *            현재 시각 ({@link System#nanoTime()})
+     * @return 가득 찬 경우 true
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public boolean isFull(long now) {
+        return this.fullAt.get() - now <= 0;
+    }
+
+}
@@ -0,0 +1,101 @@
+package io.github.mjyoun.spring.web.interceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import io.github.mjyoun.spring.web.annotation.EtagVersion;
+import io.github.mjyoun.spring.web.filter.etag.EtagVersionProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * {@link EtagVersion}이 설정된 handler의 version을 controller 호출 전에 비교하는 interceptor
+ * <p>
+ * version이 요청의 {@code If-None-Match}와 같으면 {@code 304 Not Modified}로 응답하고 controller를 호출하지 않으며, 다르면 ETag 헤더를 설정하고 계속 진행한다.
+ * handler 별 {@link EtagVersionProvider}는 처음 호출할 때 한 번만 조회한다.
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class EtagVersionInterceptor implements HandlerInterceptor {
+
+    /** {@link EtagVersion}이 없는 handler에 사용하는 provider */
+    private static final EtagVersionProvider NONE = request -> null;
+
+    private final BeanFactory beanFactory;
+    /** handler method 별 provider */
+    private final Map<Method, EtagVersionProvider> providers = new ConcurrentHashMap<>();
+
+    /**
+     * (non-javadoc)
+     * 
+     * @param beanFactory
+     *            {@link EtagVersionProvider}를 조회할 {@link BeanFactory}
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public EtagVersionInterceptor(BeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    /**
+     * @see HandlerInterceptor#preHandle(HttpServletRequest, HttpServletResponse, Object)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        String method = request.getMethod();
+
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return true;
+        }
+
+        EtagVersionProvider provider = this.providers.get(handlerMethod.getMethod());
+
+        if (provider == null) {
+            provider = this.providers.computeIfAbsent(handlerMethod.getMethod(), m -> this.findProvider(handlerMethod));
+        }
+
+        String version = provider.getVersion(request);
+
+        if (version == null) {
+            return true;
+        }
+
+        String etag = new StringBuffer("W/\"").append(version).append("\"").toString();
+
+        // 같으면 304 응답, 다르면 ETag 헤더 설정
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+
+    /**
+     * handler에 지정된 {@link EtagVersionProvider}를 조회하는 함수
+     * 
+     * @param handlerMethod
+     *            {@link HandlerMethod}
+     * @return {@link EtagVersionProvider}. 지정되지 않은 경우 {@link #NONE}
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private EtagVersionProvider findProvider(HandlerMethod handlerMethod) {
+        EtagVersion annotation = handlerMethod.getMethodAnnotation(EtagVersion.class);
+
+        return annotation == null ? NONE : this.beanFactory.getBean(annotation.value());
+    }
+
+}
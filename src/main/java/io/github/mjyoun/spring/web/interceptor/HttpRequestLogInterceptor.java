@@ -0,0 +1,110 @@
+package io.github.mjyoun.spring.web.interceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * HTTP 호출에 따른 로그를 출력하기 위한 interceptor
+ * <p>
+ * {@link io.github.mjyoun.spring.web.aspect.HttpRequestLogAspect}와 같은 내용을 출력하지만, controller bean에 AOP proxy를 만들지 않고 handler mapping이 찾은
+ * {@link HandlerMethod}를 기준으로 출력한다. 그러므로 class에만 {@code @RequestMapping}이 있는 method도 출력되며, handler 이름은 method 별로 한 번만 생성한다. 요청
+ * log를 위해 session을 새로 만들지 않는다.
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class HttpRequestLogInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpRequestLogInterceptor.class);
+
+    /** controller class 별, method 별 handler 이름 */
+    private static final ClassValue<Map<Method, String>> HANDLER_NAMES = new ClassValue<>() {
+        @Override
+        protected Map<Method, String> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * @see HandlerInterceptor#preHandle(HttpServletRequest, HttpServletResponse, Object)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod && logger.isInfoEnabled()) {
+            logger.info(this.getUrlInfo(request, getHandlerName(handlerMethod)));
+        }
+
+        return true;
+    }
+
+    /**
+     * request 정보를 추출하여 문자열로 출력하는 함수
+     * 
+     * @param request
+     *            요청 정보
+     * @param handlerName
+     *            handler 이름
+     * @return request 정보 문자열
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private String getUrlInfo(HttpServletRequest request, String handlerName) {
+        HttpSession session = request.getSession(false);
+        StringBuilder sb = new StringBuilder(256);
+
+        sb.append("Session: ");
+        sb.append(session == null ? null : session.getId());
+        sb.append(", ");
+        sb.append("Remote: ");
+        sb.append(request.getRemoteAddr());
+        sb.append(" (");
+        sb.append(request.getRemoteHost());
+        sb.append("), URL-Pattern: ");
+        sb.append(request.getMethod());
+        sb.append(" | ");
+        sb.append((String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+        sb.append((request.getQueryString() != null ? "?" + request.getQueryString() : ""));
+        sb.append(", URL-Variables: ");
+        sb.append(request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE));
+        sb.append(", URL: ");
+        sb.append(request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE));
+        sb.append(", Handler: ");
+        sb.append(handlerName);
+
+        return sb.toString();
+    }
+
+    /**
+     * handler 이름을 조회하는 함수. 처음 호출될 때만 생성한다.
+     * 
+     * @param handlerMethod
+     *            {@link HandlerMethod}
+     * @return 'Controller#method' 형태의 이름
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static String getHandlerName(HandlerMethod handlerMethod) {
+        Class<?> beanType = handlerMethod.getBeanType();
+
+        return HANDLER_NAMES.get(beanType).computeIfAbsent(handlerMethod.getMethod(),
+                method -> ClassUtils.getUserClass(beanType).getSimpleName() + "#" + method.getName());
+    }
+
+}
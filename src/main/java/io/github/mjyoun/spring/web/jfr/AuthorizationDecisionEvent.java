@@ -0,0 +1,40 @@
+package io.github.mjyoun.spring.web.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 권한 판단 JFR event. {@link io.github.mjyoun.spring.web.security.AbstractCustomAuthorizationManager}가 기록한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@Name(AuthorizationDecisionEvent.NAME)
+@Label("Authorization Decision")
+@Category({ JfrEvents.CATEGORY, "Security" })
+@Description("URL 접근 권한 판단")
+public class AuthorizationDecisionEvent extends Event {
+
+    public static final String NAME = JfrEvents.PREFIX + "AuthorizationDecision";
+
+    @Label("Manager")
+    public String manager;
+
+    @Label("Method")
+    public String method;
+
+    @Label("URI")
+    public String uri;
+
+    @Label("Granted")
+    @Description("접근 허용 여부. 판단하지 않은 경우(abstain) false")
+    public boolean granted;
+
+    @Label("Abstain")
+    @Description("판단하지 않았는지 여부")
+    public boolean abstain;
+
+}
@@ -0,0 +1,33 @@
+package io.github.mjyoun.spring.web.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * CSV 내용 생성 JFR event. {@link io.github.mjyoun.spring.web.service.CSVService#writeCSV}가 기록한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@Name(CsvWriteEvent.NAME)
+@Label("CSV Write")
+@Category({ JfrEvents.CATEGORY, "Download" })
+@Description("CSVService CSV 내용 생성")
+@StackTrace(false)
+public class CsvWriteEvent extends Event {
+
+    public static final String NAME = JfrEvents.PREFIX + "CsvWrite";
+
+    @Label("Rows")
+    public long rows;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+}
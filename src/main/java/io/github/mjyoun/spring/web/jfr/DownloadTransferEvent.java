@@ -0,0 +1,52 @@
+package io.github.mjyoun.spring.web.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 다운로드 JFR event. {@link io.github.mjyoun.spring.web.service.telemetry.DownloadRecording}이 생성부터 전송 완료까지의 시간으로 기록한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@Name(DownloadTransferEvent.NAME)
+@Label("Download")
+@Category({ JfrEvents.CATEGORY, "Download" })
+@Description("DownloadService 파일 생성 및 전송")
+@StackTrace(false)
+public class DownloadTransferEvent extends Event {
+
+    public static final String NAME = JfrEvents.PREFIX + "Download";
+
+    @Label("Kind")
+    public String kind;
+
+    @Label("File Name")
+    public String fileName;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Generation Time")
+    @Description("파일 내용 생성 시간. 생성하면서 전송한 경우 0")
+    @Timespan
+    public long generationTime;
+
+    @Label("Transfer Time")
+    @Timespan
+    public long transferTime;
+
+    @Label("Error")
+    public String error;
+
+}
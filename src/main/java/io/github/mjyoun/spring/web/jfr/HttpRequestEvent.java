@@ -0,0 +1,45 @@
+package io.github.mjyoun.spring.web.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * HTTP 요청 처리 JFR event. {@link io.github.mjyoun.spring.web.filter.RestRequestFilter}가 요청 처리 전체 시간으로 기록한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@Name(HttpRequestEvent.NAME)
+@Label("HTTP Request")
+@Category({ JfrEvents.CATEGORY, "HTTP" })
+@Description("HTTP 요청 처리")
+@StackTrace(false)
+public class HttpRequestEvent extends Event {
+
+    public static final String NAME = JfrEvents.PREFIX + "HttpRequest";
+
+    @Label("Method")
+    public String method;
+
+    @Label("URI")
+    public String uri;
+
+    @Label("URL Pattern")
+    @Description("handler mapping이 찾은 URL pattern")
+    public String pattern;
+
+    @Label("Handler")
+    @Description("'Controller#method' 형태의 handler 이름")
+    public String handler;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Remote Address")
+    public String remoteAddress;
+
+}
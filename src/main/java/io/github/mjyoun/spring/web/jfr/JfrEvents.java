@@ -0,0 +1,22 @@
+package io.github.mjyoun.spring.web.jfr;
+
+/**
+ * 모듈의 JFR(Java Flight Recorder) event 정보
+ * <p>
+ * event는 recording이 없거나 비활성화된 경우 {@link jdk.jfr.Event#shouldCommit()}이 false이므로 필드를 채우지 않고, JIT가 event 생성도 제거한다. 녹화 설정(.jfc)에서
+ * event 이름({@code io.github.mjyoun.spring.web.*})으로 사용 여부와 threshold를 지정한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public final class JfrEvents {
+
+    /** event 이름 prefix */
+    public static final String PREFIX = "io.github.mjyoun.spring.web.";
+    /** event category */
+    public static final String CATEGORY = "MJ Spring Web";
+
+    private JfrEvents() {
+    }
+
+}
@@ -0,0 +1,29 @@
+package io.github.mjyoun.spring.web.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * {@link io.github.mjyoun.spring.web.annotation.StopWatch} 구간 JFR event
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@Name(StopWatchEvent.NAME)
+@Label("StopWatch")
+@Category({ JfrEvents.CATEGORY, "StopWatch" })
+@Description("@StopWatch method 실행")
+public class StopWatchEvent extends Event {
+
+    public static final String NAME = JfrEvents.PREFIX + "StopWatch";
+
+    @Label("Name")
+    public String name;
+
+    @Label("Task Count")
+    public int taskCount;
+
+}
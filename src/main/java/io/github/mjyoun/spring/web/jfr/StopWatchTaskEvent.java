@@ -0,0 +1,29 @@
+package io.github.mjyoun.spring.web.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * {@link io.github.mjyoun.spring.web.annotation.StopWatchTask} 구간 JFR event
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@Name(StopWatchTaskEvent.NAME)
+@Label("StopWatch Task")
+@Category({ JfrEvents.CATEGORY, "StopWatch" })
+@Description("@StopWatchTask method 실행")
+public class StopWatchTaskEvent extends Event {
+
+    public static final String NAME = JfrEvents.PREFIX + "StopWatchTask";
+
+    @Label("StopWatch")
+    public String stopWatch;
+
+    @Label("Task")
+    public String task;
+
+}
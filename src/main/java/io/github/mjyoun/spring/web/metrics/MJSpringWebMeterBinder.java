@@ -0,0 +1,320 @@
+package io.github.mjyoun.spring.web.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import io.github.mjyoun.spring.web.aspect.coalesce.SingleFlight;
+import io.github.mjyoun.spring.web.aspect.stopwatch.StopWatchStatistics;
+import io.github.mjyoun.spring.web.filter.RateLimitFilter;
+import io.github.mjyoun.spring.web.service.bandwidth.BandwidthManager;
+import io.github.mjyoun.spring.web.service.bandwidth.TransferPriority;
+import io.github.mjyoun.spring.web.service.buffer.BufferPool;
+import io.github.mjyoun.spring.web.service.cache.DownloadCache;
+import io.github.mjyoun.spring.web.service.telemetry.DownloadEvent;
+import io.github.mjyoun.spring.web.service.telemetry.DownloadKind;
+import io.github.mjyoun.spring.web.service.telemetry.DownloadTelemetry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 모듈의 측정 정보를 Micrometer {@link MeterRegistry}에 등록하는 binder
+ * <p>
+ * 누적 값은 각 컴포넌트의 {@code stats()}를 조회하는 function meter로 등록하므로 요청 처리 중 추가 비용이 없다. 다운로드 별 전송 속도 분포만 event listener로
+ * 기록한다. stopwatch task는 처음 기록될 때 meter를 등록한다. 설정되지 않은 컴포넌트는 등록하지 않는다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class MJSpringWebMeterBinder implements MeterBinder {
+
+    private final DownloadTelemetry downloadTelemetry;
+    private final BufferPool bufferPool;
+    private final DownloadCache downloadCache;
+    private final RateLimitFilter rateLimitFilter;
+    private final SingleFlight singleFlight;
+    private final BandwidthManager bandwidthManager;
+    private final StopWatchStatistics stopWatchStatistics;
+
+    /**
+     * (non-javadoc)
+     *
+     * @param downloadTelemetry
+     *            {@link DownloadTelemetry}. null 가능
+     * @param bufferPool
+     *            {@link BufferPool}. null 가능
+     * @param downloadCache
+     *            {@link DownloadCache}. null 가능
+     * @param rateLimitFilter
+     *            {@link RateLimitFilter}. null 가능
+     * @param singleFlight
+     *            {@link SingleFlight}. null 가능
+     * @param bandwidthManager
+     *            {@link BandwidthManager}. null 가능
+     * @param stopWatchStatistics
+     *            {@link StopWatchStatistics}. null 가능
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public MJSpringWebMeterBinder(DownloadTelemetry downloadTelemetry, BufferPool bufferPool, DownloadCache downloadCache,
+            RateLimitFilter rateLimitFilter, SingleFlight singleFlight, BandwidthManager bandwidthManager,
+            StopWatchStatistics stopWatchStatistics) {
+        this.downloadTelemetry = downloadTelemetry;
+        this.bufferPool = bufferPool;
+        this.downloadCache = downloadCache;
+        this.rateLimitFilter = rateLimitFilter;
+        this.singleFlight = singleFlight;
+        this.bandwidthManager = bandwidthManager;
+        this.stopWatchStatistics = stopWatchStatistics;
+    }
+
+    /**
+     * @see MeterBinder#bindTo(MeterRegistry)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (this.downloadTelemetry != null) {
+            this.bindDownloads(registry, this.downloadTelemetry);
+        }
+
+        if (this.bufferPool != null) {
+            this.bindBufferPool(registry, this.bufferPool);
+        }
+
+        if (this.downloadCache != null) {
+            this.bindDownloadCache(registry, this.downloadCache);
+        }
+
+        if (this.rateLimitFilter != null) {
+            this.bindRateLimit(registry, this.rateLimitFilter);
+        }
+
+        if (this.singleFlight != null) {
+            this.bindCoalesce(registry, this.singleFlight);
+        }
+
+        if (this.bandwidthManager != null) {
+            this.bindBandwidth(registry, this.bandwidthManager);
+        }
+
+        if (this.stopWatchStatistics != null) {
+            this.bindStopWatch(registry, this.stopWatchStatistics);
+        }
+    }
+
+    /**
+     * 다운로드 종류 별 측정 정보 등록
+     *
+     * @param registry
+     *            {@link MeterRegistry}
+     * @param telemetry
+     *            {@link DownloadTelemetry}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void bindDownloads(MeterRegistry registry, DownloadTelemetry telemetry) {
+        for (DownloadKind kind : DownloadKind.values()) {
+            String tag = kind.tagValue();
+
+            FunctionCounter.builder("mj.download.requests", telemetry, t -> {
+                DownloadTelemetry.Stats stats = t.stats(kind);
+                return stats.count() - stats.aborted() - stats.failed();
+            }).tag("kind", tag).tag("outcome", DownloadEvent.Outcome.SUCCESS.tagValue()).description("다운로드 수").register(registry);
+            FunctionCounter.builder("mj.download.requests", telemetry, t -> t.stats(kind).aborted()) //
+                    .tag("kind", tag).tag("outcome", DownloadEvent.Outcome.ABORTED.tagValue()).description("다운로드 수").register(registry);
+            FunctionCounter.builder("mj.download.requests", telemetry, t -> t.stats(kind).failed()) //
+                    .tag("kind", tag).tag("outcome", DownloadEvent.Outcome.FAILED.tagValue()).description("다운로드 수").register(registry);
+
+            FunctionCounter.builder("mj.download.bytes", telemetry, t -> t.stats(kind).bytes()) //
+                    .tag("kind", tag).baseUnit("bytes").description("전송한 byte 수").register(registry);
+            Gauge.builder("mj.download.abort.ratio", telemetry, t -> t.stats(kind).abortRate()) //
+                    .tag("kind", tag).description("client 연결 종료 비율").register(registry);
+
+            FunctionTimer.builder("mj.download.generation", telemetry, t -> t.stats(kind).count(), t -> t.stats(kind).generationNanos(),
+                    TimeUnit.NANOSECONDS).tag("kind", tag).description("파일 생성 시간").register(registry);
+            FunctionTimer.builder("mj.download.transfer", telemetry, t -> t.stats(kind).count(), t -> t.stats(kind).transferNanos(),
+                    TimeUnit.NANOSECONDS).tag("kind", tag).description("전송 시간").register(registry);
+        }
+
+        telemetry.addListener(event -> {
+            if (event.outcome() == DownloadEvent.Outcome.SUCCESS && event.bytes() > 0 && event.transferNanos() > 0) {
+                DistributionSummary.builder("mj.download.throughput") //
+                        .tag("kind", event.kind().tagValue()) //
+                        .baseUnit("bytes.per.second") //
+                        .description("다운로드 별 전송 속도") //
+                        .register(registry) //
+                        .record(event.bytesPerSecond());
+            }
+        });
+    }
+
+    /**
+     * buffer pool 측정 정보 등록
+     *
+     * @param registry
+     *            {@link MeterRegistry}
+     * @param pool
+     *            {@link BufferPool}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void bindBufferPool(MeterRegistry registry, BufferPool pool) {
+        Gauge.builder("mj.buffer.pool.allocated", pool, p -> p.stats().allocated()).description("생성한 direct buffer 수").register(registry);
+        Gauge.builder("mj.buffer.pool.in.use", pool, p -> p.stats().inUse()).description("사용 중인 direct buffer 수").register(registry);
+        FunctionCounter.builder("mj.buffer.pool.acquired", pool, p -> p.stats().acquired()).description("buffer 요청 수").register(registry);
+        FunctionCounter.builder("mj.buffer.pool.fallbacks", pool, p -> p.stats().fallbacks()).description("heap buffer로 대체한 수")
+                .register(registry);
+        FunctionCounter.builder("mj.buffer.pool.spills", pool, p -> p.stats().spills()).description("임시 파일로 옮긴 수").register(registry);
+        FunctionCounter.builder("mj.buffer.pool.spilled", pool, p -> p.stats().spilledBytes()).baseUnit("bytes")
+                .description("임시 파일로 옮긴 byte 수").register(registry);
+    }
+
+    /**
+     * 다운로드 cache 측정 정보 등록
+     *
+     * @param registry
+     *            {@link MeterRegistry}
+     * @param cache
+     *            {@link DownloadCache}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void bindDownloadCache(MeterRegistry registry, DownloadCache cache) {
+        Gauge.builder("mj.download.cache.entries", cache, c -> c.stats().entries()).description("저장된 파일 수").register(registry);
+        Gauge.builder("mj.download.cache.size", cache, c -> c.stats().heapBytes()).tag("storage", "heap").baseUnit("bytes")
+                .description("저장된 크기").register(registry);
+        Gauge.builder("mj.download.cache.size", cache, c -> c.stats().diskBytes()).tag("storage", "disk").baseUnit("bytes")
+                .description("저장된 크기").register(registry);
+        FunctionCounter.builder("mj.download.cache.gets", cache, c -> c.stats().hits()).tag("result", "hit").register(registry);
+        FunctionCounter.builder("mj.download.cache.gets", cache, c -> c.stats().misses()).tag("result", "miss").register(registry);
+        FunctionCounter.builder("mj.download.cache.gets", cache, c -> c.stats().coalesced()).tag("result", "coalesced").register(registry);
+        FunctionCounter.builder("mj.download.cache.evictions", cache, c -> c.stats().evictions()).register(registry);
+    }
+
+    /**
+     * 요청 한도 측정 정보 등록. 거절 수는 설정을 다시 읽어 추가된 route도 반영하도록 거절될 때 기록한다.
+     *
+     * @param registry
+     *            {@link MeterRegistry}
+     * @param filter
+     *            {@link RateLimitFilter}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void bindRateLimit(MeterRegistry registry, RateLimitFilter filter) {
+        Gauge.builder("mj.rate.limit.keys", filter, RateLimitFilter::getTrackedKeys).description("저장된 요청자 수").register(registry);
+
+        filter.addRejectionListener(rejection -> Counter.builder("mj.rate.limit.rejected") //
+                .tag("route", rejection.route()) //
+                .tag("principal", rejection.anonymous() ? "anonymous" : "user") //
+                .description("요청 한도 초과로 거절된 요청 수") //
+                .register(registry) //
+                .increment());
+    }
+
+    /**
+     * 동시 호출 합치기 측정 정보 등록
+     *
+     * @param registry
+     *            {@link MeterRegistry}
+     * @param flight
+     *            {@link SingleFlight}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void bindCoalesce(MeterRegistry registry, SingleFlight flight) {
+        FunctionCounter.builder("mj.coalesce.calls", flight, f -> f.stats().executed()).tag("result", "executed").description("@Coalesce 호출 수")
+                .register(registry);
+        FunctionCounter.builder("mj.coalesce.calls", flight, f -> f.stats().coalesced()).tag("result", "coalesced")
+                .description("@Coalesce 호출 수").register(registry);
+        FunctionCounter.builder("mj.coalesce.calls", flight, f -> f.stats().cached()).tag("result", "cached").description("@Coalesce 호출 수")
+                .register(registry);
+        FunctionCounter.builder("mj.coalesce.timeouts", flight, f -> f.stats().timeouts()).description("기다리는 시간을 초과한 호출 수")
+                .register(registry);
+        Gauge.builder("mj.coalesce.in.flight", flight, f -> f.stats().inFlight()).description("실행 중인 key 수").register(registry);
+        Gauge.builder("mj.coalesce.cache.entries", flight, f -> f.stats().cachedResults()).description("저장된 결과 수").register(registry);
+    }
+
+    /**
+     * 다운로드 전송 속도 조절 측정 정보 등록
+     *
+     * @param registry
+     *            {@link MeterRegistry}
+     * @param manager
+     *            {@link BandwidthManager}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void bindBandwidth(MeterRegistry registry, BandwidthManager manager) {
+        for (TransferPriority priority : TransferPriority.values()) {
+            Gauge.builder("mj.download.bandwidth.active", manager, m -> m.getActiveTransfers(priority)).tag("priority", priority.tagValue())
+                    .description("진행 중인 전송 수").register(registry);
+        }
+
+        Gauge.builder("mj.download.bandwidth.rate", manager, m -> m.stats().bytesPerSecond()).baseUnit("bytes.per.second")
+                .description("진행 중인 전송의 평균 전송 속도 합계").register(registry);
+        Gauge.builder("mj.download.bandwidth.limit", manager, BandwidthManager::getMaxBytesPerSecond).baseUnit("bytes.per.second")
+                .description("최대 전송 속도").register(registry);
+        FunctionCounter.builder("mj.download.bandwidth.bytes", manager, m -> m.stats().bytes()).baseUnit("bytes").description("전송한 byte 수")
+                .register(registry);
+        FunctionCounter.builder("mj.download.bandwidth.throttled", manager, m -> m.stats().throttledNanos() / 1e9).baseUnit("seconds")
+                .description("속도 제한으로 기다린 시간").register(registry);
+        FunctionCounter.builder("mj.download.bandwidth.borrowed", manager, m -> m.stats().borrowed()).description("남은 대역폭을 빌려 보낸 횟수")
+                .register(registry);
+    }
+
+    /**
+     * stopwatch task 별 측정 정보 등록. 이미 기록된 task는 바로 등록하고, 이후 처음 기록되는 task는 listener로 등록한다.
+     *
+     * @param registry
+     *            {@link MeterRegistry}
+     * @param statistics
+     *            {@link StopWatchStatistics}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void bindStopWatch(MeterRegistry registry, StopWatchStatistics statistics) {
+        statistics.addListener(task -> this.bindStopWatchTask(registry, statistics, task));
+
+        for (StopWatchStatistics.Task task : statistics.getTasks()) {
+            this.bindStopWatchTask(registry, statistics, task);
+        }
+    }
+
+    /**
+     * stopwatch task 하나의 측정 정보 등록
+     *
+     * @param registry
+     *            {@link MeterRegistry}
+     * @param statistics
+     *            {@link StopWatchStatistics}
+     * @param task
+     *            {@link StopWatchStatistics.Task}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void bindStopWatchTask(MeterRegistry registry, StopWatchStatistics statistics, StopWatchStatistics.Task task) {
+        FunctionTimer.builder("mj.stopwatch.task", statistics, s -> s.stats(task).count(), s -> s.stats(task).elapsedNanos(), TimeUnit.NANOSECONDS)
+                .tag("stopwatch", task.stopWatch()).tag("task", task.task()).description("task 실행 시간").register(registry);
+        FunctionCounter.builder("mj.stopwatch.task.cpu", statistics, s -> s.stats(task).cpuNanos() / 1e9).tag("stopwatch", task.stopWatch())
+                .tag("task", task.task()).baseUnit("seconds").description("task thread CPU 사용 시간").register(registry);
+        FunctionCounter.builder("mj.stopwatch.task.allocated", statistics, s -> s.stats(task).allocatedBytes()).tag("stopwatch", task.stopWatch())
+                .tag("task", task.task()).baseUnit("bytes").description("task heap 할당 크기").register(registry);
+    }
+
+}
@@ -0,0 +1,133 @@
+package io.github.mjyoun.spring.web.response;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 목록을 한 번에 직렬화하지 않고 요소 별로 응답에 쓰기 위한 응답 타입
+ * <p>
+ * controller에서 {@code Result<List<T>>} 대신 반환하면 {@link StreamingResultHttpMessageConverter}가 {@code application/json} 요청은
+ * {@link io.github.mjyoun.core.data.Result} 형태로, {@code application/x-ndjson} 요청은 한 줄에 요소 하나씩 쓴다. 요소는 {@link Iterator}에서 하나씩
+ * 꺼내 바로 직렬화하므로 목록 크기와 관계 없이 사용하는 메모리가 일정하다.
+ *
+ * <pre>
+ * &#64;GetMapping(value = "/users", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+ * public StreamingResult&lt;User&gt; users() {
+ *     return StreamingResult.of(userRepository.streamAll());
+ * }
+ * </pre>
+ *
+ * 요소는 한 번만 읽을 수 있으므로 결과를 재사용하면 안 된다. {@link io.github.mjyoun.spring.web.annotation.Coalesce}를 설정한 method가 반환하면 처음
+ * 호출할 때 {@link IllegalStateException}이 발생한다.
+ *
+ * @param <T>
+ *            요소 타입
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public final class StreamingResult<T> implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamingResult.class);
+
+    private final Iterator<? extends T> iterator;
+    /** 응답을 쓴 후 닫을 자원. 없을 경우 null */
+    private final AutoCloseable resource;
+    /** flush 할 요소 개수 간격. null일 경우 설정 값 사용 */
+    private Integer flushInterval;
+
+    /**
+     * (non-javadoc)
+     *
+     * @param iterator
+     *            요소 {@link Iterator}
+     * @param resource
+     *            응답을 쓴 후 닫을 자원
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private StreamingResult(Iterator<? extends T> iterator, AutoCloseable resource) {
+        this.iterator = Objects.requireNonNull(iterator, "iterator");
+        this.resource = resource;
+    }
+
+    /**
+     * {@link Iterator}로 응답 생성. {@link Iterator}가 {@link AutoCloseable}일 경우 응답을 쓴 후 닫는다.
+     *
+     * @param <T>
+     *            요소 타입
+     * @param iterator
+     *            요소 {@link Iterator}
+     * @return {@link StreamingResult}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static <T> StreamingResult<T> of(Iterator<? extends T> iterator) {
+        return new StreamingResult<>(iterator, iterator instanceof AutoCloseable closeable ? closeable : null);
+    }
+
+    /**
+     * {@link Stream}으로 응답 생성. {@link Stream}은 응답을 쓴 후 닫는다. (DB cursor 등)
+     *
+     * @param <T>
+     *            요소 타입
+     * @param stream
+     *            요소 {@link Stream}
+     * @return {@link StreamingResult}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static <T> StreamingResult<T> of(Stream<? extends T> stream) {
+        return new StreamingResult<>(stream.iterator(), stream);
+    }
+
+    /**
+     * 요소를 몇 개 쓸 때마다 flush 할지 설정하는 함수. 0일 경우 buffer가 가득 찼을 때만 전송한다.
+     *
+     * @param flushInterval
+     *            flush 할 요소 개수 간격
+     * @return {@link StreamingResult}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public StreamingResult<T> flushInterval(int flushInterval) {
+        this.flushInterval = Math.max(0, flushInterval);
+        return this;
+    }
+
+    public Iterator<? extends T> getIterator() {
+        return iterator;
+    }
+
+    public Integer getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * 자원을 닫는 함수. 닫는 중 발생한 예외는 응답에 영향을 주지 않도록 로그만 출력한다.
+     *
+     * @see AutoCloseable#close()
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void close() {
+        if (this.resource != null) {
+            try {
+                this.resource.close();
+            } catch (Exception e) {
+                logger.warn("[StreamingResult#close] 자원 닫기 실패 [msg: {}]", e.getMessage(), e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,219 @@
+package io.github.mjyoun.spring.web.response;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.StreamUtils;
+
+import io.github.mjyoun.core.data.Result;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * {@link StreamingResult}를 Jackson streaming generator로 응답에 바로 쓰는 message converter
+ * <p>
+ * {@code application/json}은 {@link Result} 형태로 쓴다. 시작 시 {@link Result}를 한 번 직렬화하여 data 배열 앞/뒤 부분을 나누어 두고, 그 사이에 요소를 하나씩
+ * 직렬화한다. {@code application/x-ndjson}은 요소를 한 줄에 하나씩 쓴다. 응답을 쓰기 시작한 후 발생한 예외는 상태를 바꿀 수 없으므로 응답이 완성되지 않은 채로 끝난다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class StreamingResultHttpMessageConverter extends AbstractHttpMessageConverter<StreamingResult<?>> {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamingResultHttpMessageConverter.class);
+
+    /** data 배열 위치를 찾기 위한 값 */
+    private static final String PLACEHOLDER = "__MJ_STREAMING_RESULT_PLACEHOLDER__";
+
+    private final ObjectMapper objectMapper;
+    /** NDJSON 응답을 쓰기 위한 writer. root value 사이에 줄바꿈을 씀 */
+    private final ObjectWriter ndjsonWriter;
+    /** flush 할 요소 개수 간격 기본값 */
+    private final int flushInterval;
+
+    /** {@link Result} 직렬화 결과 중 data 배열 앞 부분 */
+    private final String resultPrefix;
+    /** {@link Result} 직렬화 결과 중 data 배열 뒷 부분 */
+    private final String resultSuffix;
+
+    /**
+     * (non-javadoc)
+     *
+     * @param objectMapper
+     *            요소 직렬화에 사용할 {@link ObjectMapper}
+     * @param flushInterval
+     *            flush 할 요소 개수 간격 기본값. 0일 경우 buffer가 가득 찼을 때만 전송
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public StreamingResultHttpMessageConverter(ObjectMapper objectMapper, int flushInterval) {
+        super(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON);
+        this.objectMapper = objectMapper;
+        this.ndjsonWriter = objectMapper.writer().withRootValueSeparator("\n");
+        this.flushInterval = Math.max(0, flushInterval);
+
+        String template = objectMapper.writeValueAsString(Result.ok(List.of(PLACEHOLDER)));
+        String placeholder = "\"" + PLACEHOLDER + "\"";
+        int index = template.indexOf(placeholder);
+        int start = index < 0 ? -1 : template.lastIndexOf('[', index);
+        int end = index < 0 ? -1 : template.indexOf(']', index + placeholder.length());
+
+        // data 배열이 한 번만 직렬화되는 경우에만 template 사용
+        if (start >= 0 && end >= 0 && template.indexOf(placeholder, index + 1) < 0) {
+            this.resultPrefix = template.substring(0, start);
+            this.resultSuffix = template.substring(end + 1);
+        } else {
+            logger.warn("[StreamingResultHttpMessageConverter] Result 형태를 확인할 수 없어 배열로만 응답합니다. [template: {}]", template);
+            this.resultPrefix = "";
+            this.resultSuffix = "";
+        }
+    }
+
+    /**
+     * @see AbstractHttpMessageConverter#supports(Class)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return StreamingResult.class.isAssignableFrom(clazz);
+    }
+
+    /**
+     * @see AbstractHttpMessageConverter#canRead(Class, MediaType)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    /**
+     * @see AbstractHttpMessageConverter#readInternal(Class, HttpInputMessage)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    protected StreamingResult<?> readInternal(Class<? extends StreamingResult<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("StreamingResult는 응답에만 사용할 수 있습니다.", inputMessage);
+    }
+
+    /**
+     * @see AbstractHttpMessageConverter#writeInternal(Object, HttpOutputMessage)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    protected void writeInternal(StreamingResult<?> result, HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+        MediaType contentType = outputMessage.getHeaders().getContentType();
+        boolean ndjson = contentType != null && MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType);
+        int flushInterval = result.getFlushInterval() == null ? this.flushInterval : result.getFlushInterval();
+        // 응답 stream은 servlet container가 닫음
+        OutputStream body = StreamUtils.nonClosing(outputMessage.getBody());
+
+        try (result) {
+            if (ndjson) {
+                this.writeNdjson(result.getIterator(), body, flushInterval);
+            } else {
+                this.writeResult(result.getIterator(), body, flushInterval);
+            }
+        } catch (JacksonException e) {
+            throw new HttpMessageNotWritableException(new StringBuffer("응답 쓰기 실패 [msg: ") //
+                    .append(e.getOriginalMessage()) //
+                    .append("]") //
+                    .toString(), e);
+        }
+    }
+
+    /**
+     * {@link Result} 형태로 쓰는 함수
+     *
+     * @param iterator
+     *            요소 {@link Iterator}
+     * @param body
+     *            응답 stream
+     * @param flushInterval
+     *            flush 할 요소 개수 간격
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void writeResult(Iterator<?> iterator, OutputStream body, int flushInterval) {
+        try (JsonGenerator generator = this.objectMapper.createGenerator(body)) {
+            generator.writeRaw(this.resultPrefix);
+            generator.writeStartArray();
+            this.writeElements(generator, iterator, flushInterval);
+            generator.writeEndArray();
+            generator.writeRaw(this.resultSuffix);
+        }
+    }
+
+    /**
+     * 요소를 한 줄에 하나씩 쓰는 함수
+     *
+     * @param iterator
+     *            요소 {@link Iterator}
+     * @param body
+     *            응답 stream
+     * @param flushInterval
+     *            flush 할 요소 개수 간격
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void writeNdjson(Iterator<?> iterator, OutputStream body, int flushInterval) {
+        try (JsonGenerator generator = this.ndjsonWriter.createGenerator(body)) {
+            if (this.writeElements(generator, iterator, flushInterval) > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    /**
+     * 요소를 하나씩 직렬화하는 함수
+     *
+     * @param generator
+     *            {@link JsonGenerator}
+     * @param iterator
+     *            요소 {@link Iterator}
+     * @param flushInterval
+     *            flush 할 요소 개수 간격
+     * @return 쓴 요소 개수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private long writeElements(JsonGenerator generator, Iterator<?> iterator, int flushInterval) {
+        long count = 0;
+
+        while (iterator.hasNext()) {
+            generator.writePOJO(iterator.next());
+            count++;
+
+            if (flushInterval > 0 && count % flushInterval == 0) {
+                generator.flush();
+            }
+        }
+
+        return count;
+    }
+
+}
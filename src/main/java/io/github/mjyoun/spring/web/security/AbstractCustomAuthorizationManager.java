@@ -2,15 +2,30 @@ package io.github.mjyoun.spring.web.security;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
 import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 
+import io.github.mjyoun.spring.web.jfr.AuthorizationDecisionEvent;
+import jakarta.servlet.http.HttpServletRequest;
+
 /**
  * url 및 페이지 접근 가능 여부 판단 로직 (Spring Security 7+ AuthorizationManager)
+ * <p>
+ * 구현 class의 {@code authorize}에서 판단 로직을 {@link #recordDecision(RequestAuthorizationContext, Supplier)}로 감싸면 JFR recording 중에 판단 결과와 걸린
+ * 시간을 {@link AuthorizationDecisionEvent}로 기록한다.
+ * 
+ * <pre>
+ * &#64;Override
+ * public AuthorizationResult authorize(Supplier&lt;? extends Authentication&gt; authentication, RequestAuthorizationContext context) {
+ *     return this.recordDecision(context, () -&gt; this.decide(authentication.get(), context));
+ * }
+ * </pre>
  * 
  * @author MJ Youn
  * @since 2026. 03. 16.
@@ -57,4 +72,38 @@ public abstract class AbstractCustomAuthorizationManager implements Authorizatio
         }
     }
 
+    /**
+     * 권한 판단 결과와 걸린 시간을 JFR event로 기록하는 함수. recording 중이 아니면 판단 로직만 실행한다.
+     * 
+     * @param context
+     *            {@link RequestAuthorizationContext}
+     * @param decision
+     *            판단 로직
+     * @return 판단 결과. 판단하지 않을 경우(abstain) null
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    protected AuthorizationResult recordDecision(RequestAuthorizationContext context, Supplier<AuthorizationResult> decision) {
+        AuthorizationDecisionEvent event = new AuthorizationDecisionEvent();
+        event.begin();
+
+        AuthorizationResult result = decision.get();
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            HttpServletRequest request = context.getRequest();
+
+            event.manager = this.getClass().getSimpleName();
+            event.method = request.getMethod();
+            event.uri = request.getRequestURI();
+            event.granted = result != null && result.isGranted();
+            event.abstain = result == null;
+            event.commit();
+        }
+
+        return result;
+    }
+
 }
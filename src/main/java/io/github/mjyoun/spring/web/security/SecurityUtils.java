@@ -1,7 +1,12 @@
 package io.github.mjyoun.spring.web.security;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 /**
@@ -24,4 +29,38 @@ public class SecurityUtils {
         return userId;
     }
 
+    /**
+     * 로그인한 사용자의 권한 식별자 목록을 조회하는 함수
+     * <p>
+     * {@link AbstractGrantedAuthority}는 {@link AbstractGrade#getId()} 목록으로, 그 외 권한은 {@link GrantedAuthority#getAuthority()}로 변환한다.
+     * 
+     * @return 권한 식별자 목록. 로그인하지 않은 경우 빈 목록
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static List<String> getCurrentGradeIds() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+        if (auth == null || auth.getAuthorities() == null) {
+            return Collections.emptyList();
+        }
+
+        List<String> gradeIds = new ArrayList<>();
+
+        for (GrantedAuthority authority : auth.getAuthorities()) {
+            if (authority instanceof AbstractGrantedAuthority<?, ?> grantedAuthority) {
+                if (grantedAuthority.getGrades() != null) {
+                    for (AbstractGrade grade : grantedAuthority.getGrades()) {
+                        gradeIds.add(grade.getId());
+                    }
+                }
+            } else if (authority.getAuthority() != null) {
+                gradeIds.add(authority.getAuthority());
+            }
+        }
+
+        return gradeIds;
+    }
+
 }
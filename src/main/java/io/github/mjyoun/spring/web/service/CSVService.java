@@ -1,20 +1,35 @@
 package io.github.mjyoun.spring.web.service;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
-import java.io.StringWriter;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 import java.text.NumberFormat;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
-import com.opencsv.CSVWriter;
-
+import io.github.mjyoun.spring.web.export.CsvRowWriter;
+import io.github.mjyoun.spring.web.export.ExportBackends;
+import io.github.mjyoun.spring.web.jfr.CsvWriteEvent;
+import io.github.mjyoun.spring.web.service.csv.CsvExportOptions;
+import io.github.mjyoun.spring.web.service.csv.CsvFileExporter;
+import io.github.mjyoun.spring.web.service.csv.CsvImportPipeline;
+import io.github.mjyoun.spring.web.service.csv.CsvImportResult;
+import io.github.mjyoun.spring.web.service.csv.CsvReadOptions;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.NotNull;
 
 /**
@@ -23,6 +38,7 @@ import jakarta.validation.constraints.NotNull;
  * @author MJ Youn
  * @since 2022. 06. 21.
  */
+@Lazy
 @Validated
 @Service(CSVService.QUALIFIER_NAME)
 public class CSVService {
@@ -31,6 +47,32 @@ public class CSVService {
 
     public static final String QUALIFIER_NAME = "io.github.mjyoun.spring.web.service.CSVService";
 
+    /** CSV import 검사에 사용하는 validator. 없을 경우 null */
+    private Validator validator;
+
+    /**
+     * (non-javadoc)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CSVService() {
+    }
+
+    /**
+     * (non-javadoc)
+     * 
+     * @param validatorProvider
+     *            CSV import 검사에 사용할 {@link Validator}
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Autowired
+    public CSVService(ObjectProvider<Validator> validatorProvider) {
+        this.validator = validatorProvider.getIfAvailable();
+    }
+
     /**
      * CSV 파일 정보를 생성하는 함수
      * 
@@ -53,40 +95,81 @@ public class CSVService {
      * @since 2022. 06. 21.
      */
     public byte[] createCSV(@NotNull String fileName, String[] headers, List<String[]> datas, char separator, char quote) throws IOException {
-        final String methodName = "CSVService#createCSV";
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.writeCSV(outputStream, headers, datas, separator, quote);
+
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * CSV 파일 내용을 output stream에 바로 쓰는 함수. 전체 내용을 String으로 만들지 않고 한 줄씩 encoding 한다. JFR recording 중에는 row 수와 byte 수를
+     * {@link CsvWriteEvent}로 기록한다.
+     * 
+     * @param outputStream
+     *            CSV 파일 내용을 쓸 output stream. 닫지 않는다.
+     * @param headers
+     *            헤더 목록. null일 경우 헤더가 없는 형태의 csv 파일
+     * @param datas
+     *            데이터 목록
+     * @param separator
+     *            구분자
+     * @param quote
+     *            따옴표, '\0'일 경우 따옴표 하지 않음. 있을 경우 무조건 따옴표로 묶음
+     * 
+     * @throws IOException
+     *             CSV 쓰기 실패
+     * @throws io.github.mjyoun.spring.web.export.ExportBackendNotFoundException
+     *             CSV backend(opencsv)가 없을 경우
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void writeCSV(@NotNull OutputStream outputStream, String[] headers, List<String[]> datas, char separator, char quote) throws IOException {
+        final String methodName = "CSVService#writeCSV";
 
         // 따옴표가 설정되어 있는지 여부
         boolean wasSetQuote = quote != '\0';
 
-        StringWriter writer = new StringWriter();
+        CsvWriteEvent event = new CsvWriteEvent();
+        // recording 중일 때만 byte 수를 셈
+        CountingOutputStream counter = event.isEnabled() ? new CountingOutputStream(outputStream) : null;
+        event.begin();
+
+        Writer writer = new OutputStreamWriter(counter == null ? outputStream : counter, Charset.defaultCharset());
         // bom encoding 추가
         writer.append("\ufeff");
-        try (CSVWriter csvWriter = new CSVWriter(writer, //
-                separator == '\0' ? CSVWriter.DEFAULT_SEPARATOR : separator, // 구분자
-                quote == '\0' ? CSVWriter.DEFAULT_QUOTE_CHARACTER : quote, // quote
-                CSVWriter.DEFAULT_ESCAPE_CHARACTER, // 예외 처리 문자
-                CSVWriter.DEFAULT_LINE_END // 라인 끝 문자
-        )) {
-            // header 입력
-            if (headers == null) {
-                logger.debug("[{}] 헤더가 없는 CSV 파일", methodName);
-            } else {
-                csvWriter.writeNext(headers);
-                logger.debug("[{}] 헤더 설정 완료 [header count: {}]", methodName, headers.length);
-            }
-
-            // body 입력
-            if (wasSetQuote) {
-                logger.debug("[{}] 따옴표가 설정되어 있어, 모든 데이터를 따옴표로 감싸서 출력합니다. [quote: {}]", methodName, quote);
-            }
-
-            csvWriter.writeAll(datas, wasSetQuote);
-            logger.debug("[{}] 데이터 설정 완료 [data count: {}]", methodName, NumberFormat.getInstance().format(datas.size()));
+
+        // output stream을 닫지 않도록 close 하지 않고 flush 함
+        CsvRowWriter csvWriter = ExportBackends.csv().open(writer, separator, quote);
+
+        // header 입력
+        if (headers == null) {
+            logger.debug("[{}] 헤더가 없는 CSV 파일", methodName);
+        } else {
+            csvWriter.writeRow(headers, true);
+            logger.debug("[{}] 헤더 설정 완료 [header count: {}]", methodName, headers.length);
         }
 
-        String fileContent = writer.toString();
+        // body 입력
+        if (wasSetQuote) {
+            logger.debug("[{}] 따옴표가 설정되어 있어, 모든 데이터를 따옴표로 감싸서 출력합니다. [quote: {}]", methodName, quote);
+        }
+
+        for (String[] data : datas) {
+            csvWriter.writeRow(data, wasSetQuote);
+        }
 
-        return fileContent.getBytes();
+        csvWriter.flush();
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.rows = datas.size();
+            event.bytes = counter == null ? 0 : counter.count;
+            event.commit();
+        }
+
+        logger.debug("[{}] 데이터 설정 완료 [data count: {}]", methodName, NumberFormat.getInstance().format(datas.size()));
     }
 
     /**
@@ -110,14 +193,133 @@ public class CSVService {
      */
     public void saveCSV(@NotNull Path path, String[] headers, List<String[]> datas, char separator, char quote) throws IOException {
         final String methodName = "CSVService#saveCSV";
-        byte[] csvBytes = this.createCSV("test", headers, datas, separator, quote);
 
-        Path directory = path.getParent();
-        Files.createDirectories(directory);
-        logger.debug("[{}] 상위 디렉토리 생성 [directory: {}]", methodName, directory.normalize().toString());
+        CsvExportOptions options = CsvExportOptions.create() //
+                .headers(headers) //
+                .separator(separator) //
+                .quote(quote);
+
+        // 같은 디렉토리의 임시 파일에 쓴 후 옮기므로, 기존 파일을 덮어써도 이전 내용이 남지 않음
+        CsvFileExporter exporter = this.openExport(path, options);
+
+        try {
+            exporter.write(datas);
+        } catch (IOException | RuntimeException e) {
+            exporter.abort();
+            throw e;
+        }
+
+        exporter.close();
+
+        logger.debug("[{}] 파일 저장 완료 [path: {}, data count: {}]", methodName, path.normalize().toString(),
+                NumberFormat.getInstance().format(datas.size()));
+    }
+
+    /**
+     * CSV 파일을 row 묶음 단위로 이어서 쓰기 위한 exporter를 생성하는 함수
+     * <p>
+     * 상위 디렉토리가 없으면 생성한다. 반환된 exporter는 {@link CsvReadOptions}의 sink로 사용할 수 있으며, {@link CsvFileExporter#close()}를 호출해야 대상
+     * 위치에 파일이 생성된다. 실패한 경우 {@link CsvFileExporter#abort()}로 임시 파일을 삭제한다.
+     * 
+     * @param path
+     *            파일 저장 위치
+     * @param options
+     *            {@link CsvExportOptions}
+     * @return {@link CsvFileExporter}
+     * @throws IOException
+     *             파일 생성 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvFileExporter openExport(@NotNull Path path, @NotNull CsvExportOptions options) throws IOException {
+        final String methodName = "CSVService#openExport";
+
+        CsvFileExporter exporter = new CsvFileExporter(path, options);
+        logger.debug("[{}] CSV export 시작 [path: {}, rolling: {}]", methodName, path.normalize().toString(), options.isRolling());
+
+        return exporter;
+    }
+
+    /**
+     * CSV 파일을 읽어 변환, 검사 후 batch 단위로 처리하는 함수
+     * 
+     * @see CSVService#readCSV(InputStream, CsvReadOptions)
+     * 
+     * @param <T>
+     *            row를 변환한 객체 타입
+     * @param path
+     *            파일 경로
+     * @param options
+     *            {@link CsvReadOptions}
+     * @return {@link CsvImportResult}
+     * @throws IOException
+     *             읽기 실패, 따옴표 오류 또는 sink 처리 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public <T> CsvImportResult readCSV(@NotNull Path path, @NotNull CsvReadOptions<T> options) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return this.readCSV(inputStream, options);
+        }
+    }
+
+    /**
+     * CSV를 읽어 변환, 검사 후 batch 단위로 처리하는 함수
+     * <p>
+     * 전체 row를 목록으로 만들지 않고, 읽은 row를 크기가 제한된 queue를 통해 여러 worker에 전달한다. worker는 row를 변환하고 검사(@AtLeastOneField 등)한 후 통과한
+     * 객체를 묶어 sink에 전달한다. 구분자, 따옴표 규칙과 BOM 처리는 {@link #writeCSV(OutputStream, String[], List, char, char)}와 같다.
+     * 
+     * @param <T>
+     *            row를 변환한 객체 타입
+     * @param inputStream
+     *            CSV 내용. 닫지 않는다.
+     * @param options
+     *            {@link CsvReadOptions}
+     * @return {@link CsvImportResult}
+     * @throws IOException
+     *             읽기 실패, 따옴표 오류 또는 sink 처리 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public <T> CsvImportResult readCSV(@NotNull InputStream inputStream, @NotNull CsvReadOptions<T> options) throws IOException {
+        final String methodName = "CSVService#readCSV";
+
+        CsvImportResult result = new CsvImportPipeline<>(options, this.validator).run(inputStream);
+        logger.debug("[{}] CSV 처리 완료 [rows: {}, accepted: {}, rejected: {}, elapsed: {}]", methodName,
+                NumberFormat.getInstance().format(result.rows()), result.accepted(), result.rejected(), result.elapsed());
+
+        return result;
+    }
+
+    /**
+     * 쓴 byte 수를 세는 output stream
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            this.out.write(b);
+            this.count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            this.out.write(b, off, len);
+            this.count += len;
+        }
 
-        Files.write(path, csvBytes, StandardOpenOption.CREATE);
-        logger.debug("[{}] 파일 저장 완료 [path: {}]", methodName, path.normalize().toString());
     }
 
 }
@@ -1,29 +1,55 @@
 package io.github.mjyoun.spring.web.service;
 
-import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
-import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.util.FileCopyUtils;
 import org.springframework.validation.annotation.Validated;
 
-import io.github.mjyoun.core.utils.excel.ExcelUtils;
+import io.github.mjyoun.spring.web.export.ExcelDocument;
+import io.github.mjyoun.spring.web.export.ExportBackends;
+import io.github.mjyoun.spring.web.service.bandwidth.BandwidthManager;
+import io.github.mjyoun.spring.web.service.bandwidth.TransferPriority;
+import io.github.mjyoun.spring.web.service.buffer.BufferPool;
+import io.github.mjyoun.spring.web.service.buffer.SpillBuffer;
+import io.github.mjyoun.spring.web.service.bundle.BundleEntry;
+import io.github.mjyoun.spring.web.service.bundle.ZipBundleWriter;
+import io.github.mjyoun.spring.web.service.cache.ArtifactWriter;
+import io.github.mjyoun.spring.web.service.cache.CachedArtifact;
+import io.github.mjyoun.spring.web.service.cache.DownloadCache;
+import io.github.mjyoun.spring.web.service.telemetry.DownloadEvent;
+import io.github.mjyoun.spring.web.service.telemetry.DownloadKind;
+import io.github.mjyoun.spring.web.service.telemetry.DownloadRecording;
+import io.github.mjyoun.spring.web.service.telemetry.DownloadTelemetry;
+import io.github.mjyoun.spring.web.service.text.LineEncoder;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 
 /**
@@ -32,6 +58,7 @@ import jakarta.validation.constraints.NotNull;
  * @author MJ Youn
  * @since 2022. 06. 21.
  */
+@Lazy
 @Validated
 @Service(DownloadService.QUALIFIER_NAME)
 public class DownloadService {
@@ -40,7 +67,27 @@ public class DownloadService {
 
     public static final String QUALIFIER_NAME = "io.github.mjyoun.spring.web.service.DownloadService";
 
+    /** tomcat sendfile 지원 여부 request attribute */
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    /** tomcat sendfile 파일 경로 request attribute */
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    /** tomcat sendfile 시작 위치 request attribute */
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    /** tomcat sendfile 끝 위치 request attribute */
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /** ZIP 묶음 다운로드 시 기본으로 미리 생성할 파일 수 */
+    public static final int DEFAULT_BUNDLE_READ_AHEAD = 4;
+
     private CSVService csvService;
+    /** 다운로드 cache. 설정하지 않은 경우 null */
+    private DownloadCache downloadCache;
+    /** 파일 생성에 사용하는 buffer pool. 설정하지 않은 경우 null */
+    private BufferPool bufferPool;
+    /** 다운로드 측정 정보 집계. 설정하지 않은 경우 null */
+    private DownloadTelemetry telemetry;
+    /** 파일 전송 속도 조절. 설정하지 않은 경우 null */
+    private BandwidthManager bandwidthManager;
 
     /**
      * (non-javadoc)
@@ -55,6 +102,34 @@ public class DownloadService {
         this.csvService = csvService;
     }
 
+    /**
+     * (non-javadoc)
+     * 
+     * @param csvService
+     *            {@link CSVService}
+     * @param downloadCacheProvider
+     *            {@link DownloadCache}. 설정하지 않은 경우 cache 없이 매번 생성
+     * @param bufferPoolProvider
+     *            {@link BufferPool}. 설정하지 않은 경우 heap에 생성
+     * @param telemetryProvider
+     *            {@link DownloadTelemetry}. 설정하지 않은 경우 측정하지 않음
+     * @param bandwidthManagerProvider
+     *            {@link BandwidthManager}. 설정하지 않은 경우 전송 속도를 조절하지 않음
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Autowired
+    protected DownloadService(@Qualifier(CSVService.QUALIFIER_NAME) CSVService csvService, ObjectProvider<DownloadCache> downloadCacheProvider,
+            ObjectProvider<BufferPool> bufferPoolProvider, ObjectProvider<DownloadTelemetry> telemetryProvider,
+            ObjectProvider<BandwidthManager> bandwidthManagerProvider) {
+        this(csvService);
+        this.downloadCache = downloadCacheProvider.getIfAvailable();
+        this.bufferPool = bufferPoolProvider.getIfAvailable();
+        this.telemetry = telemetryProvider.getIfAvailable();
+        this.bandwidthManager = bandwidthManagerProvider.getIfAvailable();
+    }
+
     /**
      * @see DownloadService#downloadCsv(String, String[], List, char, char, HttpServletResponse)
      * 
@@ -105,26 +180,71 @@ public class DownloadService {
         fileName = new StringBuffer(fileName).append(".csv").toString();
         logger.debug("[{}] 다운로드 파일 이름: {}", methodName, fileName);
 
-        // csv content 생성
-        byte[] contentBytes = this.csvService.createCSV(fileName, headers, datas, separator, quote);
-        InputStream inputStream = new ByteArrayInputStream(contentBytes);
-
         // download를 위한 disposition 생성
         String contentDisposition = new StringBuffer("attachment; filename=\"") //
                 .append(URLEncoder.encode(fileName, "UTF-8").replace("+", "%20")) //
                 .append("\"") //
                 .toString();
 
+        DownloadRecording recording = this.startRecording(DownloadKind.CSV, fileName);
+
+        if (this.bufferPool != null) {
+            // heap 대신 direct buffer 또는 memory-mapped 임시 파일에 생성
+            try (SpillBuffer buffer = this.bufferPool.newSpillBuffer()) {
+                // 생성 중 오류는 호출한 쪽으로 전달
+                try {
+                    this.csvService.writeCSV(buffer, headers, datas, separator, quote);
+                    recording.generated();
+                } catch (IOException | RuntimeException e) {
+                    recording.failure(e);
+                    throw e;
+                }
+
+                try {
+                    response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+                    response.setContentLengthLong(buffer.size());
+                    response.setHeader("Content-Disposition", contentDisposition);
+
+                    buffer.writeTo(recording.wrap(response.getOutputStream()));
+                    recording.success();
+                    logger.debug("[{}] CSV 파일 다운로드 요청 성공 [file name: {}, spilled: {}]", methodName, fileName, buffer.isSpilled());
+                } catch (IOException ioe) {
+                    logFailure(methodName, "CSV 파일 다운로드 실패", recording, ioe);
+                } catch (RuntimeException e) {
+                    recording.failure(e);
+                    throw e;
+                }
+            }
+
+            return;
+        }
+
+        // csv content 생성
+        byte[] contentBytes;
+
+        try {
+            contentBytes = this.csvService.createCSV(fileName, headers, datas, separator, quote);
+            recording.generated();
+        } catch (IOException | RuntimeException e) {
+            recording.failure(e);
+            throw e;
+        }
+
         try {
             response.setContentType(MediaType.TEXT_PLAIN_VALUE);
             response.setContentLength(contentBytes.length);
             response.setHeader("Content-Disposition", contentDisposition);
 
-            FileCopyUtils.copy(inputStream, response.getOutputStream());
+            OutputStream outputStream = recording.wrap(response.getOutputStream());
+            outputStream.write(contentBytes);
+            outputStream.flush();
+            recording.success();
             logger.debug("[{}] CSV 파일 다운로드 요청 성공 [file name: {}]", methodName, fileName);
         } catch (IOException ioe) {
-            logger.error("[{}] CSV 파일 다운로드 실패 [msg: {}]", methodName, ioe.getMessage());
-            ioe.printStackTrace();
+            logFailure(methodName, "CSV 파일 다운로드 실패", recording, ioe);
+        } catch (RuntimeException e) {
+            recording.failure(e);
+            throw e;
         }
     }
 
@@ -169,6 +289,31 @@ public class DownloadService {
      */
     public void downloadFile(@NotBlank String downloadFileName, @NotNull Path filePath, @NotNull HttpServletResponse response)
             throws FileNotFoundException, UnsupportedEncodingException {
+        this.downloadFile(downloadFileName, filePath, TransferPriority.NORMAL, response);
+    }
+
+    /**
+     * 파일 다운로드. {@link BandwidthManager}가 설정되어 있으면 우선 순위에 따라 전송 속도를 조절한다.
+     * 
+     * @param downloadFileName
+     *            다운로드할 파일의 이름
+     * @param filePath
+     *            파일 경로
+     * @param priority
+     *            전송 우선 순위
+     * @param response
+     *            {@link HttpServletResponse}
+     * 
+     * @throws FileNotFoundException
+     *             다운로드할 파일에 문제가 있을 경우
+     * @throws UnsupportedEncodingException
+     *             파일 이름 인코딩 설정이 잘못 되었을 경우. 발생하지 않을 듯..
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void downloadFile(@NotBlank String downloadFileName, @NotNull Path filePath, @NotNull TransferPriority priority,
+            @NotNull HttpServletResponse response) throws FileNotFoundException, UnsupportedEncodingException {
         final String methodName = "DownloadService#downloadFile";
 
         if (!Files.exists(filePath)) {
@@ -187,16 +332,27 @@ public class DownloadService {
 
             logger.debug("[{}] 다운로드 할 파일 이름: {}", methodName, downloadFileName);
 
-            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
-            response.setContentLength((int) filePath.toFile().length());
-            response.setHeader("Content-Disposition", contentDisposition);
+            DownloadRecording recording = this.startRecording(DownloadKind.FILE, downloadFileName);
+            BandwidthManager.Transfer transfer = this.startTransfer(downloadFileName, priority);
 
             try {
-                Files.copy(filePath, response.getOutputStream());
+                response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+                // 2GB를 넘는 파일도 있으므로 long으로 설정
+                response.setContentLengthLong(Files.size(filePath));
+                response.setHeader("Content-Disposition", contentDisposition);
+
+                Files.copy(filePath, throttle(transfer, recording.wrap(response.getOutputStream())));
+                recording.success();
                 logger.debug("[{}] 파일 다운로드 요청 성공 [file name: {}]", methodName, downloadFileName);
             } catch (IOException ioe) {
-                logger.error("[{}] 파일 다운로드 실패 [msg: {}]", methodName, ioe.getMessage());
-                ioe.printStackTrace();
+                logFailure(methodName, "파일 다운로드 실패", recording, ioe);
+            } catch (RuntimeException e) {
+                recording.failure(e);
+                throw e;
+            } finally {
+                if (transfer != null) {
+                    transfer.close();
+                }
             }
         }
     }
@@ -244,8 +400,120 @@ public class DownloadService {
      */
     public void downloadPlainTextFile(@NotBlank String downloadFileName, @NotNull List<String> contents, @NotNull HttpServletResponse response)
             throws UnsupportedEncodingException {
-        String _contents = StringUtils.join(contents, "\r\n");
-        this.downloadPlainTextFile(downloadFileName, _contents, response);
+        final String methodName = "DownloadService#downloadPlainTextFile";
+
+        DownloadRecording recording = this.startRecording(DownloadKind.TEXT, downloadFileName);
+
+        try {
+            // 하나의 String으로 합치지 않고 한 줄씩 encoding
+            this.writeText(downloadFileName, contents, Charset.defaultCharset(), "\r\n", MediaType.APPLICATION_OCTET_STREAM_VALUE, recording,
+                    response);
+        } catch (IOException ioe) {
+            logFailure(methodName, "파일 다운로드 실패", recording, ioe);
+        } catch (RuntimeException e) {
+            recording.failure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 문자열 목록을 text 파일로 다운로드. 전체 내용을 메모리에 만들지 않고 한 줄씩 encoding 하여 전송한다.
+     * 
+     * @param downloadFileName
+     *            다운로드할 파일 이름
+     * @param lines
+     *            줄 목록
+     * @param charset
+     *            charset. Content-Type에도 설정됨
+     * @param lineSeparator
+     *            줄 구분자. 마지막 줄 뒤에는 붙이지 않음
+     * @param response
+     *            {@link HttpServletResponse}
+     * @throws IOException
+     *             전송 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void downloadText(@NotBlank String downloadFileName, @NotNull Iterable<? extends CharSequence> lines, @NotNull Charset charset,
+            @NotNull String lineSeparator, @NotNull HttpServletResponse response) throws IOException {
+        String contentType = new StringBuffer(MediaType.TEXT_PLAIN_VALUE).append(";charset=").append(charset.name()).toString();
+
+        DownloadRecording recording = this.startRecording(DownloadKind.TEXT, downloadFileName);
+
+        try {
+            this.writeText(downloadFileName, lines, charset, lineSeparator, contentType, recording, response);
+        } catch (IOException | RuntimeException e) {
+            recording.failure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 문자열 stream을 text 파일로 다운로드. stream은 전송 후 닫는다.
+     * 
+     * @see DownloadService#downloadText(String, Iterable, Charset, String, HttpServletResponse)
+     * 
+     * @param downloadFileName
+     *            다운로드할 파일 이름
+     * @param lines
+     *            줄 stream
+     * @param charset
+     *            charset. Content-Type에도 설정됨
+     * @param lineSeparator
+     *            줄 구분자. 마지막 줄 뒤에는 붙이지 않음
+     * @param response
+     *            {@link HttpServletResponse}
+     * @throws IOException
+     *             전송 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void downloadText(@NotBlank String downloadFileName, @NotNull Stream<? extends CharSequence> lines, @NotNull Charset charset,
+            @NotNull String lineSeparator, @NotNull HttpServletResponse response) throws IOException {
+        try (lines) {
+            this.downloadText(downloadFileName, (Iterable<? extends CharSequence>) lines::iterator, charset, lineSeparator, response);
+        }
+    }
+
+    /**
+     * 문자열 목록을 한 줄씩 encoding 하여 response에 쓰는 함수
+     * 
+     * @param downloadFileName
+     *            다운로드할 파일 이름
+     * @param lines
+     *            줄 목록
+     * @param charset
+     *            charset
+     * @param lineSeparator
+     *            줄 구분자
+     * @param contentType
+     *            content type
+     * @param recording
+     *            {@link DownloadRecording}. 성공한 경우 반영
+     * @param response
+     *            {@link HttpServletResponse}
+     * @throws IOException
+     *             전송 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void writeText(String downloadFileName, Iterable<? extends CharSequence> lines, Charset charset, String lineSeparator,
+            String contentType, DownloadRecording recording, HttpServletResponse response) throws IOException {
+        final String methodName = "DownloadService#writeText";
+
+        logger.debug("[{}] 다운로드 할 파일 이름: {} [charset: {}]", methodName, downloadFileName, charset);
+
+        response.setContentType(contentType);
+        response.setHeader("Content-Disposition", createContentDisposition(downloadFileName));
+
+        // 한 줄씩 생성하면서 전송하므로 전체를 전송 시간으로 측정
+        long written = new LineEncoder(recording.wrap(response.getOutputStream()), charset, lineSeparator, LineEncoder.DEFAULT_BUFFER_SIZE)
+                .writeLines(lines);
+        recording.success();
+        logger.debug("[{}] 파일 다운로드 요청 성공 [file name: {}, size: {}]", methodName, downloadFileName, written);
     }
 
     /**
@@ -276,14 +544,20 @@ public class DownloadService {
         response.setContentLength((int) contents.length);
         response.setHeader("Content-Disposition", contentDisposition);
 
-        try {
-            InputStream inputStream = new ByteArrayInputStream(contents);
+        DownloadRecording recording = this.startRecording(DownloadKind.BYTES, downloadFileName);
 
-            FileCopyUtils.copy(inputStream, response.getOutputStream());
+        try {
+            // 이미 byte 배열이므로 중간 buffer 없이 바로 씀
+            OutputStream outputStream = recording.wrap(response.getOutputStream());
+            outputStream.write(contents);
+            outputStream.flush();
+            recording.success();
             logger.debug("[{}] 파일 다운로드 요청 성공 [file name: {}]", methodName, downloadFileName);
         } catch (IOException ioe) {
-            logger.error("[{}] 파일 다운로드 실패 [msg: {}]", methodName, ioe.getMessage());
-            ioe.printStackTrace();
+            logFailure(methodName, "파일 다운로드 실패", recording, ioe);
+        } catch (RuntimeException e) {
+            recording.failure(e);
+            throw e;
         }
     }
 
@@ -312,7 +586,16 @@ public class DownloadService {
         fileName = new StringBuffer(fileName).append(".xlsx").toString();
         logger.debug("[{}] 다운로드 파일 이름: {}", methodName, fileName);
 
-        SXSSFWorkbook workbook = ExcelUtils.create(headers, datas);
+        DownloadRecording recording = this.startRecording(DownloadKind.EXCEL, fileName);
+        ExcelDocument workbook;
+
+        try {
+            workbook = ExportBackends.excel().create(headers, datas);
+            recording.generated();
+        } catch (RuntimeException e) {
+            recording.failure(e);
+            throw e;
+        }
 
         // download를 위한 disposition 생성
         String contentDisposition = new StringBuffer("attachment; filename=\"") //
@@ -320,16 +603,22 @@ public class DownloadService {
                 .append("\"") //
                 .toString();
 
-        try (OutputStream outputStream = response.getOutputStream()) {
+        // 전송 후 workbook이 사용한 임시 파일을 정리함
+        try (workbook; OutputStream outputStream = recording.wrap(response.getOutputStream())) {
             response.setContentType("text/xlsx");
             response.setHeader("Content-Disposition", contentDisposition);
 
             workbook.write(outputStream);
             logger.debug("[{}] Excel 파일 다운로드 요청 성공 [file name: {}]", methodName, fileName);
         } catch (IOException ioe) {
-            logger.error("[{}] Excel 파일 다운로드 실패 [msg: {}]", methodName, ioe.getMessage());
-            ioe.printStackTrace();
+            logFailure(methodName, "Excel 파일 다운로드 실패", recording, ioe);
+        } catch (RuntimeException e) {
+            recording.failure(e);
+            throw e;
         }
+
+        // output stream을 닫을 때 실패한 경우는 이미 반영됨
+        recording.success();
     }
 
     /**
@@ -359,7 +648,16 @@ public class DownloadService {
         fileName = new StringBuffer(fileName).append(".xlsx").toString();
         logger.debug("[{}] 다운로드 파일 이름: {}", methodName, fileName);
 
-        SXSSFWorkbook workbook = ExcelUtils.create(contents, clazz);
+        DownloadRecording recording = this.startRecording(DownloadKind.EXCEL, fileName);
+        ExcelDocument workbook;
+
+        try {
+            workbook = ExportBackends.excel().create(contents, clazz);
+            recording.generated();
+        } catch (RuntimeException e) {
+            recording.failure(e);
+            throw e;
+        }
 
         // download를 위한 disposition 생성
         String contentDisposition = new StringBuffer("attachment; filename=\"") //
@@ -367,16 +665,398 @@ public class DownloadService {
                 .append("\"") //
                 .toString();
 
-        try (OutputStream outputStream = response.getOutputStream()) {
+        // 전송 후 workbook이 사용한 임시 파일을 정리함
+        try (workbook; OutputStream outputStream = recording.wrap(response.getOutputStream())) {
             response.setContentType("text/xlsx");
             response.setHeader("Content-Disposition", contentDisposition);
 
             workbook.write(outputStream);
             logger.debug("[{}] Excel 파일 다운로드 요청 성공 [file name: {}]", methodName, fileName);
         } catch (IOException ioe) {
-            logger.error("[{}] Excel 파일 다운로드 실패 [msg: {}]", methodName, ioe.getMessage());
-            ioe.printStackTrace();
+            logFailure(methodName, "Excel 파일 다운로드 실패", recording, ioe);
+        } catch (RuntimeException e) {
+            recording.failure(e);
+            throw e;
+        }
+
+        // output stream을 닫을 때 실패한 경우는 이미 반영됨
+        recording.success();
+    }
+
+    /**
+     * CSV 파일을 cache 하여 다운로드. 같은 key로 저장된 파일이 있으면 데이터를 다시 조회하지 않는다.
+     * 
+     * @see DownloadService#downloadCached(String, String, String, ArtifactWriter, HttpServletRequest, HttpServletResponse)
+     * 
+     * @param cacheKey
+     *            cache key. 같은 내용의 파일은 같은 key를 사용해야 함
+     * @param fileName
+     *            확장자를 제외한, 다운로드할 파일 이름 (확장자는 자동으로 붙혀줌)
+     * @param headers
+     *            헤더 목록. null일 경우 헤더가 없는 형태의 csv 파일
+     * @param datas
+     *            데이터 목록 조회 함수. cache에 없을 경우에만 호출
+     * @param separator
+     *            구분자
+     * @param quote
+     *            따옴표, '\0'일 경우 따옴표 하지 않음. 있을 경우 무조건 따옴표로 묶음
+     * @param request
+     *            {@link HttpServletRequest}
+     * @param response
+     *            {@link HttpServletResponse}
+     * @throws IOException
+     *             파일 생성 또는 전송 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void downloadCachedCsv(@NotBlank String cacheKey, @NotBlank String fileName, String[] headers, @NotNull Supplier<List<String[]>> datas,
+            char separator, char quote, @NotNull HttpServletRequest request, @NotNull HttpServletResponse response) throws IOException {
+        String downloadFileName = new StringBuffer(fileName).append(".csv").toString();
+
+        this.downloadCached(cacheKey, downloadFileName, MediaType.TEXT_PLAIN_VALUE, //
+                outputStream -> this.csvService.writeCSV(outputStream, headers, datas.get(), separator, quote), //
+                request, response);
+    }
+
+    /**
+     * 엑셀 파일을 cache 하여 다운로드. 같은 key로 저장된 파일이 있으면 데이터를 다시 조회하지 않는다.
+     * 
+     * @see DownloadService#downloadCached(String, String, String, ArtifactWriter, HttpServletRequest, HttpServletResponse)
+     * 
+     * @param cacheKey
+     *            cache key. 같은 내용의 파일은 같은 key를 사용해야 함
+     * @param fileName
+     *            확장자를 제외한, 다운로드할 파일 이름 (확장자는 자동으로 붙혀줌)
+     * @param headers
+     *            헤더 정보
+     * @param datas
+     *            데이터 조회 함수. cache에 없을 경우에만 호출
+     * @param request
+     *            {@link HttpServletRequest}
+     * @param response
+     *            {@link HttpServletResponse}
+     * @throws IOException
+     *             파일 생성 또는 전송 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void downloadCachedExcel(@NotBlank String cacheKey, @NotBlank String fileName, @NotNull String[] headers,
+            @NotNull Supplier<Object[][]> datas, @NotNull HttpServletRequest request, @NotNull HttpServletResponse response) throws IOException {
+        String downloadFileName = new StringBuffer(fileName).append(".xlsx").toString();
+
+        this.downloadCached(cacheKey, downloadFileName, "text/xlsx", outputStream -> {
+            try (ExcelDocument workbook = ExportBackends.excel().create(headers, datas.get())) {
+                workbook.write(outputStream);
+            }
+        }, request, response);
+    }
+
+    /**
+     * 생성한 파일을 cache 하여 다운로드
+     * <p>
+     * cache에 저장된 파일이 있으면 다시 생성하지 않고 전송하며, 같은 key로 동시에 요청된 경우 한 번만 생성한다. 응답에 {@code ETag}를 설정하고, 요청의
+     * {@code If-None-Match}와 같으면 {@code 304 Not Modified}로 응답한다. disk에 저장된 파일은 container가 지원할 경우 sendfile로 전송한다.
+     * {@link DownloadCache}가 설정되어 있지 않으면 response에 바로 생성한다.
+     * 
+     * @param cacheKey
+     *            cache key. 같은 내용의 파일은 같은 key를 사용해야 함
+     * @param downloadFileName
+     *            다운로드할 파일 이름
+     * @param contentType
+     *            content type
+     * @param writer
+     *            파일 생성 함수
+     * @param request
+     *            {@link HttpServletRequest}
+     * @param response
+     *            {@link HttpServletResponse}
+     * @throws IOException
+     *             파일 생성 또는 전송 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void downloadCached(@NotBlank String cacheKey, @NotBlank String downloadFileName, @NotBlank String contentType,
+            @NotNull ArtifactWriter writer, @NotNull HttpServletRequest request, @NotNull HttpServletResponse response) throws IOException {
+        final String methodName = "DownloadService#downloadCached";
+
+        logger.debug("[{}] 다운로드 파일 이름: {} [key: {}]", methodName, downloadFileName, cacheKey);
+
+        DownloadRecording recording = this.startRecording(DownloadKind.CACHED, downloadFileName);
+
+        try {
+            this.writeCached(cacheKey, downloadFileName, contentType, writer, recording, request, response);
+            recording.success();
+        } catch (IOException | RuntimeException e) {
+            recording.failure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * cache에서 조회하거나 생성한 파일을 전송하는 함수
+     * 
+     * @see DownloadService#downloadCached(String, String, String, ArtifactWriter, HttpServletRequest, HttpServletResponse)
+     * 
+     * @param cacheKey
+     *            cache key
+     * @param downloadFileName
+     *            다운로드할 파일 이름
+     * @param contentType
+     *            content type
+     * @param writer
+     *            파일 생성 함수
+     * @param recording
+     *            {@link DownloadRecording}
+     * @param request
+     *            {@link HttpServletRequest}
+     * @param response
+     *            {@link HttpServletResponse}
+     * @throws IOException
+     *             파일 생성 또는 전송 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void writeCached(String cacheKey, String downloadFileName, String contentType, ArtifactWriter writer, DownloadRecording recording,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        final String methodName = "DownloadService#downloadCached";
+
+        if (this.downloadCache == null) {
+            response.setContentType(contentType);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, createContentDisposition(downloadFileName));
+
+            // 생성하면서 전송하므로 전체를 전송 시간으로 측정
+            writer.write(recording.wrap(response.getOutputStream()));
+            return;
+        }
+
+        CachedArtifact artifact = this.downloadCache.getOrGenerate(cacheKey, contentType, writer);
+        recording.generated();
+
+        response.setHeader(HttpHeaders.ETAG, artifact.getEtag());
+
+        if (matchesEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), artifact.getEtag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            logger.debug("[{}] 변경되지 않은 파일 [key: {}]", methodName, cacheKey);
+            return;
+        }
+
+        response.setContentType(artifact.getContentType());
+        response.setContentLengthLong(artifact.getSize());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, createContentDisposition(downloadFileName));
+
+        // 전송 속도를 조절하는 경우 container가 직접 전송하는 sendfile은 사용하지 않음
+        if (this.bandwidthManager == null && !artifact.isInHeap() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // container가 request 처리 후 파일을 직접 전송. 전송 시간은 측정할 수 없으므로 크기만 반영
+            request.setAttribute(SENDFILE_FILENAME, artifact.getFile().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, artifact.getSize());
+            recording.addBytes(artifact.getSize());
+        } else {
+            try (BandwidthManager.Transfer transfer = this.startTransfer(downloadFileName, TransferPriority.NORMAL)) {
+                OutputStream outputStream = throttle(transfer, recording.wrap(response.getOutputStream()));
+
+                if (artifact.isInHeap()) {
+                    outputStream.write(artifact.getBytes());
+                    outputStream.flush();
+                } else {
+                    try (FileChannel channel = FileChannel.open(artifact.getFile(), StandardOpenOption.READ)) {
+                        WritableByteChannel target = Channels.newChannel(outputStream);
+                        long position = 0;
+
+                        while (position < artifact.getSize()) {
+                            position += channel.transferTo(position, artifact.getSize() - position, target);
+                        }
+                    }
+                }
+            }
+        }
+
+        logger.debug("[{}] 파일 다운로드 요청 성공 [file name: {}, heap: {}]", methodName, downloadFileName, artifact.isInHeap());
+    }
+
+    /**
+     * 여러 파일을 ZIP으로 묶어 다운로드. 임시 파일 없이 파일 순서대로 response에 바로 쓴다.
+     * 
+     * @see DownloadService#downloadBundle(String, List, int, HttpServletResponse)
+     * 
+     * @param fileName
+     *            확장자를 제외한, 다운로드할 파일 이름 (확장자는 '.zip' 형태로 자동으로 붙혀줌)
+     * @param entries
+     *            묶을 파일 목록
+     * @param response
+     *            {@link HttpServletResponse}
+     * @throws IOException
+     *             파일 생성 또는 전송 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void downloadBundle(@NotBlank String fileName, @NotEmpty List<BundleEntry> entries, @NotNull HttpServletResponse response)
+            throws IOException {
+        this.downloadBundle(fileName, entries, DEFAULT_BUNDLE_READ_AHEAD, response);
+    }
+
+    /**
+     * 여러 파일을 ZIP으로 묶어 다운로드. 임시 파일 없이 파일 순서대로 response에 바로 쓰며, 앞으로 쓸 파일은 최대 {@code readAhead}개까지 동시에 미리 생성한다.
+     * 이미 압축된 형식(xlsx, zip, jpg 등)은 다시 압축하지 않는다.
+     * 
+     * @param fileName
+     *            확장자를 제외한, 다운로드할 파일 이름 (확장자는 '.zip' 형태로 자동으로 붙혀줌)
+     * @param entries
+     *            묶을 파일 목록
+     * @param readAhead
+     *            미리 생성할 최대 파일 수
+     * @param response
+     *            {@link HttpServletResponse}
+     * @throws IOException
+     *             파일 생성 또는 전송 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void downloadBundle(@NotBlank String fileName, @NotEmpty List<BundleEntry> entries, @Min(1) int readAhead,
+            @NotNull HttpServletResponse response) throws IOException {
+        final String methodName = "DownloadService#downloadBundle";
+
+        fileName = new StringBuffer(fileName).append(".zip").toString();
+        logger.debug("[{}] 다운로드 파일 이름: {} [entry count: {}]", methodName, fileName, entries.size());
+
+        response.setContentType("application/zip");
+        response.setHeader("Content-Disposition", createContentDisposition(fileName));
+
+        // 파일을 생성하면서 전송하므로 전체를 전송 시간으로 측정
+        DownloadRecording recording = this.startRecording(DownloadKind.BUNDLE, fileName);
+        int written;
+
+        try {
+            written = new ZipBundleWriter(this.csvService, this.bufferPool, readAhead).write(recording.wrap(response.getOutputStream()), entries);
+            recording.success();
+        } catch (IOException | RuntimeException e) {
+            recording.failure(e);
+            throw e;
         }
+
+        logger.debug("[{}] ZIP 파일 다운로드 요청 성공 [file name: {}, entry count: {}]", methodName, fileName, written);
+    }
+
+    /**
+     * 다운로드 측정을 시작하는 함수
+     * 
+     * @param kind
+     *            다운로드 종류
+     * @param fileName
+     *            다운로드 파일 이름
+     * @return {@link DownloadRecording}. telemetry가 설정되어 있지 않으면 반영하지 않음
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private DownloadRecording startRecording(DownloadKind kind, String fileName) {
+        return new DownloadRecording(this.telemetry, kind, fileName);
+    }
+
+    /**
+     * 전송 속도 조절을 시작하는 함수
+     * 
+     * @param fileName
+     *            다운로드 파일 이름
+     * @param priority
+     *            전송 우선 순위
+     * @return {@link BandwidthManager.Transfer}. {@link BandwidthManager}가 설정되어 있지 않으면 null
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private BandwidthManager.Transfer startTransfer(String fileName, TransferPriority priority) {
+        return this.bandwidthManager == null ? null : this.bandwidthManager.start(fileName, priority);
+    }
+
+    /**
+     * 전송 속도를 조절하기 위해 output stream을 감싸는 함수
+     * 
+     * @param transfer
+     *            {@link BandwidthManager.Transfer}. null일 경우 조절하지 않음
+     * @param outputStream
+     *            response output stream
+     * @return 감싼 output stream
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static OutputStream throttle(BandwidthManager.Transfer transfer, OutputStream outputStream) {
+        return transfer == null ? outputStream : transfer.wrap(outputStream);
+    }
+
+    /**
+     * 다운로드 실패를 반영하고 log를 출력하는 함수. client가 연결을 종료한 경우는 서버 오류가 아니므로 stack trace 없이 DEBUG level로 출력한다.
+     * 
+     * @param methodName
+     *            호출한 함수 이름
+     * @param message
+     *            log message
+     * @param recording
+     *            {@link DownloadRecording}
+     * @param ioe
+     *            발생한 오류
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static void logFailure(String methodName, String message, DownloadRecording recording, IOException ioe) {
+        if (recording.failure(ioe) == DownloadEvent.Outcome.ABORTED) {
+            logger.debug("[{}] {} - client 연결 종료 [sent: {}, msg: {}]", methodName, message, recording.getBytes(), ioe.getMessage());
+        } else {
+            logger.error("[{}] {} [msg: {}]", methodName, message, ioe.getMessage(), ioe);
+        }
+    }
+
+    /**
+     * 다운로드를 위한 Content-Disposition 값을 생성하는 함수
+     * 
+     * @param fileName
+     *            다운로드할 파일 이름
+     * @return Content-Disposition 값
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static String createContentDisposition(String fileName) {
+        return new StringBuffer("attachment; filename=\"") //
+                .append(URLEncoder.encode(fileName, StandardCharsets.UTF_8).replace("+", "%20")) //
+                .append("\"") //
+                .toString();
+    }
+
+    /**
+     * If-None-Match 헤더가 ETag와 일치하는지 확인하는 함수
+     * 
+     * @param ifNoneMatch
+     *            If-None-Match 헤더 값
+     * @param etag
+     *            ETag
+     * @return 일치 여부
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (StringUtils.isBlank(ifNoneMatch)) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+
+            if (value.equals("*") || value.equals(etag) || (value.startsWith("W/") && value.substring(2).equals(etag))) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
 }
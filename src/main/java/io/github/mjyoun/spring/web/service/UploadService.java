@@ -0,0 +1,346 @@
+package io.github.mjyoun.spring.web.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.validation.annotation.Validated;
+
+import io.github.mjyoun.spring.web.config.UploadProperties;
+import io.github.mjyoun.spring.web.service.upload.ChunkedUpload;
+import io.github.mjyoun.spring.web.service.upload.UploadException;
+import io.github.mjyoun.spring.web.service.upload.UploadStatus;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 큰 파일을 여러 chunk로 나누어 올리기 위한 서비스
+ * <p>
+ * {@link #begin(String, long, int)}으로 upload를 시작하고, chunk를 순서와 관계없이(동시에도) {@link #writeChunk(String, int, InputStream, String)}로
+ * 올린 후 {@link #complete(String, Path)}로 완료한다. chunk는 받는 즉시 최종 파일의 자기 위치에 쓰고 CRC32C로 검사하며, 받은 chunk는 index 파일에 기록하므로
+ * 연결이 끊기거나 서버가 재시작되어도 {@link #status(String)}로 받지 않은 chunk를 확인하여 이어서 올릴 수 있다. 완료 시에는 파일을 옮기기만 하므로 내용을 다시
+ * 복사하지 않는다.
+ * <p>
+ * client 요청 오류는 {@link UploadException}으로 알린다. upload id / checksum 형식, chunk 크기, chunk 내용 오류는 {@code 400}, 존재하지 않거나 만료된 upload는
+ * {@code 404}, 받지 않은 chunk가 있는 상태의 완료와 이미 완료 / 취소된 upload에 대한 요청은 {@code 409}로 응답한다.
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@Validated
+@Service(UploadService.QUALIFIER_NAME)
+@ConditionalOnProperty(prefix = UploadProperties.PREFIX, name = "enabled", havingValue = "true")
+public class UploadService implements DisposableBean {
+
+    protected static final Logger logger = LoggerFactory.getLogger(UploadService.class);
+
+    public static final String QUALIFIER_NAME = "io.github.mjyoun.spring.web.service.UploadService";
+
+    /** upload id 형식 (디렉토리 이름으로 사용하므로 검사) */
+    private static final Pattern UPLOAD_ID_PATTERN = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+
+    private final Path directory;
+    private final long maxChunkSize;
+    private final Duration expiry;
+    private final boolean fsync;
+
+    /** 열려 있는 upload 목록 */
+    private final Map<String, ChunkedUpload> uploads = new ConcurrentHashMap<>();
+    /** 만료된 upload 정리 scheduler */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * (non-javadoc)
+     * 
+     * @param properties
+     *            {@link UploadProperties}
+     * @throws IOException
+     *             저장 디렉토리 생성 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    protected UploadService(UploadProperties properties) throws IOException {
+        this.directory = Files.createDirectories(properties.getDirectory() != null ? properties.getDirectory()
+                : Path.of(System.getProperty("java.io.tmpdir"), "mj-upload"));
+        this.maxChunkSize = properties.getMaxChunkSize().toBytes();
+        this.expiry = properties.getExpiry();
+        this.fsync = properties.isFsync();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("upload-cleaner").daemon().factory());
+
+        long millis = Math.max(TimeUnit.MINUTES.toMillis(1), this.expiry.toMillis() / 10);
+        this.scheduler.scheduleWithFixedDelay(this::cleanUpExpired, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * upload를 시작하는 함수
+     * 
+     * @param fileName
+     *            파일 이름
+     * @param totalSize
+     *            전체 크기
+     * @param chunkSize
+     *            chunk 크기. 마지막 chunk만 더 작을 수 있음
+     * @return {@link UploadStatus}. 이후 요청에는 {@link UploadStatus#uploadId()}를 사용
+     * @throws IOException
+     *             파일 생성 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public UploadStatus begin(@NotBlank String fileName, @Min(0) long totalSize, @Min(1) int chunkSize) throws IOException {
+        final String methodName = "UploadService#begin";
+
+        if (chunkSize > this.maxChunkSize) {
+            throw new UploadException(HttpStatus.BAD_REQUEST, "chunk 크기가 너무 큽니다. [max: " + this.maxChunkSize + "]");
+        } else if ((totalSize + chunkSize - 1) / chunkSize > Integer.MAX_VALUE) {
+            throw new UploadException(HttpStatus.BAD_REQUEST, "chunk 크기가 너무 작습니다.");
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        ChunkedUpload upload = ChunkedUpload.create(uploadId, this.directory.resolve(uploadId), fileName, totalSize, chunkSize);
+        this.uploads.put(uploadId, upload);
+
+        logger.debug("[{}] upload 시작 [id: {}, file name: {}, size: {}, chunk size: {}]", methodName, uploadId, fileName, totalSize, chunkSize);
+
+        return upload.status();
+    }
+
+    /**
+     * chunk를 올리는 함수. 이미 받은 chunk를 다시 올리면 덮어쓴다.
+     * 
+     * @param uploadId
+     *            upload id
+     * @param chunkIndex
+     *            chunk 순서 (0부터 시작)
+     * @param inputStream
+     *            chunk 내용. 닫지 않는다.
+     * @param checksum
+     *            chunk의 CRC32C 값 (16진수)
+     * @return 모든 chunk를 받았는지 여부
+     * @throws IOException
+     *             쓰기 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public boolean writeChunk(@NotBlank String uploadId, @Min(0) int chunkIndex, @NotNull InputStream inputStream, @NotBlank String checksum)
+            throws IOException {
+        final String methodName = "UploadService#writeChunk";
+
+        ChunkedUpload upload = this.get(uploadId);
+
+        try {
+            upload.write(chunkIndex, inputStream, Long.parseUnsignedLong(checksum.trim(), 16), this.fsync);
+        } catch (NumberFormatException e) {
+            throw new UploadException(HttpStatus.BAD_REQUEST, "checksum 형식이 올바르지 않습니다.", e);
+        } catch (IllegalArgumentException e) {
+            logger.warn("[{}] chunk 오류 [id: {}, msg: {}]", methodName, uploadId, e.getMessage());
+            throw new UploadException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (IllegalStateException e) {
+            // 쓰는 중에 완료, 취소 또는 만료된 경우
+            throw new UploadException(HttpStatus.CONFLICT, e.getMessage(), e);
+        }
+
+        logger.debug("[{}] chunk 저장 [id: {}, index: {}]", methodName, uploadId, chunkIndex);
+
+        return upload.isComplete();
+    }
+
+    /**
+     * upload 상태를 조회하는 함수. 서버가 재시작된 경우 저장된 index에서 복구한다.
+     * 
+     * @param uploadId
+     *            upload id
+     * @return {@link UploadStatus}
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public UploadStatus status(@NotBlank String uploadId) {
+        return this.get(uploadId).status();
+    }
+
+    /**
+     * upload를 완료하고 파일을 대상 위치로 옮기는 함수
+     * 
+     * @param uploadId
+     *            upload id
+     * @param target
+     *            대상 파일 경로
+     * @return 대상 파일 경로
+     * @throws IOException
+     *             이동 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public Path complete(@NotBlank String uploadId, @NotNull Path target) throws IOException {
+        final String methodName = "UploadService#complete";
+
+        ChunkedUpload upload = this.get(uploadId);
+        UploadStatus status = upload.status();
+
+        if (!status.isComplete()) {
+            throw new UploadException(HttpStatus.CONFLICT,
+                    "받지 않은 chunk가 있습니다. [missing count: " + status.missingChunks().size() + "]");
+        }
+
+        try {
+            // 진행 중인 chunk 쓰기가 끝난 후 다시 확인하고 옮김
+            upload.moveTo(target);
+        } catch (IllegalStateException e) {
+            throw new UploadException(HttpStatus.CONFLICT, e.getMessage(), e);
+        }
+
+        this.uploads.remove(uploadId, upload);
+        FileSystemUtils.deleteRecursively(upload.getDirectory());
+
+        logger.debug("[{}] upload 완료 [id: {}, file name: {}, target: {}]", methodName, uploadId, status.fileName(), target);
+
+        return target;
+    }
+
+    /**
+     * upload를 취소하고 받은 내용을 삭제하는 함수
+     * 
+     * @param uploadId
+     *            upload id
+     * @throws IOException
+     *             삭제 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void abort(@NotBlank String uploadId) throws IOException {
+        ChunkedUpload upload = this.get(uploadId);
+
+        if (this.uploads.remove(uploadId, upload)) {
+            upload.close();
+            FileSystemUtils.deleteRecursively(upload.getDirectory());
+        }
+    }
+
+    /**
+     * 만료된 upload를 삭제하는 함수
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void cleanUpExpired() {
+        final String methodName = "UploadService#cleanUpExpired";
+
+        long expiredBefore = System.currentTimeMillis() - this.expiry.toMillis();
+
+        try (DirectoryStream<Path> directories = Files.newDirectoryStream(this.directory, Files::isDirectory)) {
+            for (Path uploadDirectory : directories) {
+                String uploadId = uploadDirectory.getFileName().toString();
+                ChunkedUpload upload = this.uploads.get(uploadId);
+                long lastAccess = upload != null ? upload.getLastAccess() : lastModified(uploadDirectory);
+
+                if (lastAccess < expiredBefore && (upload == null || this.uploads.remove(uploadId, upload))) {
+                    if (upload != null) {
+                        upload.close();
+                    }
+
+                    FileSystemUtils.deleteRecursively(uploadDirectory);
+                    logger.info("[{}] 만료된 upload 삭제 [id: {}]", methodName, uploadId);
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            logger.warn("[{}] 만료된 upload 삭제 실패 [msg: {}]", methodName, e.getMessage());
+        }
+    }
+
+    /**
+     * 열려 있는 upload를 닫음. 받은 내용은 삭제하지 않으므로 재시작 후 이어서 올릴 수 있다.
+     * 
+     * @see DisposableBean#destroy()
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void destroy() {
+        this.scheduler.shutdownNow();
+
+        for (ChunkedUpload upload : this.uploads.values()) {
+            try {
+                upload.close();
+            } catch (IOException e) {
+                logger.warn("[UploadService#destroy] upload 닫기 실패 [id: {}, msg: {}]", upload.getUploadId(), e.getMessage());
+            }
+        }
+
+        this.uploads.clear();
+    }
+
+    /**
+     * upload를 조회하는 함수. 열려 있지 않으면 저장된 파일에서 다시 연다.
+     * 
+     * @param uploadId
+     *            upload id
+     * @return {@link ChunkedUpload}
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private ChunkedUpload get(String uploadId) {
+        if (!UPLOAD_ID_PATTERN.matcher(uploadId).matches()) {
+            throw new UploadException(HttpStatus.BAD_REQUEST, "upload id 형식이 올바르지 않습니다.");
+        }
+
+        ChunkedUpload upload = this.uploads.computeIfAbsent(uploadId, id -> {
+            try {
+                return ChunkedUpload.open(id, this.directory.resolve(id));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        if (upload == null) {
+            throw new UploadException(HttpStatus.NOT_FOUND, "존재하지 않는 upload 입니다.");
+        }
+
+        return upload;
+    }
+
+    /**
+     * upload 디렉토리의 마지막 수정 시각을 조회하는 함수
+     * 
+     * @param uploadDirectory
+     *            upload 디렉토리
+     * @return 마지막 수정 시각 (ms)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static long lastModified(Path uploadDirectory) {
+        try {
+            Path index = uploadDirectory.resolve(ChunkedUpload.INDEX_FILE);
+            return Files.getLastModifiedTime(Files.exists(index) ? index : uploadDirectory).toMillis();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
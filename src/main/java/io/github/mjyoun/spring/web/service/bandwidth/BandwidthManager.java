@@ -0,0 +1,503 @@
+package io.github.mjyoun.spring.web.service.bandwidth;
+
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 동시에 진행 중인 다운로드가 전체 전송 대역폭을 나누어 사용하도록 조절하는 클래스
+ * <p>
+ * 각 전송은 최대 전송 속도를 우선 순위({@link TransferPriority}) 가중치 비율로 나눈 몫만큼의 속도로 보내고, 모든 전송이 공유하는 token bucket(GCRA)에 보낸
+ * 양을 반영한다. 다른 전송이 자신의 몫을 다 사용하지 않아 bucket에 여유가 있으면 그만큼 빌려서 몫보다 빠르게 보낼 수 있다.
+ * 전송은 {@link #start(String, TransferPriority)}로 등록하고, {@link Transfer#wrap(OutputStream)}으로 감싼 output stream에 쓸 때 필요한 만큼 기다린다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class BandwidthManager {
+
+    /** 최대 전송 속도 (bytes/s) */
+    private final long maxBytesPerSecond;
+    /** 전송 하나의 최대 속도 (bytes/s). 0일 경우 제한하지 않음 */
+    private final long maxBytesPerSecondPerTransfer;
+    /** 한 번에 기다리지 않고 보낼 수 있는 시간 (nanoseconds) */
+    private final long burstNanos;
+    /** 한 번에 쓰는 최대 크기 */
+    private final int chunkSize;
+
+    /** 공유 bucket의 이론적 도착 시간 ({@link System#nanoTime()} 기준) */
+    private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+    /** 진행 중인 전송 목록 */
+    private final Set<Transfer> active = ConcurrentHashMap.newKeySet();
+    /** 진행 중인 전송의 가중치 합계 */
+    private final AtomicLong totalWeight = new AtomicLong();
+
+    private final LongAdder transfers = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder throttledNanos = new LongAdder();
+    /** 공유 bucket의 여유를 빌려 몫보다 빠르게 보낸 횟수 */
+    private final LongAdder borrowed = new LongAdder();
+
+    /**
+     * (non-javadoc)
+     *
+     * @param maxBytesPerSecond
+     *            최대 전송 속도 (bytes/s)
+     * @param maxBytesPerSecondPerTransfer
+     *            전송 하나의 최대 속도 (bytes/s). 0일 경우 제한하지 않음
+     * @param burstBytes
+     *            한 번에 기다리지 않고 보낼 수 있는 크기
+     * @param chunkSize
+     *            한 번에 쓰는 최대 크기
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public BandwidthManager(long maxBytesPerSecond, long maxBytesPerSecondPerTransfer, long burstBytes, int chunkSize) {
+        if (maxBytesPerSecond <= 0) {
+            throw new IllegalArgumentException("최대 전송 속도는 0보다 커야 합니다.");
+        }
+
+        this.maxBytesPerSecond = maxBytesPerSecond;
+        this.maxBytesPerSecondPerTransfer = Math.max(0, maxBytesPerSecondPerTransfer);
+        this.burstNanos = nanosFor(Math.max(0, burstBytes), maxBytesPerSecond);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * 전송을 등록하는 함수. 전송이 끝나면 {@link Transfer#close()}를 호출해야 한다.
+     *
+     * @param name
+     *            전송 이름 (파일 이름 등)
+     * @param priority
+     *            우선 순위. null일 경우 {@link TransferPriority#NORMAL}
+     * @return {@link Transfer}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public Transfer start(String name, TransferPriority priority) {
+        Transfer transfer = new Transfer(name, priority == null ? TransferPriority.NORMAL : priority);
+
+        this.totalWeight.addAndGet(transfer.priority.getWeight());
+        this.active.add(transfer);
+        this.transfers.increment();
+
+        return transfer;
+    }
+
+    /**
+     * 현재 상태를 조회하는 함수
+     *
+     * @return {@link Stats}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public Stats stats() {
+        long now = System.nanoTime();
+        int activeTransfers = 0;
+        double bytesPerSecond = 0;
+
+        for (Transfer transfer : this.active) {
+            activeTransfers++;
+            bytesPerSecond += transfer.getBytesPerSecond(now);
+        }
+
+        return new Stats(activeTransfers, this.transfers.sum(), this.bytes.sum(), this.throttledNanos.sum(), this.borrowed.sum(),
+                bytesPerSecond);
+    }
+
+    /**
+     * 우선 순위 별 진행 중인 전송 수를 조회하는 함수
+     *
+     * @param priority
+     *            우선 순위
+     * @return 전송 수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public int getActiveTransfers(TransferPriority priority) {
+        int count = 0;
+
+        for (Transfer transfer : this.active) {
+            if (transfer.priority == priority) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * 진행 중인 전송 목록을 조회하는 함수
+     *
+     * @return 전송 정보 목록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public List<TransferInfo> getTransfers() {
+        long now = System.nanoTime();
+        List<TransferInfo> transfers = new ArrayList<>();
+
+        for (Transfer transfer : this.active) {
+            transfers.add(new TransferInfo(transfer.name, transfer.priority, transfer.bytes, transfer.getBytesPerSecond(now),
+                    this.shareOf(transfer.priority)));
+        }
+
+        return transfers;
+    }
+
+    public long getMaxBytesPerSecond() {
+        return maxBytesPerSecond;
+    }
+
+    /**
+     * 전송을 보내기 전에 기다려야 하는 시간을 계산하는 함수
+     * <p>
+     * 자신의 몫 안에서 보내는 경우 기다리지 않고 공유 bucket에 반영만 한다. 몫을 초과한 경우 공유 bucket에 남은 여유가 있으면 빌려서 바로 보내고, 없으면 자신의 몫으로
+     * 보낼 수 있는 시간까지 기다린다. 몫의 합계가 최대 전송 속도이므로 빌린 양을 포함해도 전체 속도는 최대 값(과 burst)을 넘지 않는다.
+     *
+     * @param transfer
+     *            {@link Transfer}
+     * @param length
+     *            보낼 크기
+     * @param now
+     *            현재 시간 ({@link System#nanoTime()})
+     * @return 기다려야 하는 시간 (nanoseconds)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    long reserve(Transfer transfer, int length, long now) {
+        long cost = nanosFor(length, this.maxBytesPerSecond);
+        long shareCost = nanosFor(length, this.shareOf(transfer.priority));
+        long wait = 0;
+
+        if (transfer.nextAt <= now) {
+            // 자신의 몫 안에서 보냄. 쉬는 동안의 몫은 쌓지 않음
+            transfer.nextAt = now + shareCost;
+            this.consume(cost, now);
+        } else if ((this.maxBytesPerSecondPerTransfer > 0 && transfer.limitAt > now) || !this.tryBorrow(cost, now)) {
+            // 빌릴 여유가 없으면 자신의 몫으로 보낼 수 있을 때까지 기다림
+            wait = transfer.nextAt - now;
+            transfer.nextAt += shareCost;
+            this.consume(cost, now);
+        }
+
+        if (this.maxBytesPerSecondPerTransfer > 0) {
+            transfer.limitAt = Math.max(transfer.limitAt, now + wait) + nanosFor(length, this.maxBytesPerSecondPerTransfer);
+        }
+
+        return wait;
+    }
+
+    /**
+     * 공유 bucket에서 사용한 만큼 차감하는 함수
+     *
+     * @param cost
+     *            최대 전송 속도 기준 전송 시간 (nanoseconds)
+     * @param now
+     *            현재 시간 ({@link System#nanoTime()})
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void consume(long cost, long now) {
+        long previous;
+
+        do {
+            previous = this.theoreticalArrival.get();
+        } while (!this.theoreticalArrival.compareAndSet(previous, Math.max(previous, now - this.burstNanos) + cost));
+    }
+
+    /**
+     * 공유 bucket에 여유가 있을 경우 차감하는 함수 (GCRA)
+     *
+     * @param cost
+     *            최대 전송 속도 기준 전송 시간 (nanoseconds)
+     * @param now
+     *            현재 시간 ({@link System#nanoTime()})
+     * @return 차감했으면 true
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private boolean tryBorrow(long cost, long now) {
+        long previous;
+        long next;
+
+        do {
+            previous = this.theoreticalArrival.get();
+            next = Math.max(previous, now - this.burstNanos) + cost;
+
+            if (next > now) {
+                return false;
+            }
+        } while (!this.theoreticalArrival.compareAndSet(previous, next));
+
+        this.borrowed.increment();
+        return true;
+    }
+
+    /**
+     * 우선 순위에 해당하는 전송 하나의 몫을 계산하는 함수
+     *
+     * @param priority
+     *            우선 순위
+     * @return 전송 속도 (bytes/s)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private long shareOf(TransferPriority priority) {
+        long weight = Math.max(priority.getWeight(), this.totalWeight.get());
+        long share = Math.max(1L, this.maxBytesPerSecond * priority.getWeight() / weight);
+
+        return this.maxBytesPerSecondPerTransfer > 0 ? Math.min(share, this.maxBytesPerSecondPerTransfer) : share;
+    }
+
+    /**
+     * 지정한 시간만큼 기다리는 함수
+     *
+     * @param nanos
+     *            기다릴 시간 (nanoseconds)
+     * @throws InterruptedIOException
+     *             기다리는 중 interrupt 된 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void pause(long nanos) throws InterruptedIOException {
+        long deadline = System.nanoTime() + nanos;
+        long remaining = nanos;
+
+        while (remaining > 0) {
+            LockSupport.parkNanos(this, remaining);
+
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("전송 대기 중 interrupt 되었습니다.");
+            }
+
+            remaining = deadline - System.nanoTime();
+        }
+
+        this.throttledNanos.add(nanos);
+    }
+
+    /**
+     * 크기를 지정한 속도로 보내는 데 걸리는 시간을 계산하는 함수
+     *
+     * @param length
+     *            크기
+     * @param bytesPerSecond
+     *            속도 (bytes/s)
+     * @return 시간 (nanoseconds)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static long nanosFor(long length, long bytesPerSecond) {
+        return (long) ((double) length * TimeUnit.SECONDS.toNanos(1) / bytesPerSecond);
+    }
+
+    /**
+     * 진행 중인 전송. 하나의 thread에서 사용한다.
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public final class Transfer implements Closeable {
+
+        private final String name;
+        private final TransferPriority priority;
+        private final long startedAt = System.nanoTime();
+
+        /** 자신의 몫으로 다음에 보낼 수 있는 시간 ({@link System#nanoTime()} 기준) */
+        private long nextAt = this.startedAt;
+        /** 전송 하나의 최대 속도로 다음에 보낼 수 있는 시간 ({@link System#nanoTime()} 기준) */
+        private long limitAt = this.startedAt;
+        /** 보낸 byte 수 */
+        private volatile long bytes;
+        private boolean closed;
+
+        private Transfer(String name, TransferPriority priority) {
+            this.name = name;
+            this.priority = priority;
+        }
+
+        /**
+         * 보내는 속도를 조절하기 위해 output stream을 감싸는 함수
+         *
+         * @param outputStream
+         *            response output stream
+         * @return 감싼 output stream. 닫으면 원래 output stream도 닫힘
+         *
+         * @author MJ Youn
+         * @since 2026. 10. 19.
+         */
+        public OutputStream wrap(OutputStream outputStream) {
+            return new ThrottledOutputStream(outputStream, this);
+        }
+
+        /**
+         * 전송 등록을 해제하는 함수
+         *
+         * @see Closeable#close()
+         *
+         * @author MJ Youn
+         * @since 2026. 10. 19.
+         */
+        @Override
+        public void close() {
+            if (!this.closed) {
+                this.closed = true;
+                BandwidthManager.this.active.remove(this);
+                BandwidthManager.this.totalWeight.addAndGet(-this.priority.getWeight());
+            }
+        }
+
+        /**
+         * 보내기 전에 필요한 만큼 기다리는 함수
+         *
+         * @param length
+         *            보낼 크기
+         * @throws InterruptedIOException
+         *             기다리는 중 interrupt 된 경우
+         *
+         * @author MJ Youn
+         * @since 2026. 10. 19.
+         */
+        void acquire(int length) throws InterruptedIOException {
+            long wait = BandwidthManager.this.reserve(this, length, System.nanoTime());
+
+            if (wait > 0) {
+                BandwidthManager.this.pause(wait);
+            }
+        }
+
+        /**
+         * 보낸 크기를 반영하는 함수
+         *
+         * @param length
+         *            보낸 크기
+         *
+         * @author MJ Youn
+         * @since 2026. 10. 19.
+         */
+        void sent(int length) {
+            this.bytes += length;
+            BandwidthManager.this.bytes.add(length);
+        }
+
+        /**
+         * 시작한 후 평균 전송 속도를 계산하는 함수
+         *
+         * @param now
+         *            현재 시간 ({@link System#nanoTime()})
+         * @return 전송 속도 (bytes/s)
+         *
+         * @author MJ Youn
+         * @since 2026. 10. 19.
+         */
+        double getBytesPerSecond(long now) {
+            long elapsed = now - this.startedAt;
+            return elapsed <= 0 ? 0 : (double) this.bytes * TimeUnit.SECONDS.toNanos(1) / elapsed;
+        }
+
+    }
+
+    /**
+     * 쓰기 전에 {@link Transfer}의 허용을 기다리는 output stream. 큰 내용은 chunk 단위로 나누어 쓴다.
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private class ThrottledOutputStream extends FilterOutputStream {
+
+        private final Transfer transfer;
+
+        ThrottledOutputStream(OutputStream out, Transfer transfer) {
+            super(out);
+            this.transfer = transfer;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            this.transfer.acquire(1);
+            this.out.write(b);
+            this.transfer.sent(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                int chunk = Math.min(len, BandwidthManager.this.chunkSize);
+
+                this.transfer.acquire(chunk);
+                this.out.write(b, off, chunk);
+                this.transfer.sent(chunk);
+
+                off += chunk;
+                len -= chunk;
+            }
+        }
+
+    }
+
+    /**
+     * 누적 상태 정보
+     *
+     * @param activeTransfers
+     *            진행 중인 전송 수
+     * @param transfers
+     *            등록된 전체 전송 수
+     * @param bytes
+     *            보낸 byte 수
+     * @param throttledNanos
+     *            속도 제한으로 기다린 시간 합계 (nanoseconds)
+     * @param borrowed
+     *            공유 bucket의 여유를 빌려 몫보다 빠르게 보낸 횟수
+     * @param bytesPerSecond
+     *            진행 중인 전송의 평균 전송 속도 합계 (bytes/s)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public record Stats(int activeTransfers, long transfers, long bytes, long throttledNanos, long borrowed, double bytesPerSecond) {
+    }
+
+    /**
+     * 진행 중인 전송 정보
+     *
+     * @param name
+     *            전송 이름
+     * @param priority
+     *            우선 순위
+     * @param bytes
+     *            보낸 byte 수
+     * @param bytesPerSecond
+     *            시작한 후 평균 전송 속도 (bytes/s)
+     * @param shareBytesPerSecond
+     *            우선 순위에 따른 몫 (bytes/s)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public record TransferInfo(String name, TransferPriority priority, long bytes, double bytesPerSecond, long shareBytesPerSecond) {
+    }
+
+}
@@ -0,0 +1,39 @@
+package io.github.mjyoun.spring.web.service.bandwidth;
+
+/**
+ * 다운로드 전송 우선 순위. 대역폭이 부족할 때 가중치 비율로 나누어 사용한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public enum TransferPriority {
+    /** 사용자가 기다리는 작은 파일 등 */
+    HIGH(4),
+    /** 기본 */
+    NORMAL(2),
+    /** 대량 export, 백업 등 */
+    BULK(1);
+
+    /** 가중치 */
+    private final int weight;
+
+    TransferPriority(int weight) {
+        this.weight = weight;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    /**
+     * metric tag 등에 사용할 이름
+     *
+     * @return 소문자 이름
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public String tagValue() {
+        return this.name().toLowerCase();
+    }
+}
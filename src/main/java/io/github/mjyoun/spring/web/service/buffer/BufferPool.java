@@ -0,0 +1,193 @@
+package io.github.mjyoun.spring.web.service.buffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 파일 생성 및 전송에 사용하는 direct {@link ByteBuffer} pool
+ * <p>
+ * 고정 크기의 direct buffer를 최대 개수까지만 생성하여 재사용한다. 최대 개수를 모두 사용 중일 때는 pool에 넣지 않는 heap buffer를 대신 반환한다. 크기가 큰 내용은
+ * {@link #newSpillBuffer()}로 생성한 {@link SpillBuffer}를 통해 heap 대신 memory-mapped 임시 파일에 저장한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class BufferPool {
+
+    private final int bufferSize;
+    private final int maxBuffers;
+    private final long spillThreshold;
+    private final Path spillDirectory;
+
+    /** 사용 가능한 buffer 목록 */
+    private final BlockingQueue<ByteBuffer> available;
+    /** 생성된 direct buffer 수 */
+    private final AtomicInteger allocated = new AtomicInteger();
+    /** 사용 중인 direct buffer 수 */
+    private final AtomicInteger inUse = new AtomicInteger();
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private final LongAdder spills = new LongAdder();
+    private final LongAdder spilledBytes = new LongAdder();
+
+    /**
+     * (non-javadoc)
+     *
+     * @param bufferSize
+     *            buffer 하나의 크기
+     * @param maxBuffers
+     *            생성할 최대 direct buffer 수
+     * @param spillThreshold
+     *            {@link SpillBuffer}가 임시 파일로 옮기는 크기
+     * @param spillDirectory
+     *            임시 파일 디렉토리
+     * @throws IOException
+     *             임시 파일 디렉토리 생성 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public BufferPool(int bufferSize, int maxBuffers, long spillThreshold, Path spillDirectory) throws IOException {
+        this.bufferSize = bufferSize;
+        this.maxBuffers = maxBuffers;
+        this.spillThreshold = spillThreshold;
+        this.spillDirectory = Files.createDirectories(spillDirectory);
+        this.available = new ArrayBlockingQueue<>(Math.max(1, maxBuffers));
+    }
+
+    /**
+     * buffer를 가져오는 함수. 사용 후 {@link #release(ByteBuffer)}로 반환해야 한다.
+     *
+     * @return 비어 있는 buffer. 최대 개수를 모두 사용 중일 경우 heap buffer
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public ByteBuffer acquire() {
+        this.acquired.increment();
+
+        ByteBuffer buffer = this.available.poll();
+
+        if (buffer == null) {
+            int count = this.allocated.get();
+
+            while (count < this.maxBuffers) {
+                if (this.allocated.compareAndSet(count, count + 1)) {
+                    buffer = ByteBuffer.allocateDirect(this.bufferSize);
+                    break;
+                }
+
+                count = this.allocated.get();
+            }
+        }
+
+        if (buffer == null) {
+            this.fallbacks.increment();
+            return ByteBuffer.allocate(this.bufferSize);
+        }
+
+        this.inUse.incrementAndGet();
+        return buffer.clear();
+    }
+
+    /**
+     * 사용한 buffer를 반환하는 함수. heap buffer는 반환하지 않고 버린다.
+     *
+     * @param buffer
+     *            {@link #acquire()}로 가져온 buffer
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer != null && buffer.isDirect()) {
+            this.inUse.decrementAndGet();
+            this.available.offer(buffer.clear());
+        }
+    }
+
+    /**
+     * 크기가 커지면 임시 파일로 옮겨지는 {@link SpillBuffer}를 생성하는 함수
+     *
+     * @return {@link SpillBuffer}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public SpillBuffer newSpillBuffer() {
+        return new SpillBuffer(this, this.spillThreshold, this.spillDirectory);
+    }
+
+    /**
+     * buffer 크기를 조회하는 함수
+     *
+     * @return buffer 하나의 크기
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public int getBufferSize() {
+        return this.bufferSize;
+    }
+
+    /**
+     * 현재 상태를 조회하는 함수
+     *
+     * @return {@link Stats}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public Stats stats() {
+        return new Stats(this.bufferSize, this.maxBuffers, this.allocated.get(), this.inUse.get(), this.acquired.sum(), this.fallbacks.sum(),
+                this.spills.sum(), this.spilledBytes.sum());
+    }
+
+    /**
+     * 임시 파일로 옮겨진 내용을 기록하는 함수
+     *
+     * @param bytes
+     *            임시 파일에 저장된 크기
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    void recordSpill(long bytes) {
+        this.spills.increment();
+        this.spilledBytes.add(bytes);
+    }
+
+    /**
+     * pool 상태 정보
+     *
+     * @param bufferSize
+     *            buffer 하나의 크기
+     * @param maxBuffers
+     *            생성할 최대 direct buffer 수
+     * @param allocated
+     *            생성된 direct buffer 수
+     * @param inUse
+     *            사용 중인 direct buffer 수
+     * @param acquired
+     *            buffer 요청 수
+     * @param fallbacks
+     *            pool이 가득 차 heap buffer를 반환한 수
+     * @param spills
+     *            임시 파일로 옮겨진 수
+     * @param spilledBytes
+     *            임시 파일로 옮겨진 크기 합계
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public record Stats(int bufferSize, int maxBuffers, int allocated, int inUse, long acquired, long fallbacks, long spills, long spilledBytes) {
+    }
+
+}
@@ -0,0 +1,318 @@
+package io.github.mjyoun.spring.web.service.buffer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 생성한 내용을 heap 밖에 저장하기 위한 output stream
+ * <p>
+ * 처음에는 {@link BufferPool}의 direct buffer에 저장하고, 크기가 기준을 넘으면 임시 파일을 memory-mapped {@link MemorySegment}로 열어 저장한다.
+ * mapping은 {@link Arena}에 묶여 있어 {@link #close()} 시 바로 해제되고, 임시 파일도 삭제된다. thread-safe 하지 않으므로 쓰기와 전송을 동시에 하지 않는다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class SpillBuffer extends OutputStream {
+
+    /** 임시 파일을 한 번에 mapping 하는 크기 */
+    private static final long MAP_REGION_SIZE = 16L * 1024 * 1024;
+
+    private final BufferPool pool;
+    private final long spillThreshold;
+    private final Path spillDirectory;
+
+    /** 내용이 저장된 direct buffer 목록 */
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+    /** 쓰고 있는 buffer */
+    private ByteBuffer current;
+    /** 저장된 크기 */
+    private long size;
+
+    /** 임시 파일. 옮겨지지 않은 경우 null */
+    private Path file;
+    private FileChannel channel;
+    private Arena arena;
+    /** 쓰고 있는 mapping 영역 */
+    private MemorySegment region;
+    /** 쓰고 있는 mapping 영역의 파일 내 시작 위치 */
+    private long regionStart;
+    /** 쓰고 있는 mapping 영역 내 위치 */
+    private long regionPosition;
+
+    /** 쓰기 완료 여부 */
+    private boolean finished;
+    /** 닫힘 여부 */
+    private boolean closed;
+
+    /**
+     * (non-javadoc)
+     *
+     * @param pool
+     *            {@link BufferPool}
+     * @param spillThreshold
+     *            임시 파일로 옮기는 크기
+     * @param spillDirectory
+     *            임시 파일 디렉토리
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    SpillBuffer(BufferPool pool, long spillThreshold, Path spillDirectory) {
+        this.pool = pool;
+        this.spillThreshold = spillThreshold;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * @see OutputStream#write(int)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void write(int b) throws IOException {
+        this.write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    /**
+     * @see OutputStream#write(byte[], int, int)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (this.closed || this.finished) {
+            throw new IOException("이미 닫혔거나 전송된 buffer 입니다.");
+        }
+
+        if (this.file == null && this.size + len > this.spillThreshold) {
+            this.spill();
+        }
+
+        if (this.file == null) {
+            int offset = off;
+            int remaining = len;
+
+            while (remaining > 0) {
+                if (this.current == null || !this.current.hasRemaining()) {
+                    this.current = this.pool.acquire();
+                    this.buffers.add(this.current);
+                }
+
+                int length = Math.min(remaining, this.current.remaining());
+                this.current.put(b, offset, length);
+                offset += length;
+                remaining -= length;
+            }
+        } else {
+            this.writeToFile(MemorySegment.ofArray(b).asSlice(off, len));
+        }
+
+        this.size += len;
+    }
+
+    /**
+     * 저장된 크기를 조회하는 함수
+     *
+     * @return 저장된 크기
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * 임시 파일로 옮겨졌는지 확인하는 함수
+     *
+     * @return 임시 파일 저장 여부
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public boolean isSpilled() {
+        return this.file != null;
+    }
+
+    /**
+     * 저장된 내용을 output stream으로 전송하는 함수. 전송 후에는 더 이상 쓸 수 없다.
+     *
+     * @param outputStream
+     *            전송할 output stream. 닫지 않는다.
+     * @throws IOException
+     *             전송 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        this.finish();
+
+        WritableByteChannel target = Channels.newChannel(outputStream);
+
+        if (this.file == null) {
+            for (ByteBuffer buffer : this.buffers) {
+                ByteBuffer source = buffer.duplicate().flip();
+
+                while (source.hasRemaining()) {
+                    target.write(source);
+                }
+            }
+        } else {
+            long position = 0;
+
+            while (position < this.size) {
+                position += this.channel.transferTo(position, this.size - position, target);
+            }
+        }
+
+        outputStream.flush();
+    }
+
+    /**
+     * buffer를 pool에 반환하고 임시 파일을 삭제
+     *
+     * @see OutputStream#close()
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+
+        this.closed = true;
+        this.releaseBuffers();
+
+        if (this.file != null) {
+            try {
+                this.unmap();
+                this.channel.close();
+            } finally {
+                Files.deleteIfExists(this.file);
+            }
+        }
+    }
+
+    /**
+     * 저장된 내용을 임시 파일로 옮기는 함수
+     *
+     * @throws IOException
+     *             임시 파일 생성 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void spill() throws IOException {
+        this.file = Files.createTempFile(this.spillDirectory, "spill-", ".tmp");
+        this.channel = FileChannel.open(this.file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.arena = Arena.ofShared();
+
+        for (ByteBuffer buffer : this.buffers) {
+            this.writeToFile(MemorySegment.ofBuffer(buffer.duplicate().flip()));
+        }
+
+        this.releaseBuffers();
+    }
+
+    /**
+     * 내용을 mapping 된 임시 파일에 쓰는 함수. 영역이 가득 차면 다음 영역을 mapping 한다.
+     *
+     * @param source
+     *            쓸 내용
+     * @throws IOException
+     *             mapping 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void writeToFile(MemorySegment source) throws IOException {
+        long offset = 0;
+        long remaining = source.byteSize();
+
+        while (remaining > 0) {
+            if (this.region == null || this.regionPosition == this.region.byteSize()) {
+                this.regionStart += this.region == null ? 0 : this.region.byteSize();
+                this.region = this.channel.map(MapMode.READ_WRITE, this.regionStart, MAP_REGION_SIZE, this.arena);
+                this.regionPosition = 0;
+            }
+
+            long length = Math.min(remaining, this.region.byteSize() - this.regionPosition);
+            MemorySegment.copy(source, offset, this.region, this.regionPosition, length);
+            this.regionPosition += length;
+            offset += length;
+            remaining -= length;
+        }
+    }
+
+    /**
+     * 쓰기를 완료하는 함수. 임시 파일은 mapping을 해제하고 실제 크기로 줄인다.
+     *
+     * @throws IOException
+     *             임시 파일 크기 변경 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void finish() throws IOException {
+        if (this.closed) {
+            throw new IOException("이미 닫힌 buffer 입니다.");
+        } else if (this.finished) {
+            return;
+        }
+
+        this.finished = true;
+
+        if (this.file != null) {
+            this.unmap();
+            this.channel.truncate(this.size);
+            this.pool.recordSpill(this.size);
+        }
+    }
+
+    /**
+     * 임시 파일 mapping을 해제하는 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void unmap() {
+        if (this.arena != null) {
+            this.arena.close();
+            this.arena = null;
+            this.region = null;
+        }
+    }
+
+    /**
+     * direct buffer를 pool에 반환하는 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void releaseBuffers() {
+        for (ByteBuffer buffer : this.buffers) {
+            this.pool.release(buffer);
+        }
+
+        this.buffers.clear();
+        this.current = null;
+    }
+
+}
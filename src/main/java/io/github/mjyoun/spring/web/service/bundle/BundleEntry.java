@@ -0,0 +1,214 @@
+package io.github.mjyoun.spring.web.service.bundle;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import io.github.mjyoun.spring.web.export.ExcelDocument;
+import io.github.mjyoun.spring.web.export.ExportBackends;
+import io.github.mjyoun.spring.web.service.CSVService;
+import io.github.mjyoun.spring.web.service.cache.ArtifactWriter;
+
+/**
+ * ZIP 묶음 다운로드에 포함할 파일 정보
+ * <p>
+ * 저장된 파일, byte 배열, CSV, 엑셀 또는 직접 생성하는 내용을 지정할 수 있다. 이미 압축된 형식(zip, xlsx, jpg 등)은 다시 압축하지 않고 그대로 저장한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class BundleEntry {
+
+    /** 이미 압축된 형식의 확장자 목록 */
+    private static final Set<String> COMPRESSED_EXTENSIONS = Set.of("zip", "gz", "tgz", "bz2", "xz", "zst", "7z", "rar", "jar", "xlsx", "docx",
+            "pptx", "jpg", "jpeg", "png", "gif", "webp", "mp3", "mp4", "m4a", "mov", "avi", "mkv", "webm");
+
+    private final String name;
+    /** 저장된 파일. 생성하는 내용일 경우 null */
+    private final Path file;
+    /** 내용 생성 함수. 저장된 파일일 경우 null */
+    private final EntryWriter writer;
+    /** 이미 압축된 형식인지 여부 */
+    private final boolean compressed;
+
+    /**
+     * (non-javadoc)
+     *
+     * @param name
+     *            ZIP 안의 파일 이름
+     * @param file
+     *            저장된 파일
+     * @param writer
+     *            내용 생성 함수
+     * @param compressed
+     *            이미 압축된 형식인지 여부
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private BundleEntry(String name, Path file, EntryWriter writer, boolean compressed) {
+        this.name = name;
+        this.file = file;
+        this.writer = writer;
+        this.compressed = compressed;
+    }
+
+    /**
+     * 저장된 파일을 저장된 이름으로 포함
+     *
+     * @param file
+     *            파일 경로
+     * @return {@link BundleEntry}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static BundleEntry ofFile(Path file) {
+        return ofFile(file.getFileName().toString(), file);
+    }
+
+    /**
+     * 저장된 파일을 포함
+     *
+     * @param name
+     *            ZIP 안의 파일 이름
+     * @param file
+     *            파일 경로
+     * @return {@link BundleEntry}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static BundleEntry ofFile(String name, Path file) {
+        return new BundleEntry(name, file, null, isCompressed(name));
+    }
+
+    /**
+     * byte 배열을 포함
+     *
+     * @param name
+     *            ZIP 안의 파일 이름
+     * @param contents
+     *            파일 내용
+     * @return {@link BundleEntry}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static BundleEntry ofBytes(String name, byte[] contents) {
+        return new BundleEntry(name, null, (csvService, outputStream) -> outputStream.write(contents), isCompressed(name));
+    }
+
+    /**
+     * CSV 파일을 생성하여 포함
+     *
+     * @param name
+     *            ZIP 안의 파일 이름 (확장자 포함)
+     * @param headers
+     *            헤더 목록. null일 경우 헤더가 없는 형태의 csv 파일
+     * @param datas
+     *            데이터 목록 조회 함수. 묶음 생성 중에 호출됨
+     * @param separator
+     *            구분자
+     * @param quote
+     *            따옴표, '\0'일 경우 따옴표 하지 않음. 있을 경우 무조건 따옴표로 묶음
+     * @return {@link BundleEntry}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static BundleEntry ofCsv(String name, String[] headers, Supplier<List<String[]>> datas, char separator, char quote) {
+        return new BundleEntry(name, null, (csvService, outputStream) -> csvService.writeCSV(outputStream, headers, datas.get(), separator, quote),
+                false);
+    }
+
+    /**
+     * 엑셀 파일을 생성하여 포함. xlsx는 이미 압축된 형식이므로 다시 압축하지 않는다.
+     *
+     * @param name
+     *            ZIP 안의 파일 이름 (확장자 포함)
+     * @param headers
+     *            헤더 정보
+     * @param datas
+     *            데이터 조회 함수. 묶음 생성 중에 호출됨
+     * @return {@link BundleEntry}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static BundleEntry ofExcel(String name, String[] headers, Supplier<Object[][]> datas) {
+        return new BundleEntry(name, null, (csvService, outputStream) -> {
+            try (ExcelDocument workbook = ExportBackends.excel().create(headers, datas.get())) {
+                workbook.write(outputStream);
+            }
+        }, true);
+    }
+
+    /**
+     * 직접 생성하는 내용을 포함
+     *
+     * @param name
+     *            ZIP 안의 파일 이름
+     * @param writer
+     *            내용 생성 함수
+     * @param compressed
+     *            이미 압축된 형식인지 여부. true일 경우 다시 압축하지 않음
+     * @return {@link BundleEntry}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static BundleEntry of(String name, ArtifactWriter writer, boolean compressed) {
+        return new BundleEntry(name, null, (csvService, outputStream) -> writer.write(outputStream), compressed);
+    }
+
+    /**
+     * 확장자로 이미 압축된 형식인지 확인하는 함수
+     *
+     * @param name
+     *            파일 이름
+     * @return 압축된 형식 여부
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    static boolean isCompressed(String name) {
+        int index = name.lastIndexOf('.');
+
+        return index >= 0 && COMPRESSED_EXTENSIONS.contains(name.substring(index + 1).toLowerCase(Locale.ROOT));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isCompressed() {
+        return compressed;
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    EntryWriter getWriter() {
+        return writer;
+    }
+
+    /**
+     * 내용 생성 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @FunctionalInterface
+    interface EntryWriter {
+
+        void write(CSVService csvService, OutputStream outputStream) throws IOException;
+
+    }
+
+}
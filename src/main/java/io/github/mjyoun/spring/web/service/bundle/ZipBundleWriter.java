@@ -0,0 +1,280 @@
+package io.github.mjyoun.spring.web.service.bundle;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import io.github.mjyoun.spring.web.service.CSVService;
+import io.github.mjyoun.spring.web.service.buffer.BufferPool;
+import io.github.mjyoun.spring.web.service.buffer.SpillBuffer;
+
+/**
+ * 여러 파일을 하나의 ZIP으로 묶어 output stream에 바로 쓰기 위한 클래스
+ * <p>
+ * 파일은 순서대로 ZIP에 쓰며, 앞으로 쓸 파일 최대 {@code readAhead}개를 virtual thread에서 미리 생성한다. 생성한 내용은 {@link BufferPool}이 있으면
+ * {@link SpillBuffer}에, 없으면 heap에 보관한다. 이미 압축된 형식은 CRC를 미리 계산하여 압축하지 않고({@link ZipEntry#STORED}) 저장하고, 그 외에는 압축하여
+ * 저장한다. 압축할 저장된 파일은 미리 읽지 않고 쓸 때 바로 읽는다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class ZipBundleWriter {
+
+    /** output stream buffer 크기 */
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+    private final CSVService csvService;
+    private final BufferPool bufferPool;
+    private final int readAhead;
+
+    /**
+     * (non-javadoc)
+     *
+     * @param csvService
+     *            CSV 생성에 사용할 {@link CSVService}
+     * @param bufferPool
+     *            생성한 내용을 보관할 {@link BufferPool}. null일 경우 heap에 보관
+     * @param readAhead
+     *            미리 생성할 최대 파일 수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public ZipBundleWriter(CSVService csvService, BufferPool bufferPool, int readAhead) {
+        this.csvService = csvService;
+        this.bufferPool = bufferPool;
+        this.readAhead = Math.max(1, readAhead);
+    }
+
+    /**
+     * 파일 목록을 ZIP으로 묶어 쓰는 함수
+     *
+     * @param outputStream
+     *            ZIP을 쓸 output stream. 닫지 않는다.
+     * @param entries
+     *            파일 목록
+     * @return 쓴 파일 수
+     * @throws IOException
+     *             파일 생성 또는 쓰기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public int write(OutputStream outputStream, List<BundleEntry> entries) throws IOException {
+        Deque<Future<Prepared>> pending = new ArrayDeque<>(this.readAhead);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        int next = 0;
+        int written = 0;
+
+        ZipOutputStream zipOutputStream = new ZipOutputStream(new BufferedOutputStream(new NonClosingOutputStream(outputStream), OUTPUT_BUFFER_SIZE));
+
+        try {
+            while (written < entries.size()) {
+                // 앞으로 쓸 파일을 최대 readAhead 개까지 미리 생성
+                while (next < entries.size() && pending.size() < this.readAhead) {
+                    BundleEntry entry = entries.get(next++);
+                    pending.add(executor.submit(() -> this.prepare(entry)));
+                }
+
+                try (Prepared prepared = await(pending.poll())) {
+                    prepared.writeTo(zipOutputStream);
+                }
+
+                written++;
+            }
+
+            // 원래 output stream은 닫지 않고 ZIP 끝 부분만 씀
+            zipOutputStream.close();
+        } finally {
+            executor.shutdownNow();
+            executor.close();
+
+            // 오류로 쓰지 못한 파일의 buffer 반환
+            for (Future<Prepared> future : pending) {
+                if (future.state() == Future.State.SUCCESS) {
+                    future.resultNow().close();
+                }
+            }
+        }
+
+        return written;
+    }
+
+    /**
+     * 파일을 ZIP에 쓸 수 있도록 준비하는 함수
+     *
+     * @param entry
+     *            {@link BundleEntry}
+     * @return {@link Prepared}
+     * @throws IOException
+     *             파일 생성 또는 읽기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private Prepared prepare(BundleEntry entry) throws IOException {
+        CRC32 crc = new CRC32();
+
+        if (entry.getFile() != null) {
+            if (!entry.isCompressed()) {
+                return new Prepared(entry, null, null, crc);
+            }
+
+            // 압축하지 않고 저장하기 위해 CRC를 미리 계산
+            try (InputStream inputStream = new CheckedInputStream(Files.newInputStream(entry.getFile()), crc)) {
+                inputStream.transferTo(OutputStream.nullOutputStream());
+            }
+
+            return new Prepared(entry, null, null, crc);
+        }
+
+        if (this.bufferPool != null) {
+            SpillBuffer buffer = this.bufferPool.newSpillBuffer();
+
+            try {
+                entry.getWriter().write(this.csvService, new CheckedOutputStream(buffer, crc));
+                return new Prepared(entry, buffer, null, crc);
+            } catch (IOException | RuntimeException e) {
+                buffer.close();
+                throw e;
+            }
+        } else {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            entry.getWriter().write(this.csvService, new CheckedOutputStream(buffer, crc));
+            return new Prepared(entry, null, buffer, crc);
+        }
+    }
+
+    /**
+     * 미리 생성 중인 파일을 기다리는 함수
+     *
+     * @param future
+     *            생성 중인 파일
+     * @return {@link Prepared}
+     * @throws IOException
+     *             파일 생성 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static Prepared await(Future<Prepared> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("ZIP 묶음 생성 중 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof IOException ioe) {
+                throw ioe;
+            } else if (cause instanceof RuntimeException re) {
+                throw re;
+            } else if (cause instanceof Error error) {
+                throw error;
+            } else {
+                throw new IOException(cause);
+            }
+        }
+    }
+
+    /**
+     * ZIP에 쓸 준비가 된 파일
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static class Prepared implements AutoCloseable {
+
+        private final BundleEntry entry;
+        private final SpillBuffer spillBuffer;
+        private final ByteArrayOutputStream heapBuffer;
+        private final CRC32 crc;
+
+        Prepared(BundleEntry entry, SpillBuffer spillBuffer, ByteArrayOutputStream heapBuffer, CRC32 crc) {
+            this.entry = entry;
+            this.spillBuffer = spillBuffer;
+            this.heapBuffer = heapBuffer;
+            this.crc = crc;
+        }
+
+        void writeTo(ZipOutputStream zipOutputStream) throws IOException {
+            Path file = this.entry.getFile();
+            ZipEntry zipEntry = new ZipEntry(this.entry.getName());
+
+            if (this.entry.isCompressed()) {
+                long size = file != null ? Files.size(file) : this.spillBuffer != null ? this.spillBuffer.size() : this.heapBuffer.size();
+
+                zipEntry.setMethod(ZipEntry.STORED);
+                zipEntry.setSize(size);
+                zipEntry.setCompressedSize(size);
+                zipEntry.setCrc(this.crc.getValue());
+            } else {
+                zipEntry.setMethod(ZipEntry.DEFLATED);
+            }
+
+            zipOutputStream.putNextEntry(zipEntry);
+
+            if (file != null) {
+                Files.copy(file, zipOutputStream);
+            } else if (this.spillBuffer != null) {
+                this.spillBuffer.writeTo(zipOutputStream);
+            } else {
+                this.heapBuffer.writeTo(zipOutputStream);
+            }
+
+            zipOutputStream.closeEntry();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (this.spillBuffer != null) {
+                this.spillBuffer.close();
+            }
+        }
+
+    }
+
+    /**
+     * ZIP을 닫을 때 원래 output stream은 닫지 않기 위한 wrapper
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            this.out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.flush();
+        }
+
+    }
+
+}
@@ -0,0 +1,28 @@
+package io.github.mjyoun.spring.web.service.cache;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 다운로드할 파일 내용을 생성하는 함수
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@FunctionalInterface
+public interface ArtifactWriter {
+
+    /**
+     * 파일 내용을 생성하여 output stream에 쓰는 함수. output stream은 호출한 쪽에서 닫는다.
+     * 
+     * @param outputStream
+     *            파일 내용을 쓸 output stream
+     * @throws IOException
+     *             파일 내용 생성 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    void write(OutputStream outputStream) throws IOException;
+
+}
@@ -0,0 +1,128 @@
+package io.github.mjyoun.spring.web.service.cache;
+
+import java.nio.file.Path;
+
+/**
+ * cache에 저장된 다운로드 파일 정보
+ * <p>
+ * 작은 파일은 heap에 byte 배열로, 큰 파일은 disk에 파일로 저장된다.
+ * 
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class CachedArtifact {
+
+    private final String key;
+    private final String contentType;
+    private final String etag;
+    private final long size;
+    private final long expiresAt;
+    /** heap에 저장된 내용. disk에 저장된 경우 null */
+    private final byte[] bytes;
+    /** disk에 저장된 파일. heap에 저장된 경우 null */
+    private final Path file;
+
+    /** 마지막 조회 시각 (ms) */
+    private volatile long lastAccess;
+
+    /**
+     * (non-javadoc)
+     * 
+     * @param key
+     *            cache key
+     * @param contentType
+     *            content type
+     * @param etag
+     *            ETag (따옴표 포함)
+     * @param size
+     *            파일 크기
+     * @param expiresAt
+     *            만료 시각 (ms)
+     * @param bytes
+     *            heap에 저장된 내용
+     * @param file
+     *            disk에 저장된 파일
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    CachedArtifact(String key, String contentType, String etag, long size, long expiresAt, byte[] bytes, Path file) {
+        this.key = key;
+        this.contentType = contentType;
+        this.etag = etag;
+        this.size = size;
+        this.expiresAt = expiresAt;
+        this.bytes = bytes;
+        this.file = file;
+        this.lastAccess = System.currentTimeMillis();
+    }
+
+    /**
+     * 만료 여부를 확인하는 함수
+     * 
+     * @param now
+     *            현재 시각 (ms)
+     * @return 만료 여부
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    boolean isExpired(long now) {
+        return now >= this.expiresAt;
+    }
+
+    /**
+     * 조회 시각을 갱신하는 함수
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    void touch() {
+        this.lastAccess = System.currentTimeMillis();
+    }
+
+    /**
+     * heap에 저장되어 있는지 확인하는 함수
+     * 
+     * @return heap 저장 여부
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public boolean isInHeap() {
+        return this.bytes != null;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    long getLastAccess() {
+        return lastAccess;
+    }
+
+}
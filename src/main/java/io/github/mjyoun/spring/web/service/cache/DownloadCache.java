@@ -0,0 +1,453 @@
+package io.github.mjyoun.spring.web.service.cache;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * 생성된 다운로드 파일을 key 별로 저장하기 위한 cache
+ * <p>
+ * 크기가 작은 파일은 heap에, 큰 파일은 disk에 저장하며 각각 최대 크기를 넘으면 오래 조회되지 않은 파일부터 제거한다. 같은 key로 동시에 요청된 파일은 한 번만 생성하고 결과를
+ * 공유한다. disk에서 제거된 파일은 전송 중일 수 있으므로 유예 시간이 지난 후 삭제하며, 만료된 파일은 유예 시간 주기로 정리한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class DownloadCache implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(DownloadCache.class);
+
+    private final Duration ttl;
+    private final long heapMaxBytes;
+    private final long heapEntryMaxBytes;
+    private final Path diskDirectory;
+    private final long diskMaxBytes;
+    private final Duration deleteGracePeriod;
+
+    /** 저장된 파일 목록 */
+    private final Map<String, CachedArtifact> entries = new ConcurrentHashMap<>();
+    /** 생성 중인 파일 목록 */
+    private final Map<String, CompletableFuture<CachedArtifact>> inFlight = new ConcurrentHashMap<>();
+    /** 삭제 대기 중인 파일 목록 */
+    private final ConcurrentLinkedQueue<PendingDelete> pendingDeletes = new ConcurrentLinkedQueue<>();
+    /** 정리 scheduler */
+    private final ScheduledExecutorService scheduler;
+
+    /** heap 사용량 */
+    private final AtomicLong heapBytes = new AtomicLong();
+    /** disk 사용량 */
+    private final AtomicLong diskBytes = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * (non-javadoc)
+     *
+     * @param ttl
+     *            저장 시간
+     * @param heapMaxBytes
+     *            heap에 저장할 최대 크기 합계
+     * @param heapEntryMaxBytes
+     *            heap에 저장할 파일 하나의 최대 크기. 초과하면 disk에 저장
+     * @param diskDirectory
+     *            disk 저장 디렉토리
+     * @param diskMaxBytes
+     *            disk에 저장할 최대 크기 합계
+     * @param deleteGracePeriod
+     *            disk에서 제거된 파일을 실제로 삭제하기까지의 유예 시간
+     * @throws IOException
+     *             저장 디렉토리 생성 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public DownloadCache(Duration ttl, long heapMaxBytes, long heapEntryMaxBytes, Path diskDirectory, long diskMaxBytes,
+            Duration deleteGracePeriod) throws IOException {
+        this.ttl = ttl;
+        this.heapMaxBytes = heapMaxBytes;
+        this.heapEntryMaxBytes = Math.min(heapEntryMaxBytes, heapMaxBytes);
+        this.diskDirectory = Files.createDirectories(diskDirectory);
+        this.diskMaxBytes = diskMaxBytes;
+        this.deleteGracePeriod = deleteGracePeriod;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("download-cache-cleaner").daemon().factory());
+
+        long millis = Math.max(1000L, deleteGracePeriod.toMillis());
+        this.scheduler.scheduleWithFixedDelay(this::cleanUp, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 저장된 파일을 조회하는 함수
+     *
+     * @param key
+     *            cache key
+     * @return 저장된 파일. 없거나 만료된 경우 null
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CachedArtifact get(String key) {
+        CachedArtifact artifact = this.entries.get(key);
+
+        if (artifact == null) {
+            return null;
+        } else if (artifact.isExpired(System.currentTimeMillis())) {
+            this.remove(artifact);
+            return null;
+        } else {
+            artifact.touch();
+            return artifact;
+        }
+    }
+
+    /**
+     * 저장된 파일을 조회하고, 없을 경우 생성하여 저장하는 함수. 같은 key로 동시에 호출되면 한 번만 생성한다.
+     *
+     * @param key
+     *            cache key
+     * @param contentType
+     *            content type
+     * @param writer
+     *            파일 생성 함수
+     * @return 저장된 파일
+     * @throws IOException
+     *             파일 생성 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CachedArtifact getOrGenerate(String key, String contentType, ArtifactWriter writer) throws IOException {
+        CachedArtifact artifact = this.get(key);
+
+        if (artifact != null) {
+            this.hits.increment();
+            return artifact;
+        }
+
+        CompletableFuture<CachedArtifact> future = new CompletableFuture<>();
+        CompletableFuture<CachedArtifact> existing = this.inFlight.putIfAbsent(key, future);
+
+        if (existing != null) {
+            // 다른 요청에서 생성 중인 경우 결과를 기다림
+            this.coalesced.increment();
+            return join(existing);
+        }
+
+        this.misses.increment();
+
+        try {
+            artifact = this.generate(key, contentType, writer);
+            this.store(artifact);
+            future.complete(artifact);
+            return artifact;
+        } catch (IOException | RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 저장된 파일을 제거하는 함수
+     *
+     * @param key
+     *            cache key
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void evict(String key) {
+        CachedArtifact artifact = this.entries.get(key);
+
+        if (artifact != null) {
+            this.remove(artifact);
+        }
+    }
+
+    /**
+     * 만료된 파일과 삭제 유예 시간이 지난 파일을 정리하는 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void cleanUp() {
+        long now = System.currentTimeMillis();
+
+        for (CachedArtifact artifact : this.entries.values()) {
+            if (artifact.isExpired(now)) {
+                this.remove(artifact);
+            }
+        }
+
+        PendingDelete pending;
+        while ((pending = this.pendingDeletes.peek()) != null && pending.deleteAt() <= now) {
+            if (this.pendingDeletes.remove(pending)) {
+                deleteQuietly(pending.file());
+            }
+        }
+    }
+
+    /**
+     * 현재 상태를 조회하는 함수
+     *
+     * @return {@link Stats}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public Stats stats() {
+        return new Stats(this.entries.size(), this.heapBytes.get(), this.diskBytes.get(), this.hits.sum(), this.misses.sum(),
+                this.coalesced.sum(), this.evictions.sum());
+    }
+
+    /**
+     * scheduler를 종료하고 저장된 파일을 모두 삭제
+     *
+     * @see DisposableBean#destroy()
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void destroy() {
+        this.scheduler.shutdownNow();
+        this.entries.values().forEach(this::remove);
+
+        PendingDelete pending;
+        while ((pending = this.pendingDeletes.poll()) != null) {
+            deleteQuietly(pending.file());
+        }
+    }
+
+    /**
+     * 파일을 생성하는 함수. 우선 disk에 쓰고, 크기가 작으면 heap으로 옮긴다.
+     *
+     * @param key
+     *            cache key
+     * @param contentType
+     *            content type
+     * @param writer
+     *            파일 생성 함수
+     * @return 생성된 파일
+     * @throws IOException
+     *             파일 생성 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private CachedArtifact generate(String key, String contentType, ArtifactWriter writer) throws IOException {
+        final String methodName = "DownloadCache#generate";
+
+        Path file = Files.createTempFile(this.diskDirectory, "download-", ".cache");
+        CRC32C checksum = new CRC32C();
+
+        try (OutputStream outputStream = new CheckedOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024), checksum)) {
+            writer.write(outputStream);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+
+        long size = Files.size(file);
+        String etag = "\"" + HexFormat.of().toHexDigits(checksum.getValue()) + "-" + Long.toHexString(size) + "\"";
+        long expiresAt = System.currentTimeMillis() + this.ttl.toMillis();
+
+        logger.debug("[{}] 다운로드 파일 생성 [key: {}, size: {}]", methodName, key, size);
+
+        if (size <= this.heapEntryMaxBytes) {
+            byte[] bytes = Files.readAllBytes(file);
+            deleteQuietly(file);
+            return new CachedArtifact(key, contentType, etag, size, expiresAt, bytes, null);
+        } else {
+            return new CachedArtifact(key, contentType, etag, size, expiresAt, null, file);
+        }
+    }
+
+    /**
+     * 생성된 파일을 저장하고, 최대 크기를 넘을 경우 오래 조회되지 않은 파일부터 제거하는 함수
+     *
+     * @param artifact
+     *            생성된 파일
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void store(CachedArtifact artifact) {
+        CachedArtifact previous = this.entries.put(artifact.getKey(), artifact);
+        if (previous != null) {
+            this.release(previous);
+        }
+
+        if (artifact.isInHeap()) {
+            this.heapBytes.addAndGet(artifact.getSize());
+        } else {
+            this.diskBytes.addAndGet(artifact.getSize());
+        }
+
+        this.cleanUp();
+        this.evictOverflow();
+    }
+
+    /**
+     * heap, disk 최대 크기를 넘은 만큼 오래 조회되지 않은 파일부터 제거하는 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private synchronized void evictOverflow() {
+        if (this.heapBytes.get() <= this.heapMaxBytes && this.diskBytes.get() <= this.diskMaxBytes) {
+            return;
+        }
+
+        List<CachedArtifact> candidates = new ArrayList<>(this.entries.values());
+        candidates.sort(Comparator.comparingLong(CachedArtifact::getLastAccess));
+
+        for (CachedArtifact candidate : candidates) {
+            boolean overflow = candidate.isInHeap() ? this.heapBytes.get() > this.heapMaxBytes : this.diskBytes.get() > this.diskMaxBytes;
+
+            if (overflow) {
+                this.remove(candidate);
+                this.evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * 파일을 cache에서 제거하는 함수
+     *
+     * @param artifact
+     *            제거할 파일
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void remove(CachedArtifact artifact) {
+        if (this.entries.remove(artifact.getKey(), artifact)) {
+            this.release(artifact);
+        }
+    }
+
+    /**
+     * 파일이 사용하던 공간을 반환하는 함수. disk 파일은 유예 시간 후에 삭제한다.
+     *
+     * @param artifact
+     *            제거된 파일
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void release(CachedArtifact artifact) {
+        if (artifact.isInHeap()) {
+            this.heapBytes.addAndGet(-artifact.getSize());
+        } else {
+            this.diskBytes.addAndGet(-artifact.getSize());
+            this.pendingDeletes.add(new PendingDelete(artifact.getFile(), System.currentTimeMillis() + this.deleteGracePeriod.toMillis()));
+        }
+    }
+
+    /**
+     * 다른 요청에서 생성 중인 파일을 기다리는 함수
+     *
+     * @param future
+     *            생성 중인 파일
+     * @return 생성된 파일
+     * @throws IOException
+     *             파일 생성 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static CachedArtifact join(CompletableFuture<CachedArtifact> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof IOException ioe) {
+                throw ioe;
+            } else if (cause instanceof RuntimeException re) {
+                throw re;
+            } else {
+                throw new UncheckedIOException(new IOException(cause));
+            }
+        }
+    }
+
+    /**
+     * 파일을 삭제하는 함수. 실패할 경우 로그만 출력한다.
+     *
+     * @param file
+     *            삭제할 파일
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("[DownloadCache#deleteQuietly] 파일 삭제 실패 [path: {}, msg: {}]", file, e.getMessage());
+        }
+    }
+
+    /**
+     * 삭제 대기 중인 파일
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private record PendingDelete(Path file, long deleteAt) {
+    }
+
+    /**
+     * cache 상태 정보
+     *
+     * @param entries
+     *            저장된 파일 수
+     * @param heapBytes
+     *            heap 사용량
+     * @param diskBytes
+     *            disk 사용량
+     * @param hits
+     *            cache hit 수
+     * @param misses
+     *            cache miss(생성) 수
+     * @param coalesced
+     *            다른 요청의 생성 결과를 기다린 수
+     * @param evictions
+     *            크기 초과로 제거된 수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public record Stats(int entries, long heapBytes, long diskBytes, long hits, long misses, long coalesced, long evictions) {
+    }
+
+}
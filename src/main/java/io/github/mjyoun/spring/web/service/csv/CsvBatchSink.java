@@ -0,0 +1,32 @@
+package io.github.mjyoun.spring.web.service.csv;
+
+import java.util.List;
+
+/**
+ * CSV import 결과를 batch 단위로 받는 함수
+ * <p>
+ * 여러 worker thread에서 동시에 호출되므로 thread-safe 해야 한다. 처리가 느리면 worker가 대기하고, 대기 중인 row가 가득 차면 읽기도 대기한다.
+ *
+ * @param <T>
+ *            row를 변환한 객체 타입
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+@FunctionalInterface
+public interface CsvBatchSink<T> {
+
+    /**
+     * batch를 처리하는 함수
+     *
+     * @param batch
+     *            변환과 검사를 통과한 객체 목록
+     * @throws Exception
+     *             처리 실패. import를 중단함
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    void accept(List<T> batch) throws Exception;
+
+}
@@ -0,0 +1,229 @@
+package io.github.mjyoun.spring.web.service.csv;
+
+import java.nio.charset.Charset;
+
+/**
+ * CSV 파일 export 설정
+ *
+ * <pre>
+ * CsvExportOptions.create() //
+ *         .headers(new String[] { "id", "name" }) //
+ *         .maxRowsPerFile(10_000_000) //
+ *         .fsync(true);
+ * </pre>
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class CsvExportOptions {
+
+    /** 기본 buffer 크기 */
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+    private String[] headers;
+    private char separator = '\0';
+    private char quote = '\0';
+    private Charset charset = Charset.defaultCharset();
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private boolean fsync = false;
+    private boolean append = false;
+    private long maxRowsPerFile = 0;
+    private long maxBytesPerFile = 0;
+
+    /**
+     * 기본 설정을 생성하는 함수
+     *
+     * @return {@link CsvExportOptions}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static CsvExportOptions create() {
+        return new CsvExportOptions();
+    }
+
+    /**
+     * 파일을 나누어 쓰는지 확인하는 함수
+     *
+     * @return 최대 row 수 또는 최대 크기가 설정되어 있는지 여부
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public boolean isRolling() {
+        return this.maxRowsPerFile > 0 || this.maxBytesPerFile > 0;
+    }
+
+    /**
+     * 파일마다 처음에 쓸 헤더를 설정하는 함수
+     *
+     * @param headers
+     *            헤더 목록. null일 경우 헤더 없음
+     * @return {@link CsvExportOptions}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvExportOptions headers(String[] headers) {
+        this.headers = headers;
+        return this;
+    }
+
+    /**
+     * 구분자를 설정하는 함수
+     *
+     * @param separator
+     *            구분자. '\0'일 경우 ','
+     * @return {@link CsvExportOptions}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvExportOptions separator(char separator) {
+        this.separator = separator;
+        return this;
+    }
+
+    /**
+     * 따옴표를 설정하는 함수
+     *
+     * @param quote
+     *            따옴표. '\0'일 경우 따옴표 하지 않음. 있을 경우 무조건 따옴표로 묶음
+     * @return {@link CsvExportOptions}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvExportOptions quote(char quote) {
+        this.quote = quote;
+        return this;
+    }
+
+    /**
+     * 파일 charset을 설정하는 함수. 기본값은 {@link Charset#defaultCharset()} (writeCSV와 동일)
+     *
+     * @param charset
+     *            charset
+     * @return {@link CsvExportOptions}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvExportOptions charset(Charset charset) {
+        this.charset = charset;
+        return this;
+    }
+
+    /**
+     * 파일 쓰기 buffer 크기를 설정하는 함수
+     *
+     * @param bufferSize
+     *            buffer 크기
+     * @return {@link CsvExportOptions}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvExportOptions bufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    /**
+     * 파일을 옮기기 전에 disk에 반영(fsync)할지 설정하는 함수
+     *
+     * @param fsync
+     *            fsync 여부
+     * @return {@link CsvExportOptions}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvExportOptions fsync(boolean fsync) {
+        this.fsync = fsync;
+        return this;
+    }
+
+    /**
+     * 기존 파일 뒤에 이어서 쓸지 설정하는 함수. 이어서 쓸 경우 임시 파일 없이 바로 쓰며, 내용이 있는 파일에는 BOM과 헤더를 쓰지 않는다.
+     * {@link CsvFileExporter#abort()}는 파일을 열기 전 크기로 되돌리고, 최대 row 수를 설정한 경우 기존 row도 포함하여 센다.
+     *
+     * @param append
+     *            이어서 쓸지 여부
+     * @return {@link CsvExportOptions}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvExportOptions append(boolean append) {
+        this.append = append;
+        return this;
+    }
+
+    /**
+     * 파일 하나의 최대 row 수를 설정하는 함수. 넘으면 다음 파일로 나누어 쓴다.
+     *
+     * @param maxRowsPerFile
+     *            최대 row 수. 0일 경우 제한 없음
+     * @return {@link CsvExportOptions}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvExportOptions maxRowsPerFile(long maxRowsPerFile) {
+        this.maxRowsPerFile = maxRowsPerFile;
+        return this;
+    }
+
+    /**
+     * 파일 하나의 최대 크기를 설정하는 함수. 넘으면 다음 파일로 나누어 쓴다. (row 단위로 나누므로 마지막 row만큼 넘을 수 있음)
+     *
+     * @param maxBytesPerFile
+     *            최대 크기. 0일 경우 제한 없음
+     * @return {@link CsvExportOptions}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvExportOptions maxBytesPerFile(long maxBytesPerFile) {
+        this.maxBytesPerFile = maxBytesPerFile;
+        return this;
+    }
+
+    public String[] getHeaders() {
+        return headers;
+    }
+
+    public char getSeparator() {
+        return separator;
+    }
+
+    public char getQuote() {
+        return quote;
+    }
+
+    public Charset getCharset() {
+        return charset;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public boolean isFsync() {
+        return fsync;
+    }
+
+    public boolean isAppend() {
+        return append;
+    }
+
+    public long getMaxRowsPerFile() {
+        return maxRowsPerFile;
+    }
+
+    public long getMaxBytesPerFile() {
+        return maxBytesPerFile;
+    }
+
+}
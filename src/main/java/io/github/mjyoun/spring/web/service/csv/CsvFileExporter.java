@@ -0,0 +1,498 @@
+package io.github.mjyoun.spring.web.service.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.github.mjyoun.spring.web.export.CsvBackend;
+import io.github.mjyoun.spring.web.export.CsvRowWriter;
+import io.github.mjyoun.spring.web.export.ExportBackends;
+
+/**
+ * CSV 파일을 row 묶음 단위로 이어서 쓰기 위한 클래스
+ * <p>
+ * 같은 디렉토리의 임시 파일에 큰 buffer를 거쳐 {@link FileChannel}로 쓰고, 파일을 닫을 때 (설정 시 fsync 후) 대상 위치로 atomic move 한다. 그러므로 쓰는 중인 파일은
+ * 대상 위치에 보이지 않고, 기존 파일을 덮어써도 이전 내용이 남지 않는다. 최대 row 수 또는 크기를 설정하면 {@code 이름-00000.csv} 형태로 나누어 쓴다. 메모리 사용량은 buffer
+ * 크기로 제한되며, {@link CsvBatchSink}로 {@link CsvImportPipeline}의 결과를 바로 받을 수 있다.
+ * <p>
+ * 나누어 쓰는 경우 이전 실행에서 만든 번호가 더 큰 파일은 {@link #close()}할 때 삭제한다. 이어서 쓰는 경우({@link CsvExportOptions#append(boolean)})에는 임시 파일
+ * 없이 대상 파일에 바로 쓰므로, {@link #abort()}는 쓰고 있는 파일을 열기 전 크기로 되돌린다(새로 만든 파일은 삭제). process가 비정상 종료된 경우에는 buffer를 비운 만큼
+ * 일부 row가 남을 수 있다. 이어서 쓰는 파일의 row 수는 기존 내용을 읽어 최대 row 수에 포함하며, 이미 가득 찬 파일은 다음 순서의 파일부터 쓴다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class CsvFileExporter implements CsvBatchSink<String[]>, Closeable {
+
+    private static final char BOM = '\ufeff';
+
+    private final Path target;
+    private final Path directory;
+    private final CsvExportOptions options;
+    private final boolean applyQuotes;
+    private final CsvBackend backend;
+
+    /** 완료된 파일 목록 */
+    private final List<Path> files = new ArrayList<>();
+    /** 쓴 row 수 */
+    private long rows;
+    /** 나누어 쓰는 경우 현재 파일 순서 */
+    private int part;
+
+    /** 현재 파일의 대상 위치 */
+    private Path currentTarget;
+    /** 현재 파일의 임시 파일. 이어서 쓰는 경우 null */
+    private Path currentTemp;
+    /** 이어서 쓰는 경우 현재 파일을 열기 전 크기. 새로 만든 파일일 경우 -1 */
+    private long appendStart;
+    private FileChannel channel;
+    private ChannelOutputStream outputStream;
+    private CsvRowWriter csvWriter;
+    /** 현재 파일의 row 수 */
+    private long rowsInFile;
+
+    private boolean closed;
+
+    /**
+     * (non-javadoc)
+     *
+     * @param target
+     *            대상 파일 경로. 나누어 쓰는 경우 확장자 앞에 순서가 붙음
+     * @param options
+     *            {@link CsvExportOptions}
+     * @throws IOException
+     *             파일 생성 실패
+     * @throws io.github.mjyoun.spring.web.export.ExportBackendNotFoundException
+     *             CSV backend(opencsv)가 없을 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvFileExporter(Path target, CsvExportOptions options) throws IOException {
+        // 디렉토리와 파일을 만들기 전에 backend가 있는지 확인
+        this.backend = ExportBackends.csv();
+        this.target = target.toAbsolutePath();
+        this.directory = Files.createDirectories(this.target.getParent());
+        this.options = options;
+        this.applyQuotes = options.getQuote() != '\0';
+
+        if (options.isAppend() && options.isRolling()) {
+            // 마지막으로 쓴 파일부터 이어서 씀
+            while (Files.exists(this.partPath(this.part + 1))) {
+                this.part++;
+            }
+        }
+
+        this.openFile();
+    }
+
+    /**
+     * row 묶음을 쓰는 함수
+     *
+     * @see CsvBatchSink#accept(List)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void accept(List<String[]> batch) throws IOException {
+        this.write(batch);
+    }
+
+    /**
+     * row 묶음을 쓰는 함수. 여러 thread에서 호출할 수 있다.
+     *
+     * @param batch
+     *            row 목록
+     * @throws IOException
+     *             쓰기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public synchronized void write(List<String[]> batch) throws IOException {
+        if (this.closed) {
+            throw new IOException("이미 닫힌 exporter 입니다.");
+        }
+
+        for (String[] row : batch) {
+            if (this.csvWriter == null) {
+                this.part++;
+                this.openFile();
+            }
+
+            this.csvWriter.writeRow(row, this.applyQuotes);
+            this.rows++;
+            this.rowsInFile++;
+
+            if (this.isFull()) {
+                // 다음 row를 쓸 때 새 파일을 엶
+                this.finishFile();
+            }
+        }
+    }
+
+    /**
+     * 쓰고 있는 파일을 완료하는 함수
+     *
+     * @see Closeable#close()
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+
+        this.closed = true;
+
+        if (this.csvWriter != null) {
+            this.finishFile();
+        }
+
+        if (this.options.isRolling() && !this.options.isAppend()) {
+            // 이전 실행에서 더 많이 나누어 쓴 파일이 섞이지 않도록 삭제
+            int index = this.part + 1;
+
+            while (Files.deleteIfExists(this.partPath(index))) {
+                index++;
+            }
+        }
+    }
+
+    /**
+     * 쓰고 있는 파일을 삭제하고 종료하는 함수. 이어서 쓰는 경우 파일을 열기 전 크기로 되돌린다. 이미 완료된 파일은 그대로 둔다.
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public synchronized void abort() {
+        this.closed = true;
+
+        try {
+            if (this.channel != null && this.currentTemp == null && this.appendStart >= 0) {
+                // 이어서 쓴 내용만 제거
+                this.channel.truncate(this.appendStart);
+
+                if (this.options.isFsync()) {
+                    this.channel.force(true);
+                }
+            }
+
+            if (this.channel != null) {
+                this.channel.close();
+
+                if (this.currentTemp == null && this.appendStart < 0) {
+                    // 이어서 쓰려고 새로 만든 파일
+                    Files.deleteIfExists(this.currentTarget);
+                }
+            }
+
+            if (this.currentTemp != null) {
+                Files.deleteIfExists(this.currentTemp);
+            }
+        } catch (IOException e) {
+            // 삭제에 실패한 임시 파일은 대상 위치에 보이지 않으므로 무시
+        } finally {
+            this.csvWriter = null;
+            this.channel = null;
+        }
+    }
+
+    /**
+     * 완료된 파일 목록을 조회하는 함수
+     *
+     * @return 파일 목록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public synchronized List<Path> getFiles() {
+        return Collections.unmodifiableList(new ArrayList<>(this.files));
+    }
+
+    /**
+     * 쓴 row 수를 조회하는 함수
+     *
+     * @return row 수 (헤더 제외)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public synchronized long getRows() {
+        return this.rows;
+    }
+
+    /**
+     * 현재 파일이 최대 row 수 또는 크기에 도달했는지 확인하는 함수
+     *
+     * @return 도달 여부
+     * @throws IOException
+     *             flush 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private boolean isFull() throws IOException {
+        if (this.options.getMaxRowsPerFile() > 0 && this.rowsInFile >= this.options.getMaxRowsPerFile()) {
+            return true;
+        } else if (this.options.getMaxBytesPerFile() > 0) {
+            // encoder에 남은 내용까지 포함하여 크기 확인 (disk에는 쓰지 않음)
+            this.csvWriter.flush();
+            return this.outputStream.size() >= this.options.getMaxBytesPerFile();
+        }
+
+        return false;
+    }
+
+    /**
+     * 이어서 쓸 기존 파일이 최대 row 수 또는 크기에 도달했는지 확인하는 함수
+     *
+     * @param path
+     *            파일 경로
+     * @param rowsInFile
+     *            파일의 row 수 (헤더 제외)
+     * @return 도달 여부
+     * @throws IOException
+     *             크기 조회 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private boolean isFull(Path path, long rowsInFile) throws IOException {
+        if (this.options.getMaxRowsPerFile() > 0 && rowsInFile >= this.options.getMaxRowsPerFile()) {
+            return true;
+        }
+
+        return this.options.getMaxBytesPerFile() > 0 && Files.exists(path) && Files.size(path) >= this.options.getMaxBytesPerFile();
+    }
+
+    /**
+     * 이어서 쓸 기존 파일의 row 수를 세는 함수. 최대 row 수를 설정하지 않은 경우 읽지 않는다.
+     *
+     * @param path
+     *            파일 경로
+     * @return row 수 (헤더 제외). 파일이 없거나 최대 row 수를 설정하지 않은 경우 0
+     * @throws IOException
+     *             읽기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private long countRows(Path path) throws IOException {
+        if (this.options.getMaxRowsPerFile() <= 0 || !Files.exists(path) || Files.size(path) == 0) {
+            return 0;
+        }
+
+        long count = 0;
+
+        try (Reader reader = Files.newBufferedReader(path, this.options.getCharset())) {
+            CsvParser parser = new CsvParser(reader, this.options.getSeparator(), this.options.getQuote(), CsvParser.DEFAULT_BUFFER_SIZE);
+
+            while (parser.next() != null) {
+                count++;
+            }
+        }
+
+        return this.options.getHeaders() != null ? Math.max(0, count - 1) : count;
+    }
+
+    /**
+     * 새 파일을 여는 함수
+     *
+     * @throws IOException
+     *             파일 생성 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void openFile() throws IOException {
+        this.currentTarget = this.options.isRolling() ? this.partPath(this.part) : this.target;
+        this.rowsInFile = 0;
+        boolean hasContents;
+
+        if (this.options.isAppend()) {
+            this.rowsInFile = this.countRows(this.currentTarget);
+
+            while (this.options.isRolling() && this.isFull(this.currentTarget, this.rowsInFile)) {
+                // 이미 가득 찬 파일은 건너뜀
+                this.part++;
+                this.currentTarget = this.partPath(this.part);
+                this.rowsInFile = this.countRows(this.currentTarget);
+            }
+
+            this.currentTemp = null;
+            this.appendStart = Files.exists(this.currentTarget) ? Files.size(this.currentTarget) : -1;
+            this.channel = FileChannel.open(this.currentTarget, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            hasContents = this.channel.size() > 0;
+        } else {
+            this.currentTemp = Files.createTempFile(this.directory, "." + this.currentTarget.getFileName(), ".tmp");
+            this.channel = FileChannel.open(this.currentTemp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            hasContents = false;
+        }
+
+        this.outputStream = new ChannelOutputStream(this.channel, this.options.getBufferSize(), this.channel.size());
+        Writer writer = new OutputStreamWriter(this.outputStream, this.options.getCharset());
+
+        if (!hasContents) {
+            // bom encoding 추가
+            writer.append(BOM);
+        }
+
+        this.csvWriter = this.backend.open(writer, this.options.getSeparator(), this.options.getQuote());
+
+        if (this.options.getHeaders() != null && !hasContents) {
+            this.csvWriter.writeRow(this.options.getHeaders(), true);
+        }
+    }
+
+    /**
+     * 현재 파일을 완료하는 함수. 남은 내용을 쓰고 (설정 시 fsync 후) 임시 파일을 대상 위치로 옮긴다.
+     *
+     * @throws IOException
+     *             쓰기 또는 이동 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void finishFile() throws IOException {
+        try {
+            // 쓰기 오류가 있으면 IOException 발생
+            this.csvWriter.flush();
+
+            // buffer에 남은 내용을 channel에 씀
+            this.outputStream.close();
+
+            if (this.options.isFsync()) {
+                this.channel.force(true);
+            }
+
+            this.channel.close();
+
+            if (this.currentTemp != null) {
+                try {
+                    Files.move(this.currentTemp, this.currentTarget, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(this.currentTemp, this.currentTarget, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+
+            this.files.add(this.currentTarget);
+        } catch (IOException | RuntimeException e) {
+            this.abort();
+            throw e;
+        }
+
+        this.csvWriter = null;
+        this.channel = null;
+        this.currentTemp = null;
+    }
+
+    /**
+     * 나누어 쓰는 경우의 파일 경로를 생성하는 함수
+     *
+     * @param index
+     *            파일 순서
+     * @return 파일 경로 (예: export-00001.csv)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private Path partPath(int index) {
+        String fileName = this.target.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String suffix = String.format("-%05d", index);
+
+        return this.target.resolveSibling(dot < 0 ? fileName + suffix : fileName.substring(0, dot) + suffix + fileName.substring(dot));
+    }
+
+    /**
+     * 고정 크기 direct buffer를 거쳐 {@link FileChannel}에 쓰는 output stream
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static class ChannelOutputStream extends OutputStream {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        /** buffer에 남은 내용을 포함한 파일 크기 */
+        private long size;
+
+        ChannelOutputStream(FileChannel channel, int bufferSize, long size) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocateDirect(bufferSize);
+            this.size = size;
+        }
+
+        long size() {
+            return this.size;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!this.buffer.hasRemaining()) {
+                this.drain();
+            }
+
+            this.buffer.put((byte) b);
+            this.size++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            int offset = off;
+            int remaining = len;
+
+            while (remaining > 0) {
+                if (!this.buffer.hasRemaining()) {
+                    this.drain();
+                }
+
+                int length = Math.min(remaining, this.buffer.remaining());
+                this.buffer.put(b, offset, length);
+                offset += length;
+                remaining -= length;
+            }
+
+            this.size += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // disk에는 buffer가 가득 찼을 때와 닫을 때만 씀
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.drain();
+        }
+
+        private void drain() throws IOException {
+            this.buffer.flip();
+
+            while (this.buffer.hasRemaining()) {
+                this.channel.write(this.buffer);
+            }
+
+            this.buffer.clear();
+        }
+
+    }
+
+}
@@ -0,0 +1,343 @@
+package io.github.mjyoun.spring.web.service.csv;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import io.github.mjyoun.spring.web.validation.fastpath.ValidationPlan;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * CSV를 읽어 변환, 검사 후 batch 단위로 전달하는 pipeline
+ * <p>
+ * 호출한 thread에서 {@link CsvParser}로 row를 읽어 batch 크기만큼 묶고, 크기가 제한된 queue를 통해 worker(virtual thread)에 전달한다. worker는 row를 변환하고
+ * 검사한 후 통과한 객체를 sink에 전달한다. sink가 느리면 queue가 가득 차서 읽기가 대기하므로 메모리 사용량은 (queue 크기 + worker 수) x batch 크기로 제한된다. 검사는 fast
+ * path({@link ValidationPlan})로 먼저 하고, 지원하지 않는 class이거나 통과하지 못한 경우 {@link Validator}로 검사하여 메시지를 만든다.
+ *
+ * @param <T>
+ *            row를 변환한 객체 타입
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class CsvImportPipeline<T> {
+
+    /** class 별 fast path 검사 계획 */
+    private static final ClassValue<ValidationPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected ValidationPlan computeValue(Class<?> type) {
+            return ValidationPlan.compile(type);
+        }
+    };
+
+    /** worker 종료 신호 */
+    private static final RowBlock END = new RowBlock(new ArrayList<>(), new long[0]);
+
+    private final CsvReadOptions<T> options;
+    private final Validator validator;
+
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    /** 처음 발생한 오류. 발생하면 읽기와 처리를 중단 */
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    /**
+     * (non-javadoc)
+     *
+     * @param options
+     *            {@link CsvReadOptions}
+     * @param defaultValidator
+     *            설정에 validator가 없을 경우 사용할 validator. null 가능
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvImportPipeline(CsvReadOptions<T> options, Validator defaultValidator) {
+        this.options = options;
+        this.validator = options.getValidator() != null ? options.getValidator() : defaultValidator;
+    }
+
+    /**
+     * CSV를 읽어 처리하는 함수. 모든 row를 처리하거나 오류가 발생할 때까지 대기한다.
+     *
+     * @param inputStream
+     *            CSV 내용. 닫지 않는다.
+     * @return {@link CsvImportResult}
+     * @throws IOException
+     *             읽기 실패, 따옴표 오류 또는 sink 처리 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvImportResult run(InputStream inputStream) throws IOException {
+        long startedAt = System.nanoTime();
+        int workers = this.options.getWorkers();
+        BlockingQueue<RowBlock> queue = new ArrayBlockingQueue<>(this.options.getQueueCapacity());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < workers; i++) {
+                executor.execute(() -> this.work(queue));
+            }
+
+            try {
+                this.read(inputStream, queue);
+            } catch (IOException | RuntimeException e) {
+                this.failure.compareAndSet(null, e);
+            } finally {
+                // worker는 종료 신호를 받을 때까지 queue를 비우므로 항상 전달됨
+                for (int i = 0; i < workers; i++) {
+                    putUninterruptibly(queue, END);
+                }
+            }
+        }
+
+        Throwable cause = this.failure.get();
+
+        if (cause instanceof IOException ioe) {
+            throw ioe;
+        } else if (cause instanceof RuntimeException re) {
+            throw re;
+        } else if (cause instanceof Error error) {
+            throw error;
+        } else if (cause != null) {
+            throw new IOException("CSV 처리에 실패하였습니다.", cause);
+        }
+
+        return new CsvImportResult(this.rows.sum(), this.accepted.sum(), this.rejected.sum(), this.batches.sum(),
+                Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    /**
+     * row를 읽어 batch 크기로 묶어 queue에 넣는 함수
+     *
+     * @param inputStream
+     *            CSV 내용
+     * @param queue
+     *            worker queue
+     * @throws IOException
+     *             읽기 실패 또는 중단
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void read(InputStream inputStream, BlockingQueue<RowBlock> queue) throws IOException {
+        int batchSize = this.options.getBatchSize();
+        Reader reader = new InputStreamReader(inputStream, this.options.getCharset());
+        CsvParser parser = new CsvParser(reader, this.options.getSeparator(), this.options.getQuote(), CsvParser.DEFAULT_BUFFER_SIZE);
+
+        if (this.options.isSkipHeader()) {
+            parser.next();
+        }
+
+        List<String[]> block = new ArrayList<>(batchSize);
+        long[] lineNumbers = new long[batchSize];
+        String[] row;
+
+        while (this.failure.get() == null && (row = parser.next()) != null) {
+            lineNumbers[block.size()] = parser.getRowLineNumber();
+            block.add(row);
+            this.rows.increment();
+
+            if (block.size() == batchSize) {
+                this.put(queue, new RowBlock(block, lineNumbers));
+                block = new ArrayList<>(batchSize);
+                lineNumbers = new long[batchSize];
+            }
+        }
+
+        if (!block.isEmpty() && this.failure.get() == null) {
+            this.put(queue, new RowBlock(block, lineNumbers));
+        }
+    }
+
+    /**
+     * queue에서 batch를 꺼내 처리하는 worker 함수. 종료 신호를 받을 때까지 실행되며, 오류가 발생한 후에는 꺼낸 batch를 버린다.
+     *
+     * @param queue
+     *            worker queue
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void work(BlockingQueue<RowBlock> queue) {
+        while (true) {
+            RowBlock block;
+
+            try {
+                block = queue.take();
+            } catch (InterruptedException e) {
+                this.failure.compareAndSet(null, e);
+                continue;
+            }
+
+            if (block == END) {
+                return;
+            } else if (this.failure.get() != null) {
+                continue;
+            }
+
+            try {
+                this.process(block);
+            } catch (Throwable t) {
+                this.failure.compareAndSet(null, t);
+            }
+        }
+    }
+
+    /**
+     * batch를 변환, 검사하여 sink에 전달하는 함수
+     *
+     * @param block
+     *            row 묶음
+     * @throws Exception
+     *             sink 처리 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void process(RowBlock block) throws Exception {
+        List<T> batch = new ArrayList<>(block.rows().size());
+
+        for (int i = 0; i < block.rows().size(); i++) {
+            String[] row = block.rows().get(i);
+            String error;
+
+            try {
+                T value = this.options.getMapper().apply(row);
+                error = this.validate(value);
+
+                if (error == null) {
+                    batch.add(value);
+                    continue;
+                }
+            } catch (RuntimeException e) {
+                error = e.getMessage() == null ? e.getClass().getName() : e.getMessage();
+            }
+
+            this.rejected.increment();
+
+            if (this.options.getErrorHandler() != null) {
+                this.options.getErrorHandler().accept(new CsvRowError(block.lineNumbers()[i], row, error));
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            this.options.getSink().accept(batch);
+            this.accepted.add(batch.size());
+            this.batches.increment();
+        }
+    }
+
+    /**
+     * 객체를 검사하는 함수
+     *
+     * @param value
+     *            변환한 객체
+     * @return 실패 사유. 통과한 경우 null
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private String validate(T value) {
+        if (!this.options.isValidate()) {
+            return null;
+        } else if (value == null) {
+            return "변환 결과가 null 입니다.";
+        }
+
+        ValidationPlan plan = PLANS.get(value.getClass());
+
+        if (plan.passes(value)) {
+            return null;
+        } else if (this.validator != null) {
+            Set<ConstraintViolation<T>> violations = this.validator.validate(value);
+
+            return violations.isEmpty() ? null
+                    : violations.stream() //
+                            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage()) //
+                            .collect(Collectors.joining(", "));
+        } else if (plan.isSupported()) {
+            return "유효성 검사에 실패하였습니다.";
+        } else {
+            throw new IllegalStateException("validator가 없어 검사할 수 없는 class입니다. [class: " + value.getClass().getName() + ", reason: "
+                    + plan.getReason() + "]");
+        }
+    }
+
+    /**
+     * queue에 batch를 넣는 함수. queue가 가득 차면 대기한다.
+     *
+     * @param queue
+     *            worker queue
+     * @param block
+     *            row 묶음
+     * @throws InterruptedIOException
+     *             대기 중 중단된 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void put(BlockingQueue<RowBlock> queue, RowBlock block) throws InterruptedIOException {
+        try {
+            queue.put(block);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("CSV 처리 중 중단되었습니다.");
+        }
+    }
+
+    /**
+     * 중단과 관계없이 queue에 넣는 함수
+     *
+     * @param queue
+     *            worker queue
+     * @param block
+     *            row 묶음
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static void putUninterruptibly(BlockingQueue<RowBlock> queue, RowBlock block) {
+        boolean interrupted = Thread.interrupted();
+
+        while (true) {
+            try {
+                queue.put(block);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * worker에 전달하는 row 묶음
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private record RowBlock(List<String[]> rows, long[] lineNumbers) {
+    }
+
+}
@@ -0,0 +1,23 @@
+package io.github.mjyoun.spring.web.service.csv;
+
+import java.time.Duration;
+
+/**
+ * CSV import 결과
+ *
+ * @param rows
+ *            읽은 row 수 (header 제외)
+ * @param accepted
+ *            sink에 전달된 row 수
+ * @param rejected
+ *            변환 또는 검사에 실패한 row 수
+ * @param batches
+ *            sink 호출 수
+ * @param elapsed
+ *            소요 시간
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public record CsvImportResult(long rows, long accepted, long rejected, long batches, Duration elapsed) {
+}
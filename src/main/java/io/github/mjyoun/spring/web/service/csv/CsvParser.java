@@ -0,0 +1,298 @@
+package io.github.mjyoun.spring.web.service.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV를 한 줄씩 읽기 위한 parser
+ * <p>
+ * {@link io.github.mjyoun.spring.web.service.CSVService#writeCSV}와 같은 규칙을 따른다. 구분자/따옴표가 '\0'이면 기본값(',', '"')을 사용하고, 따옴표 안의
+ * 따옴표는 두 번 써서 표현하며, 따옴표 안에는 구분자와 줄바꿈을 포함할 수 있다. 파일 처음의 BOM은 무시한다. 고정 크기 char buffer에서 바로 읽으며, buffer 경계를 넘지 않는 필드는
+ * 중간 복사 없이 생성한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class CsvParser {
+
+    /** 기본 buffer 크기 */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final char BOM = '\ufeff';
+
+    private final Reader reader;
+    private final char separator;
+    private final char quote;
+    private final char[] buffer;
+
+    private int position;
+    private int limit;
+    /** 읽고 있는 줄 번호 (1부터 시작) */
+    private long lineNumber = 1;
+    /** 마지막으로 읽은 row의 시작 줄 번호 */
+    private long rowLineNumber;
+    private boolean started;
+
+    /** buffer 경계를 넘는 필드를 모으기 위한 builder */
+    private final StringBuilder field = new StringBuilder();
+    private final List<String> fields = new ArrayList<>();
+
+    /**
+     * (non-javadoc)
+     *
+     * @param reader
+     *            읽을 reader. 닫지 않는다.
+     * @param separator
+     *            구분자. '\0'일 경우 ','
+     * @param quote
+     *            따옴표. '\0'일 경우 '"'
+     * @param bufferSize
+     *            buffer 크기
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvParser(Reader reader, char separator, char quote, int bufferSize) {
+        this.reader = reader;
+        this.separator = separator == '\0' ? ',' : separator;
+        this.quote = quote == '\0' ? '"' : quote;
+        this.buffer = new char[bufferSize];
+    }
+
+    /**
+     * 다음 row를 읽는 함수
+     *
+     * @return 필드 목록. 더 이상 없을 경우 null
+     * @throws IOException
+     *             읽기 실패 또는 따옴표가 닫히지 않은 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public String[] next() throws IOException {
+        if (!this.started) {
+            this.started = true;
+
+            if (this.fill() && this.buffer[this.position] == BOM) {
+                this.position++;
+            }
+        }
+
+        if (this.position >= this.limit && !this.fill()) {
+            return null;
+        }
+
+        this.rowLineNumber = this.lineNumber;
+        this.fields.clear();
+
+        while (true) {
+            int terminator;
+
+            if (this.buffer[this.position] == this.quote) {
+                this.position++;
+                terminator = this.readQuoted();
+            } else {
+                terminator = this.readUnquoted();
+            }
+
+            if (terminator != this.separator) {
+                // 줄바꿈 또는 끝
+                return this.fields.toArray(new String[0]);
+            } else if (this.position >= this.limit && !this.fill()) {
+                // 구분자로 끝난 경우 마지막 빈 필드 추가
+                this.fields.add("");
+                return this.fields.toArray(new String[0]);
+            }
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 row의 시작 줄 번호를 조회하는 함수
+     *
+     * @return 줄 번호 (1부터 시작)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public long getRowLineNumber() {
+        return this.rowLineNumber;
+    }
+
+    /**
+     * 따옴표가 없는 필드를 읽는 함수
+     *
+     * @return 필드를 끝낸 문자 (구분자, '\n', 끝일 경우 -1)
+     * @throws IOException
+     *             읽기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private int readUnquoted() throws IOException {
+        this.field.setLength(0);
+        boolean partial = false;
+
+        while (true) {
+            int start = this.position;
+
+            for (int i = start; i < this.limit; i++) {
+                char c = this.buffer[i];
+
+                if (c == this.separator || c == '\n' || c == '\r') {
+                    this.addField(partial, start, i);
+                    this.position = i + 1;
+                    return this.terminate(c);
+                }
+            }
+
+            // buffer 경계를 넘는 필드
+            this.field.append(this.buffer, start, this.limit - start);
+            partial = true;
+            this.position = this.limit;
+
+            if (!this.fill()) {
+                this.fields.add(this.field.toString());
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * 따옴표로 묶인 필드를 읽는 함수. 시작 따옴표는 읽은 상태에서 호출한다.
+     *
+     * @return 필드를 끝낸 문자 (구분자, '\n', 끝일 경우 -1)
+     * @throws IOException
+     *             읽기 실패 또는 따옴표가 닫히지 않은 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private int readQuoted() throws IOException {
+        this.field.setLength(0);
+
+        while (true) {
+            if (this.position >= this.limit && !this.fill()) {
+                throw new IOException("따옴표가 닫히지 않았습니다. [line: " + this.rowLineNumber + "]");
+            }
+
+            char c = this.buffer[this.position++];
+
+            if (c == this.quote) {
+                if (this.position >= this.limit && !this.fill()) {
+                    this.fields.add(this.field.toString());
+                    return -1;
+                }
+
+                char next = this.buffer[this.position];
+
+                if (next == this.quote) {
+                    // 두 번 쓴 따옴표는 따옴표 하나
+                    this.field.append(c);
+                    this.position++;
+                } else {
+                    break;
+                }
+            } else {
+                if (c == '\n') {
+                    this.lineNumber++;
+                }
+
+                this.field.append(c);
+            }
+        }
+
+        // 닫는 따옴표 뒤에서 구분자 또는 줄바꿈까지의 내용은 그대로 붙임
+        while (true) {
+            if (this.position >= this.limit && !this.fill()) {
+                this.fields.add(this.field.toString());
+                return -1;
+            }
+
+            char c = this.buffer[this.position++];
+
+            if (c == this.separator || c == '\n' || c == '\r') {
+                this.fields.add(this.field.toString());
+                return this.terminate(c);
+            }
+
+            this.field.append(c);
+        }
+    }
+
+    /**
+     * 필드를 추가하는 함수
+     *
+     * @param partial
+     *            buffer 경계를 넘은 필드인지 여부
+     * @param start
+     *            buffer 안의 시작 위치
+     * @param end
+     *            buffer 안의 끝 위치
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void addField(boolean partial, int start, int end) {
+        if (partial) {
+            this.fields.add(this.field.append(this.buffer, start, end - start).toString());
+        } else {
+            this.fields.add(new String(this.buffer, start, end - start));
+        }
+    }
+
+    /**
+     * 필드를 끝낸 문자를 처리하는 함수. '\r\n'은 '\n' 하나로 처리한다.
+     *
+     * @param c
+     *            필드를 끝낸 문자
+     * @return 구분자 또는 '\n'
+     * @throws IOException
+     *             읽기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private int terminate(char c) throws IOException {
+        if (c == this.separator) {
+            return c;
+        }
+
+        if (c == '\r' && (this.position < this.limit || this.fill()) && this.buffer[this.position] == '\n') {
+            this.position++;
+        }
+
+        this.lineNumber++;
+        return '\n';
+    }
+
+    /**
+     * buffer를 채우는 함수. 읽지 않은 내용이 남아 있으면 호출하지 않는다.
+     *
+     * @return 읽은 내용이 있는지 여부. 끝일 경우 false
+     * @throws IOException
+     *             읽기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private boolean fill() throws IOException {
+        int read;
+
+        do {
+            read = this.reader.read(this.buffer, 0, this.buffer.length);
+        } while (read == 0);
+
+        if (read < 0) {
+            this.position = 0;
+            this.limit = 0;
+            return false;
+        }
+
+        this.position = 0;
+        this.limit = read;
+        return true;
+    }
+
+}
@@ -0,0 +1,274 @@
+package io.github.mjyoun.spring.web.service.csv;
+
+import java.nio.charset.Charset;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import jakarta.validation.Validator;
+
+/**
+ * CSV import 설정
+ *
+ * <pre>
+ * CsvReadOptions.of(row -&gt; new Item(row[0], row[1]), batch -&gt; repository.saveAll(batch)) //
+ *         .skipHeader(true) //
+ *         .validate(true) //
+ *         .workers(4) //
+ *         .batchSize(1000);
+ * </pre>
+ *
+ * @param <T>
+ *            row를 변환한 객체 타입
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class CsvReadOptions<T> {
+
+    private final Function<String[], T> mapper;
+    private final CsvBatchSink<T> sink;
+
+    private Charset charset = Charset.defaultCharset();
+    private char separator = '\0';
+    private char quote = '\0';
+    private boolean skipHeader = false;
+    private boolean validate = false;
+    private Validator validator;
+    private int workers = Runtime.getRuntime().availableProcessors();
+    private int batchSize = 1000;
+    private int queueCapacity = 0;
+    private Consumer<CsvRowError> errorHandler;
+
+    /**
+     * (non-javadoc)
+     *
+     * @param mapper
+     *            row 변환 함수. 예외가 발생한 row는 실패로 처리
+     * @param sink
+     *            batch 처리 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private CsvReadOptions(Function<String[], T> mapper, CsvBatchSink<T> sink) {
+        this.mapper = mapper;
+        this.sink = sink;
+    }
+
+    /**
+     * 설정을 생성하는 함수
+     *
+     * @param <T>
+     *            row를 변환한 객체 타입
+     * @param mapper
+     *            row 변환 함수. 예외가 발생한 row는 실패로 처리
+     * @param sink
+     *            batch 처리 함수
+     * @return {@link CsvReadOptions}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static <T> CsvReadOptions<T> of(Function<String[], T> mapper, CsvBatchSink<T> sink) {
+        return new CsvReadOptions<>(mapper, sink);
+    }
+
+    /**
+     * 파일 charset을 설정하는 함수. 기본값은 {@link Charset#defaultCharset()} (writeCSV와 동일)
+     *
+     * @param charset
+     *            charset
+     * @return {@link CsvReadOptions}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvReadOptions<T> charset(Charset charset) {
+        this.charset = charset;
+        return this;
+    }
+
+    /**
+     * 구분자를 설정하는 함수
+     *
+     * @param separator
+     *            구분자. '\0'일 경우 ','
+     * @return {@link CsvReadOptions}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvReadOptions<T> separator(char separator) {
+        this.separator = separator;
+        return this;
+    }
+
+    /**
+     * 따옴표를 설정하는 함수
+     *
+     * @param quote
+     *            따옴표. '\0'일 경우 '"'
+     * @return {@link CsvReadOptions}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvReadOptions<T> quote(char quote) {
+        this.quote = quote;
+        return this;
+    }
+
+    /**
+     * 첫 row를 header로 보고 건너뛸지 설정하는 함수
+     *
+     * @param skipHeader
+     *            건너뛸지 여부
+     * @return {@link CsvReadOptions}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvReadOptions<T> skipHeader(boolean skipHeader) {
+        this.skipHeader = skipHeader;
+        return this;
+    }
+
+    /**
+     * 변환한 객체의 constraint(@AtLeastOneField, @NotBlank 등)를 검사할지 설정하는 함수
+     *
+     * @param validate
+     *            검사 여부
+     * @return {@link CsvReadOptions}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvReadOptions<T> validate(boolean validate) {
+        this.validate = validate;
+        return this;
+    }
+
+    /**
+     * fast path로 검사할 수 없는 class에 사용할 validator를 설정하는 함수. 없을 경우 CSVService에 등록된 validator 사용
+     *
+     * @param validator
+     *            {@link Validator}
+     * @return {@link CsvReadOptions}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvReadOptions<T> validator(Validator validator) {
+        this.validator = validator;
+        return this;
+    }
+
+    /**
+     * 변환, 검사, sink 호출을 처리할 worker 수를 설정하는 함수
+     *
+     * @param workers
+     *            worker 수
+     * @return {@link CsvReadOptions}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvReadOptions<T> workers(int workers) {
+        this.workers = workers;
+        return this;
+    }
+
+    /**
+     * sink에 전달할 최대 batch 크기를 설정하는 함수
+     *
+     * @param batchSize
+     *            batch 크기
+     * @return {@link CsvReadOptions}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvReadOptions<T> batchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * 처리 대기할 최대 batch 수를 설정하는 함수
+     *
+     * @param queueCapacity
+     *            최대 batch 수. 0일 경우 worker 수의 2배
+     * @return {@link CsvReadOptions}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvReadOptions<T> queueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    /**
+     * 실패한 row 처리 함수를 설정하는 함수. 여러 worker thread에서 호출된다.
+     *
+     * @param errorHandler
+     *            실패한 row 처리 함수
+     * @return {@link CsvReadOptions}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public CsvReadOptions<T> errorHandler(Consumer<CsvRowError> errorHandler) {
+        this.errorHandler = errorHandler;
+        return this;
+    }
+
+    public Function<String[], T> getMapper() {
+        return mapper;
+    }
+
+    public CsvBatchSink<T> getSink() {
+        return sink;
+    }
+
+    public Charset getCharset() {
+        return charset;
+    }
+
+    public char getSeparator() {
+        return separator;
+    }
+
+    public char getQuote() {
+        return quote;
+    }
+
+    public boolean isSkipHeader() {
+        return skipHeader;
+    }
+
+    public boolean isValidate() {
+        return validate;
+    }
+
+    public Validator getValidator() {
+        return validator;
+    }
+
+    public int getWorkers() {
+        return Math.max(1, workers);
+    }
+
+    public int getBatchSize() {
+        return Math.max(1, batchSize);
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity > 0 ? queueCapacity : this.getWorkers() * 2;
+    }
+
+    public Consumer<CsvRowError> getErrorHandler() {
+        return errorHandler;
+    }
+
+}
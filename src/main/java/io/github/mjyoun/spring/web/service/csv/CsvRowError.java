@@ -0,0 +1,17 @@
+package io.github.mjyoun.spring.web.service.csv;
+
+/**
+ * 변환 또는 검사에 실패한 row 정보
+ *
+ * @param lineNumber
+ *            row의 시작 줄 번호 (1부터 시작)
+ * @param row
+ *            필드 목록
+ * @param message
+ *            실패 사유
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public record CsvRowError(long lineNumber, String[] row, String message) {
+}
@@ -0,0 +1,78 @@
+package io.github.mjyoun.spring.web.service.telemetry;
+
+/**
+ * 다운로드 한 건의 측정 정보
+ *
+ * @param kind
+ *            다운로드 종류
+ * @param fileName
+ *            다운로드 파일 이름
+ * @param outcome
+ *            결과
+ * @param bytes
+ *            전송한 byte 수
+ * @param generationNanos
+ *            파일 내용 생성에 걸린 시간 (nanoseconds). 생성하면서 전송하는 경우 0
+ * @param transferNanos
+ *            전송에 걸린 시간 (nanoseconds)
+ * @param error
+ *            실패 사유. 성공한 경우 null
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public record DownloadEvent(DownloadKind kind, String fileName, Outcome outcome, long bytes, long generationNanos, long transferNanos,
+        String error) {
+
+    /**
+     * 전체 처리 시간을 조회하는 함수
+     *
+     * @return 생성 시간 + 전송 시간 (nanoseconds)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public long durationNanos() {
+        return this.generationNanos + this.transferNanos;
+    }
+
+    /**
+     * 전송 속도를 조회하는 함수
+     *
+     * @return 전송 시간 기준 초당 byte 수. 전송 시간이 없으면 0
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public double bytesPerSecond() {
+        return this.transferNanos <= 0 ? 0 : this.bytes * 1_000_000_000d / this.transferNanos;
+    }
+
+    /**
+     * 다운로드 결과
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public enum Outcome {
+        /** 전송 완료 */
+        SUCCESS,
+        /** 전송 중 client 연결 종료 */
+        ABORTED,
+        /** 파일 생성 등 서버 오류 */
+        FAILED;
+
+        /**
+         * metric tag 등에 사용할 이름
+         *
+         * @return 소문자 이름
+         *
+         * @author MJ Youn
+         * @since 2026. 10. 19.
+         */
+        public String tagValue() {
+            return this.name().toLowerCase();
+        }
+    }
+
+}
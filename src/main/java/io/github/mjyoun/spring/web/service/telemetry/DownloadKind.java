@@ -0,0 +1,36 @@
+package io.github.mjyoun.spring.web.service.telemetry;
+
+/**
+ * 다운로드 종류. 측정 정보를 종류 별로 집계한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public enum DownloadKind {
+    /** CSV 파일 */
+    CSV,
+    /** 엑셀 파일 */
+    EXCEL,
+    /** 저장되어 있는 파일 */
+    FILE,
+    /** byte 배열 */
+    BYTES,
+    /** 한 줄씩 encoding 하는 text 파일 */
+    TEXT,
+    /** cache 하여 전송하는 파일 */
+    CACHED,
+    /** 여러 파일을 묶은 ZIP 파일 */
+    BUNDLE;
+
+    /**
+     * metric tag 등에 사용할 이름
+     *
+     * @return 소문자 이름
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public String tagValue() {
+        return this.name().toLowerCase();
+    }
+}
@@ -0,0 +1,237 @@
+package io.github.mjyoun.spring.web.service.telemetry;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import io.github.mjyoun.spring.web.jfr.DownloadTransferEvent;
+
+/**
+ * 다운로드 한 건을 측정하는 클래스
+ * <p>
+ * 생성한 시점부터 {@link #generated()}까지를 생성 시간, 그 이후를 전송 시간으로 측정하며, 생성하면서 전송하는 경우 {@link #generated()}를 호출하지 않으면 전체가 전송
+ * 시간이 된다. {@link #wrap(OutputStream)}으로 감싼 output stream에 쓴 byte 수를 세고, 쓰기 중 발생한 오류는 client 연결 종료로 판단한다. telemetry가 없으면
+ * byte 수만 세고 반영하지 않는다. JFR recording 중에는 telemetry 설정과 관계 없이 {@link DownloadTransferEvent}로 기록한다. 하나의 thread에서 사용한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class DownloadRecording {
+
+    private final DownloadTelemetry telemetry;
+    private final DownloadKind kind;
+    private final String fileName;
+    private final long startedAt = System.nanoTime();
+    private final DownloadTransferEvent event = new DownloadTransferEvent();
+
+    /** 생성이 끝난 시간. 표시하지 않은 경우 -1 */
+    private long generatedAt = -1;
+    /** output stream을 거치지 않고 전송한 byte 수 */
+    private long directBytes;
+    private CountingOutputStream outputStream;
+    /** 결과. 끝나지 않은 경우 null */
+    private DownloadEvent.Outcome outcome;
+
+    /**
+     * (non-javadoc)
+     *
+     * @param telemetry
+     *            {@link DownloadTelemetry}. null일 경우 반영하지 않음
+     * @param kind
+     *            다운로드 종류
+     * @param fileName
+     *            다운로드 파일 이름
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public DownloadRecording(DownloadTelemetry telemetry, DownloadKind kind, String fileName) {
+        this.telemetry = telemetry;
+        this.kind = kind;
+        this.fileName = fileName;
+        this.event.begin();
+    }
+
+    /**
+     * 파일 내용 생성이 끝나고 전송을 시작하는 시점을 표시하는 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void generated() {
+        if (this.generatedAt < 0) {
+            this.generatedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * 전송 byte 수를 세기 위해 output stream을 감싸는 함수
+     *
+     * @param outputStream
+     *            response output stream
+     * @return 감싼 output stream. 닫으면 원래 output stream도 닫힘
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public OutputStream wrap(OutputStream outputStream) {
+        this.outputStream = new CountingOutputStream(outputStream);
+        return this.outputStream;
+    }
+
+    /**
+     * output stream을 거치지 않고 전송한 byte 수를 더하는 함수 (sendfile 등)
+     *
+     * @param bytes
+     *            byte 수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void addBytes(long bytes) {
+        this.directBytes += bytes;
+    }
+
+    /**
+     * 다운로드 성공을 반영하는 함수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void success() {
+        this.finish(DownloadEvent.Outcome.SUCCESS, null);
+    }
+
+    /**
+     * 다운로드 실패를 반영하는 함수. 이미 반영한 경우 다시 반영하지 않는다.
+     *
+     * @param cause
+     *            실패 원인
+     * @return 결과. 전송 중 output stream 쓰기가 실패한 경우 {@link DownloadEvent.Outcome#ABORTED}, 그 외 {@link DownloadEvent.Outcome#FAILED}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public DownloadEvent.Outcome failure(Throwable cause) {
+        boolean aborted = this.outputStream != null && this.outputStream.failed;
+        this.finish(aborted ? DownloadEvent.Outcome.ABORTED : DownloadEvent.Outcome.FAILED,
+                cause.getMessage() == null ? cause.getClass().getName() : cause.getMessage());
+
+        return this.outcome;
+    }
+
+    /**
+     * 전송한 byte 수를 조회하는 함수
+     *
+     * @return byte 수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public long getBytes() {
+        return this.directBytes + (this.outputStream == null ? 0 : this.outputStream.count);
+    }
+
+    /**
+     * 측정 정보를 반영하는 함수
+     *
+     * @param outcome
+     *            결과
+     * @param error
+     *            실패 사유
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void finish(DownloadEvent.Outcome outcome, String error) {
+        if (this.outcome != null) {
+            return;
+        }
+
+        this.outcome = outcome;
+        this.event.end();
+
+        boolean commit = this.event.shouldCommit();
+
+        if (this.telemetry != null || commit) {
+            long finishedAt = System.nanoTime();
+            long transferStartedAt = this.generatedAt < 0 ? this.startedAt : this.generatedAt;
+
+            if (this.telemetry != null) {
+                this.telemetry.record(new DownloadEvent(this.kind, this.fileName, outcome, this.getBytes(), transferStartedAt - this.startedAt,
+                        finishedAt - transferStartedAt, error));
+            }
+
+            if (commit) {
+                this.event.kind = this.kind.tagValue();
+                this.event.fileName = this.fileName;
+                this.event.outcome = outcome.tagValue();
+                this.event.bytes = this.getBytes();
+                this.event.generationTime = transferStartedAt - this.startedAt;
+                this.event.transferTime = finishedAt - transferStartedAt;
+                this.event.error = error;
+                this.event.commit();
+            }
+        }
+    }
+
+    /**
+     * 쓴 byte 수와 쓰기 실패 여부를 기록하는 output stream
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static class CountingOutputStream extends OutputStream {
+
+        private final OutputStream delegate;
+        private long count;
+        private boolean failed;
+
+        CountingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            try {
+                this.delegate.write(b);
+                this.count++;
+            } catch (IOException e) {
+                this.failed = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            try {
+                this.delegate.write(b, off, len);
+                this.count += len;
+            } catch (IOException e) {
+                this.failed = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            try {
+                this.delegate.flush();
+            } catch (IOException e) {
+                this.failed = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                this.delegate.close();
+            } catch (IOException e) {
+                this.failed = true;
+                throw e;
+            }
+        }
+
+    }
+
+}
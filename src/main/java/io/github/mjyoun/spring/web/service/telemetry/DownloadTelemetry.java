@@ -0,0 +1,240 @@
+package io.github.mjyoun.spring.web.service.telemetry;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 다운로드 측정 정보를 종류 별로 집계하는 클래스
+ * <p>
+ * 다운로드가 끝날 때마다 전송한 byte 수, 생성 시간, 전송 시간, 결과(성공, client 연결 종료, 실패)를 누적하고, 등록된 listener에 {@link DownloadEvent}를 전달한다.
+ * 설정한 경우 {@value #EVENT_LOGGER_NAME} logger에 key-value 형태의 structured log로 출력한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class DownloadTelemetry {
+
+    private static final Logger logger = LoggerFactory.getLogger(DownloadTelemetry.class);
+
+    /** 다운로드 event를 출력하는 logger 이름 */
+    public static final String EVENT_LOGGER_NAME = "io.github.mjyoun.spring.web.download";
+
+    private static final Logger eventLogger = LoggerFactory.getLogger(EVENT_LOGGER_NAME);
+
+    /** event log 출력 여부 */
+    private final boolean logEvents;
+    /** 종류 별 누적 정보 */
+    private final Map<DownloadKind, Counters> counters = new EnumMap<>(DownloadKind.class);
+    /** event listener 목록 */
+    private final List<Consumer<DownloadEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * (non-javadoc)
+     *
+     * @param logEvents
+     *            다운로드마다 event log를 출력할지 여부
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public DownloadTelemetry(boolean logEvents) {
+        this.logEvents = logEvents;
+
+        for (DownloadKind kind : DownloadKind.values()) {
+            this.counters.put(kind, new Counters());
+        }
+    }
+
+    /**
+     * 다운로드 측정을 시작하는 함수
+     *
+     * @param kind
+     *            다운로드 종류
+     * @param fileName
+     *            다운로드 파일 이름
+     * @return {@link DownloadRecording}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public DownloadRecording start(DownloadKind kind, String fileName) {
+        return new DownloadRecording(this, kind, fileName);
+    }
+
+    /**
+     * 다운로드 측정 정보를 반영하는 함수
+     *
+     * @param event
+     *            {@link DownloadEvent}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void record(DownloadEvent event) {
+        Counters counter = this.counters.get(event.kind());
+        counter.count.increment();
+        counter.bytes.add(event.bytes());
+        counter.generationNanos.add(event.generationNanos());
+        counter.transferNanos.add(event.transferNanos());
+
+        switch (event.outcome()) {
+            case ABORTED -> counter.aborted.increment();
+            case FAILED -> counter.failed.increment();
+            case SUCCESS -> {
+            }
+        }
+
+        if (this.logEvents && eventLogger.isInfoEnabled()) {
+            eventLogger.atInfo() //
+                    .addKeyValue("kind", event.kind().tagValue()) //
+                    .addKeyValue("fileName", event.fileName()) //
+                    .addKeyValue("outcome", event.outcome().tagValue()) //
+                    .addKeyValue("bytes", event.bytes()) //
+                    .addKeyValue("generationMs", event.generationNanos() / 1_000_000) //
+                    .addKeyValue("transferMs", event.transferNanos() / 1_000_000) //
+                    .addKeyValue("bytesPerSecond", (long) event.bytesPerSecond()) //
+                    .addKeyValue("error", event.error()) //
+                    .log("download {} {}", event.kind().tagValue(), event.outcome().tagValue());
+        }
+
+        for (Consumer<DownloadEvent> listener : this.listeners) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                // listener 오류로 다운로드가 실패하지 않도록 함
+                logger.warn("[DownloadTelemetry#record] listener 처리 실패 [msg: {}]", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 다운로드가 끝날 때마다 호출될 listener를 등록하는 함수
+     *
+     * @param listener
+     *            event listener. 다운로드 thread에서 호출되므로 오래 걸리는 작업을 하면 안 됨
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void addListener(Consumer<DownloadEvent> listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * 등록된 listener를 제거하는 함수
+     *
+     * @param listener
+     *            event listener
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void removeListener(Consumer<DownloadEvent> listener) {
+        this.listeners.remove(listener);
+    }
+
+    /**
+     * 종류 별 누적 정보를 조회하는 함수
+     *
+     * @param kind
+     *            다운로드 종류
+     * @return {@link Stats}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public Stats stats(DownloadKind kind) {
+        Counters counter = this.counters.get(kind);
+
+        return new Stats(counter.count.sum(), counter.aborted.sum(), counter.failed.sum(), counter.bytes.sum(), counter.generationNanos.sum(),
+                counter.transferNanos.sum());
+    }
+
+    /**
+     * 전체 종류의 누적 정보를 조회하는 함수
+     *
+     * @return 종류를 key로 하는 {@link Stats} 목록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public Map<DownloadKind, Stats> stats() {
+        Map<DownloadKind, Stats> stats = new EnumMap<>(DownloadKind.class);
+
+        for (DownloadKind kind : DownloadKind.values()) {
+            stats.put(kind, this.stats(kind));
+        }
+
+        return stats;
+    }
+
+    /**
+     * 종류 별 누적 정보
+     *
+     * @param count
+     *            다운로드 수
+     * @param aborted
+     *            전송 중 client가 연결을 종료한 수
+     * @param failed
+     *            서버 오류로 실패한 수
+     * @param bytes
+     *            전송한 byte 수
+     * @param generationNanos
+     *            파일 생성에 걸린 시간 합계 (nanoseconds)
+     * @param transferNanos
+     *            전송에 걸린 시간 합계 (nanoseconds)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public record Stats(long count, long aborted, long failed, long bytes, long generationNanos, long transferNanos) {
+
+        /**
+         * client 연결 종료 비율을 조회하는 함수
+         *
+         * @return 0 ~ 1. 다운로드가 없으면 0
+         *
+         * @author MJ Youn
+         * @since 2026. 10. 19.
+         */
+        public double abortRate() {
+            return this.count == 0 ? 0 : (double) this.aborted / this.count;
+        }
+
+        /**
+         * 평균 전송 속도를 조회하는 함수
+         *
+         * @return 전송 시간 기준 초당 byte 수. 전송 시간이 없으면 0
+         *
+         * @author MJ Youn
+         * @since 2026. 10. 19.
+         */
+        public double bytesPerSecond() {
+            return this.transferNanos <= 0 ? 0 : this.bytes * 1_000_000_000d / this.transferNanos;
+        }
+
+    }
+
+    /**
+     * 종류 별 누적 값
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static class Counters {
+        final LongAdder count = new LongAdder();
+        final LongAdder aborted = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+        final LongAdder generationNanos = new LongAdder();
+        final LongAdder transferNanos = new LongAdder();
+    }
+
+}
@@ -0,0 +1,144 @@
+package io.github.mjyoun.spring.web.service.text;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * 문자열 목록을 한 줄씩 encoding 하여 output stream에 쓰기 위한 클래스
+ * <p>
+ * 전체 내용을 하나의 String이나 byte 배열로 만들지 않고, 하나의 {@link CharsetEncoder}로 고정 크기 buffer에 encoding 한 후 가득 찰 때마다 output stream에
+ * 쓴다. encoding 할 수 없는 문자는 charset의 대체 문자로 바꾼다. thread-safe 하지 않으므로 다운로드마다 생성한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class LineEncoder {
+
+    /** 기본 buffer 크기 */
+    public static final int DEFAULT_BUFFER_SIZE = 8 * 1024;
+
+    private final CharsetEncoder encoder;
+    private final ByteBuffer buffer;
+    private final CharBuffer separator;
+    private final OutputStream outputStream;
+
+    /** 쓴 크기 */
+    private long written;
+
+    /**
+     * (non-javadoc)
+     *
+     * @param outputStream
+     *            encoding 결과를 쓸 output stream. 닫지 않는다.
+     * @param charset
+     *            charset
+     * @param separator
+     *            줄 구분자
+     * @param bufferSize
+     *            encoding buffer 크기
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public LineEncoder(OutputStream outputStream, Charset charset, String separator, int bufferSize) {
+        this.outputStream = outputStream;
+        this.encoder = charset.newEncoder() //
+                .onMalformedInput(CodingErrorAction.REPLACE) //
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        // 문자 하나를 encoding 할 수 있는 크기는 보장
+        this.buffer = ByteBuffer.allocate(Math.max(bufferSize, (int) Math.ceil(this.encoder.maxBytesPerChar()) * 2));
+        this.separator = CharBuffer.wrap(separator);
+    }
+
+    /**
+     * 줄 목록을 구분자로 이어서 쓰는 함수. 마지막 줄 뒤에는 구분자를 붙이지 않는다.
+     *
+     * @param lines
+     *            줄 목록
+     * @return 쓴 크기
+     * @throws IOException
+     *             쓰기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public long writeLines(Iterable<? extends CharSequence> lines) throws IOException {
+        boolean first = true;
+
+        for (CharSequence line : lines) {
+            if (!first) {
+                this.encode(this.separator.rewind());
+            }
+
+            this.encode(CharBuffer.wrap(line == null ? "" : line));
+            first = false;
+        }
+
+        this.finish();
+
+        return this.written;
+    }
+
+    /**
+     * 문자열을 encoding 하는 함수. buffer가 가득 차면 output stream에 쓴다.
+     *
+     * @param chars
+     *            문자열
+     * @throws IOException
+     *             쓰기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void encode(CharBuffer chars) throws IOException {
+        // 줄마다 완결된 문자열이므로 끝난 입력으로 encoding 하여 짝이 없는 surrogate는 대체 문자로 바꿈
+        while (this.encoder.encode(chars, this.buffer, true).isOverflow()) {
+            this.drain();
+        }
+    }
+
+    /**
+     * encoding을 마치고 남은 내용을 쓰는 함수
+     *
+     * @throws IOException
+     *             쓰기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void finish() throws IOException {
+        // 줄이 없는 경우에도 flush 할 수 있도록 입력 종료 상태로 변경
+        this.encode(CharBuffer.allocate(0));
+
+        while (this.encoder.flush(this.buffer).isOverflow()) {
+            this.drain();
+        }
+
+        this.drain();
+        this.encoder.reset();
+        this.outputStream.flush();
+    }
+
+    /**
+     * buffer 내용을 output stream에 쓰는 함수
+     *
+     * @throws IOException
+     *             쓰기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void drain() throws IOException {
+        if (this.buffer.position() > 0) {
+            this.outputStream.write(this.buffer.array(), 0, this.buffer.position());
+            this.written += this.buffer.position();
+            this.buffer.clear();
+        }
+    }
+
+}
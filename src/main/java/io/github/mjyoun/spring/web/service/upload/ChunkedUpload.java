@@ -0,0 +1,446 @@
+package io.github.mjyoun.spring.web.service.upload;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * 여러 chunk로 나누어 올리는 파일 하나의 상태
+ * <p>
+ * 디렉토리 하나에 다음 파일을 저장한다.
+ * <ul>
+ * <li>{@code upload.properties}: 파일 이름, 전체 크기, chunk 크기</li>
+ * <li>{@code upload.data}: 전체 크기의 파일. chunk는 {@link FileChannel}로 자기 위치(offset)에 바로 쓴다.</li>
+ * <li>{@code upload.index}: chunk 별 8 byte 기록. 받은 chunk는 CRC32C 값과 수신 표시, 받지 않은 chunk는 0</li>
+ * </ul>
+ * chunk 내용을 먼저 쓰고 index를 기록하므로, 중단된 후 다시 열어도 index에 기록된 chunk만 받은 것으로 본다. 이미 받은 chunk를 다시 쓸 때는 내용을 덮어쓰기 전에
+ * 받지 않은 상태로 되돌리므로, 다시 쓰기가 실패하면 그 chunk는 받지 않은 chunk가 된다.
+ * <p>
+ * chunk 쓰기는 동시에 할 수 있으며, 완료({@link #moveTo(Path)})와 닫기({@link #close()})는 진행 중인 쓰기가 끝난 후에 실행된다. 닫힌 후의 쓰기는
+ * {@link IllegalStateException}이 발생한다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class ChunkedUpload implements Closeable {
+
+    public static final String METADATA_FILE = "upload.properties";
+    public static final String DATA_FILE = "upload.data";
+    public static final String INDEX_FILE = "upload.index";
+
+    /** index 기록 중 수신 표시 */
+    private static final long RECEIVED = 1L << 32;
+    /** index 기록 하나의 크기 */
+    private static final int INDEX_ENTRY_SIZE = Long.BYTES;
+    /** chunk 내용을 옮길 때 사용하는 buffer 크기 */
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final String uploadId;
+    private final Path directory;
+    private final String fileName;
+    private final long totalSize;
+    private final int chunkSize;
+    private final int chunkCount;
+
+    private final FileChannel data;
+    private final FileChannel index;
+    /** 받은 chunk 목록 */
+    private final BitSet received;
+    /** chunk 쓰기(read lock)와 완료, 닫기(write lock) 순서 보장 */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    /** 완료 또는 닫힘 여부. lock 안에서만 사용 */
+    private boolean closed;
+
+    /** 마지막 사용 시각 (ms) */
+    private volatile long lastAccess = System.currentTimeMillis();
+
+    /**
+     * (non-javadoc)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private ChunkedUpload(String uploadId, Path directory, String fileName, long totalSize, int chunkSize, FileChannel data, FileChannel index,
+            BitSet received) {
+        this.uploadId = uploadId;
+        this.directory = directory;
+        this.fileName = fileName;
+        this.totalSize = totalSize;
+        this.chunkSize = chunkSize;
+        this.chunkCount = chunkCount(totalSize, chunkSize);
+        this.data = data;
+        this.index = index;
+        this.received = received;
+    }
+
+    /**
+     * 새 upload를 생성하는 함수
+     *
+     * @param uploadId
+     *            upload id
+     * @param directory
+     *            upload 디렉토리. 없을 경우 생성
+     * @param fileName
+     *            파일 이름
+     * @param totalSize
+     *            전체 크기
+     * @param chunkSize
+     *            chunk 크기. 마지막 chunk만 더 작을 수 있음
+     * @return {@link ChunkedUpload}
+     * @throws IOException
+     *             파일 생성 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static ChunkedUpload create(String uploadId, Path directory, String fileName, long totalSize, int chunkSize) throws IOException {
+        Files.createDirectories(directory);
+
+        Properties metadata = new Properties();
+        metadata.setProperty("fileName", fileName);
+        metadata.setProperty("totalSize", String.valueOf(totalSize));
+        metadata.setProperty("chunkSize", String.valueOf(chunkSize));
+
+        // metadata는 완전히 쓴 후에 옮겨서 중간 상태가 보이지 않도록 함
+        Path temp = directory.resolve(METADATA_FILE + ".tmp");
+        try (OutputStream outputStream = Files.newOutputStream(temp)) {
+            metadata.store(outputStream, null);
+        }
+        Files.move(temp, directory.resolve(METADATA_FILE), StandardCopyOption.REPLACE_EXISTING);
+
+        FileChannel data = FileChannel.open(directory.resolve(DATA_FILE), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        FileChannel index = FileChannel.open(directory.resolve(INDEX_FILE), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+
+        // index는 받지 않은 상태(0)로 전체 크기만큼 미리 생성
+        index.write(ByteBuffer.allocate(1), (long) chunkCount(totalSize, chunkSize) * INDEX_ENTRY_SIZE - 1);
+
+        return new ChunkedUpload(uploadId, directory, fileName, totalSize, chunkSize, data, index, new BitSet());
+    }
+
+    /**
+     * 저장된 upload를 다시 여는 함수
+     *
+     * @param uploadId
+     *            upload id
+     * @param directory
+     *            upload 디렉토리
+     * @return {@link ChunkedUpload}. 없을 경우 null
+     * @throws IOException
+     *             파일 읽기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static ChunkedUpload open(String uploadId, Path directory) throws IOException {
+        Path metadataFile = directory.resolve(METADATA_FILE);
+
+        if (!Files.isRegularFile(metadataFile)) {
+            return null;
+        }
+
+        Properties metadata = new Properties();
+        try (Reader reader = Files.newBufferedReader(metadataFile, StandardCharsets.ISO_8859_1)) {
+            metadata.load(reader);
+        }
+
+        String fileName = metadata.getProperty("fileName");
+        long totalSize = Long.parseLong(metadata.getProperty("totalSize"));
+        int chunkSize = Integer.parseInt(metadata.getProperty("chunkSize"));
+        int chunkCount = chunkCount(totalSize, chunkSize);
+
+        FileChannel data = FileChannel.open(directory.resolve(DATA_FILE), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        FileChannel index = FileChannel.open(directory.resolve(INDEX_FILE), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+
+        // index에서 받은 chunk 목록 복구
+        ByteBuffer buffer = ByteBuffer.allocate(chunkCount * INDEX_ENTRY_SIZE);
+        while (buffer.hasRemaining() && index.read(buffer, buffer.position()) > 0) {
+            // 끝까지 읽음
+        }
+
+        BitSet received = new BitSet(chunkCount);
+        for (int i = 0; i < buffer.position() / INDEX_ENTRY_SIZE; i++) {
+            if ((buffer.getLong(i * INDEX_ENTRY_SIZE) & RECEIVED) != 0) {
+                received.set(i);
+            }
+        }
+
+        return new ChunkedUpload(uploadId, directory, fileName, totalSize, chunkSize, data, index, received);
+    }
+
+    /**
+     * chunk를 쓰는 함수. 내용을 자기 위치에 쓰면서 CRC32C를 계산하고, 일치할 경우에만 index에 기록한다.
+     *
+     * @param chunkIndex
+     *            chunk 순서 (0부터 시작)
+     * @param inputStream
+     *            chunk 내용
+     * @param expectedChecksum
+     *            chunk의 CRC32C 값
+     * @param fsync
+     *            index 기록 전에 내용을 disk에 반영할지 여부
+     * @throws IOException
+     *             쓰기 실패
+     * @throws IllegalArgumentException
+     *             chunk 순서, 크기 또는 checksum이 올바르지 않을 경우
+     * @throws IllegalStateException
+     *             이미 완료되었거나 닫힌 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void write(int chunkIndex, InputStream inputStream, long expectedChecksum, boolean fsync) throws IOException {
+        if (chunkIndex < 0 || chunkIndex >= this.chunkCount) {
+            throw new IllegalArgumentException("chunk 순서가 올바르지 않습니다. [index: " + chunkIndex + ", count: " + this.chunkCount + "]");
+        }
+
+        this.lock.readLock().lock();
+
+        try {
+            if (this.closed) {
+                throw new IllegalStateException("이미 완료되었거나 취소된 upload 입니다.");
+            }
+
+            this.writeChunk(chunkIndex, inputStream, expectedChecksum, fsync);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * chunk를 쓰는 함수. read lock 안에서 호출한다.
+     *
+     * @see ChunkedUpload#write(int, InputStream, long, boolean)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void writeChunk(int chunkIndex, InputStream inputStream, long expectedChecksum, boolean fsync) throws IOException {
+        this.lastAccess = System.currentTimeMillis();
+
+        // 다시 받는 chunk는 덮어쓰기 전에 받지 않은 상태로 되돌려서, 실패해도 손상된 내용을 받은 것으로 보지 않도록 함
+        boolean wasReceived;
+        synchronized (this.received) {
+            wasReceived = this.received.get(chunkIndex);
+            this.received.clear(chunkIndex);
+        }
+
+        if (wasReceived) {
+            this.index.write(ByteBuffer.allocate(INDEX_ENTRY_SIZE), (long) chunkIndex * INDEX_ENTRY_SIZE);
+
+            if (fsync) {
+                this.index.force(false);
+            }
+        }
+
+        long offset = (long) chunkIndex * this.chunkSize;
+        long length = Math.min(this.chunkSize, this.totalSize - offset);
+        CRC32C crc = new CRC32C();
+        ReadableByteChannel source = Channels.newChannel(new CheckedInputStream(inputStream, crc));
+
+        // transferFrom은 파일 크기보다 뒤의 위치에는 쓰지 않으므로 앞 chunk가 아직 없어도 쓸 수 있도록 위치를 지정하여 씀
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(length, WRITE_BUFFER_SIZE));
+        long position = 0;
+        while (position < length) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), length - position));
+
+            if (source.read(buffer) < 0) {
+                break;
+            }
+
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += this.data.write(buffer, offset + position);
+            }
+        }
+
+        if (position != length || inputStream.read() >= 0) {
+            throw new IllegalArgumentException("chunk 크기가 올바르지 않습니다. [index: " + chunkIndex + ", expected: " + length + "]");
+        } else if (crc.getValue() != expectedChecksum) {
+            throw new IllegalArgumentException("chunk checksum이 일치하지 않습니다. [index: " + chunkIndex + "]");
+        }
+
+        if (fsync) {
+            this.data.force(false);
+        }
+
+        this.index.write(ByteBuffer.allocate(INDEX_ENTRY_SIZE).putLong(0, crc.getValue() | RECEIVED), (long) chunkIndex * INDEX_ENTRY_SIZE);
+
+        if (fsync) {
+            this.index.force(false);
+        }
+
+        synchronized (this.received) {
+            this.received.set(chunkIndex);
+        }
+    }
+
+    /**
+     * 모든 chunk를 받았는지 확인하는 함수
+     *
+     * @return 완료 여부
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public boolean isComplete() {
+        synchronized (this.received) {
+            return this.received.cardinality() == this.chunkCount;
+        }
+    }
+
+    /**
+     * 현재 상태를 조회하는 함수
+     *
+     * @return {@link UploadStatus}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public UploadStatus status() {
+        List<Integer> missing = new ArrayList<>();
+        int receivedCount;
+
+        synchronized (this.received) {
+            receivedCount = this.received.cardinality();
+
+            for (int i = this.received.nextClearBit(0); i < this.chunkCount; i = this.received.nextClearBit(i + 1)) {
+                missing.add(i);
+            }
+        }
+
+        return new UploadStatus(this.uploadId, this.fileName, this.totalSize, this.chunkSize, this.chunkCount, receivedCount, missing);
+    }
+
+    /**
+     * 완료된 파일을 대상 위치로 옮기는 함수. 이미 chunk 위치에 쓰여 있으므로 내용을 다시 복사하지 않는다. 진행 중인 chunk 쓰기가 끝난 후 모든 chunk를 받았는지 다시
+     * 확인하고 닫는다.
+     *
+     * @param target
+     *            대상 파일 경로
+     * @throws IOException
+     *             이동 실패
+     * @throws IllegalStateException
+     *             받지 않은 chunk가 있거나, 이미 완료되었거나 닫힌 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void moveTo(Path target) throws IOException {
+        this.lock.writeLock().lock();
+
+        try {
+            if (this.closed) {
+                throw new IllegalStateException("이미 완료되었거나 취소된 upload 입니다.");
+            } else if (!this.isComplete()) {
+                throw new IllegalStateException("받지 않은 chunk가 있습니다. [missing count: " + this.status().missingChunks().size() + "]");
+            }
+
+            this.closeChannels();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        Path source = this.directory.resolve(DATA_FILE);
+
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // 다른 file system이거나 atomic move를 지원하지 않는 경우
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * @see Closeable#close()
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void close() throws IOException {
+        this.lock.writeLock().lock();
+
+        try {
+            if (!this.closed) {
+                this.closeChannels();
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 파일을 닫는 함수. write lock 안에서 호출한다.
+     *
+     * @throws IOException
+     *             닫기 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private void closeChannels() throws IOException {
+        this.closed = true;
+
+        try {
+            this.data.close();
+        } finally {
+            this.index.close();
+        }
+    }
+
+    /**
+     * chunk 수를 계산하는 함수
+     *
+     * @param totalSize
+     *            전체 크기
+     * @param chunkSize
+     *            chunk 크기
+     * @return chunk 수
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    static int chunkCount(long totalSize, int chunkSize) {
+        return (int) Math.max(1L, (totalSize + chunkSize - 1) / chunkSize);
+    }
+
+    public String getUploadId() {
+        return uploadId;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public long getLastAccess() {
+        return lastAccess;
+    }
+
+}
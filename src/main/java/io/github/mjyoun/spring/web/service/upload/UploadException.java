@@ -0,0 +1,56 @@
+package io.github.mjyoun.spring.web.service.upload;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 나누어 올리기 요청 오류
+ * <p>
+ * client가 다시 요청하여 해결할 수 있는 오류이므로 응답 상태를 함께 가진다. {@link io.github.mjyoun.spring.web.error.CustomErrorController}가 이 상태로
+ * 응답하며, 오류 처리가 꺼져 있으면 Spring MVC가 {@link ResponseStatusException}으로 처리한다.
+ * <ul>
+ * <li>{@code 400 Bad Request}: upload id, checksum 형식 오류, chunk 크기 설정 오류, chunk 순서 / 크기 / checksum 불일치</li>
+ * <li>{@code 404 Not Found}: 존재하지 않거나 만료된 upload</li>
+ * <li>{@code 409 Conflict}: 받지 않은 chunk가 있는 상태에서 완료, 이미 완료 / 취소된 upload에 쓰기 또는 완료</li>
+ * </ul>
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class UploadException extends ResponseStatusException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * (non-javadoc)
+     *
+     * @param status
+     *            응답 상태
+     * @param message
+     *            오류 메시지
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public UploadException(HttpStatus status, String message) {
+        super(status, message);
+    }
+
+    /**
+     * (non-javadoc)
+     *
+     * @param status
+     *            응답 상태
+     * @param message
+     *            오류 메시지
+     * @param cause
+     *            원인 예외
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public UploadException(HttpStatus status, String message, Throwable cause) {
+        super(status, message, cause);
+    }
+
+}
@@ -0,0 +1,41 @@
+package io.github.mjyoun.spring.web.service.upload;
+
+import java.util.List;
+
+/**
+ * 나누어 올리는 파일의 상태 정보
+ *
+ * @param uploadId
+ *            upload id
+ * @param fileName
+ *            파일 이름
+ * @param totalSize
+ *            전체 크기
+ * @param chunkSize
+ *            chunk 크기
+ * @param chunkCount
+ *            전체 chunk 수
+ * @param receivedCount
+ *            받은 chunk 수
+ * @param missingChunks
+ *            받지 않은 chunk 순서 목록. 이어서 올릴 때 사용
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public record UploadStatus(String uploadId, String fileName, long totalSize, int chunkSize, int chunkCount, int receivedCount,
+        List<Integer> missingChunks) {
+
+    /**
+     * 모든 chunk를 받았는지 확인하는 함수
+     *
+     * @return 완료 여부
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public boolean isComplete() {
+        return this.receivedCount == this.chunkCount;
+    }
+
+}
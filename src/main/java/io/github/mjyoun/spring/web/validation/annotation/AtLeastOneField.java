@@ -2,6 +2,7 @@ package io.github.mjyoun.spring.web.validation.annotation;
 
 import java.lang.annotation.Documented;
 import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
@@ -13,6 +14,14 @@ import io.github.mjyoun.spring.web.validation.validator.AtLeastOneFieldValidator
 
 /**
  * 하나 이상의 값이 설정되어 있는지 확인하기 위한 annotation
+ * <p>
+ * 여러 필드 묶음을 검사해야 할 경우 annotation을 반복해서 선언한다. 각 묶음마다 최소 하나 이상의 값이 존재해야 한다.
+ * 
+ * <pre>
+ * &#64;AtLeastOneField(fields = { "name", "email" })
+ * &#64;AtLeastOneField(fields = { "startDate", "endDate" }, emptyAsAbsent = true)
+ * public class SearchDto { ... }
+ * </pre>
  * 
  * @author MJ Youn
  * @since 2025. 08. 12.
@@ -21,6 +30,7 @@ import io.github.mjyoun.spring.web.validation.validator.AtLeastOneFieldValidator
 @Constraint(validatedBy = AtLeastOneFieldValidator.class)
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
+@Repeatable(AtLeastOneField.List.class)
 public @interface AtLeastOneField {
 
     String message() default "최소 하나 이상의 파라미터가 존재해야 합니다.";
@@ -29,4 +39,33 @@ public @interface AtLeastOneField {
 
     Class<? extends Payload>[] payload() default {};
 
+    /**
+     * 검사할 필드 이름 목록. 비어 있을 경우 상위 class를 포함한 모든 필드를 검사
+     * 
+     * @since 2026. 10. 19.
+     */
+    String[] fields() default {};
+
+    /**
+     * 빈 문자열, 빈 collection/map/array를 값이 없는 것으로 볼지 여부
+     * 
+     * @since 2026. 10. 19.
+     */
+    boolean emptyAsAbsent() default false;
+
+    /**
+     * {@link AtLeastOneField}를 여러 개 선언하기 위한 annotation
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Documented
+    @Target(ElementType.TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface List {
+
+        AtLeastOneField[] value();
+
+    }
+
 }
@@ -0,0 +1,150 @@
+package io.github.mjyoun.spring.web.validation.fastpath;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * 자주 호출되는 요청 DTO를 미리 생성된 {@link ValidationPlan}으로 검사하는 {@link SmartValidator}
+ * <p>
+ * 검사를 통과하면 표준 provider를 호출하지 않는다. 검사에 실패하거나, 지원하지 않는 constraint가 있거나, validation hint(group)가 지정된 경우에는 표준 provider로
+ * 검사하므로 오류 메시지와 {@link Errors} 내용은 표준 provider와 동일하다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class FastPathValidator implements SmartValidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(FastPathValidator.class);
+
+    /** 표준 provider */
+    private final SmartValidator delegate;
+
+    /** class 별 검사 계획 */
+    private final ConcurrentMap<Class<?>, ValidationPlan> plans = new ConcurrentHashMap<>();
+
+    /**
+     * (non-javadoc)
+     *
+     * @param delegate
+     *            표준 provider
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public FastPathValidator(SmartValidator delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * 검사 계획을 미리 생성하는 함수
+     *
+     * @param types
+     *            검사 대상 class 목록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public void precompile(Collection<Class<?>> types) {
+        final String methodName = "FastPathValidator#precompile";
+
+        for (Class<?> type : types) {
+            ValidationPlan plan = this.plan(type);
+
+            if (plan.isSupported()) {
+                logger.debug("[{}] fast path 검사 계획 생성 [class: {}]", methodName, type.getName());
+            } else {
+                logger.info("[{}] 표준 provider로 검사합니다. [class: {}, reason: {}]", methodName, type.getName(), plan.getReason());
+            }
+        }
+    }
+
+    /**
+     * @see SmartValidator#supports(Class)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return this.delegate.supports(clazz);
+    }
+
+    /**
+     * @see SmartValidator#validate(Object, Errors)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void validate(Object target, Errors errors) {
+        if (target == null || !this.plan(target.getClass()).passes(target)) {
+            this.delegate.validate(target, errors);
+        }
+    }
+
+    /**
+     * validation hint(group)가 지정된 경우 표준 provider로 검사한다.
+     *
+     * @see SmartValidator#validate(Object, Errors, Object...)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        if (validationHints == null || validationHints.length == 0) {
+            this.validate(target, errors);
+        } else {
+            this.delegate.validate(target, errors, validationHints);
+        }
+    }
+
+    /**
+     * @see SmartValidator#validateValue(Class, String, Object, Errors, Object...)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, Object value, Errors errors, Object... validationHints) {
+        this.delegate.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+
+    /**
+     * @see SmartValidator#unwrap(Class)
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        return type != null && type.isInstance(this) ? type.cast(this) : this.delegate.unwrap(type);
+    }
+
+    /**
+     * class에 대한 검사 계획을 조회하는 함수
+     *
+     * @param type
+     *            검사 대상 class
+     * @return {@link ValidationPlan}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public ValidationPlan plan(Class<?> type) {
+        ValidationPlan plan = this.plans.get(type);
+
+        if (plan == null) {
+            plan = this.plans.computeIfAbsent(type, ValidationPlan::compile);
+        }
+
+        return plan;
+    }
+
+}
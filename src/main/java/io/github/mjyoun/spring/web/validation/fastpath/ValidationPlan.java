@@ -0,0 +1,557 @@
+package io.github.mjyoun.spring.web.validation.fastpath;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Valid;
+import jakarta.validation.groups.Default;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import io.github.mjyoun.spring.web.validation.annotation.AtLeastOneField;
+import io.github.mjyoun.spring.web.validation.support.FieldAccessor;
+import io.github.mjyoun.spring.web.validation.support.FieldAccessors;
+import io.github.mjyoun.spring.web.validation.validator.AtLeastOneFieldValidator;
+
+/**
+ * class 하나에 대한 검사 계획
+ * <p>
+ * 지원하는 constraint({@link NotNull}, {@link NotEmpty}, {@link NotBlank}, {@link Size}, {@link jakarta.validation.constraints.Pattern},
+ * {@link Min}, {@link Max}, {@link AtLeastOneField})로만 구성된 class는 미리 생성된 검사 목록으로 검사한다. 그 외의 constraint, cascade({@link Valid}),
+ * group 지정, getter/type argument constraint가 하나라도 있으면 {@link #isSupported()}가 false이며 표준 provider로 검사해야 한다.
+ * <p>
+ * 검사 결과가 false일 경우 오류 메시지는 생성하지 않으므로, 호출하는 쪽에서 표준 provider로 다시 검사하여 오류 정보를 생성한다. 따라서 각 검사는 표준 구현보다 느슨해서는 안 된다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public final class ValidationPlan {
+
+    /** 검사 대상 class */
+    private final Class<?> type;
+    /** 검사 목록. null일 경우 지원하지 않는 class */
+    private final Predicate<Object>[] checks;
+    /** 지원하지 않는 이유 */
+    private final String reason;
+
+    /**
+     * (non-javadoc)
+     *
+     * @param type
+     *            검사 대상 class
+     * @param checks
+     *            검사 목록
+     * @param reason
+     *            지원하지 않는 이유
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private ValidationPlan(Class<?> type, Predicate<Object>[] checks, String reason) {
+        this.type = type;
+        this.checks = checks;
+        this.reason = reason;
+    }
+
+    /**
+     * 검사 계획을 생성하는 함수
+     *
+     * @param type
+     *            검사 대상 class
+     * @return {@link ValidationPlan}
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @SuppressWarnings("unchecked")
+    public static ValidationPlan compile(Class<?> type) {
+        List<Predicate<Object>> checks = new ArrayList<>();
+
+        try {
+            compileTypeConstraints(type, checks);
+            compileFieldConstraints(type, checks);
+            verifyMethods(type);
+        } catch (UnsupportedConstraintException e) {
+            return new ValidationPlan(type, null, e.getMessage());
+        }
+
+        return new ValidationPlan(type, checks.toArray(Predicate[]::new), null);
+    }
+
+    /**
+     * fast path로 검사 가능한 class인지 확인하는 함수
+     *
+     * @return 지원 여부
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public boolean isSupported() {
+        return this.checks != null;
+    }
+
+    /**
+     * 지원하지 않는 이유를 조회하는 함수
+     *
+     * @return 지원하지 않는 이유. 지원할 경우 null
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public String getReason() {
+        return this.reason;
+    }
+
+    /**
+     * 검사 대상 class를 조회하는 함수
+     *
+     * @return 검사 대상 class
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public Class<?> getType() {
+        return this.type;
+    }
+
+    /**
+     * 모든 검사를 통과하는지 확인하는 함수
+     *
+     * @param target
+     *            검사 대상 객체
+     * @return 통과 여부
+     *
+     * @throws IllegalStateException
+     *             지원하지 않는 class일 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public boolean isValid(Object target) {
+        if (!this.isSupported()) {
+            throw new IllegalStateException("fast path로 검사할 수 없는 class입니다. [class: " + this.type.getName() + "]");
+        }
+
+        for (Predicate<Object> check : this.checks) {
+            if (!check.test(target)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * fast path로 검사를 통과하는지 확인하는 함수
+     *
+     * @param target
+     *            검사 대상 객체
+     * @return 지원하는 class이고 모든 검사를 통과할 경우 true. false일 경우 표준 provider로 검사해야 함
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public boolean passes(Object target) {
+        return this.isSupported() && this.isValid(target);
+    }
+
+    /**
+     * class에 선언된 constraint를 검사 목록으로 변환하는 함수
+     *
+     * @param type
+     *            검사 대상 class
+     * @param checks
+     *            검사 목록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static void compileTypeConstraints(Class<?> type, List<Predicate<Object>> checks) {
+        for (Class<?> current : hierarchy(type)) {
+            for (Annotation annotation : current.getDeclaredAnnotations()) {
+                if (annotation instanceof AtLeastOneField atLeastOneField) {
+                    checks.add(atLeastOneField(type, current, atLeastOneField));
+                } else if (annotation instanceof AtLeastOneField.List list) {
+                    for (AtLeastOneField atLeastOneField : list.value()) {
+                        checks.add(atLeastOneField(type, current, atLeastOneField));
+                    }
+                } else if (isConstraint(annotation)) {
+                    throw new UnsupportedConstraintException(current, annotation);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link AtLeastOneField} 검사를 생성하는 함수
+     *
+     * @param type
+     *            검사 대상 class
+     * @param owner
+     *            annotation이 선언된 class
+     * @param annotation
+     *            {@link AtLeastOneField}
+     * @return 검사
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static Predicate<Object> atLeastOneField(Class<?> type, Class<?> owner, AtLeastOneField annotation) {
+        verifyGroups(owner, annotation, annotation.groups());
+
+        // annotation이 선언된 class가 아닌 검사 대상 class 기준으로 accessor를 조회 (validator와 동일한 동작)
+        FieldAccessor[] accessors = FieldAccessors.select(type, annotation.fields());
+        boolean emptyAsAbsent = annotation.emptyAsAbsent();
+
+        return target -> AtLeastOneFieldValidator.isAnyPresent(target, accessors, emptyAsAbsent);
+    }
+
+    /**
+     * 필드에 선언된 constraint를 검사 목록으로 변환하는 함수
+     *
+     * @param type
+     *            검사 대상 class
+     * @param checks
+     *            검사 목록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static void compileFieldConstraints(Class<?> type, List<Predicate<Object>> checks) {
+        Map<String, FieldAccessor> accessors = FieldAccessors.of(type);
+        Set<String> names = new HashSet<>();
+
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+
+                // 상위 class의 필드를 가린 경우 두 필드 모두 검사해야 하므로 표준 provider로 위임
+                if (!names.add(field.getName())) {
+                    throw new UnsupportedConstraintException("상위 class의 필드를 가리는 필드가 존재합니다. [field: " + field.getName() + "]");
+                }
+
+                if (field.isAnnotationPresent(Valid.class)) {
+                    throw new UnsupportedConstraintException("cascade 검사는 지원하지 않습니다. [field: " + field.getName() + "]");
+                }
+
+                verifyTypeArguments(field.getName(), field.getAnnotatedType());
+
+                FieldAccessor accessor = accessors.get(field.getName());
+
+                for (Annotation annotation : field.getDeclaredAnnotations()) {
+                    if (isConstraint(annotation)) {
+                        checks.add(fieldCheck(accessor, annotation));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 필드 constraint 하나를 검사로 변환하는 함수
+     *
+     * @param accessor
+     *            필드 accessor
+     * @param annotation
+     *            constraint annotation
+     * @return 검사
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static Predicate<Object> fieldCheck(FieldAccessor accessor, Annotation annotation) {
+        Class<?> fieldType = accessor.type();
+
+        if (annotation instanceof NotNull a) {
+            verifyGroups(accessor, a, a.groups());
+            return target -> accessor.get(target) != null;
+        } else if (annotation instanceof NotEmpty a && isSized(fieldType)) {
+            verifyGroups(accessor, a, a.groups());
+            return target -> {
+                Object value = accessor.get(target);
+                return value != null && sizeOf(value) > 0;
+            };
+        } else if (annotation instanceof NotBlank a && CharSequence.class.isAssignableFrom(fieldType)) {
+            verifyGroups(accessor, a, a.groups());
+            return target -> {
+                Object value = accessor.get(target);
+
+                if (value == null) {
+                    return false;
+                }
+
+                // trim 기준과 whitespace 기준을 모두 만족해야 통과 (표준 구현보다 느슨하지 않도록)
+                String string = value.toString();
+                return !string.trim().isEmpty() && !string.isBlank();
+            };
+        } else if (annotation instanceof Size a && isSized(fieldType)) {
+            verifyGroups(accessor, a, a.groups());
+            int min = a.min();
+            int max = a.max();
+            return target -> {
+                Object value = accessor.get(target);
+
+                if (value == null) {
+                    return true;
+                }
+
+                int size = sizeOf(value);
+                return size >= min && size <= max;
+            };
+        } else if (annotation instanceof jakarta.validation.constraints.Pattern a && CharSequence.class.isAssignableFrom(fieldType)) {
+            verifyGroups(accessor, a, a.groups());
+            int flags = 0;
+            for (jakarta.validation.constraints.Pattern.Flag flag : a.flags()) {
+                flags |= flag.getValue();
+            }
+            Pattern pattern = Pattern.compile(a.regexp(), flags);
+            return target -> {
+                Object value = accessor.get(target);
+                return value == null || pattern.matcher((CharSequence) value).matches();
+            };
+        } else if (annotation instanceof Min a && isIntegral(fieldType)) {
+            verifyGroups(accessor, a, a.groups());
+            long min = a.value();
+            return target -> {
+                Object value = accessor.get(target);
+                return value == null || ((Number) value).longValue() >= min;
+            };
+        } else if (annotation instanceof Max a && isIntegral(fieldType)) {
+            verifyGroups(accessor, a, a.groups());
+            long max = a.value();
+            return target -> {
+                Object value = accessor.get(target);
+                return value == null || ((Number) value).longValue() <= max;
+            };
+        } else {
+            throw new UnsupportedConstraintException(accessor.name(), annotation);
+        }
+    }
+
+    /**
+     * 검사 대상이 되는 method constraint가 없는지 확인하는 함수. record의 accessor method는 필드와 같은 값을 반환하므로 제외한다.
+     *
+     * @param type
+     *            검사 대상 class
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static void verifyMethods(Class<?> type) {
+        Set<String> recordAccessors = new HashSet<>();
+
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents()) {
+                recordAccessors.add(component.getAccessor().getName());
+            }
+        }
+
+        for (Class<?> current : hierarchy(type)) {
+            for (Method method : current.getDeclaredMethods()) {
+                if (method.getParameterCount() != 0 || method.isSynthetic() || recordAccessors.contains(method.getName())) {
+                    continue;
+                }
+
+                for (Annotation annotation : method.getDeclaredAnnotations()) {
+                    if (isConstraint(annotation) || annotation instanceof Valid) {
+                        throw new UnsupportedConstraintException(method.getName() + "()", annotation);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * type argument에 constraint가 선언되어 있지 않은지 확인하는 함수 (예: {@code List<@NotNull String>})
+     *
+     * @param name
+     *            필드 이름
+     * @param annotatedType
+     *            필드의 annotated type
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static void verifyTypeArguments(String name, AnnotatedType annotatedType) {
+        if (annotatedType instanceof AnnotatedParameterizedType parameterizedType) {
+            for (AnnotatedType argument : parameterizedType.getAnnotatedActualTypeArguments()) {
+                for (Annotation annotation : argument.getDeclaredAnnotations()) {
+                    if (isConstraint(annotation) || annotation instanceof Valid) {
+                        throw new UnsupportedConstraintException(name + "<>", annotation);
+                    }
+                }
+
+                verifyTypeArguments(name, argument);
+            }
+        }
+    }
+
+    /**
+     * 기본 group으로만 선언된 constraint인지 확인하는 함수
+     *
+     * @param owner
+     *            constraint가 선언된 대상
+     * @param annotation
+     *            constraint annotation
+     * @param groups
+     *            constraint group 목록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static void verifyGroups(Object owner, Annotation annotation, Class<?>[] groups) {
+        if (groups.length > 1 || (groups.length == 1 && groups[0] != Default.class)) {
+            throw new UnsupportedConstraintException("group이 지정된 constraint는 지원하지 않습니다. [target: " + owner + ", constraint: "
+                    + annotation.annotationType().getSimpleName() + "]");
+        }
+    }
+
+    /**
+     * 검사 대상 class와 상위 class, interface 목록을 조회하는 함수
+     *
+     * @param type
+     *            검사 대상 class
+     * @return class 목록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static Set<Class<?>> hierarchy(Class<?> type) {
+        Set<Class<?>> classes = new HashSet<>();
+        List<Class<?>> queue = new ArrayList<>(List.of(type));
+
+        while (!queue.isEmpty()) {
+            Class<?> current = queue.removeLast();
+
+            if (current == null || current == Object.class || !classes.add(current)) {
+                continue;
+            }
+
+            queue.add(current.getSuperclass());
+            queue.addAll(List.of(current.getInterfaces()));
+        }
+
+        return classes;
+    }
+
+    /**
+     * constraint annotation인지 확인하는 함수
+     *
+     * @param annotation
+     *            annotation
+     * @return constraint 여부
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static boolean isConstraint(Annotation annotation) {
+        Class<? extends Annotation> annotationType = annotation.annotationType();
+
+        if (annotationType.isAnnotationPresent(Constraint.class)) {
+            return true;
+        }
+
+        // 반복 선언된 constraint (예: @Size.List)
+        try {
+            Method value = annotationType.getMethod("value");
+            Class<?> returnType = value.getReturnType();
+            return returnType.isArray() && returnType.getComponentType().isAnnotationPresent(Constraint.class);
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 크기를 구할 수 있는 타입인지 확인하는 함수
+     *
+     * @param type
+     *            필드 타입
+     * @return 크기를 구할 수 있는지 여부
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static boolean isSized(Class<?> type) {
+        return CharSequence.class.isAssignableFrom(type) || Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)
+                || type.isArray();
+    }
+
+    /**
+     * 정수 타입인지 확인하는 함수
+     *
+     * @param type
+     *            필드 타입
+     * @return 정수 타입 여부
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static boolean isIntegral(Class<?> type) {
+        return type == int.class || type == long.class || type == short.class || type == byte.class || type == Integer.class
+                || type == Long.class || type == Short.class || type == Byte.class;
+    }
+
+    /**
+     * 값의 크기를 구하는 함수
+     *
+     * @param value
+     *            값
+     * @return 크기
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static int sizeOf(Object value) {
+        if (value instanceof CharSequence cs) {
+            return cs.length();
+        } else if (value instanceof Collection<?> c) {
+            return c.size();
+        } else if (value instanceof Map<?, ?> m) {
+            return m.size();
+        } else {
+            return Array.getLength(value);
+        }
+    }
+
+    /**
+     * fast path로 검사할 수 없는 constraint가 있을 경우 발생하는 예외
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static class UnsupportedConstraintException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedConstraintException(String message) {
+            super(message, null, false, false);
+        }
+
+        UnsupportedConstraintException(Object target, Annotation annotation) {
+            this("지원하지 않는 constraint입니다. [target: " + target + ", constraint: " + annotation.annotationType().getName() + "]");
+        }
+
+    }
+
+}
@@ -0,0 +1,85 @@
+package io.github.mjyoun.spring.web.validation.support;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+
+import jakarta.validation.ValidationException;
+
+/**
+ * 객체의 필드(혹은 record component) 하나를 읽기 위한 accessor
+ * <p>
+ * getter는 {@code (Object)Object} 형태로 맞춰진 {@link MethodHandle}이므로 매 호출마다 reflection 비용이 발생하지 않는다.
+ *
+ * @param name
+ *            필드 이름
+ * @param type
+ *            필드 타입
+ * @param element
+ *            annotation 조회를 위한 필드 정보
+ * @param getter
+ *            {@code (Object)Object} 형태의 getter
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public record FieldAccessor(String name, Class<?> type, AnnotatedElement element, MethodHandle getter) {
+
+    /**
+     * 대상 객체의 필드 값을 조회하는 함수
+     *
+     * @param target
+     *            대상 객체
+     * @return 필드 값
+     *
+     * @throws ValidationException
+     *             필드 값 조회 실패
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public Object get(Object target) {
+        try {
+            return (Object) this.getter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new ValidationException("필드 값을 조회할 수 없습니다. [field: " + this.name + "]", t);
+        }
+    }
+
+    /**
+     * 필드 값이 존재하는지 확인하는 함수
+     *
+     * @param target
+     *            대상 객체
+     * @param emptyAsAbsent
+     *            빈 문자열, 빈 collection/map/array를 값이 없는 것으로 볼지 여부
+     * @return 값 존재 여부
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public boolean isPresent(Object target, boolean emptyAsAbsent) {
+        Object value = this.get(target);
+
+        if (value == null) {
+            return false;
+        } else if (!emptyAsAbsent) {
+            return true;
+        } else if (value instanceof CharSequence cs) {
+            return cs.length() > 0;
+        } else if (value instanceof Collection<?> c) {
+            return !c.isEmpty();
+        } else if (value instanceof Map<?, ?> m) {
+            return !m.isEmpty();
+        } else if (value.getClass().isArray()) {
+            return Array.getLength(value) > 0;
+        } else {
+            return true;
+        }
+    }
+
+}
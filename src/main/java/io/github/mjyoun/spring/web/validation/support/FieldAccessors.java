@@ -0,0 +1,260 @@
+package io.github.mjyoun.spring.web.validation.support;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+import jakarta.validation.ValidationException;
+
+/**
+ * class 별 {@link FieldAccessor} 목록을 한 번만 생성하여 cache 하기 위한 유틸리티
+ * <p>
+ * 상위 class의 필드까지 포함하며, record일 경우 record component의 accessor method를 사용한다. 필드 순서는 최상위 class부터 선언 순서를 따른다.
+ *
+ * @author MJ Youn
+ * @since 2026. 10. 19.
+ */
+public class FieldAccessors {
+
+    /** getter를 맞추기 위한 method type */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /** class 별 accessor 목록 cache */
+    private static final ClassValue<Map<String, FieldAccessor>> CACHE = new ClassValue<>() {
+
+        @Override
+        protected Map<String, FieldAccessor> computeValue(Class<?> type) {
+            return FieldAccessors.compile(type);
+        }
+
+    };
+
+    /**
+     * 외부에서 임의 생성을 막기 위한 private constructor
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private FieldAccessors() {
+    }
+
+    /**
+     * class의 모든 accessor 목록을 조회하는 함수
+     *
+     * @param type
+     *            대상 class
+     * @return 필드 이름을 key로 하는 accessor 목록 (수정 불가)
+     *
+     * @throws ValidationException
+     *             필드 접근 권한이 없을 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static Map<String, FieldAccessor> of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * class의 accessor 중 지정된 이름의 accessor 목록을 조회하는 함수
+     *
+     * @param type
+     *            대상 class
+     * @param names
+     *            필드 이름 목록. 비어 있을 경우 모든 필드
+     * @return accessor 목록
+     *
+     * @throws ValidationException
+     *             존재하지 않는 필드 이름이 포함되어 있을 경우
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static FieldAccessor[] select(Class<?> type, String[] names) {
+        Map<String, FieldAccessor> accessors = of(type);
+
+        if (names == null || names.length == 0) {
+            return accessors.values().toArray(FieldAccessor[]::new);
+        }
+
+        FieldAccessor[] selected = new FieldAccessor[names.length];
+
+        for (int i = 0; i < names.length; i++) {
+            FieldAccessor accessor = accessors.get(names[i]);
+
+            if (accessor == null) {
+                throw new ValidationException("존재하지 않는 필드입니다. [class: " + type.getName() + ", field: " + names[i] + "]");
+            }
+
+            selected[i] = accessor;
+        }
+
+        return selected;
+    }
+
+    /**
+     * class의 accessor 목록을 생성하는 함수
+     *
+     * @param type
+     *            대상 class
+     * @return 필드 이름을 key로 하는 accessor 목록
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static Map<String, FieldAccessor> compile(Class<?> type) {
+        Map<String, FieldAccessor> accessors = new LinkedHashMap<>();
+
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents()) {
+                MethodHandle getter = unreflect(type, component.getAccessor());
+                Field field = findField(type, component.getName());
+
+                accessors.put(component.getName(), new FieldAccessor(component.getName(), component.getType(),
+                        field == null ? component : field, getter));
+            }
+
+            return Collections.unmodifiableMap(accessors);
+        }
+
+        // 최상위 class의 필드부터 순서대로 등록
+        Deque<Class<?>> hierarchy = new ArrayDeque<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.push(current);
+        }
+
+        for (Class<?> current : hierarchy) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+
+                // 하위 class에서 같은 이름의 필드를 선언한 경우 하위 class의 필드를 사용
+                accessors.put(field.getName(), new FieldAccessor(field.getName(), field.getType(), field, getter(current, field)));
+            }
+        }
+
+        return Collections.unmodifiableMap(accessors);
+    }
+
+    /**
+     * 필드의 getter를 생성하는 함수. private lookup이 불가능한 경우 public getter method를 사용한다.
+     *
+     * @param owner
+     *            필드를 선언한 class
+     * @param field
+     *            필드 정보
+     * @return {@code (Object)Object} 형태의 getter
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static MethodHandle getter(Class<?> owner, Field field) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+            return lookup.unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (IllegalAccessException | SecurityException e) {
+            Method method = findGetterMethod(owner, field);
+
+            if (method == null) {
+                throw new ValidationException("필드에 접근할 수 없습니다. [class: " + owner.getName() + ", field: " + field.getName() + "]", e);
+            }
+
+            return unreflect(owner, method);
+        }
+    }
+
+    /**
+     * public method를 {@code (Object)Object} 형태의 method handle로 변환하는 함수
+     *
+     * @param owner
+     *            method를 선언한 class
+     * @param method
+     *            method 정보
+     * @return method handle
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static MethodHandle unreflect(Class<?> owner, Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            try {
+                return MethodHandles.privateLookupIn(owner, MethodHandles.lookup()).unreflect(method).asType(GETTER_TYPE);
+            } catch (IllegalAccessException ie) {
+                ie.addSuppressed(e);
+                throw new ValidationException("method에 접근할 수 없습니다. [class: " + owner.getName() + ", method: " + method.getName() + "]", ie);
+            }
+        }
+    }
+
+    /**
+     * 필드에 대응하는 public getter method를 찾는 함수
+     *
+     * @param owner
+     *            필드를 선언한 class
+     * @param field
+     *            필드 정보
+     * @return getter method. 없을 경우 null
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static Method findGetterMethod(Class<?> owner, Field field) {
+        String capitalized = StringUtils.capitalize(field.getName());
+        List<String> candidates = new ArrayList<>(List.of("get" + capitalized, field.getName()));
+
+        if (field.getType() == boolean.class) {
+            candidates.add(0, "is" + capitalized);
+        }
+
+        for (String candidate : candidates) {
+            try {
+                Method method = owner.getMethod(candidate);
+
+                if (Modifier.isPublic(method.getModifiers()) && method.getReturnType() == field.getType()) {
+                    return method;
+                }
+            } catch (NoSuchMethodException e) {
+                // 다음 후보 확인
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 선언된 필드를 찾는 함수
+     *
+     * @param type
+     *            대상 class
+     * @param name
+     *            필드 이름
+     * @return 필드 정보. 없을 경우 null
+     *
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private static Field findField(Class<?> type, String name) {
+        try {
+            return type.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+}
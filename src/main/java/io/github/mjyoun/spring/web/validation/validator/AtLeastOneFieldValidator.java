@@ -1,21 +1,46 @@
 package io.github.mjyoun.spring.web.validation.validator;
 
-import java.lang.reflect.Field;
-import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ValidationException;
 
 import io.github.mjyoun.spring.web.validation.annotation.AtLeastOneField;
+import io.github.mjyoun.spring.web.validation.support.FieldAccessor;
+import io.github.mjyoun.spring.web.validation.support.FieldAccessors;
 
 /**
  * {@link AtLeastOneField} validator
+ * <p>
+ * 검사 대상 class 별로 accessor 목록을 한 번만 생성하여 cache 하며, 이후 검사에서는 reflection을 사용하지 않는다.
  * 
  * @author MJ Youn
  * @since 2025. 08. 12.
  */
 public class AtLeastOneFieldValidator implements ConstraintValidator<AtLeastOneField, Object> {
 
+    /** 검사할 필드 이름 목록 */
+    private String[] fields = new String[0];
+    /** 빈 값을 값이 없는 것으로 볼지 여부 */
+    private boolean emptyAsAbsent = false;
+
+    /** class 별 검사할 accessor 목록 */
+    private final ConcurrentMap<Class<?>, FieldAccessor[]> plans = new ConcurrentHashMap<>();
+
+    /**
+     * @see ConstraintValidator#initialize(java.lang.annotation.Annotation)
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    @Override
+    public void initialize(AtLeastOneField constraintAnnotation) {
+        this.fields = constraintAnnotation.fields();
+        this.emptyAsAbsent = constraintAnnotation.emptyAsAbsent();
+    }
+
     /**
      * @see ConstraintValidator#isValid(Object, ConstraintValidatorContext)
      * 
@@ -30,21 +55,59 @@ public class AtLeastOneFieldValidator implements ConstraintValidator<AtLeastOneF
             return true;
         }
 
-        // 리플렉션을 사용하여 DTO 객체의 모든 필드를 가져옵니다.
-        for (Field field : value.getClass().getDeclaredFields()) {
-            try {
-                field.setAccessible(true); // private 필드에 접근 허용
-                // 필드의 값이 null이 아니면, 최소 하나가 존재하므로 true 반환
-                if (Objects.nonNull(field.get(value))) {
-                    return true;
-                }
-            } catch (IllegalAccessException e) {
-                // 접근 예외가 발생하면 무시하거나 적절히 처리
+        return isAnyPresent(value, this.plan(value.getClass()), this.emptyAsAbsent);
+    }
+
+    /**
+     * 하나 이상의 필드에 값이 존재하는지 확인하는 함수
+     * 
+     * @param value
+     *            검사 대상 객체
+     * @param accessors
+     *            검사할 accessor 목록
+     * @param emptyAsAbsent
+     *            빈 값을 값이 없는 것으로 볼지 여부
+     * @return 값 존재 여부
+     * 
+     * @throws ValidationException
+     *             필드 값 조회 실패
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    public static boolean isAnyPresent(Object value, FieldAccessor[] accessors, boolean emptyAsAbsent) {
+        for (FieldAccessor accessor : accessors) {
+            // 필드의 값이 존재하면, 최소 하나가 존재하므로 true 반환
+            if (accessor.isPresent(value, emptyAsAbsent)) {
+                return true;
             }
         }
-        
-        // 모든 필드가 null이면 false 반환
+
+        // 모든 필드가 비어 있으면 false 반환
         return false;
     }
 
+    /**
+     * class에 대한 검사 계획(accessor 목록)을 조회하는 함수
+     * 
+     * @param type
+     *            검사 대상 class
+     * @return accessor 목록
+     * 
+     * @throws ValidationException
+     *             존재하지 않거나 접근할 수 없는 필드가 있을 경우
+     * 
+     * @author MJ Youn
+     * @since 2026. 10. 19.
+     */
+    private FieldAccessor[] plan(Class<?> type) {
+        FieldAccessor[] accessors = this.plans.get(type);
+
+        if (accessors == null) {
+            accessors = this.plans.computeIfAbsent(type, t -> FieldAccessors.select(t, this.fields));
+        }
+
+        return accessors;
+    }
+
 }